@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,21 +18,20 @@ import static java.util.Objects.nonNull;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
-import java.nio.LongBuffer;
-import java.nio.ShortBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraIOException;
@@ -49,13 +48,18 @@ import org.eclipse.kura.executor.CommandExecutorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.ProtocolStringList;
+import com.google.protobuf.UnsafeByteOperations;
 
 import inference.GRPCInferenceServiceGrpc;
 import inference.GRPCInferenceServiceGrpc.GRPCInferenceServiceBlockingStub;
+import inference.GRPCInferenceServiceGrpc.GRPCInferenceServiceFutureStub;
 import inference.GrpcService.InferParameter;
-import inference.GrpcService.InferTensorContents;
+import inference.GrpcService.ModelConfigRequest;
 import inference.GrpcService.ModelInferRequest;
 import inference.GrpcService.ModelInferResponse;
 import inference.GrpcService.ModelInferResponse.InferOutputTensor;
@@ -87,6 +91,9 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
 
     private ManagedChannel grpcChannel;
     private GRPCInferenceServiceBlockingStub grpcStub;
+    private GRPCInferenceServiceFutureStub grpcFutureStub;
+    private Semaphore outstandingRequests;
+    private final Map<String, Integer> maxBatchSizes = new ConcurrentHashMap<>();
     private String decryptionFolderPath = "";
     private boolean decryptionFolderNeedsCleanup = false;
 
@@ -125,6 +132,8 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
             return;
         }
         this.options = newOptions;
+        this.outstandingRequests = new Semaphore(newOptions.getGrpcMaxOutstandingRequests());
+        this.maxBatchSizes.clear();
 
         if (nonNull(this.tritonServerInstanceManager)) {
             stopManagedInstance();
@@ -200,12 +209,17 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
                 .usePlaintext().maxInboundMessageSize(this.options.getGrpcMaxMessageSize())
                 .maxInboundMetadataSize(Integer.MAX_VALUE).build();
         setGrpcStub(GRPCInferenceServiceGrpc.newBlockingStub(this.grpcChannel));
+        setGrpcFutureStub(GRPCInferenceServiceGrpc.newFutureStub(this.grpcChannel));
     }
 
     protected void setGrpcStub(GRPCInferenceServiceBlockingStub grpcStub) {
         this.grpcStub = grpcStub;
     }
 
+    protected void setGrpcFutureStub(GRPCInferenceServiceFutureStub grpcFutureStub) {
+        this.grpcFutureStub = grpcFutureStub;
+    }
+
     protected boolean isNullOrEmpty(String property) {
         return isNull(property) || property.isEmpty();
     }
@@ -252,6 +266,8 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
             }
         }
 
+        this.maxBatchSizes.remove(modelName);
+
         RepositoryModelLoadRequest.Builder builder = RepositoryModelLoadRequest.newBuilder();
         builder.setModelName(modelName);
         try {
@@ -278,6 +294,8 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
 
     @Override
     public void unloadModel(String modelName) throws KuraException {
+        this.maxBatchSizes.remove(modelName);
+
         RepositoryModelUnloadRequest.Builder builder = RepositoryModelUnloadRequest.newBuilder();
         builder.setModelName(modelName);
         try {
@@ -368,24 +386,268 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
     public List<Tensor> infer(ModelInfo modelInfo, List<Tensor> inputData) throws KuraException {
         List<Tensor> inferenceResults = new ArrayList<>();
 
+        try {
+            ModelInferResponse inferResponse = this.grpcStub.modelInfer(createInferRequest(modelInfo, inputData));
+
+            inferenceResults = createOutputInferenceData(inferResponse);
+        } catch (StatusRuntimeException | IllegalArgumentException e) {
+            logger.warn("Cannot infer outputs for " + modelInfo.getName() + " model", e);
+        }
+        return inferenceResults;
+
+    }
+
+    /**
+     * Runs the inferences of the batch using the asynchronous stub, with at most
+     * {@link TritonServerServiceOptions#getGrpcMaxOutstandingRequests()} requests pending on the server.
+     * If the model supports batching, the inputs are stacked along the first dimension in requests of at most
+     * max_batch_size elements, otherwise a request is sent for each element of the batch.
+     */
+    @Override
+    public List<List<Tensor>> inferBatch(ModelInfo modelInfo, List<List<Tensor>> inputBatch) throws KuraException {
+        if (isNull(this.grpcFutureStub) || isNull(this.outstandingRequests)) {
+            return InferenceEngineService.super.inferBatch(modelInfo, inputBatch);
+        }
+
+        List<List<List<Tensor>>> requestBatches = splitBatch(modelInfo, inputBatch);
+        List<ListenableFuture<ModelInferResponse>> responses = new ArrayList<>(requestBatches.size());
+
+        try {
+            for (List<List<Tensor>> requestBatch : requestBatches) {
+                responses.add(sendInferRequest(modelInfo, requestBatch));
+            }
+
+            List<List<Tensor>> inferenceResults = new ArrayList<>(inputBatch.size());
+            for (int index = 0; index < requestBatches.size(); index++) {
+                inferenceResults.addAll(
+                        receiveInferResponse(modelInfo, requestBatches.get(index).size(), responses.get(index)));
+            }
+            return inferenceResults;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            responses.forEach(response -> response.cancel(true));
+            throw new KuraIOException(e, "Interrupted while running the inference for " + modelInfo.getName());
+        }
+    }
+
+    private ModelInferRequest createInferRequest(ModelInfo modelInfo, List<Tensor> inputData) {
         ModelInferRequest.Builder inferRequest = ModelInferRequest.newBuilder();
         inferRequest.setModelName(modelInfo.getName());
+        if (!modelInfo.getParameters().isEmpty()) {
+            inferRequest.putAllParameters(getInferParameters(modelInfo.getParameters()));
+        }
+        inputData.forEach(input -> {
+            inferRequest.addInputs(createInputDataBuilder(input));
+            inferRequest.addRawInputContents(createRawInputContents(input));
+        });
+        modelInfo.getOutputs()
+                .forEach(outputDescriptor -> inferRequest.addOutputs(createRequestedOutputBuilder(outputDescriptor)));
+        return inferRequest.build();
+    }
+
+    private ListenableFuture<ModelInferResponse> sendInferRequest(ModelInfo modelInfo,
+            List<List<Tensor>> requestBatch) throws InterruptedException {
+        ModelInferRequest inferRequest;
         try {
-            if (!modelInfo.getParameters().isEmpty()) {
-                inferRequest.putAllParameters(getInferParameters(modelInfo.getParameters()));
-            }
-            inputData.forEach(input -> inferRequest.addInputs(createInputDataBuilder(input)));
-            modelInfo.getOutputs().forEach(
-                    outputDescriptor -> inferRequest.addOutputs(createRequestedOutputBuilder(outputDescriptor)));
+            inferRequest = createInferRequest(modelInfo,
+                    requestBatch.size() == 1 ? requestBatch.get(0) : stackTensors(requestBatch));
+        } catch (IllegalArgumentException e) {
+            return Futures.immediateFailedFuture(e);
+        }
 
-            ModelInferResponse inferResponse = this.grpcStub.modelInfer(inferRequest.build());
+        final Semaphore permits = this.outstandingRequests;
+        permits.acquire();
 
-            inferenceResults = createOutputInferenceData(inferResponse);
-        } catch (StatusRuntimeException | IllegalArgumentException e) {
+        ListenableFuture<ModelInferResponse> response;
+        try {
+            response = this.grpcFutureStub.modelInfer(inferRequest);
+        } catch (RuntimeException e) {
+            permits.release();
+            return Futures.immediateFailedFuture(e);
+        }
+        response.addListener(permits::release, MoreExecutors.directExecutor());
+
+        return response;
+    }
+
+    private List<List<Tensor>> receiveInferResponse(ModelInfo modelInfo, int batchSize,
+            Future<ModelInferResponse> response) throws InterruptedException {
+        try {
+            List<Tensor> outputs = createOutputInferenceData(response.get());
+            return batchSize == 1 ? Collections.singletonList(outputs) : unstackTensors(outputs, batchSize);
+        } catch (ExecutionException | IllegalArgumentException e) {
             logger.warn("Cannot infer outputs for " + modelInfo.getName() + " model", e);
         }
+
+        List<List<Tensor>> inferenceResults = new ArrayList<>(batchSize);
+        for (int index = 0; index < batchSize; index++) {
+            inferenceResults.add(new ArrayList<>());
+        }
         return inferenceResults;
+    }
+
+    private List<List<List<Tensor>>> splitBatch(ModelInfo modelInfo, List<List<Tensor>> inputBatch) {
+        int requestBatchSize = 1;
+        if (inputBatch.size() > 1 && isStackable(modelInfo, inputBatch)) {
+            requestBatchSize = Math.max(1, getMaxBatchSize(modelInfo.getName()));
+        }
+
+        List<List<List<Tensor>>> requestBatches = new ArrayList<>();
+        for (int start = 0; start < inputBatch.size(); start += requestBatchSize) {
+            requestBatches.add(inputBatch.subList(start, Math.min(start + requestBatchSize, inputBatch.size())));
+        }
+        return requestBatches;
+    }
 
+    private int getMaxBatchSize(String modelName) {
+        Integer maxBatchSize = this.maxBatchSizes.get(modelName);
+        if (nonNull(maxBatchSize)) {
+            return maxBatchSize;
+        }
+
+        try {
+            maxBatchSize = this.grpcStub.modelConfig(ModelConfigRequest.newBuilder().setName(modelName).build())
+                    .getConfig().getMaxBatchSize();
+            this.maxBatchSizes.put(modelName, maxBatchSize);
+            return maxBatchSize;
+        } catch (StatusRuntimeException e) {
+            logger.debug("Cannot get the configuration of the model {}, batching disabled", modelName, e);
+            return 0;
+        }
+    }
+
+    /*
+     * The inputs can be stacked if every element of the batch contains the same tensors with a leading batch
+     * dimension equal to 1. BYTES tensors are excluded since a request carries a single element for them.
+     */
+    private boolean isStackable(ModelInfo modelInfo, List<List<Tensor>> inputBatch) {
+        for (TensorDescriptor outputDescriptor : modelInfo.getOutputs()) {
+            if (DataType.BYTES.name().equals(outputDescriptor.getType())) {
+                return false;
+            }
+        }
+
+        List<Tensor> first = inputBatch.get(0);
+        for (List<Tensor> inputData : inputBatch) {
+            if (inputData.size() != first.size()) {
+                return false;
+            }
+            for (int index = 0; index < inputData.size(); index++) {
+                if (!isStackable(first.get(index), inputData.get(index))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isStackable(Tensor first, Tensor other) {
+        TensorDescriptor descriptor = other.getDescriptor();
+        List<Long> shape = descriptor.getShape();
+
+        return !DataType.BYTES.name().equals(descriptor.getType()) && !shape.isEmpty() && shape.get(0) == 1L
+                && first.getType() == other.getType()
+                && first.getDescriptor().getName().equals(descriptor.getName())
+                && first.getDescriptor().getType().equals(descriptor.getType())
+                && first.getDescriptor().getShape().equals(shape);
+    }
+
+    private List<Tensor> stackTensors(List<List<Tensor>> requestBatch) {
+        List<Tensor> stackedTensors = new ArrayList<>();
+        for (int index = 0; index < requestBatch.get(0).size(); index++) {
+            List<Tensor> tensors = new ArrayList<>(requestBatch.size());
+            for (List<Tensor> inputData : requestBatch) {
+                tensors.add(inputData.get(index));
+            }
+            stackedTensors.add(concatTensors(tensors.get(0).getType(), tensors));
+        }
+        return stackedTensors;
+    }
+
+    private <T> Tensor concatTensors(Class<T> type, List<Tensor> tensors) {
+        TensorDescriptor descriptor = withBatchDimension(tensors.get(0).getDescriptor(), tensors.size());
+
+        Optional<ByteBuffer> rawData = concatRawData(tensors);
+        if (rawData.isPresent()) {
+            return new Tensor(type, descriptor, rawData.get());
+        }
+
+        List<T> data = new ArrayList<>();
+        tensors.forEach(tensor -> data.addAll(tensor.getData(type).orElseThrow(() -> new IllegalArgumentException(
+                "Expected a list of " + type.getSimpleName() + " but got a list of " + tensor.getType()))));
+
+        return new Tensor(type, descriptor, data);
+    }
+
+    private Optional<ByteBuffer> concatRawData(List<Tensor> tensors) {
+        Optional<ByteBuffer> first = tensors.get(0).getRawData();
+        if (!first.isPresent()) {
+            return Optional.empty();
+        }
+
+        ByteOrder order = first.get().order();
+        int size = 0;
+        for (Tensor tensor : tensors) {
+            Optional<ByteBuffer> rawData = tensor.getRawData();
+            if (!rawData.isPresent() || rawData.get().order() != order) {
+                return Optional.empty();
+            }
+            size += rawData.get().remaining();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(order);
+        tensors.forEach(tensor -> buffer.put(tensor.getRawData().get()));
+        buffer.flip();
+        return Optional.of(buffer);
+    }
+
+    private List<List<Tensor>> unstackTensors(List<Tensor> outputs, int batchSize) {
+        List<List<Tensor>> inferenceResults = new ArrayList<>(batchSize);
+        for (int index = 0; index < batchSize; index++) {
+            inferenceResults.add(new ArrayList<>(outputs.size()));
+        }
+
+        for (Tensor output : outputs) {
+            splitTensor(output.getType(), output, batchSize, inferenceResults);
+        }
+        return inferenceResults;
+    }
+
+    private <T> void splitTensor(Class<T> type, Tensor tensor, int batchSize, List<List<Tensor>> inferenceResults) {
+        List<T> data = tensor.getData(type).orElseThrow(IllegalArgumentException::new);
+        List<Long> shape = tensor.getDescriptor().getShape();
+
+        if (shape.isEmpty() || shape.get(0) != batchSize || data.size() % batchSize != 0) {
+            throw new IllegalArgumentException("Output " + tensor.getDescriptor().getName() + " with shape " + shape
+                    + " cannot be split in " + batchSize + " elements");
+        }
+
+        TensorDescriptor descriptor = withBatchDimension(tensor.getDescriptor(), 1);
+        Optional<ByteBuffer> rawData = tensor.getRawData();
+        if (rawData.isPresent()) {
+            ByteBuffer buffer = rawData.get();
+            int elementBytes = buffer.remaining() / batchSize;
+            for (int index = 0; index < batchSize; index++) {
+                buffer.limit(buffer.position() + elementBytes);
+                inferenceResults.get(index).add(new Tensor(type, descriptor, buffer));
+                buffer.position(buffer.limit());
+            }
+            return;
+        }
+
+        int elementSize = data.size() / batchSize;
+        for (int index = 0; index < batchSize; index++) {
+            inferenceResults.get(index).add(new Tensor(type, descriptor,
+                    new ArrayList<>(data.subList(index * elementSize, (index + 1) * elementSize))));
+        }
+    }
+
+    private TensorDescriptor withBatchDimension(TensorDescriptor descriptor, long batchSize) {
+        List<Long> shape = new ArrayList<>(descriptor.getShape());
+        shape.set(0, batchSize);
+
+        return new TensorDescriptor(descriptor.getName(), descriptor.getType(), descriptor.getFormat(), shape,
+                descriptor.getParameters());
     }
 
     private Map<String, InferParameter> getInferParameters(Map<String, Object> parameters) {
@@ -439,148 +701,161 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
     }
 
     private ModelInferRequest.InferInputTensor.Builder createInputDataBuilder(Tensor input) {
-        InferTensorContents.Builder inputDataBuilder = InferTensorContents.newBuilder();
+        ModelInferRequest.InferInputTensor.Builder inputBuilder = ModelInferRequest.InferInputTensor.newBuilder();
+        inputBuilder.setName(input.getDescriptor().getName());
+        inputBuilder.setDatatype(input.getDescriptor().getType());
+        input.getDescriptor().getShape().forEach(inputBuilder::addShape);
+        if (!input.getDescriptor().getParameters().isEmpty()) {
+            inputBuilder.putAllParameters(getInferParameters(input.getDescriptor().getParameters()));
+        }
+        return inputBuilder;
+    }
+
+    /*
+     * The input data is sent as raw little endian bytes. Tensors backed by a buffer are sent without copying the
+     * data, unless a conversion of the byte order is needed.
+     */
+    private ByteString createRawInputContents(Tensor input) {
         DataType modelInputType = DataType.valueOf(input.getDescriptor().getType());
+        Optional<ByteBuffer> rawData = input.getRawData();
+
+        if (rawData.isPresent() && isRawCompatible(modelInputType, input.getType(), rawData.get().order())) {
+            ByteString contents = UnsafeByteOperations.unsafeWrap(rawData.get());
+            if (modelInputType == DataType.BYTES) {
+                return encodeLength(contents.size()).concat(contents);
+            }
+            checkRawSize(input, modelInputType, contents.size());
+            return contents;
+        }
+
         switch (modelInputType) {
         case BOOL:
-            addDataTypeInputData(input, Boolean.class, inputDataBuilder::addAllBoolContents);
-            break;
+            return encodeInputData(input, Boolean.class, 1, (buffer, value) -> buffer.put((byte) (value ? 1 : 0)));
         case UINT8:
-            addUint8InputData(input, inputDataBuilder);
-            break;
         case INT8:
-            addInt8InputData(input, inputDataBuilder);
-            break;
+            if (input.getType().isAssignableFrom(Integer.class)) {
+                return encodeInputData(input, Integer.class, 1, (buffer, value) -> buffer.put(value.byteValue()));
+            }
+            return encodeInputData(input, Byte.class, 1, ByteBuffer::put);
         case UINT16:
-            addUint16InputData(input, inputDataBuilder);
-            break;
         case INT16:
-            addInt16InputData(input, inputDataBuilder);
-            break;
+            if (input.getType().isAssignableFrom(Integer.class)) {
+                return encodeInputData(input, Integer.class, 2,
+                        (buffer, value) -> buffer.putShort(value.shortValue()));
+            }
+            return encodeInputData(input, Short.class, 2, ByteBuffer::putShort);
         case UINT32:
-            addDataTypeInputData(input, Integer.class, inputDataBuilder::addAllUintContents);
-            break;
         case INT32:
-            addDataTypeInputData(input, Integer.class, inputDataBuilder::addAllIntContents);
-            break;
+            return encodeInputData(input, Integer.class, 4, ByteBuffer::putInt);
         case UINT64:
-            addDataTypeInputData(input, Long.class, inputDataBuilder::addAllUint64Contents);
-            break;
         case INT64:
-            addDataTypeInputData(input, Long.class, inputDataBuilder::addAllInt64Contents);
-            break;
+            return encodeInputData(input, Long.class, 8, ByteBuffer::putLong);
         case FP32:
-            addDataTypeInputData(input, Float.class, inputDataBuilder::addAllFp32Contents);
-            break;
+            return encodeInputData(input, Float.class, 4, ByteBuffer::putFloat);
         case FP64:
-            addDataTypeInputData(input, Double.class, inputDataBuilder::addAllFp64Contents);
-            break;
+            return encodeInputData(input, Double.class, 8, ByteBuffer::putDouble);
         case BYTES:
-            addBytesInputData(input, inputDataBuilder);
-            break;
+            ByteString contents = encodeInputData(input, Byte.class, 1, ByteBuffer::put);
+            return encodeLength(contents.size()).concat(contents);
         default:
             throw new IllegalArgumentException("Date type " + modelInputType + " not supported");
         }
+    }
 
-        ModelInferRequest.InferInputTensor.Builder inputBuilder = ModelInferRequest.InferInputTensor.newBuilder();
-        inputBuilder.setName(input.getDescriptor().getName());
-        inputBuilder.setDatatype(input.getDescriptor().getType());
-        input.getDescriptor().getShape().forEach(inputBuilder::addShape);
-        inputBuilder.setContents(inputDataBuilder);
-        if (!input.getDescriptor().getParameters().isEmpty()) {
-            inputBuilder.putAllParameters(getInferParameters(input.getDescriptor().getParameters()));
+    /*
+     * A buffer can be sent as is only if its elements already have the size and the byte order expected by the model.
+     * Byte buffers are accepted for the one byte data types only, a byte buffer for a wider type is decoded as a list
+     * and rejected by encodeInputData.
+     */
+    private boolean isRawCompatible(DataType dataType, Class<?> type, ByteOrder order) {
+        if (type == Byte.class) {
+            return dataType == DataType.UINT8 || dataType == DataType.INT8 || dataType == DataType.BOOL
+                    || dataType == DataType.BYTES;
         }
-        return inputBuilder;
+        return dataType != DataType.BYTES && dataType != DataType.FP16 && type == getJavaType(dataType)
+                && (type == Boolean.class || order == ByteOrder.LITTLE_ENDIAN);
     }
 
-    private <T> void addDataTypeInputData(Tensor input, Class<T> clazz, Consumer<List<T>> dataConsumer) {
-        dataConsumer.accept(input.getData(clazz).orElseThrow(() -> new IllegalArgumentException(
-                "Expected a list of " + clazz.getSimpleName() + " but got a list of " + input.getType())));
+    private void checkRawSize(Tensor input, DataType dataType, int size) {
+        long elementCount = input.getDescriptor().getShape().stream().reduce(1L, (a, b) -> a * b);
+        long expectedSize = elementCount * getElementSize(dataType);
+
+        if (size != expectedSize) {
+            throw new IllegalArgumentException("Input " + input.getDescriptor().getName() + " with shape "
+                    + input.getDescriptor().getShape() + " requires " + expectedSize + " bytes but got " + size);
+        }
     }
 
-    private void addBytesInputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Byte.class)) {
-            Optional<List<Byte>> inputData = input.getData(Byte.class);
-            inputData.ifPresent(bytes -> {
-                byte[] byteArray = new byte[bytes.size()];
-                for (int i = 0; i < bytes.size(); i++) {
-                    byteArray[i] = bytes.get(i);
-                }
-                inputDataBuilder.addBytesContents(ByteString.copyFrom(byteArray));
-            });
-        } else {
-            throw new IllegalArgumentException("Expected a list of bytes but got a list of " + input.getType());
+    private Class<?> getJavaType(DataType dataType) {
+        switch (dataType) {
+        case BOOL:
+            return Boolean.class;
+        case UINT8:
+        case INT8:
+        case BYTES:
+            return Byte.class;
+        case UINT16:
+        case INT16:
+            return Short.class;
+        case UINT32:
+        case INT32:
+            return Integer.class;
+        case UINT64:
+        case INT64:
+            return Long.class;
+        case FP32:
+            return Float.class;
+        case FP64:
+            return Double.class;
+        default:
+            throw new IllegalArgumentException("Date type " + dataType + " not supported");
         }
     }
 
-    private void addInt16InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Short.class)) {
-            Optional<List<Short>> inputData = input.getData(Short.class);
-            inputData.ifPresent(shortList -> {
-                List<Integer> integerList = new ArrayList<>();
-                shortList.forEach(shortValue -> integerList.add(shortValue.intValue()));
-                inputDataBuilder.addAllIntContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllIntContents);
-        } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of shorts or integers but got a list of " + input.getType());
-        }
-    }
-
-    private void addUint16InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Short.class)) {
-            Optional<List<Short>> inputData = input.getData(Short.class);
-            inputData.ifPresent(shortList -> {
-                List<Integer> integerList = new ArrayList<>();
-                shortList.forEach(shortValue -> integerList.add(shortValue.intValue()));
-                inputDataBuilder.addAllUintContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllUintContents);
-        } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of shorts or integers but got a list of " + input.getType());
-        }
-    }
-
-    private void addInt8InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Byte.class)) {
-            Optional<List<Byte>> inputData = input.getData(Byte.class);
-            inputData.ifPresent(byteList -> {
-                List<Integer> integerList = new ArrayList<>();
-                byteList.forEach(byteValue -> integerList.add(byteValue.intValue()));
-                inputDataBuilder.addAllIntContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllIntContents);
-        } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of bytes or integers but got a list of " + input.getType());
-        }
-    }
-
-    private void addUint8InputData(Tensor input, InferTensorContents.Builder inputDataBuilder) {
-        if (input.getType().isAssignableFrom(Byte.class)) {
-            Optional<List<Byte>> inputData = input.getData(Byte.class);
-            inputData.ifPresent(byteList -> {
-                List<Integer> integerList = new ArrayList<>();
-                byteList.forEach(byteValue -> integerList.add(byteValue.intValue()));
-                inputDataBuilder.addAllUintContents(integerList);
-            });
-        } else if (input.getType().isAssignableFrom(Integer.class)) {
-            Optional<List<Integer>> inputData = input.getData(Integer.class);
-            inputData.ifPresent(inputDataBuilder::addAllUintContents);
-        } else {
-            throw new IllegalArgumentException(
-                    "Expected a list of bytes or integers but got a list of " + input.getType());
+    private int getElementSize(DataType dataType) {
+        switch (dataType) {
+        case BOOL:
+        case UINT8:
+        case INT8:
+            return 1;
+        case UINT16:
+        case INT16:
+            return 2;
+        case UINT32:
+        case INT32:
+        case FP32:
+            return 4;
+        case UINT64:
+        case INT64:
+        case FP64:
+            return 8;
+        default:
+            throw new IllegalArgumentException("Data type " + dataType + " not supported");
         }
     }
 
+    private ByteString encodeLength(int length) {
+        ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(length);
+        buffer.flip();
+        return UnsafeByteOperations.unsafeWrap(buffer);
+    }
+
+    private <T> ByteString encodeInputData(Tensor input, Class<T> clazz, int elementSize,
+            BiConsumer<ByteBuffer, T> encoder) {
+        List<T> data = input.getData(clazz).orElseThrow(() -> new IllegalArgumentException(
+                "Expected a list of " + clazz.getSimpleName() + " but got a list of " + input.getType()));
+
+        ByteBuffer buffer = ByteBuffer.allocate(data.size() * elementSize).order(ByteOrder.LITTLE_ENDIAN);
+        data.forEach(value -> encoder.accept(buffer, value));
+        buffer.flip();
+        return UnsafeByteOperations.unsafeWrap(buffer);
+    }
+
+    /*
+     * The output tensors are backed by the raw output contents of the response, the elements are decoded only when
+     * accessed.
+     */
     private List<Tensor> createOutputInferenceData(ModelInferResponse inferResponse) {
         List<Tensor> results = new ArrayList<>();
         for (int index = 0; index < inferResponse.getOutputsCount(); index++) {
@@ -594,211 +869,24 @@ public abstract class TritonServerServiceAbs implements InferenceEngineService,
                     getParameters(inferOutputTensor.getParametersMap()).forEach(outputDescriptorBuilder::addParameter);
                 }
                 TensorDescriptor outputDescriptor = outputDescriptorBuilder.build();
+                ByteBuffer rawOutput = byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
 
-                switch (outputType) {
-                case BOOL:
-                    List<Boolean> booleanList = bufferToBooleanList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN));
-                    results.add(new Tensor(Boolean.class, outputDescriptor, booleanList));
-                    break;
-                case UINT8:
-                case INT8:
-                    List<Byte> byteList = bufferToByteList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN));
-                    results.add(new Tensor(Byte.class, outputDescriptor, byteList));
-                    break;
-                case UINT16:
-                case INT16:
-                    List<Short> shortList = bufferToShortList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asShortBuffer());
-                    results.add(new Tensor(Short.class, outputDescriptor, shortList));
-                    break;
-                case UINT32:
-                case INT32:
-                    List<Integer> integerList = bufferToIntList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer());
-                    results.add(new Tensor(Integer.class, outputDescriptor, integerList));
-                    break;
-                case UINT64:
-                case INT64:
-                    List<Long> longList = bufferToLongList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer());
-                    results.add(new Tensor(Long.class, outputDescriptor, longList));
-                    break;
-                case FP32:
-                    List<Float> floatList = bufferToFloatList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer());
-                    results.add(new Tensor(Float.class, outputDescriptor, floatList));
-                    break;
-                case FP64:
-                    List<Double> doubleList = bufferToDoubleList(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer());
-                    results.add(new Tensor(Double.class, outputDescriptor, doubleList));
-                    break;
-                case BYTES:
-                    List<Byte> bytesList = bufferToBytes(
-                            byteStringResponse.asReadOnlyByteBuffer().order(ByteOrder.LITTLE_ENDIAN));
-                    results.add(new Tensor(Byte.class, outputDescriptor, bytesList));
-                    break;
-                default:
-                    throw new IllegalArgumentException("Date type " + outputType + " not supported");
+                if (outputType == DataType.BYTES) {
+                    rawOutput = skipLength(rawOutput);
                 }
+                results.add(new Tensor(getJavaType(outputType), outputDescriptor, rawOutput));
             }
         }
 
         return results;
     }
 
-    private List<Byte> bufferToBytes(ByteBuffer buffer) {
-        List<Byte> byteList = new ArrayList<>();
+    private ByteBuffer skipLength(ByteBuffer buffer) {
         if (buffer.capacity() < 4) {
             throw new IllegalArgumentException("Too few bytes in buffer; cannot read array length");
         }
         buffer.getInt();
-        while (buffer.hasRemaining()) {
-            byteList.add(buffer.get());
-        }
-        return byteList;
-    }
-
-    private List<Float> bufferToFloatList(FloatBuffer buffer) {
-        List<Float> floatList = new ArrayList<>();
-        float[] floatArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                floatArray = buffer.array();
-            } else {
-                floatArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            floatArray = new float[buffer.remaining()];
-            buffer.get(floatArray);
-        }
-        for (float floatValue : floatArray) {
-            floatList.add(floatValue);
-        }
-        return floatList;
-    }
-
-    private List<Double> bufferToDoubleList(DoubleBuffer buffer) {
-        List<Double> doubleList = new ArrayList<>();
-        double[] doubleArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                doubleArray = buffer.array();
-            } else {
-                doubleArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            doubleArray = new double[buffer.remaining()];
-            buffer.get(doubleArray);
-        }
-        for (double doubleValue : doubleArray) {
-            doubleList.add(doubleValue);
-        }
-        return doubleList;
-    }
-
-    private List<Long> bufferToLongList(LongBuffer buffer) {
-        List<Long> longList = new ArrayList<>();
-        long[] longArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                longArray = buffer.array();
-            } else {
-                longArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            longArray = new long[buffer.remaining()];
-            buffer.get(longArray);
-        }
-        for (long longValue : longArray) {
-            longList.add(longValue);
-        }
-        return longList;
-    }
-
-    private List<Integer> bufferToIntList(IntBuffer buffer) {
-        List<Integer> intList = new ArrayList<>();
-        int[] intArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                intArray = buffer.array();
-            } else {
-                intArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            intArray = new int[buffer.remaining()];
-            buffer.get(intArray);
-        }
-        for (int intValue : intArray) {
-            intList.add(intValue);
-        }
-        return intList;
-    }
-
-    private List<Short> bufferToShortList(ShortBuffer buffer) {
-        List<Short> shortList = new ArrayList<>();
-        short[] shortArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                shortArray = buffer.array();
-            } else {
-                shortArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            shortArray = new short[buffer.remaining()];
-            buffer.get(shortArray);
-        }
-        for (short shortValue : shortArray) {
-            shortList.add(shortValue);
-        }
-        return shortList;
-    }
-
-    private List<Byte> bufferToByteList(ByteBuffer buffer) {
-        List<Byte> byteList = new ArrayList<>();
-        byte[] byteArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                byteArray = buffer.array();
-            } else {
-                byteArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            byteArray = new byte[buffer.remaining()];
-            buffer.get(byteArray);
-        }
-        for (byte byteValue : byteArray) {
-            byteList.add(byteValue);
-        }
-        return byteList;
-    }
-
-    private List<Boolean> bufferToBooleanList(ByteBuffer buffer) {
-        List<Boolean> booleanList = new ArrayList<>();
-        byte[] byteArray;
-        if (buffer.hasArray()) {
-            if (buffer.arrayOffset() == 0) {
-                byteArray = buffer.array();
-            } else {
-                byteArray = Arrays.copyOfRange(buffer.array(), buffer.arrayOffset(), buffer.array().length);
-            }
-        } else {
-            buffer.rewind();
-            byteArray = new byte[buffer.remaining()];
-            buffer.get(byteArray);
-        }
-        for (byte byteValue : byteArray) {
-            booleanList.add(byteValue == 0x01);
-        }
-        return booleanList;
+        return buffer;
     }
 
     private static void sleepFor(long timeout) {
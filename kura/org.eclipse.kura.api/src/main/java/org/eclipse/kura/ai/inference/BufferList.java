@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.ai.inference;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable list view of the elements encoded in a {@link ByteBuffer}.
+ * The elements are decoded on access, using the byte order of the buffer.
+ */
+final class BufferList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Class<T> type;
+    private final ByteBuffer buffer;
+    private final int elementSize;
+    private final int size;
+
+    BufferList(Class<T> type, ByteBuffer buffer) {
+        this.type = type;
+        this.buffer = buffer;
+        this.elementSize = elementSize(type);
+
+        if (buffer.remaining() % this.elementSize != 0) {
+            throw new IllegalArgumentException(
+                    "The buffer size is not a multiple of the size of " + type.getSimpleName() + " elements");
+        }
+
+        this.size = buffer.remaining() / this.elementSize;
+    }
+
+    static int elementSize(Class<?> type) {
+        if (type == Boolean.class || type == Byte.class) {
+            return 1;
+        } else if (type == Short.class) {
+            return Short.BYTES;
+        } else if (type == Integer.class || type == Float.class) {
+            return Integer.BYTES;
+        } else if (type == Long.class || type == Double.class) {
+            return Long.BYTES;
+        } else {
+            throw new IllegalArgumentException("Type " + type.getSimpleName() + " cannot be backed by a buffer");
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        final int offset = this.buffer.position() + index * this.elementSize;
+        final Object value;
+
+        if (this.type == Boolean.class) {
+            value = this.buffer.get(offset) != 0;
+        } else if (this.type == Byte.class) {
+            value = this.buffer.get(offset);
+        } else if (this.type == Short.class) {
+            value = this.buffer.getShort(offset);
+        } else if (this.type == Integer.class) {
+            value = this.buffer.getInt(offset);
+        } else if (this.type == Float.class) {
+            value = this.buffer.getFloat(offset);
+        } else if (this.type == Long.class) {
+            value = this.buffer.getLong(offset);
+        } else {
+            value = this.buffer.getDouble(offset);
+        }
+
+        return this.type.cast(value);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.kura.ai.inference;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +48,39 @@ public interface InferenceEngineService {
      */
     public List<Tensor> infer(ModelInfo modelInfo, List<Tensor> inputData) throws KuraException;
 
+    /**
+     * Run an inference for the given model on a batch of inputs.
+     * Each element of the batch is the list of input {@link Tensor} of a single inference,
+     * as accepted by {@link #infer(ModelInfo, List)}.
+     *
+     * The engine can merge the inputs in batched requests, if supported by the model,
+     * and can perform multiple requests concurrently. The outputs are returned
+     * in the same order as the inputs.
+     *
+     * The default implementation calls {@link #infer(ModelInfo, List)} for each
+     * element of the batch.
+     *
+     * This will fail if the model is not loaded or the engine is not ready.
+     *
+     * @param modelInfo
+     *            the {@link ModelInfo} of the model to be used
+     * @param inputBatch
+     *            a list containing the list of input {@link Tensor} of each inference
+     * @return a list containing the list of output {@link Tensor} of each inference
+     * @throws KuraIOException
+     * @since 2.7
+     */
+    public default List<List<Tensor>> inferBatch(ModelInfo modelInfo, List<List<Tensor>> inputBatch)
+            throws KuraException {
+        final List<List<Tensor>> results = new ArrayList<>(inputBatch.size());
+
+        for (final List<Tensor> inputData : inputBatch) {
+            results.add(infer(modelInfo, inputData));
+        }
+
+        return results;
+    }
+
     /**
      * Load the given model in the inference engine.
      * If the path of the file containing the model is not provided,
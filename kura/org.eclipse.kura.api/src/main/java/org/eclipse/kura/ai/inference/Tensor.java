@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.kura.ai.inference;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,7 @@ public class Tensor {
     private final TensorDescriptor descriptor;
     private final Class<?> type;
     private final List<?> data;
+    private final ByteBuffer rawData;
 
     /**
      * Instantiates a Tensor
@@ -44,6 +46,33 @@ public class Tensor {
         this.type = type;
         this.descriptor = descriptor;
         this.data = data;
+        this.rawData = null;
+    }
+
+    /**
+     * Instantiates a Tensor backed by a buffer. The elements are stored in the buffer, between its position and its
+     * limit, encoded using the byte order of the buffer. The buffer content is not copied.
+     *
+     * The data returned by {@link #getData(Class)} is an unmodifiable view of the buffer that decodes the elements
+     * on access. For tensors of type {@link Byte}, the buffer contains the bytes of the tensor data without any
+     * further encoding.
+     *
+     * @param type
+     *            the type of tensor data as Java class, one of {@link Boolean}, {@link Byte}, {@link Short},
+     *            {@link Integer}, {@link Long}, {@link Float} and {@link Double}
+     * @param descriptor
+     *            the {@link TensorDescriptor} of this tensor
+     * @param rawData
+     *            the buffer containing the data of this tensor
+     * @throws IllegalArgumentException
+     *             if the type is not supported or the buffer size is not a multiple of the type size
+     * @since 2.7
+     */
+    public <T> Tensor(Class<T> type, TensorDescriptor descriptor, ByteBuffer rawData) {
+        this.type = type;
+        this.descriptor = descriptor;
+        this.rawData = rawData.slice().asReadOnlyBuffer().order(rawData.order());
+        this.data = new BufferList<>(type, this.rawData);
     }
 
     /**
@@ -71,6 +100,20 @@ public class Tensor {
         }
     }
 
+    /**
+     * Return the buffer backing the tensor data, if the tensor has been created from a buffer
+     *
+     * @return a read-only view of the buffer, with the same byte order of the one provided at creation,
+     *         or an empty {@link Optional} if the data of the tensor is not backed by a buffer
+     * @since 2.7
+     */
+    public Optional<ByteBuffer> getRawData() {
+        if (this.rawData == null) {
+            return Optional.empty();
+        }
+        return Optional.of(this.rawData.duplicate().order(this.rawData.order()));
+    }
+
     /**
      * Return the type of the tensor
      *
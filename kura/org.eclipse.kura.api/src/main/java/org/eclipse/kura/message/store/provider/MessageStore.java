@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,8 @@
  ******************************************************************************/
 package org.eclipse.kura.message.store.provider;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +50,39 @@ public interface MessageStore {
     public int store(String topic, byte[] payload, int qos, boolean retain, int priority)
             throws KuraStoreException;
 
+    /**
+     * Inserts the given messages in the store, in order. The implementation must
+     * set the value of the <code>createdOn</code> parameter of all the messages to
+     * the current time.
+     * <br>
+     * Only the <code>topic</code>, <code>payload</code>, <code>QoS</code>,
+     * <code>retain</code> and <code>priority</code> parameters of the provided
+     * messages are used, the other parameters, including the identifier, are
+     * ignored.
+     * <br>
+     * Implementations should override this method to insert all the messages in
+     * a single transaction: if an exception is thrown none of the messages must be
+     * stored. The default implementation calls
+     * {@link #store(String, byte[], int, boolean, int)} for each message and does
+     * not provide this guarantee.
+     *
+     * @param messages the messages to insert.
+     * @return the identifiers of the stored messages, in the same order of the
+     *         provided messages.
+     * @throws KuraStoreException
+     * @since 2.7
+     */
+    public default List<Integer> store(List<StoredMessage> messages) throws KuraStoreException {
+        final List<Integer> result = new ArrayList<>(messages.size());
+
+        for (final StoredMessage message : messages) {
+            result.add(store(message.getTopic(), message.getPayload(), message.getQos(), message.isRetain(),
+                    message.getPriority()));
+        }
+
+        return result;
+    }
+
     /**
      * Sets the value of the <code>publishedOn</code> parameter to the current time.
      * <br>
@@ -102,6 +137,149 @@ public interface MessageStore {
      */
     public Optional<StoredMessage> getNextMessage() throws KuraStoreException;
 
+    /**
+     * Gets the next messages that should be published, up to the specified
+     * count.
+     * <br>
+     * The returned messages must not have the <code>publishedOn</code> parameter
+     * set and must be sorted in the order defined by {@link #getNextMessage()}:
+     * by ascending <code>priority</code> value first and by ascending
+     * <code>createdOn</code> value then.
+     * <br>
+     * The default implementation returns at most one message, obtained using
+     * {@link #getNextMessage()}.
+     *
+     * @param maxCount the maximum number of messages to return.
+     * @return the list of the next messages that should be published, possibly
+     *         empty.
+     * @throws KuraStoreException
+     * @since 2.7
+     */
+    public default List<StoredMessage> getNextMessages(int maxCount) throws KuraStoreException {
+        if (maxCount <= 0) {
+            return Collections.emptyList();
+        }
+
+        final Optional<StoredMessage> next = getNextMessage();
+
+        if (next.isPresent()) {
+            return Collections.singletonList(next.get());
+        } else {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets the next messages that should be published among the ones with a
+     * <code>priority</code> value between <code>minPriority</code> and
+     * <code>maxPriority</code>, inclusive, up to the specified count.
+     * <br>
+     * The returned messages must not have the <code>publishedOn</code> parameter
+     * set and must be sorted in the order defined by {@link #getNextMessage()}.
+     * This allows to fetch the messages of a range of priorities independently of
+     * the messages with other priorities.
+     * <br>
+     * The default implementation filters the result of
+     * {@link #getUnpublishedMessages()} and loads the payload of the selected
+     * messages with {@link #get(int)}, implementations should override it to use a
+     * single query.
+     *
+     * @param minPriority the minimum priority value, inclusive.
+     * @param maxPriority the maximum priority value, inclusive.
+     * @param maxCount the maximum number of messages to return.
+     * @return the list of the next messages that should be published, possibly
+     *         empty.
+     * @throws KuraStoreException
+     * @since 2.7
+     */
+    public default List<StoredMessage> getNextMessages(int minPriority, int maxPriority, int maxCount)
+            throws KuraStoreException {
+        final List<StoredMessage> result = new ArrayList<>();
+
+        for (final StoredMessage message : getUnpublishedMessages()) {
+            if (result.size() >= maxCount) {
+                break;
+            }
+
+            if (message.getPriority() >= minPriority && message.getPriority() <= maxPriority) {
+                final Optional<StoredMessage> withPayload = get(message.getId());
+
+                if (withPayload.isPresent()) {
+                    result.add(withPayload.get());
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the number of messages that have not been published yet, with a
+     * <code>priority</code> value between <code>minPriority</code> and
+     * <code>maxPriority</code>, inclusive.
+     * <br>
+     * The default implementation filters the result of
+     * {@link #getUnpublishedMessages()}, implementations should override it to use
+     * a single query.
+     *
+     * @param minPriority the minimum priority value, inclusive.
+     * @param maxPriority the maximum priority value, inclusive.
+     * @return the number of unpublished messages in the given priority range.
+     * @throws KuraStoreException
+     * @since 2.7
+     */
+    public default int getUnpublishedMessageCount(int minPriority, int maxPriority) throws KuraStoreException {
+        int result = 0;
+
+        for (final StoredMessage message : getUnpublishedMessages()) {
+            if (message.getPriority() >= minPriority && message.getPriority() <= maxPriority) {
+                result++;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Sets the value of the <code>publishedOn</code> parameter to the current time
+     * for all the messages in the given list.
+     * <br>
+     * This method must be used for messages with QoS = 0.
+     * <br>
+     * The default implementation calls {@link #markAsPublished(int)} for each
+     * identifier, implementations should override it to update all messages with
+     * a single statement.
+     *
+     * @param msgIds the message identifiers
+     * @throws KuraStoreException
+     * @since 2.7
+     */
+    public default void markAsPublished(List<Integer> msgIds) throws KuraStoreException {
+        for (final Integer msgId : msgIds) {
+            markAsPublished(msgId);
+        }
+    }
+
+    /**
+     * Sets the value of the <code>confirmedOn</code> parameter to the current time
+     * for all the messages in the given list.
+     * <br>
+     * This method must be used for messages with QoS >= 1.
+     * <br>
+     * The default implementation calls {@link #markAsConfirmed(int)} for each
+     * identifier, implementations should override it to update all messages with
+     * a single statement.
+     *
+     * @param msgIds the message identifiers.
+     * @throws KuraStoreException
+     * @since 2.7
+     */
+    public default void markAsConfirmed(List<Integer> msgIds) throws KuraStoreException {
+        for (final Integer msgId : msgIds) {
+            markAsConfirmed(msgId);
+        }
+    }
+
     /**
      * Retrieves the message with the given identifier from the store.
      * 
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.timer;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * The handle of a task scheduled with the {@link TimerService}. Like the periodic tasks of a
+ * {@link java.util.concurrent.ScheduledExecutorService}, the task never completes normally: it runs until it is
+ * cancelled.
+ * <p>
+ * The handle also reports the timing of the task: the drift is the delay between the time a tick was due and the
+ * time the task started running, a missed tick is a tick that was skipped because the previous run had not completed
+ * yet or because the timer was late by more than one period.
+ *
+ * @since 2.7
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+@ProviderType
+public interface TimerHandle extends ScheduledFuture<Void> {
+
+    /**
+     * @return the number of times the task has been run
+     */
+    public long getTickCount();
+
+    /**
+     * @return the number of ticks that have been skipped
+     */
+    public long getMissedTickCount();
+
+    /**
+     * @param unit
+     *            the time unit of the result
+     * @return the drift of the last run
+     */
+    public long getLastDrift(TimeUnit unit);
+
+    /**
+     * @param unit
+     *            the time unit of the result
+     * @return the maximum drift observed since the task has been scheduled
+     */
+    public long getMaxDrift(TimeUnit unit);
+}
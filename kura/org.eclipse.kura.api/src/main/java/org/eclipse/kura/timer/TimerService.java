@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.timer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * {@link TimerService} schedules periodic tasks on a timer shared by all the components, instead of a dedicated
+ * thread for each component.
+ * <p>
+ * The tasks are run by a small pool of worker threads and must not block for long periods. A task never runs
+ * concurrently with itself: if a tick is due while the previous run of the same task has not completed, the tick is
+ * skipped and reported by {@link TimerHandle#getMissedTickCount()}.
+ * <p>
+ * Unlike {@link java.util.concurrent.ScheduledExecutorService}, an exception thrown by a task is logged and does not
+ * stop the task. A task that needs to stop itself must cancel its {@link TimerHandle}, a run in progress is not
+ * affected and the task is not run again.
+ *
+ * @since 2.7
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+@ProviderType
+public interface TimerService {
+
+    /**
+     * Schedules a task to be run periodically at a fixed rate.
+     *
+     * @param task
+     *            the task to run
+     * @param initialDelay
+     *            the delay of the first run
+     * @param period
+     *            the period between the start of two runs, must be greater than zero
+     * @param unit
+     *            the time unit of {@code initialDelay} and {@code period}
+     * @return the handle of the scheduled task
+     * @throws IllegalArgumentException
+     *             if the period is not greater than zero
+     */
+    public TimerHandle scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit);
+
+    /**
+     * Schedules a task to be run at the times described by a Quartz cron expression, evaluated on the system clock.
+     * The next run is computed again if the system time changes.
+     *
+     * @param task
+     *            the task to run
+     * @param cronExpression
+     *            the cron expression
+     * @return the handle of the scheduled task
+     * @throws IllegalArgumentException
+     *             if the cron expression is not valid
+     */
+    public TimerHandle scheduleCron(Runnable task, String cronExpression);
+}
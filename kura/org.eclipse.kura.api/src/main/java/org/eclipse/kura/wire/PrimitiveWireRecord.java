@@ -0,0 +1,393 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.wire;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.kura.annotation.Immutable;
+import org.eclipse.kura.annotation.ThreadSafe;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * A {@link WireRecord} that stores its values in primitive arrays laid out according to a shared
+ * {@link WireRecordSchema}, instead of a map of {@link TypedValue}s.
+ * <br>
+ * Every property described by the schema has a value. Components aware of this class can read the values through the
+ * typed getters without any allocation, the map returned by {@link #getProperties()} is created on first access and
+ * preserves the schema ordering.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 2.7
+ */
+@Immutable
+@ThreadSafe
+@ProviderType
+public final class PrimitiveWireRecord extends WireRecord {
+
+    private final WireRecordSchema schema;
+    private final long[] primitives;
+    private final Object[] objects;
+
+    private volatile Map<String, TypedValue<?>> properties;
+
+    private PrimitiveWireRecord(final WireRecordSchema schema, final long[] primitives, final Object[] objects) {
+        this.schema = schema;
+        this.primitives = primitives;
+        this.objects = objects;
+    }
+
+    /**
+     * Creates a new {@link Builder} for records having the provided schema.
+     *
+     * @param schema
+     *            the schema
+     * @return the builder
+     * @throws NullPointerException
+     *             if the schema is null
+     */
+    public static Builder builder(final WireRecordSchema schema) {
+        return new Builder(requireNonNull(schema, "Schema cannot be null"));
+    }
+
+    /**
+     * Returns the schema of this record.
+     *
+     * @return the schema
+     */
+    public WireRecordSchema getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Returns the value of a {@link DataType#BOOLEAN} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public boolean getBoolean(final int index) {
+        return this.primitives[slot(index, DataType.BOOLEAN)] != 0;
+    }
+
+    /**
+     * Returns the value of a {@link DataType#INTEGER} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public int getInteger(final int index) {
+        return (int) this.primitives[slot(index, DataType.INTEGER)];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#LONG} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public long getLong(final int index) {
+        return this.primitives[slot(index, DataType.LONG)];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#FLOAT} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public float getFloat(final int index) {
+        return Float.intBitsToFloat((int) this.primitives[slot(index, DataType.FLOAT)]);
+    }
+
+    /**
+     * Returns the value of a {@link DataType#DOUBLE} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public double getDouble(final int index) {
+        return Double.longBitsToDouble(this.primitives[slot(index, DataType.DOUBLE)]);
+    }
+
+    /**
+     * Returns the value of a {@link DataType#STRING} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public String getString(final int index) {
+        return (String) this.objects[slot(index, DataType.STRING)];
+    }
+
+    /**
+     * Returns the value of a {@link DataType#BYTE_ARRAY} property.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     * @throws IllegalArgumentException
+     *             if the property has a different type
+     */
+    public byte[] getByteArray(final int index) {
+        return (byte[]) this.objects[slot(index, DataType.BYTE_ARRAY)];
+    }
+
+    /**
+     * Returns the value of a property as an object, primitive values are boxed.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     */
+    public Object getValue(final int index) {
+        switch (this.schema.getType(index)) {
+        case BOOLEAN:
+            return getBoolean(index);
+        case INTEGER:
+            return getInteger(index);
+        case LONG:
+            return getLong(index);
+        case FLOAT:
+            return getFloat(index);
+        case DOUBLE:
+            return getDouble(index);
+        default:
+            return this.objects[this.schema.getSlot(index)];
+        }
+    }
+
+    /**
+     * Returns the value of a property as a {@link TypedValue}.
+     *
+     * @param index
+     *            the property index in the schema
+     * @return the value
+     */
+    public TypedValue<?> getTypedValue(final int index) {
+        switch (this.schema.getType(index)) {
+        case BOOLEAN:
+            return TypedValues.newBooleanValue(getBoolean(index));
+        case INTEGER:
+            return TypedValues.newIntegerValue(getInteger(index));
+        case LONG:
+            return TypedValues.newLongValue(getLong(index));
+        case FLOAT:
+            return TypedValues.newFloatValue(getFloat(index));
+        case DOUBLE:
+            return TypedValues.newDoubleValue(getDouble(index));
+        case BYTE_ARRAY:
+            return TypedValues.newByteArrayValue(getByteArray(index));
+        default:
+            return TypedValues.newStringValue(getString(index));
+        }
+    }
+
+    /**
+     * Returns a read only map view of the values stored in this record. The map is created on first access.
+     *
+     * @return the properties
+     */
+    @Override
+    public Map<String, TypedValue<?>> getProperties() {
+        Map<String, TypedValue<?>> result = this.properties;
+
+        if (result == null) {
+            final int size = this.schema.size();
+            final Map<String, TypedValue<?>> map = new LinkedHashMap<>(size * 2);
+
+            for (int i = 0; i < size; i++) {
+                map.put(this.schema.getName(i), getTypedValue(i));
+            }
+
+            result = Collections.unmodifiableMap(map);
+            this.properties = result;
+        }
+
+        return result;
+    }
+
+    private int slot(final int index, final DataType type) {
+        checkType(this.schema, index, type);
+        return this.schema.getSlot(index);
+    }
+
+    private static void checkType(final WireRecordSchema schema, final int index, final DataType type) {
+        if (schema.getType(index) != type) {
+            throw new IllegalArgumentException(
+                    "Property " + schema.getName(index) + " has type " + schema.getType(index) + ", not " + type);
+        }
+    }
+
+    /**
+     * Builds {@link PrimitiveWireRecord} instances. A non null value must be provided for every property of the schema
+     * before calling {@link #build()}, the setters throw {@link IllegalArgumentException} if the value does not match
+     * the property type or is null. A builder must not be used after {@link #build()} has been called.
+     *
+     * @noextend This class is not intended to be extended by clients.
+     * @since 2.7
+     */
+    @ProviderType
+    public static final class Builder {
+
+        private final WireRecordSchema schema;
+        private final long[] primitives;
+        private final Object[] objects;
+        private final boolean[] isSet;
+        private int setCount;
+
+        private Builder(final WireRecordSchema schema) {
+            this.schema = schema;
+            this.primitives = new long[schema.getPrimitiveSlotCount()];
+            this.objects = new Object[schema.getObjectSlotCount()];
+            this.isSet = new boolean[schema.size()];
+        }
+
+        public Builder setBoolean(final int index, final boolean value) {
+            return setPrimitive(index, DataType.BOOLEAN, value ? 1 : 0);
+        }
+
+        public Builder setInteger(final int index, final int value) {
+            return setPrimitive(index, DataType.INTEGER, value);
+        }
+
+        public Builder setLong(final int index, final long value) {
+            return setPrimitive(index, DataType.LONG, value);
+        }
+
+        public Builder setFloat(final int index, final float value) {
+            return setPrimitive(index, DataType.FLOAT, Float.floatToRawIntBits(value));
+        }
+
+        public Builder setDouble(final int index, final double value) {
+            return setPrimitive(index, DataType.DOUBLE, Double.doubleToRawLongBits(value));
+        }
+
+        public Builder setString(final int index, final String value) {
+            return setObject(index, DataType.STRING, value);
+        }
+
+        public Builder setByteArray(final int index, final byte[] value) {
+            return setObject(index, DataType.BYTE_ARRAY, value);
+        }
+
+        /**
+         * Sets the value of a property from a {@link TypedValue}.
+         *
+         * @param index
+         *            the property index in the schema
+         * @param value
+         *            the value
+         * @return this builder
+         * @throws NullPointerException
+         *             if the provided {@link TypedValue} is null
+         * @throws IllegalArgumentException
+         *             if the type of the value does not match the type of the property, or if the value wrapped by
+         *             the {@link TypedValue} is null or not an instance of the class expected for its type
+         */
+        public Builder set(final int index, final TypedValue<?> value) {
+            requireNonNull(value, "Value cannot be null");
+
+            final DataType type = value.getType();
+            final Object payload = value.getValue();
+
+            if (payload == null) {
+                throw new IllegalArgumentException("Property " + this.schema.getName(index) + " has a null value");
+            }
+
+            try {
+                switch (type) {
+                case BOOLEAN:
+                    return setBoolean(index, (Boolean) payload);
+                case INTEGER:
+                    return setInteger(index, (Integer) payload);
+                case LONG:
+                    return setLong(index, (Long) payload);
+                case FLOAT:
+                    return setFloat(index, (Float) payload);
+                case DOUBLE:
+                    return setDouble(index, (Double) payload);
+                case BYTE_ARRAY:
+                    return setByteArray(index, (byte[]) payload);
+                default:
+                    return setString(index, (String) payload);
+                }
+            } catch (final ClassCastException e) {
+                throw new IllegalArgumentException("Value of property " + this.schema.getName(index) + " is a "
+                        + payload.getClass().getName() + ", not a " + type + " value", e);
+            }
+        }
+
+        /**
+         * Creates the record.
+         *
+         * @return the record
+         * @throws IllegalStateException
+         *             if the value of some property has not been set
+         */
+        public PrimitiveWireRecord build() {
+            if (this.setCount != this.isSet.length) {
+                throw new IllegalStateException("All properties defined by the schema must be set");
+            }
+
+            return new PrimitiveWireRecord(this.schema, this.primitives, this.objects);
+        }
+
+        private Builder setPrimitive(final int index, final DataType type, final long value) {
+            checkType(this.schema, index, type);
+            this.primitives[this.schema.getSlot(index)] = value;
+            markSet(index);
+            return this;
+        }
+
+        private Builder setObject(final int index, final DataType type, final Object value) {
+            checkType(this.schema, index, type);
+            if (value == null) {
+                throw new IllegalArgumentException("Property " + this.schema.getName(index) + " has a null value");
+            }
+            this.objects[this.schema.getSlot(index)] = value;
+            markSet(index);
+            return this;
+        }
+
+        private void markSet(final int index) {
+            if (!this.isSet[index]) {
+                this.isSet[index] = true;
+                this.setCount++;
+            }
+        }
+    }
+}
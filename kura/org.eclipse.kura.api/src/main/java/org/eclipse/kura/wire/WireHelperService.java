@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  ******************************************************************************/
 package org.eclipse.kura.wire;
 
+import java.util.List;
+
+import org.eclipse.kura.wire.graph.WireDispatchStatistics;
 import org.osgi.annotation.versioning.ProviderType;
 import org.osgi.framework.ServiceReference;
 
@@ -104,4 +107,13 @@ public interface WireHelperService {
      */
     public WireSupport newWireSupport(WireComponent wireComponent, ServiceReference<WireComponent> wireComponentRef);
 
+    /**
+     * Returns the statistics about the envelopes delivered asynchronously by the {@link WireSupport} instances
+     * created by this service.
+     *
+     * @return the list of {@link WireDispatchStatistics}, one for each Wire that is using asynchronous delivery
+     * @since 2.7
+     */
+    public List<WireDispatchStatistics> getWireDispatchStatistics();
+
 }
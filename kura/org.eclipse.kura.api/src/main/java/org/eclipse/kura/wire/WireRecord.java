@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,16 @@ public class WireRecord {
         this.properties = Collections.unmodifiableMap(properties);
     }
 
+    /**
+     * Constructor reserved to the subclasses that store their values in a different representation and override
+     * {@link #getProperties()}.
+     *
+     * @since 2.7
+     */
+    protected WireRecord() {
+        this.properties = null;
+    }
+
     /**
      * Returns the properties stored in this {@link WireRecord}
      *
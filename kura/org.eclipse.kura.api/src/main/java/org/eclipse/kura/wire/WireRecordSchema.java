@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.wire;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.kura.annotation.Immutable;
+import org.eclipse.kura.annotation.ThreadSafe;
+import org.eclipse.kura.type.DataType;
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * Describes the ordered list of property names and {@link DataType}s of a {@link PrimitiveWireRecord}.
+ * <br>
+ * A schema is meant to be created once and shared by all the records emitted by a component that have the same
+ * layout. Property names are interned.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 2.7
+ */
+@Immutable
+@ThreadSafe
+@ProviderType
+public final class WireRecordSchema {
+
+    private final String[] names;
+    private final DataType[] types;
+    private final Map<String, Integer> indexes;
+    private final int[] slots;
+    private final int primitiveSlotCount;
+    private final int objectSlotCount;
+    private final int hashCode;
+
+    private WireRecordSchema(final List<String> names, final List<DataType> types) {
+        this.names = names.toArray(new String[names.size()]);
+        this.types = types.toArray(new DataType[types.size()]);
+        this.indexes = new HashMap<>(this.names.length * 2);
+        this.slots = new int[this.names.length];
+
+        int primitiveSlots = 0;
+        int objectSlots = 0;
+
+        for (int i = 0; i < this.names.length; i++) {
+            this.indexes.put(this.names[i], i);
+            this.slots[i] = isPrimitive(this.types[i]) ? primitiveSlots++ : objectSlots++;
+        }
+
+        this.primitiveSlotCount = primitiveSlots;
+        this.objectSlotCount = objectSlots;
+
+        this.hashCode = 31 * Arrays.hashCode(this.names) + Arrays.hashCode(this.types);
+    }
+
+    /**
+     * Creates a new {@link Builder}.
+     *
+     * @return the builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of properties described by this schema.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Returns the name of the property at the provided index.
+     *
+     * @param index
+     *            the property index
+     * @return the property name
+     * @throws IndexOutOfBoundsException
+     *             if the index is not valid
+     */
+    public String getName(final int index) {
+        return this.names[index];
+    }
+
+    /**
+     * Returns the type of the property at the provided index.
+     *
+     * @param index
+     *            the property index
+     * @return the property type
+     * @throws IndexOutOfBoundsException
+     *             if the index is not valid
+     */
+    public DataType getType(final int index) {
+        return this.types[index];
+    }
+
+    /**
+     * Returns the index of the property with the provided name.
+     *
+     * @param name
+     *            the property name
+     * @return the property index, or {@code -1} if this schema does not contain the property
+     */
+    public int indexOf(final String name) {
+        final Integer index = this.indexes.get(name);
+
+        return index != null ? index : -1;
+    }
+
+    int getSlot(final int index) {
+        return this.slots[index];
+    }
+
+    int getPrimitiveSlotCount() {
+        return this.primitiveSlotCount;
+    }
+
+    int getObjectSlotCount() {
+        return this.objectSlotCount;
+    }
+
+    static boolean isPrimitive(final DataType type) {
+        return type != DataType.STRING && type != DataType.BYTE_ARRAY;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WireRecordSchema)) {
+            return false;
+        }
+        final WireRecordSchema other = (WireRecordSchema) obj;
+        return this.hashCode == other.hashCode && Arrays.equals(this.names, other.names)
+                && Arrays.equals(this.types, other.types);
+    }
+
+    /**
+     * Builds {@link WireRecordSchema} instances.
+     *
+     * @noextend This class is not intended to be extended by clients.
+     * @since 2.7
+     */
+    @ProviderType
+    public static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<DataType> types = new ArrayList<>();
+        private final Set<String> addedNames = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a property to the schema.
+         *
+         * @param name
+         *            the property name
+         * @param type
+         *            the property type
+         * @return this builder
+         * @throws NullPointerException
+         *             if any of the arguments is null
+         * @throws IllegalArgumentException
+         *             if a property with the same name has already been added
+         */
+        public Builder add(final String name, final DataType type) {
+            requireNonNull(name, "Name cannot be null");
+            requireNonNull(type, "Type cannot be null");
+
+            final String interned = name.intern();
+
+            if (!this.addedNames.add(interned)) {
+                throw new IllegalArgumentException("Duplicate property: " + name);
+            }
+
+            this.names.add(interned);
+            this.types.add(type);
+
+            return this;
+        }
+
+        /**
+         * Creates the schema.
+         *
+         * @return the schema
+         */
+        public WireRecordSchema build() {
+            return new WireRecordSchema(this.names, this.types);
+        }
+    }
+}
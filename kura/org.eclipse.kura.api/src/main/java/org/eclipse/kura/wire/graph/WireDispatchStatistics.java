@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.graph;
+
+import org.osgi.annotation.versioning.ProviderType;
+
+/**
+ * This POJO reports the statistics about the asynchronous delivery of envelopes over a single Wire.
+ *
+ * @noextend This class is not intended to be extended by clients.
+ * @since 2.7
+ */
+@ProviderType
+public class WireDispatchStatistics {
+
+    private final MultiportWireConfiguration wireConfiguration;
+    private final int queueDepth;
+    private final long dispatchedEnvelopes;
+    private final long droppedEnvelopes;
+    private final long averageLatencyNanos;
+    private final long maxLatencyNanos;
+
+    public WireDispatchStatistics(MultiportWireConfiguration wireConfiguration, int queueDepth,
+            long dispatchedEnvelopes, long droppedEnvelopes, long averageLatencyNanos, long maxLatencyNanos) {
+        this.wireConfiguration = wireConfiguration;
+        this.queueDepth = queueDepth;
+        this.dispatchedEnvelopes = dispatchedEnvelopes;
+        this.droppedEnvelopes = droppedEnvelopes;
+        this.averageLatencyNanos = averageLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    /**
+     * Returns the configuration of the Wire these statistics refer to.
+     *
+     * @return the Wire configuration
+     */
+    public MultiportWireConfiguration getWireConfiguration() {
+        return this.wireConfiguration;
+    }
+
+    /**
+     * Returns the number of envelopes currently waiting to be delivered over the Wire.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return this.queueDepth;
+    }
+
+    /**
+     * Returns the number of envelopes delivered over the Wire.
+     *
+     * @return the number of delivered envelopes
+     */
+    public long getDispatchedEnvelopes() {
+        return this.dispatchedEnvelopes;
+    }
+
+    /**
+     * Returns the number of envelopes that have been dropped because the queue of the Wire was full.
+     *
+     * @return the number of dropped envelopes
+     */
+    public long getDroppedEnvelopes() {
+        return this.droppedEnvelopes;
+    }
+
+    /**
+     * Returns the average time elapsed between the emission of an envelope and the completion of its delivery, in
+     * nanoseconds.
+     *
+     * @return the average latency in nanoseconds
+     */
+    public long getAverageLatencyNanos() {
+        return this.averageLatencyNanos;
+    }
+
+    /**
+     * Returns the maximum time elapsed between the emission of an envelope and the completion of its delivery, in
+     * nanoseconds.
+     *
+     * @return the maximum latency in nanoseconds
+     */
+    public long getMaxLatencyNanos() {
+        return this.maxLatencyNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "WireDispatchStatistics [wireConfiguration=" + this.wireConfiguration + ", queueDepth="
+                + this.queueDepth + ", dispatchedEnvelopes=" + this.dispatchedEnvelopes + ", droppedEnvelopes="
+                + this.droppedEnvelopes + ", averageLatencyNanos=" + this.averageLatencyNanos + ", maxLatencyNanos="
+                + this.maxLatencyNanos + "]";
+    }
+}
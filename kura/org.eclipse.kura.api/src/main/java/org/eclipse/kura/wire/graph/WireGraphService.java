@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.kura.wire.graph;
 
+import java.util.List;
+
 import org.eclipse.kura.KuraException;
 import org.osgi.annotation.versioning.ProviderType;
 
@@ -55,4 +57,13 @@ public interface WireGraphService {
      */
     public WireGraphConfiguration get() throws KuraException;
 
+    /**
+     * This method returns the statistics about the envelopes delivered asynchronously over the Wires of the
+     * current Wire Graph. Wires that use synchronous delivery are not reported.
+     *
+     * @return the list of {@link WireDispatchStatistics}, one for each Wire that is using asynchronous delivery
+     * @since 2.7
+     */
+    public List<WireDispatchStatistics> getWireDispatchStatistics();
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,9 @@ public enum AssetConstants {
     /** Driver PID Property to be used in the configuration. */
     ASSET_DRIVER_PROP("driver.pid"),
 
+    /** I/O executor mode Property to be used in the configuration. */
+    ASSET_IO_EXECUTOR_PROP("asset.io.executor"),
+
     /** Enabled Property to be used in the configuration. */
     ENABLED(CHANNEL_DEFAULT_PROPERTY_PREFIX.value() + "enabled"),
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -58,8 +58,10 @@ import org.eclipse.kura.core.configuration.metatype.Tad;
 import org.eclipse.kura.core.configuration.metatype.Tocd;
 import org.eclipse.kura.driver.Driver;
 import org.eclipse.kura.driver.PreparedRead;
+import org.eclipse.kura.internal.asset.provider.AssetIOExecutorMode;
 import org.eclipse.kura.internal.asset.provider.BaseAssetConfiguration;
 import org.eclipse.kura.internal.asset.provider.DriverTrackerCustomizer;
+import org.eclipse.kura.internal.asset.provider.SharedIOExecutors;
 import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.DoubleValue;
 import org.eclipse.kura.type.FloatValue;
@@ -154,6 +156,9 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
 
     private final AtomicReference<DriverState> driverState = new AtomicReference<>();
 
+    private final Object ioExecutorLock = new Object();
+    private SharedIOExecutors.Lease ioExecutorLease;
+
     /**
      * OSGi service component callback while activation.
      *
@@ -187,6 +192,8 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
         }
         logger.info("loading asset configuration...done in {} ms", System.currentTimeMillis() - start);
 
+        this.executor.setName(this.config.getKuraServicePid());
+
         reopenDriverTracker(this.config.getAssetConfiguration().getDriverPid());
     }
 
@@ -203,6 +210,7 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
             this.driverServiceTracker.close();
         }
 
+        updateIOExecutor(null);
         this.executor.shutdown();
 
         logger.debug("deactivating...done");
@@ -245,6 +253,8 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
         final DriverState newState = new DriverState(driver);
         final DriverState oldState = this.driverState.getAndSet(newState);
 
+        updateIOExecutor(driver);
+
         this.executor.runConfig(() -> {
             if (oldState != null) {
                 oldState.shutdown();
@@ -266,6 +276,8 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
     public void unsetDriver() {
         final DriverState oldState = this.driverState.getAndSet(null);
 
+        updateIOExecutor(null);
+
         if (oldState != null) {
             this.executor.runConfig(() -> {
                 final PreparedRead preparedRead = oldState.getPreparedRead();
@@ -519,7 +531,7 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
 
     protected BaseAssetExecutor initBaseAssetExecutor() {
 
-        // TODO make this configurable and maybe allow using shared thread pools
+        // the I/O executor is replaced by a shared one in setDriver() if configured by the asset.io.executor property
 
         final ExecutorService ioExecutor = new ThreadPoolExecutor(1, 5, 60L, TimeUnit.SECONDS,
                 new LinkedBlockingQueue<>());
@@ -529,6 +541,32 @@ public class BaseAsset implements Asset, SelfConfiguringComponent {
         return new BaseAssetExecutor(ioExecutor, configExecutor);
     }
 
+    private void updateIOExecutor(final Driver driver) {
+        synchronized (this.ioExecutorLock) {
+            final SharedIOExecutors.Lease oldLease = this.ioExecutorLease;
+            final AssetIOExecutorMode mode = this.config != null ? this.config.getIOExecutorMode()
+                    : AssetIOExecutorMode.DEDICATED;
+
+            // the new executor is acquired before releasing the old one, so that the executor of a Driver is not
+            // disposed and created again if the Asset is attached again to the same Driver
+            if (driver != null && mode != AssetIOExecutorMode.DEDICATED) {
+                this.ioExecutorLease = SharedIOExecutors.getInstance().acquire(driver, mode);
+            } else {
+                this.ioExecutorLease = null;
+            }
+
+            this.executor.setSharedIOExecutor(this.ioExecutorLease);
+
+            if (oldLease != null) {
+                oldLease.release();
+            }
+
+            if (driver != null) {
+                logger.debug("Using {} I/O executor", mode);
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void write(final List<ChannelRecord> channelRecords) throws KuraException {
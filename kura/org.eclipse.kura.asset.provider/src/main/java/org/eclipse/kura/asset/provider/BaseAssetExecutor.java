@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@ package org.eclipse.kura.asset.provider;
 
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
@@ -24,6 +28,8 @@ public class BaseAssetExecutor {
 
     private static final Logger logger = LoggerFactory.getLogger(BaseAssetExecutor.class);
 
+    private static final long IO_METRICS_REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(10);
+
     private final ExecutorService ioExecutor;
     private final boolean isIoExecutorShared;
 
@@ -33,6 +39,12 @@ public class BaseAssetExecutor {
     private final AtomicReference<CompletableFuture<Void>> queue = new AtomicReference<>(
             CompletableFuture.completedFuture(null));
 
+    private volatile Executor sharedIoExecutor;
+    private final IOMetrics ioMetrics = new IOMetrics();
+    private final IOMetrics reportIOMetrics = new IOMetrics();
+    private final AtomicLong nextIOMetricsReport = new AtomicLong(System.nanoTime() + IO_METRICS_REPORT_INTERVAL);
+    private volatile String name = "Asset";
+
     public BaseAssetExecutor(final ExecutorService ioExecutor, final ExecutorService configExecutor) {
         this(ioExecutor, false, configExecutor, false);
     }
@@ -47,18 +59,102 @@ public class BaseAssetExecutor {
 
     public <T> CompletableFuture<T> runIO(final Callable<T> task) {
         final CompletableFuture<T> result = new CompletableFuture<>();
-
-        this.ioExecutor.execute(() -> {
-            try {
-                result.complete(task.call());
-            } catch (Exception e) {
-                result.completeExceptionally(e);
-            }
-        });
+        final long submitTime = System.nanoTime();
+
+        try {
+            getIOExecutor().execute(() -> {
+                final long startTime = System.nanoTime();
+
+                T value = null;
+                Exception failure = null;
+                try {
+                    value = task.call();
+                } catch (Exception e) {
+                    failure = e;
+                }
+
+                final long endTime = System.nanoTime();
+
+                this.ioMetrics.record(startTime - submitTime, endTime - startTime);
+                this.reportIOMetrics.record(startTime - submitTime, endTime - startTime);
+                logIOMetrics(endTime);
+
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(value);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
 
         return result;
     }
 
+    /**
+     * Replaces the executor used for I/O operations with an executor shared with other Assets, for example
+     * an executor shared by all the Assets attached to the same Driver instance. The shared executor is not shut down
+     * by {@link #shutdown()}.
+     *
+     * @param sharedIoExecutor
+     *            the shared executor, or {@code null} to use the executor provided at construction time
+     * @since 2.1
+     */
+    public void setSharedIOExecutor(final Executor sharedIoExecutor) {
+        this.sharedIoExecutor = sharedIoExecutor;
+    }
+
+    /**
+     * @return the time spent by the I/O operations waiting to be executed and being executed
+     * @since 2.1
+     */
+    public IOMetrics getIOMetrics() {
+        return this.ioMetrics;
+    }
+
+    /**
+     * Sets the name used to identify the Asset in the I/O metrics logged every 10 minutes, while the Asset performs
+     * I/O operations.
+     *
+     * @param name
+     *            the name, usually the kura.service.pid of the Asset
+     * @since 2.1
+     */
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    private void logIOMetrics(final long now) {
+        final IOMetrics report = pollIOMetricsReport(now);
+
+        if (report != null) {
+            logger.info("{} I/O operations in the last {} s: {}", this.name,
+                    TimeUnit.NANOSECONDS.toSeconds(IO_METRICS_REPORT_INTERVAL), report);
+        }
+    }
+
+    /*
+     * Returns the metrics collected since the previous report and starts a new collection period, or null if the
+     * period has not ended yet. The report is produced by a single thread even if several operations complete at the
+     * end of the period.
+     */
+    IOMetrics pollIOMetricsReport(final long now) {
+        final long next = this.nextIOMetricsReport.get();
+
+        if (now - next < 0 || !this.nextIOMetricsReport.compareAndSet(next, now + IO_METRICS_REPORT_INTERVAL)) {
+            return null;
+        }
+
+        return this.reportIOMetrics.getAndReset();
+    }
+
+    private Executor getIOExecutor() {
+        final Executor shared = this.sharedIoExecutor;
+
+        return shared != null ? shared : this.ioExecutor;
+    }
+
     public CompletableFuture<Void> runConfig(final Runnable task) {
 
         final CompletableFuture<Void> next = new CompletableFuture<>();
@@ -86,4 +182,73 @@ public class BaseAssetExecutor {
         }
     }
 
+    /**
+     * Reports the time spent by the I/O operations of an Asset in the executor queue, which grows when the executor
+     * is shared with other Assets, and the time spent performing the operation on the Driver.
+     *
+     * @since 2.1
+     */
+    public static final class IOMetrics {
+
+        private long count;
+        private long totalQueueWaitTime;
+        private long maxQueueWaitTime;
+        private long totalIOTime;
+        private long maxIOTime;
+
+        synchronized IOMetrics getAndReset() {
+            final IOMetrics result = new IOMetrics();
+
+            result.count = this.count;
+            result.totalQueueWaitTime = this.totalQueueWaitTime;
+            result.maxQueueWaitTime = this.maxQueueWaitTime;
+            result.totalIOTime = this.totalIOTime;
+            result.maxIOTime = this.maxIOTime;
+
+            this.count = 0;
+            this.totalQueueWaitTime = 0;
+            this.maxQueueWaitTime = 0;
+            this.totalIOTime = 0;
+            this.maxIOTime = 0;
+
+            return result;
+        }
+
+        synchronized void record(final long queueWaitTime, final long ioTime) {
+            this.count++;
+            this.totalQueueWaitTime += queueWaitTime;
+            this.maxQueueWaitTime = Math.max(this.maxQueueWaitTime, queueWaitTime);
+            this.totalIOTime += ioTime;
+            this.maxIOTime = Math.max(this.maxIOTime, ioTime);
+        }
+
+        public synchronized long getCount() {
+            return this.count;
+        }
+
+        public synchronized long getAverageQueueWaitTime(final TimeUnit unit) {
+            return this.count == 0 ? 0 : unit.convert(this.totalQueueWaitTime / this.count, TimeUnit.NANOSECONDS);
+        }
+
+        public synchronized long getMaxQueueWaitTime(final TimeUnit unit) {
+            return unit.convert(this.maxQueueWaitTime, TimeUnit.NANOSECONDS);
+        }
+
+        public synchronized long getAverageIOTime(final TimeUnit unit) {
+            return this.count == 0 ? 0 : unit.convert(this.totalIOTime / this.count, TimeUnit.NANOSECONDS);
+        }
+
+        public synchronized long getMaxIOTime(final TimeUnit unit) {
+            return unit.convert(this.maxIOTime, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "IOMetrics [count=" + this.count + ", averageQueueWaitTime="
+                    + getAverageQueueWaitTime(TimeUnit.MICROSECONDS) + " us, maxQueueWaitTime="
+                    + getMaxQueueWaitTime(TimeUnit.MICROSECONDS) + " us, averageIOTime="
+                    + getAverageIOTime(TimeUnit.MICROSECONDS) + " us, maxIOTime=" + getMaxIOTime(TimeUnit.MICROSECONDS)
+                    + " us]";
+        }
+    }
 }
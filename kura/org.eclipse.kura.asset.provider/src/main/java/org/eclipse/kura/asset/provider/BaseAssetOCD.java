@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,23 @@ package org.eclipse.kura.asset.provider;
 
 import static org.eclipse.kura.asset.provider.AssetConstants.ASSET_DESC_PROP;
 import static org.eclipse.kura.asset.provider.AssetConstants.ASSET_DRIVER_PROP;
+import static org.eclipse.kura.asset.provider.AssetConstants.ASSET_IO_EXECUTOR_PROP;
 
 import org.eclipse.kura.core.configuration.metatype.Tad;
 import org.eclipse.kura.core.configuration.metatype.Tocd;
+import org.eclipse.kura.core.configuration.metatype.Toption;
 import org.eclipse.kura.core.configuration.metatype.Tscalar;
+import org.eclipse.kura.internal.asset.provider.AssetIOExecutorMode;
 
 public class BaseAssetOCD extends Tocd {
 
+    private static final String IO_EXECUTOR_DESCRIPTION = "Selects the threads used to read and write the channels. "
+            + "If set to DEDICATED, the Asset uses a private thread, the operations of different Assets attached to "
+            + "the same Driver instance can be performed concurrently. "
+            + "If set to DRIVER, the Assets attached to the same Driver instance share a single thread. "
+            + "If set to SHARED, the Assets share a pool sized to the number of processors. "
+            + "In the DRIVER and SHARED modes the operations on the same Driver instance are performed one at a time.";
+
     public BaseAssetOCD() {
         setId(BaseAsset.CONF_PID);
         setName("Wire Asset");
@@ -42,8 +52,25 @@ public class BaseAssetOCD extends Tocd {
         driverNameAd.setDescription("Driver Name");
         driverNameAd.setRequired(true);
 
+        final Tad ioExecutorAd = new Tad();
+        ioExecutorAd.setId(ASSET_IO_EXECUTOR_PROP.value());
+        ioExecutorAd.setName(ASSET_IO_EXECUTOR_PROP.value());
+        ioExecutorAd.setCardinality(0);
+        ioExecutorAd.setType(Tscalar.STRING);
+        ioExecutorAd.setDescription(IO_EXECUTOR_DESCRIPTION);
+        ioExecutorAd.setRequired(false);
+        ioExecutorAd.setDefault(AssetIOExecutorMode.DEDICATED.name());
+
+        for (final AssetIOExecutorMode mode : AssetIOExecutorMode.values()) {
+            final Toption option = new Toption();
+            option.setLabel(mode.name());
+            option.setValue(mode.name());
+            ioExecutorAd.getOption().add(option);
+        }
+
         addAD(assetDescriptionAd);
         addAD(driverNameAd);
+        addAD(ioExecutorAd);
     }
 
 }
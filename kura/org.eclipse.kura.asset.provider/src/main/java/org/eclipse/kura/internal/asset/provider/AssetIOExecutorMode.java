@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.asset.provider;
+
+/**
+ * Selects the threads used by an Asset to perform read and write operations on its Driver.
+ */
+public enum AssetIOExecutorMode {
+
+    /**
+     * Each Asset uses a private thread, the Assets attached to the same Driver instance can perform operations on it
+     * concurrently.
+     */
+    DEDICATED,
+
+    /** The Assets attached to the same Driver instance share a single thread. */
+    DRIVER,
+
+    /**
+     * The Assets share a global pool sized to the number of available processors, the operations on the same
+     * Driver instance are still performed one at a time.
+     */
+    SHARED;
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.kura.internal.asset.provider;
 import static java.util.Objects.isNull;
 import static org.eclipse.kura.asset.provider.AssetConstants.ASSET_DESC_PROP;
 import static org.eclipse.kura.asset.provider.AssetConstants.ASSET_DRIVER_PROP;
+import static org.eclipse.kura.asset.provider.AssetConstants.ASSET_IO_EXECUTOR_PROP;
 import static org.eclipse.kura.asset.provider.AssetConstants.CHANNEL_NAME_PROHIBITED_CHARS;
 import static org.eclipse.kura.asset.provider.AssetConstants.CHANNEL_PROPERTY_SEPARATOR;
 import static org.eclipse.kura.asset.provider.AssetConstants.ENABLED;
@@ -94,6 +95,21 @@ public final class BaseAssetConfiguration {
         return this.kuraServicePid;
     }
 
+    public AssetIOExecutorMode getIOExecutorMode() {
+        final Object mode = this.properties.get(ASSET_IO_EXECUTOR_PROP.value());
+
+        if (mode == null) {
+            return AssetIOExecutorMode.DEDICATED;
+        }
+
+        try {
+            return AssetIOExecutorMode.valueOf(mode.toString());
+        } catch (final IllegalArgumentException e) {
+            logger.warn("Invalid I/O executor mode {}, using {}", mode, AssetIOExecutorMode.DEDICATED);
+            return AssetIOExecutorMode.DEDICATED;
+        }
+    }
+
     public List<ChannelRecord> getAllReadRecords() {
         final Map<String, Channel> channels = getAssetConfiguration().getAssetChannels();
         List<ChannelRecord> readRecords = new ArrayList<>();
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.asset.provider;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.driver.Driver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the I/O executors shared by the Assets attached to the same {@link Driver} instance.
+ * <p>
+ * In {@link AssetIOExecutorMode#DRIVER} mode each Driver instance gets a single thread, in
+ * {@link AssetIOExecutorMode#SHARED} mode the tasks of each Driver instance are serialized on a global pool sized to
+ * the number of available processors. In both modes the operations on a Driver are performed one at a time. This is
+ * not the case with the dedicated executor of each Asset, which only serializes the operations of that Asset.
+ * <p>
+ * The Driver executors are reference counted and are disposed when the last Asset releases them. The global pool is
+ * not shut down, since serialized tasks of released executors could still be waiting to be submitted to it, but its
+ * threads terminate after being idle for a minute.
+ */
+public final class SharedIOExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedIOExecutors.class);
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private static final SharedIOExecutors INSTANCE = new SharedIOExecutors(
+            Runtime.getRuntime().availableProcessors());
+
+    private final int sharedPoolSize;
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    // guarded by this
+    private final Map<Driver, Entry> driverExecutors = new IdentityHashMap<>();
+    private final Map<Driver, Entry> sharedExecutors = new IdentityHashMap<>();
+    private ThreadPoolExecutor sharedPool;
+
+    SharedIOExecutors(final int sharedPoolSize) {
+        this.sharedPoolSize = Math.max(1, sharedPoolSize);
+    }
+
+    public static SharedIOExecutors getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the executor for the given Driver and mode, the executor must be released with {@link Lease#release()}
+     * when no longer needed.
+     *
+     * @param driver
+     *            the Driver instance
+     * @param mode
+     *            either {@link AssetIOExecutorMode#DRIVER} or {@link AssetIOExecutorMode#SHARED}
+     * @return the executor
+     */
+    public synchronized Lease acquire(final Driver driver, final AssetIOExecutorMode mode) {
+        requireNonNull(driver, "Driver cannot be null");
+
+        final Entry entry;
+
+        if (mode == AssetIOExecutorMode.DRIVER) {
+            entry = this.driverExecutors.computeIfAbsent(driver, d -> newDriverExecutor());
+        } else if (mode == AssetIOExecutorMode.SHARED) {
+            entry = this.sharedExecutors.computeIfAbsent(driver,
+                    d -> new Entry(new SerialExecutor(getSharedPool()), null));
+        } else {
+            throw new IllegalArgumentException("Unsupported mode: " + mode);
+        }
+
+        entry.refCount++;
+
+        return new Lease(driver, mode, entry);
+    }
+
+    synchronized int getExecutorCount() {
+        return this.driverExecutors.size() + this.sharedExecutors.size();
+    }
+
+    private synchronized void release(final Lease lease) {
+        final Map<Driver, Entry> executors = lease.mode == AssetIOExecutorMode.DRIVER ? this.driverExecutors
+                : this.sharedExecutors;
+
+        final Entry entry = lease.entry;
+
+        if (--entry.refCount > 0 || executors.get(lease.driver) != entry) {
+            return;
+        }
+
+        executors.remove(lease.driver);
+
+        if (entry.ownedExecutor != null) {
+            // already submitted tasks are completed
+            entry.ownedExecutor.shutdown();
+        }
+    }
+
+    private ThreadPoolExecutor getSharedPool() {
+        if (this.sharedPool == null) {
+            logger.debug("Starting shared asset I/O pool with {} threads", this.sharedPoolSize);
+            this.sharedPool = newPool(this.sharedPoolSize);
+        }
+        return this.sharedPool;
+    }
+
+    private Entry newDriverExecutor() {
+        final ThreadPoolExecutor executor = newPool(1);
+        return new Entry(executor, executor);
+    }
+
+    private ThreadPoolExecutor newPool(final int size) {
+        final ThreadPoolExecutor result = new ThreadPoolExecutor(size, size, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), getThreadFactory());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+
+    private ThreadFactory getThreadFactory() {
+        return runnable -> {
+            final Thread result = new Thread(runnable, "AssetIOExecutor-" + this.threadCount.incrementAndGet());
+            result.setDaemon(true);
+            return result;
+        };
+    }
+
+    private static final class Entry {
+
+        private final Executor executor;
+        private final ExecutorService ownedExecutor;
+        private int refCount;
+
+        Entry(final Executor executor, final ExecutorService ownedExecutor) {
+            this.executor = executor;
+            this.ownedExecutor = ownedExecutor;
+        }
+    }
+
+    /**
+     * An executor acquired from {@link SharedIOExecutors}.
+     */
+    public final class Lease implements Executor {
+
+        private final Driver driver;
+        private final AssetIOExecutorMode mode;
+        private final Entry entry;
+        private boolean released;
+
+        private Lease(final Driver driver, final AssetIOExecutorMode mode, final Entry entry) {
+            this.driver = driver;
+            this.mode = mode;
+            this.entry = entry;
+        }
+
+        @Override
+        public void execute(final Runnable task) {
+            this.entry.executor.execute(task);
+        }
+
+        /**
+         * Releases the executor, calling this method more than once has no effect.
+         */
+        public void release() {
+            synchronized (SharedIOExecutors.this) {
+                if (this.released) {
+                    return;
+                }
+                this.released = true;
+                SharedIOExecutors.this.release(this);
+            }
+        }
+    }
+}
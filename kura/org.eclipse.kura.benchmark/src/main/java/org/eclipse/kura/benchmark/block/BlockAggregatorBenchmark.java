@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.benchmark.block;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.driver.block.Block;
+import org.eclipse.kura.driver.block.BlockAggregator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the aggregation of the channel blocks performed by the block based drivers before every read.
+ * <br>
+ * The input blocks are created in random order with random sizes and gaps, the same input is used by every
+ * invocation. The aggregator sorts and modifies the input list, so a new list is created for every invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockAggregatorBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int blockCount;
+
+    @Param({ "0", "10" })
+    private int minimumGapSize;
+
+    private int[] starts;
+    private int[] ends;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        final List<int[]> ranges = new ArrayList<>(this.blockCount);
+
+        int address = 0;
+
+        for (int i = 0; i < this.blockCount; i++) {
+            address += random.nextInt(20);
+            final int size = 1 + random.nextInt(4);
+
+            ranges.add(new int[] { address, address + size });
+            address += size;
+        }
+
+        Collections.shuffle(ranges, random);
+
+        this.starts = new int[this.blockCount];
+        this.ends = new int[this.blockCount];
+
+        for (int i = 0; i < this.blockCount; i++) {
+            this.starts[i] = ranges.get(i)[0];
+            this.ends[i] = ranges.get(i)[1];
+        }
+    }
+
+    @Benchmark
+    public void aggregate(final Blackhole blackhole) {
+        final List<Block> blocks = new ArrayList<>(this.blockCount);
+
+        for (int i = 0; i < this.blockCount; i++) {
+            blocks.add(new Block(this.starts[i], this.ends[i]));
+        }
+
+        final BlockAggregator<Block> aggregator = new BlockAggregator<>(blocks, Block::new);
+        aggregator.setMinimumGapSize(this.minimumGapSize);
+
+        aggregator.stream().forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.benchmark.cloud;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraInvalidMessageException;
+import org.eclipse.kura.core.cloud.CloudPayloadProtoBufDecoderImpl;
+import org.eclipse.kura.core.cloud.CloudPayloadProtoBufEncoderImpl;
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.message.KuraPosition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the encoding and decoding of {@link KuraPayload}s in the Kura protobuf format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloudPayloadProtoBufBenchmark {
+
+    @Param({ "10", "100" })
+    private int metricCount;
+
+    @Param({ "0", "4096" })
+    private int bodySize;
+
+    @Param({ "false", "true" })
+    private boolean withPosition;
+
+    private KuraPayload payload;
+    private byte[] encodedPayload;
+
+    @Setup
+    public void setup() throws IOException {
+        final Random random = new Random(0);
+
+        this.payload = new KuraPayload();
+        this.payload.setTimestamp(new Date(1_700_000_000_000L));
+
+        for (int i = 0; i < this.metricCount; i++) {
+            switch (i % 6) {
+            case 0:
+                this.payload.addMetric("double." + i, random.nextDouble());
+                break;
+            case 1:
+                this.payload.addMetric("float." + i, random.nextFloat());
+                break;
+            case 2:
+                this.payload.addMetric("long." + i, random.nextLong());
+                break;
+            case 3:
+                this.payload.addMetric("int." + i, random.nextInt());
+                break;
+            case 4:
+                this.payload.addMetric("boolean." + i, random.nextBoolean());
+                break;
+            default:
+                this.payload.addMetric("string." + i, "value " + random.nextInt());
+                break;
+            }
+        }
+
+        if (this.bodySize > 0) {
+            final byte[] body = new byte[this.bodySize];
+            random.nextBytes(body);
+            this.payload.setBody(body);
+        }
+
+        if (this.withPosition) {
+            final KuraPosition position = new KuraPosition();
+            position.setLatitude(45.0);
+            position.setLongitude(13.0);
+            position.setAltitude(100.0);
+            position.setSpeed(12.5);
+            position.setHeading(180.0);
+            position.setTimestamp(new Date(1_700_000_000_000L));
+            this.payload.setPosition(position);
+        }
+
+        this.encodedPayload = new CloudPayloadProtoBufEncoderImpl(this.payload).getBytes();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return new CloudPayloadProtoBufEncoderImpl(this.payload).getBytes();
+    }
+
+    @Benchmark
+    public KuraPayload decode() throws KuraInvalidMessageException, IOException {
+        return new CloudPayloadProtoBufDecoderImpl(this.encodedPayload).buildFromByteArray();
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.benchmark.store;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.benchmark.store.SingleConnectionProvider.Database;
+import org.eclipse.kura.core.db.H2DbMessageStoreImpl;
+import org.eclipse.kura.internal.db.sqlite.provider.SqliteMessageStoreImpl;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link MessageStore} operations performed by the data service for every published message.
+ * <br>
+ * Every iteration starts from a new table that contains {@link #backlog} unpublished messages.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageStoreBenchmark {
+
+    private static final String TOPIC = "$EDC/account/client/app/topic";
+
+    @Param({ "SQLITE", "H2" })
+    private Database database;
+
+    @Param({ "0", "1000" })
+    private int backlog;
+
+    @Param({ "256" })
+    private int payloadSize;
+
+    private SingleConnectionProvider connectionProvider;
+    private MessageStore store;
+    private byte[] payload;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException, SQLException {
+        this.connectionProvider = new SingleConnectionProvider(this.database);
+        this.payload = new byte[this.payloadSize];
+        new Random(0).nextBytes(this.payload);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() throws KuraStoreException {
+        final String table = "ds_messages_" + this.iteration++;
+
+        if (this.database == Database.SQLITE) {
+            this.store = new SqliteMessageStoreImpl(this.connectionProvider, table);
+        } else {
+            this.store = new H2DbMessageStoreImpl(this.connectionProvider, table);
+        }
+
+        for (int i = 0; i < this.backlog; i++) {
+            this.store.store(TOPIC, this.payload, 1, false, 4);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        this.store.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws SQLException {
+        this.connectionProvider.close();
+    }
+
+    @Benchmark
+    public int store() throws KuraStoreException {
+        return this.store.store(TOPIC, this.payload, 1, false, 4);
+    }
+
+    @Benchmark
+    public Optional<StoredMessage> storeAndPublish() throws KuraStoreException {
+        this.store.store(TOPIC, this.payload, 1, false, 4);
+
+        final Optional<StoredMessage> next = this.store.getNextMessage();
+
+        if (next.isPresent()) {
+            final int id = next.get().getId();
+
+            this.store.markAsPublished(id);
+            this.store.markAsConfirmed(id);
+        }
+
+        return next;
+    }
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.benchmark.store;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.jdbc.SQLFunction;
+
+/**
+ * A {@link ConnectionProvider} backed by a single connection to an embedded database stored in a temporary file.
+ */
+final class SingleConnectionProvider implements ConnectionProvider, AutoCloseable {
+
+    enum Database {
+        SQLITE,
+        H2
+    }
+
+    private final File directory;
+    private final Connection connection;
+
+    SingleConnectionProvider(final Database database) throws IOException, SQLException {
+        this.directory = Files.createTempDirectory("kura-benchmark").toFile();
+
+        final String path = new File(this.directory, "db").getAbsolutePath();
+
+        if (database == Database.SQLITE) {
+            this.connection = DriverManager.getConnection("jdbc:sqlite:" + path);
+        } else {
+            this.connection = DriverManager.getConnection("jdbc:h2:" + path, "SA", "");
+        }
+    }
+
+    @Override
+    public synchronized <T> T withConnection(final SQLFunction<Connection, T> task) throws SQLException {
+        return task.call(this.connection);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            this.connection.close();
+        } finally {
+            final File[] files = this.directory.listFiles();
+
+            if (files != null) {
+                for (final File file : files) {
+                    file.delete();
+                }
+            }
+            this.directory.delete();
+        }
+    }
+}
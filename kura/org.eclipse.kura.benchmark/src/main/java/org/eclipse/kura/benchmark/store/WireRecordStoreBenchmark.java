@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.benchmark.store;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.benchmark.store.SingleConnectionProvider.Database;
+import org.eclipse.kura.core.db.H2DbWireRecordStoreImpl;
+import org.eclipse.kura.internal.db.sqlite.provider.SqliteWireRecordStoreImpl;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+import org.eclipse.kura.wire.store.provider.WireRecordStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the insertion of {@link WireRecord}s in a {@link WireRecordStore}, comparing map based records with
+ * {@link PrimitiveWireRecord}s.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireRecordStoreBenchmark {
+
+    public enum RecordKind {
+        MAP,
+        PRIMITIVE
+    }
+
+    @Param({ "SQLITE", "H2" })
+    private Database database;
+
+    @Param({ "MAP", "PRIMITIVE" })
+    private RecordKind recordKind;
+
+    @Param({ "1", "100" })
+    private int batchSize;
+
+    @Param({ "10" })
+    private int channelCount;
+
+    private SingleConnectionProvider connectionProvider;
+    private WireRecordStore store;
+    private List<WireRecord> records;
+    private int iteration;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws IOException, SQLException {
+        this.connectionProvider = new SingleConnectionProvider(this.database);
+        this.records = new ArrayList<>(this.batchSize);
+
+        final WireRecordSchema schema = buildSchema();
+
+        for (int i = 0; i < this.batchSize; i++) {
+            this.records.add(this.recordKind == RecordKind.PRIMITIVE ? buildPrimitiveRecord(schema, i)
+                    : buildMapRecord(i));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setupIteration() throws KuraStoreException {
+        final String table = "wr_records_" + this.iteration++;
+
+        if (this.database == Database.SQLITE) {
+            this.store = new SqliteWireRecordStoreImpl(this.connectionProvider, table);
+        } else {
+            this.store = new H2DbWireRecordStoreImpl(this.connectionProvider, table);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        this.store.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws SQLException {
+        this.connectionProvider.close();
+    }
+
+    @Benchmark
+    public void insertRecords() throws KuraStoreException {
+        this.store.insertRecords(this.records);
+    }
+
+    private WireRecordSchema buildSchema() {
+        final WireRecordSchema.Builder builder = WireRecordSchema.builder();
+
+        for (int i = 0; i < this.channelCount; i++) {
+            builder.add("channel" + i, DataType.DOUBLE);
+            builder.add("channel" + i + "_timestamp", DataType.LONG);
+        }
+
+        builder.add("assetName", DataType.STRING);
+
+        return builder.build();
+    }
+
+    private WireRecord buildMapRecord(final int seed) {
+        final Map<String, TypedValue<?>> properties = new HashMap<>();
+
+        for (int i = 0; i < this.channelCount; i++) {
+            properties.put("channel" + i, TypedValues.newDoubleValue(seed + i * 0.5));
+            properties.put("channel" + i + "_timestamp", TypedValues.newLongValue(1_700_000_000_000L + seed));
+        }
+
+        properties.put("assetName", TypedValues.newStringValue("asset"));
+
+        return new WireRecord(properties);
+    }
+
+    private PrimitiveWireRecord buildPrimitiveRecord(final WireRecordSchema schema, final int seed) {
+        final PrimitiveWireRecord.Builder builder = PrimitiveWireRecord.builder(schema);
+        int index = 0;
+
+        for (int i = 0; i < this.channelCount; i++) {
+            builder.setDouble(index++, seed + i * 0.5);
+            builder.setLong(index++, 1_700_000_000_000L + seed);
+        }
+
+        builder.setString(index, "asset");
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import static org.eclipse.kura.wire.graph.Constants.WIRE_EMITTER_PORT_PROP_NAME;
+import static org.eclipse.kura.wire.graph.Constants.WIRE_RECEIVER_PORT_PROP_NAME;
+
+import java.util.Collections;
+import java.util.Dictionary;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireEmitter;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.WireReceiver;
+import org.eclipse.kura.wire.WireRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.service.wireadmin.Wire;
+
+/**
+ * Measures the delivery of an envelope emitted by a {@link WireSupportImpl} to a variable number of receivers, with
+ * both the synchronous and the asynchronous dispatch modes.
+ * <br>
+ * Every invocation waits until all the receivers have been notified, so that the two modes are compared on the end
+ * to end latency and not only on the cost of {@link WireSupportImpl#emit(List)}.
+ * <br>
+ * The benchmark lives in the same package as {@link WireSupportImpl} since the class is not exported.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireSupportBenchmark {
+
+    @Param({ "1", "4", "16" })
+    private int fanOut;
+
+    @Param({ "SYNC", "ASYNC" })
+    private String dispatchMode;
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    private WireDispatcher dispatcher;
+    private WireSupportImpl emitterSupport;
+    private List<WireRecord> wireRecords;
+    private long expectedCount;
+
+    @Setup
+    public void setup() {
+        final Map<String, Object> dispatchProperties = new HashMap<>();
+        dispatchProperties.put("dispatch.mode", this.dispatchMode);
+
+        this.dispatcher = new WireDispatcher();
+        this.dispatcher.update(new WireDispatchOptions(dispatchProperties));
+
+        this.emitterSupport = new WireSupportImpl(new Emitter(), "emitter", "emitter", 0, 1, this.dispatcher);
+
+        final Wire[] wires = new Wire[this.fanOut];
+
+        for (int i = 0; i < this.fanOut; i++) {
+            final WireSupportImpl receiverSupport = new WireSupportImpl(new Receiver(), "receiver" + i,
+                    "receiver" + i, 1, 0, this.dispatcher);
+
+            wires[i] = new BenchmarkWire(receiverSupport);
+            receiverSupport.producersConnected(new Wire[] { wires[i] });
+        }
+
+        this.emitterSupport.consumersConnected(wires);
+
+        final Map<String, TypedValue<?>> properties = new HashMap<>();
+        properties.put("temperature", TypedValues.newDoubleValue(21.5));
+        properties.put("humidity", TypedValues.newDoubleValue(40.0));
+        properties.put("assetName", TypedValues.newStringValue("asset"));
+
+        this.wireRecords = Collections.singletonList(new WireRecord(properties));
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.dispatcher.shutdown();
+    }
+
+    @Benchmark
+    public long emit() {
+        this.expectedCount += this.fanOut;
+        this.emitterSupport.emit(this.wireRecords);
+
+        long delivered;
+        while ((delivered = this.deliveredCount.get()) < this.expectedCount) {
+            Thread.yield();
+        }
+
+        return delivered;
+    }
+
+    private static final class Emitter implements WireEmitter {
+
+        @Override
+        public Object polled(final Wire wire) {
+            return null;
+        }
+
+        @Override
+        public void consumersConnected(final Wire[] wires) {
+            // not needed
+        }
+    }
+
+    private final class Receiver implements WireReceiver {
+
+        @Override
+        public void onWireReceive(final WireEnvelope wireEnvelope) {
+            WireSupportBenchmark.this.deliveredCount.incrementAndGet();
+        }
+
+        @Override
+        public void updated(final Wire wire, final Object value) {
+            // not needed
+        }
+
+        @Override
+        public void producersConnected(final Wire[] wires) {
+            // not needed
+        }
+    }
+
+    private static final class BenchmarkWire implements Wire {
+
+        private final WireSupportImpl receiverSupport;
+        private final Dictionary<String, Object> properties = new Hashtable<>();
+
+        private volatile Object lastValue;
+
+        BenchmarkWire(final WireSupportImpl receiverSupport) {
+            this.receiverSupport = receiverSupport;
+            this.properties.put(WIRE_EMITTER_PORT_PROP_NAME.value(), 0);
+            this.properties.put(WIRE_RECEIVER_PORT_PROP_NAME.value(), 0);
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public Class<?>[] getFlavors() {
+            return new Class<?>[] { WireEnvelope.class };
+        }
+
+        @Override
+        public void update(final Object value) {
+            this.lastValue = value;
+            this.receiverSupport.updated(this, value);
+        }
+
+        @Override
+        public Object poll() {
+            return this.lastValue;
+        }
+
+        @Override
+        public Object getLastValue() {
+            return this.lastValue;
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Dictionary getProperties() {
+            return this.properties;
+        }
+
+        @Override
+        public String[] getScope() {
+            return null;
+        }
+
+        @Override
+        public boolean hasScope(final String name) {
+            return true;
+        }
+    }
+}
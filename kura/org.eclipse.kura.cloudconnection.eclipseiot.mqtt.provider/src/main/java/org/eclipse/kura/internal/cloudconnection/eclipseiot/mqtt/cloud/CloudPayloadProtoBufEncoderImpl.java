@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.kura.internal.cloudconnection.eclipseiot.mqtt.cloud;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.eclipse.kura.KuraInvalidMetricTypeException;
@@ -24,15 +25,22 @@ import org.eclipse.kura.message.KuraPosition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.UnsafeByteOperations;
 
 /**
  * Encodes an KuraPayload class using the Google ProtoBuf binary format.
+ * <br>
+ * The body and the byte array metrics are wrapped without being copied and the message is serialized into a
+ * buffer reused across invocations performed by the same thread.
  */
 public class CloudPayloadProtoBufEncoderImpl implements CloudPayloadEncoder {
 
     private static final Logger logger = LoggerFactory.getLogger(CloudPayloadProtoBufEncoderImpl.class);
 
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<>();
+
     private final KuraPayload kuraPayload;
 
     public CloudPayloadProtoBufEncoderImpl(KuraPayload kuraPayload) {
@@ -83,10 +91,29 @@ public class CloudPayloadProtoBufEncoderImpl implements CloudPayloadEncoder {
 
         // set the body
         if (this.kuraPayload.getBody() != null) {
-            protoMsg.setBody(ByteString.copyFrom(this.kuraPayload.getBody()));
+            protoMsg.setBody(UnsafeByteOperations.unsafeWrap(this.kuraPayload.getBody()));
         }
 
-        return protoMsg.build().toByteArray();
+        return toByteArray(protoMsg.build());
+    }
+
+    private static byte[] toByteArray(final KuraPayloadProto.KuraPayload message) throws IOException {
+        final int size = message.getSerializedSize();
+
+        byte[] buffer = BUFFER.get();
+        if (buffer == null || buffer.length < size) {
+            buffer = new byte[size];
+
+            if (size <= MAX_CACHED_BUFFER_SIZE) {
+                BUFFER.set(buffer);
+            }
+        }
+
+        final CodedOutputStream output = CodedOutputStream.newInstance(buffer, 0, size);
+        message.writeTo(output);
+        output.checkNoSpaceLeft();
+
+        return Arrays.copyOf(buffer, size);
     }
 
     //
@@ -150,7 +177,7 @@ public class CloudPayloadProtoBufEncoderImpl implements CloudPayloadEncoder {
             metric.setBoolValue((Boolean) o);
         } else if (o instanceof byte[]) {
             metric.setType(KuraPayloadProto.KuraPayload.KuraMetric.ValueType.BYTES);
-            metric.setBytesValue(ByteString.copyFrom((byte[]) o));
+            metric.setBytesValue(UnsafeByteOperations.unsafeWrap((byte[]) o));
         } else if (o == null) {
             logger.warn("Received a metric with a null value!");
             return false;
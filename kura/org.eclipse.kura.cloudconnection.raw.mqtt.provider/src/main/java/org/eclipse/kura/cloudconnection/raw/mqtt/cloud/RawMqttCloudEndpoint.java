@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,6 @@ import static org.eclipse.kura.cloudconnecton.raw.mqtt.util.Utils.catchAll;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -39,7 +38,7 @@ import org.eclipse.kura.cloudconnection.raw.mqtt.subscriber.SubscribeOptions;
 import org.eclipse.kura.cloudconnection.subscriber.listener.CloudSubscriberListener;
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.configuration.ConfigurationService;
-import org.eclipse.kura.core.util.MqttTopicUtil;
+import org.eclipse.kura.core.util.MqttTopicTrie;
 import org.eclipse.kura.data.DataService;
 import org.eclipse.kura.data.listener.DataServiceListener;
 import org.eclipse.kura.message.KuraPayload;
@@ -61,6 +60,7 @@ public class RawMqttCloudEndpoint
     private final Set<CloudDeliveryListener> cloudDeliveryListeners = new CopyOnWriteArraySet<>();
     private final Set<CloudConnectionListener> cloudConnectionListeners = new CopyOnWriteArraySet<>();
     private final Map<SubscribeOptions, Set<CloudSubscriberListener>> subscribers = new ConcurrentHashMap<>();
+    private final MqttTopicTrie<SubscribeOptions> subscriptionTrie = new MqttTopicTrie<>();
 
     public void setDataService(final DataService dataService) {
         this.dataService = dataService;
@@ -177,8 +177,10 @@ public class RawMqttCloudEndpoint
     public synchronized void registerSubscriber(final SubscribeOptions subscribeOptions,
             final CloudSubscriberListener cloudSubscriberListener) {
 
-        final Set<CloudSubscriberListener> listeners = this.subscribers.computeIfAbsent(subscribeOptions,
-                e -> new CopyOnWriteArraySet<>());
+        final Set<CloudSubscriberListener> listeners = this.subscribers.computeIfAbsent(subscribeOptions, e -> {
+            this.subscriptionTrie.add(e.getTopicFilter(), e);
+            return new CopyOnWriteArraySet<>();
+        });
 
         listeners.add(cloudSubscriberListener);
 
@@ -197,6 +199,7 @@ public class RawMqttCloudEndpoint
 
             if (listeners.isEmpty()) {
                 toUnsubscribe.add(e.getKey());
+                this.subscriptionTrie.remove(e.getKey().getTopicFilter(), e.getKey());
                 return true;
             } else {
                 return false;
@@ -258,11 +261,13 @@ public class RawMqttCloudEndpoint
 
         final KuraMessage message = new KuraMessage(kuraPayload, messagePropertes);
 
-        for (final Entry<SubscribeOptions, Set<CloudSubscriberListener>> e : this.subscribers.entrySet()) {
-            if (MqttTopicUtil.isMatched(e.getKey().getTopicFilter(), topic)) {
-                e.getValue().forEach(catchAll(l -> l.onMessageArrived(message)));
+        this.subscriptionTrie.forEachMatch(topic, subscribeOptions -> {
+            final Set<CloudSubscriberListener> listeners = this.subscribers.get(subscribeOptions);
+
+            if (listeners != null) {
+                listeners.forEach(catchAll(l -> l.onMessageArrived(message)));
             }
-        }
+        });
     }
 
     @Override
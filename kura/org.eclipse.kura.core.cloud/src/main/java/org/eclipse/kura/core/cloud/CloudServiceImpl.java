@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -52,7 +52,6 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import org.eclipse.kura.KuraConnectException;
 import org.eclipse.kura.KuraErrorCode;
@@ -80,6 +79,7 @@ import org.eclipse.kura.configuration.ConfigurationService;
 import org.eclipse.kura.core.cloud.publisher.NotificationPublisherImpl;
 import org.eclipse.kura.core.cloud.subscriber.CloudSubscriptionRecord;
 import org.eclipse.kura.core.data.DataServiceImpl;
+import org.eclipse.kura.core.util.MqttTopicTrie;
 import org.eclipse.kura.data.DataService;
 import org.eclipse.kura.data.listener.DataServiceListener;
 import org.eclipse.kura.marshalling.Marshaller;
@@ -148,10 +148,13 @@ public class CloudServiceImpl
 
     // use a synchronized implementation for the list
     private final List<CloudClientImpl> cloudClients;
+    private final Map<String, List<CloudClientImpl>> cloudClientsByApplicationId;
     private final Set<CloudConnectionListener> registeredCloudConnectionListeners;
     private final Set<CloudPublisherDeliveryListener> registeredCloudPublisherDeliveryListeners;
     private final Set<CloudDeliveryListener> registeredCloudDeliveryListeners;
     private final Map<CloudSubscriptionRecord, List<CloudSubscriberListener>> registeredSubscribers;
+    // index of the keys of registeredSubscribers, used to route the inbound messages
+    private final MqttTopicTrie<CloudSubscriptionRecord> subscriptionTrie;
 
     // package visibility for LyfeCyclePayloadBuilder
     String imei;
@@ -182,9 +185,11 @@ public class CloudServiceImpl
 
     public CloudServiceImpl() {
         this.cloudClients = new CopyOnWriteArrayList<>();
+        this.cloudClientsByApplicationId = new ConcurrentHashMap<>();
         this.messageId = new AtomicInteger();
         this.registeredRequestHandlers = new HashMap<>();
         this.registeredSubscribers = new ConcurrentHashMap<>();
+        this.subscriptionTrie = new MqttTopicTrie<>();
         this.registeredCloudConnectionListeners = new CopyOnWriteArraySet<>();
         this.registeredCloudPublisherDeliveryListeners = new CopyOnWriteArraySet<>();
         this.registeredCloudDeliveryListeners = new CopyOnWriteArraySet<>();
@@ -398,6 +403,7 @@ public class CloudServiceImpl
         // certificate is already published due the missing dependency
         // we only need to empty our CloudClient list
         this.cloudClients.clear();
+        this.cloudClientsByApplicationId.clear();
 
         this.dataService = null;
         this.systemService = null;
@@ -496,6 +502,8 @@ public class CloudServiceImpl
         // create new instance
         CloudClientImpl cloudClient = new CloudClientImpl(applicationId, this.dataService, this);
         this.cloudClients.add(cloudClient);
+        this.cloudClientsByApplicationId.computeIfAbsent(applicationId, id -> new CopyOnWriteArrayList<>())
+                .add(cloudClient);
 
         // publish updated birth certificate with list of active apps
         if (isConnected()) {
@@ -537,6 +545,10 @@ public class CloudServiceImpl
     public void removeCloudClient(CloudClientImpl cloudClient) {
         // remove the client
         this.cloudClients.remove(cloudClient);
+        this.cloudClientsByApplicationId.computeIfPresent(cloudClient.getApplicationId(), (id, clients) -> {
+            clients.remove(cloudClient);
+            return clients.isEmpty() ? null : clients;
+        });
 
         // publish updated birth certificate with updated list of active apps
         if (isConnected()) {
@@ -683,8 +695,7 @@ public class CloudServiceImpl
             callbackExecutor.submit(new MessageHandlerCallable(cloudlet, applicationId, kuraTopic.getApplicationTopic(),
                     kuraPayload, this));
         }
-        this.cloudClients.stream()
-                .filter(cloudClient -> cloudClient.getApplicationId().equals(kuraTopic.getApplicationId()))
+        getCloudClients(kuraTopic.getApplicationId())
                 .forEach(cloudClient -> cloudClient.onControlMessageArrived(kuraTopic.getDeviceId(),
                         kuraTopic.getApplicationTopic(), kuraPayload, qos, retained));
 
@@ -694,14 +705,11 @@ public class CloudServiceImpl
 
         KuraMessage receivedMessage = new KuraMessage(kuraPayload, properties);
 
-        this.registeredSubscribers.entrySet().stream()
-                .filter(cloudSubscriberEntry -> cloudSubscriberEntry.getKey().matches(kuraTopic.getFullTopic()))
-                .forEach(e -> dispatchMessage(receivedMessage, e.getValue()));
+        dispatchToSubscribers(kuraTopic.getFullTopic(), receivedMessage);
     }
 
     private void dispatchDataMessage(int qos, boolean retained, KuraTopicImpl kuraTopic, KuraPayload kuraPayload) {
-        this.cloudClients.stream()
-                .filter(cloudClient -> cloudClient.getApplicationId().equals(kuraTopic.getApplicationId()))
+        getCloudClients(kuraTopic.getApplicationId())
                 .forEach(cloudClient -> cloudClient.onMessageArrived(kuraTopic.getDeviceId(),
                         kuraTopic.getApplicationTopic(), kuraPayload, qos, retained));
 
@@ -711,9 +719,21 @@ public class CloudServiceImpl
 
         KuraMessage receivedMessage = new KuraMessage(kuraPayload, properties);
 
-        this.registeredSubscribers.entrySet().stream()
-                .filter(cloudSubscriberEntry -> cloudSubscriberEntry.getKey().matches(kuraTopic.getFullTopic()))
-                .forEach(e -> dispatchMessage(receivedMessage, e.getValue()));
+        dispatchToSubscribers(kuraTopic.getFullTopic(), receivedMessage);
+    }
+
+    private void dispatchToSubscribers(final String fullTopic, final KuraMessage message) {
+        this.subscriptionTrie.forEachMatch(fullTopic, subscriptionRecord -> {
+            final List<CloudSubscriberListener> listeners = this.registeredSubscribers.get(subscriptionRecord);
+
+            if (listeners != null) {
+                dispatchMessage(message, listeners);
+            }
+        });
+    }
+
+    private List<CloudClientImpl> getCloudClients(final String applicationId) {
+        return this.cloudClientsByApplicationId.getOrDefault(applicationId, Collections.emptyList());
     }
 
     private static void dispatchMessage(final KuraMessage message, final List<CloudSubscriberListener> listeners) {
@@ -753,9 +773,7 @@ public class CloudServiceImpl
 
         // notify listeners
         KuraApplicationTopic kuraTopic = new KuraTopicImpl(topic, this.options.getTopicControlPrefix());
-        this.cloudClients.stream()
-                .filter(cloudClient -> cloudClient.getApplicationId().equals(kuraTopic.getApplicationId()))
-                .collect(Collectors.toList())
+        getCloudClients(kuraTopic.getApplicationId())
                 .forEach(cloudClient -> cloudClient.onMessagePublished(messageId, kuraTopic.getApplicationTopic()));
     }
 
@@ -771,9 +789,7 @@ public class CloudServiceImpl
 
         // notify listeners
         KuraApplicationTopic kuraTopic = new KuraTopicImpl(topic, this.options.getTopicControlPrefix());
-        this.cloudClients.stream()
-                .filter(cloudClient -> cloudClient.getApplicationId().equals(kuraTopic.getApplicationId()))
-                .collect(Collectors.toList())
+        getCloudClients(kuraTopic.getApplicationId())
                 .forEach(cloudClient -> cloudClient.onMessageConfirmed(messageId, kuraTopic.getApplicationTopic()));
 
         this.registeredCloudPublisherDeliveryListeners
@@ -1110,6 +1126,10 @@ public class CloudServiceImpl
                 list.add(subscriber);
                 return list;
             });
+
+            if (subscribers.size() == 1) {
+                this.subscriptionTrie.add(subscriptionRecord.getTopicFilter(), subscriptionRecord);
+            }
         }
 
         if (subscribers.size() == 1) {
@@ -1130,6 +1150,7 @@ public class CloudServiceImpl
 
                 if (subscribers.isEmpty()) {
                     toUnsubscribe.add(e.getKey());
+                    this.subscriptionTrie.remove(e.getKey().getTopicFilter(), e.getKey());
                     return true;
                 } else {
                     return false;
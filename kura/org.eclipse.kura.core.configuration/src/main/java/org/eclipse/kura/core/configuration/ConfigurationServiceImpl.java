@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,20 +24,27 @@ import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -91,6 +98,16 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
     private static final String GETTING_CONFIGURATION_ERROR = "Error getting Configuration for component: {}. Ignoring it.";
 
+    // maximum number of consecutive delta snapshots written before a full snapshot, 0 disables delta snapshots
+    private static final String KURA_SNAPSHOTS_DELTA_COUNT = "kura.snapshots.delta.count";
+    private static final int DEFAULT_SNAPSHOTS_DELTA_COUNT = 9;
+
+    private static final String SNAPSHOT_FILE_PREFIX = "snapshot_";
+    private static final String SNAPSHOT_FILE_SUFFIX = ".xml";
+    private static final String SNAPSHOT_DELTA_FILE_SUFFIX = "_delta.xml";
+
+    private static final String STARTUP_CACHE_FILE_NAME = "configuration.cache";
+
     private static final Logger logger = LoggerFactory.getLogger(ConfigurationServiceImpl.class);
 
     private ComponentContext ctx;
@@ -129,6 +146,13 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     // maps the kura.service.pid to the associated service.pid
     private final Map<String, String> servicePidByPid;
 
+    // the content of the latest snapshot, indexed by kura.service.pid, used to compute the delta snapshots
+    private Map<String, ComponentConfiguration> latestSnapshotConfigs;
+    private long latestSnapshotId;
+
+    // the id of the snapshot stored in the startup cache, -1 if unknown
+    private long startupCacheSnapshotId = -1;
+
     // ----------------------------------------------------------------
     //
     // Dependencies
@@ -220,6 +244,8 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     protected void activate(ComponentContext componentContext) throws InvalidSyntaxException {
         logger.info("activate...");
 
+        final long start = System.nanoTime();
+
         // save the bundle context
         this.ctx = componentContext;
         this.bundleContext = componentContext.getBundleContext();
@@ -231,8 +257,15 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             throw new ComponentException("Error loading latest snapshot", e);
         }
 
+        final long trackerStart = System.nanoTime();
+
         this.bundleTracker = new ComponentMetaTypeBundleTracker(this.ctx.getBundleContext(), this);
         this.bundleTracker.open();
+
+        final long end = System.nanoTime();
+
+        logger.info("activate... done in {} ms, metatype tracking: {} ms", elapsedMillis(start, end),
+                elapsedMillis(trackerStart, end));
     }
 
     protected void addConfigurableComponent(final ServiceReference<ConfigurableComponent> reference) {
@@ -292,6 +325,12 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     protected void deactivate(ComponentContext componentContext) {
         logger.info("deactivate...");
 
+        synchronized (this) {
+            if (this.latestSnapshotConfigs != null && this.latestSnapshotId != this.startupCacheSnapshotId) {
+                writeStartupCache(this.latestSnapshotId, this.latestSnapshotConfigs.values());
+            }
+        }
+
         if (this.bundleTracker != null) {
             this.bundleTracker.close();
             this.bundleTracker = null;
@@ -1100,6 +1139,10 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
 
         for (Long snapshot : snapshots) {
             File fSnapshot = getSnapshotFile(snapshot);
+            if (isDeltaSnapshot(snapshot)) {
+                // delta snapshots are always written encrypted
+                continue;
+            }
             if (fSnapshot == null || !fSnapshot.exists()) {
                 throw new KuraException(KuraErrorCode.CONFIGURATION_ERROR, snapshot);
             }
@@ -1142,18 +1185,99 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             }
         }
 
-        // Write snapshot
-        writeSnapshot(sid, conf);
+        int maxCount = this.systemService.getKuraSnapshotsCount();
+
+        // Write snapshot, only the changes with respect to the latest one if possible
+        SnapshotDelta delta = computeSnapshotDelta(snapshotIDs, configsToSave, maxCount);
+        if (delta != null) {
+            logger.info("Writing snapshot - {} changed components with respect to snapshot {}",
+                    delta.getChangeCount(), delta.getBaseSnapshotId());
+            writeSnapshotFile(getSnapshotDeltaFile(sid), delta.toXml());
+        } else {
+            writeSnapshot(sid, conf);
+        }
+
+        setLatestSnapshot(sid, configsToSave);
 
         this.pendingDeletePids.clear();
 
         // Garbage Collector for number of Snapshots Saved
-        garbageCollectionOldSnapshots();
+        garbageCollectionOldSnapshots(maxCount);
         return sid;
     }
 
+    private SnapshotDelta computeSnapshotDelta(Set<Long> snapshotIDs, List<ComponentConfiguration> configs,
+            int maxSnapshotCount) {
+        if (this.latestSnapshotConfigs == null || snapshotIDs == null || snapshotIDs.isEmpty()) {
+            return null;
+        }
+
+        // the latest snapshot must be the one whose content is known
+        TreeSet<Long> sids = new TreeSet<>(snapshotIDs);
+        if (sids.last() != this.latestSnapshotId) {
+            return null;
+        }
+
+        // the garbage collector must be able to keep at least the full snapshot the deltas refer to
+        int maxDeltaCount = Math.min(getMaxSnapshotDeltaCount(), maxSnapshotCount - 1);
+        if (maxDeltaCount <= 0) {
+            return null;
+        }
+
+        int deltaCount = 0;
+        for (Long sid = sids.last(); sid != null && isDeltaSnapshot(sid); sid = sids.lower(sid)) {
+            if (++deltaCount >= maxDeltaCount) {
+                return null;
+            }
+        }
+
+        SnapshotDelta delta = SnapshotDelta.compute(this.latestSnapshotId, this.latestSnapshotConfigs, configs);
+
+        // a full snapshot is cheaper to reconstruct if most of the configuration changed
+        if (delta.getChangeCount() * 2 > configs.size()) {
+            return null;
+        }
+
+        return delta;
+    }
+
+    private int getMaxSnapshotDeltaCount() {
+        Properties properties = this.systemService.getProperties();
+        String value = properties != null ? properties.getProperty(KURA_SNAPSHOTS_DELTA_COUNT) : null;
+        if (value == null) {
+            return DEFAULT_SNAPSHOTS_DELTA_COUNT;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value for {}: {}", KURA_SNAPSHOTS_DELTA_COUNT, value);
+            return DEFAULT_SNAPSHOTS_DELTA_COUNT;
+        }
+    }
+
+    private void setLatestSnapshot(long sid, Collection<ComponentConfiguration> configs) {
+        Map<String, ComponentConfiguration> snapshotConfigs = new LinkedHashMap<>();
+        for (ComponentConfiguration config : configs) {
+            if (config != null) {
+                snapshotConfigs.put(config.getPid(), copyConfiguration(config));
+            }
+        }
+
+        this.latestSnapshotConfigs = snapshotConfigs;
+        this.latestSnapshotId = sid;
+    }
+
+    private static ComponentConfiguration copyConfiguration(ComponentConfiguration config) {
+        Map<String, Object> props = config.getConfigurationProperties();
+        return new ComponentConfigurationImpl(config.getPid(), null, props != null ? new HashMap<>(props) : null);
+    }
+
     private void writeSnapshot(long sid, XmlComponentConfigurations conf) throws KuraException {
-        File fSnapshot = getSnapshotFile(sid);
+        writeSnapshotFile(getSnapshotFile(sid), conf);
+    }
+
+    private void writeSnapshotFile(File fSnapshot, XmlComponentConfigurations conf) throws KuraException {
         if (fSnapshot == null) {
             throw new KuraException(KuraErrorCode.CONFIGURATION_SNAPSHOT_NOT_FOUND);
         }
@@ -1338,7 +1462,7 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             File[] files = fConfigDir.listFiles();
             if (files != null) {
 
-                Pattern p = Pattern.compile("snapshot_([0-9]+)\\.xml");
+                Pattern p = Pattern.compile("snapshot_([0-9]+)(_delta)?\\.xml");
                 for (File file : files) {
                     Matcher m = p.matcher(file.getName());
                     if (m.matches()) {
@@ -1355,6 +1479,14 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
     }
 
     private File getSnapshotFile(long id) {
+        return getSnapshotFile(id, SNAPSHOT_FILE_SUFFIX);
+    }
+
+    private File getSnapshotDeltaFile(long id) {
+        return getSnapshotFile(id, SNAPSHOT_DELTA_FILE_SUFFIX);
+    }
+
+    private File getSnapshotFile(long id, String suffix) {
         String configDir = getSnapshotsDirectory();
 
         if (configDir == null) {
@@ -1362,25 +1494,41 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         }
 
         StringBuilder sbSnapshot = new StringBuilder(configDir);
-        sbSnapshot.append(File.separator).append("snapshot_").append(id).append(".xml");
+        sbSnapshot.append(File.separator).append(SNAPSHOT_FILE_PREFIX).append(id).append(suffix);
 
         String snapshot = sbSnapshot.toString();
         return new File(snapshot);
     }
 
+    private boolean isDeltaSnapshot(long id) {
+        File fSnapshot = getSnapshotFile(id);
+        File fDelta = getSnapshotDeltaFile(id);
+        return fSnapshot != null && !fSnapshot.exists() && fDelta.exists();
+    }
+
     private void garbageCollectionOldSnapshots() {
+        garbageCollectionOldSnapshots(this.systemService.getKuraSnapshotsCount());
+    }
+
+    private void garbageCollectionOldSnapshots(int maxCount) {
         // get the current snapshots and compared with the maximum number we
         // need to keep
         TreeSet<Long> sids = getSnapshotsInternal();
 
         int currCount = sids.size();
-        int maxCount = this.systemService.getKuraSnapshotsCount();
+
+        // the snapshots that will be kept can be deltas of older snapshots, which must be kept too
+        long firstRequiredSid = getFirstRequiredSnapshot(sids, currCount - maxCount);
+
         while (currCount > maxCount && !sids.isEmpty()) { // stop if count reached or no more snapshots remain
 
             // preserve snapshot ID 0 as this will be considered the seeding
             // one.
             long sid = sids.pollFirst();
-            File fSnapshot = getSnapshotFile(sid);
+            if (sid >= firstRequiredSid) {
+                break;
+            }
+            File fSnapshot = isDeltaSnapshot(sid) ? getSnapshotDeltaFile(sid) : getSnapshotFile(sid);
             if (sid == 0 || fSnapshot == null) {
                 continue;
             }
@@ -1397,13 +1545,44 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         }
     }
 
+    private long getFirstRequiredSnapshot(TreeSet<Long> sids, int deleteCount) {
+        // the oldest snapshot that survives the deletion of the given number of snapshots, snapshot 0 is never deleted
+        Long sid = null;
+        int remaining = Math.max(deleteCount, 0);
+        for (Long candidate : sids) {
+            if (candidate == 0) {
+                continue;
+            }
+            if (remaining-- == 0) {
+                sid = candidate;
+                break;
+            }
+        }
+
+        if (sid == null) {
+            return Long.MAX_VALUE;
+        }
+
+        // walk back to the full snapshot the delta chain starts from
+        while (sid != null && isDeltaSnapshot(sid)) {
+            sid = sids.lower(sid);
+        }
+
+        return sid != null ? sid : Long.MIN_VALUE;
+    }
+
     private void loadLatestSnapshotInConfigAdmin() throws KuraException {
+        final long start = System.nanoTime();
+
         //
         // save away initial configuration
         List<ComponentConfiguration> configs = buildCurrentConfiguration(null);
         if (configs == null) {
             return;
         }
+
+        final long loadEnd = System.nanoTime();
+
         for (ComponentConfiguration config : configs) {
             if (config != null) {
                 Map<String, Object> props = config.getConfigurationProperties();
@@ -1442,6 +1621,13 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
                 }
             }
         }
+
+        logger.info("Loaded {} configurations in {} ms, ConfigurationAdmin update: {} ms", configs.size(),
+                elapsedMillis(start, loadEnd), elapsedMillis(loadEnd, System.nanoTime()));
+    }
+
+    private static long elapsedMillis(long startNanos, long endNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(endNanos - startNanos);
     }
 
     private List<ComponentConfiguration> loadLatestSnapshotConfigurations() throws KuraException {
@@ -1455,6 +1641,20 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         Long[] snapshots = snapshotIDs.toArray(new Long[] {});
         Long lastestID = snapshots[snapshotIDs.size() - 1];
 
+        if (this.latestSnapshotConfigs != null && lastestID != null && lastestID == this.latestSnapshotId) {
+            List<ComponentConfiguration> configs = new ArrayList<>(this.latestSnapshotConfigs.size());
+            for (ComponentConfiguration config : this.latestSnapshotConfigs.values()) {
+                configs.add(copyConfiguration(config));
+            }
+            return configs;
+        }
+
+        List<ComponentConfiguration> cachedConfigs = loadStartupCache(lastestID);
+        if (cachedConfigs != null) {
+            setLatestSnapshot(lastestID, cachedConfigs);
+            return cachedConfigs;
+        }
+
         //
         // Unmarshall
         logger.info("Loading init configurations from: {}...", lastestID);
@@ -1465,6 +1665,10 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
             if (xmlConfigs != null) {
                 configs = xmlConfigs.getConfigurations();
             }
+            if (configs != null && lastestID != null) {
+                setLatestSnapshot(lastestID, configs);
+                writeStartupCache(lastestID, this.latestSnapshotConfigs.values());
+            }
         } catch (Exception e) {
             logger.info("Unable to decrypt snapshot! Fallback to unencrypted snapshots mode.");
             try {
@@ -1480,8 +1684,95 @@ public class ConfigurationServiceImpl implements ConfigurationService, OCDServic
         return configs;
     }
 
+    private Path getStartupCachePath() {
+        String dataDir = this.systemService != null ? this.systemService.getKuraDataDirectory() : null;
+        if (dataDir == null) {
+            return null;
+        }
+        return Paths.get(dataDir, STARTUP_CACHE_FILE_NAME);
+    }
+
+    private List<ComponentConfiguration> loadStartupCache(Long snapshotID) {
+        Path cachePath = getStartupCachePath();
+        if (snapshotID == null || cachePath == null || this.cryptoService == null || !Files.exists(cachePath)) {
+            return null;
+        }
+
+        try {
+            StartupConfigurationCache cache = StartupConfigurationCache.open(cachePath, this.cryptoService);
+            File fSnapshot = isDeltaSnapshot(snapshotID) ? getSnapshotDeltaFile(snapshotID)
+                    : getSnapshotFile(snapshotID);
+
+            if (!cache.isValidFor(snapshotID, fSnapshot)) {
+                logger.info("Startup configuration cache is not up to date with snapshot {}", snapshotID);
+                return null;
+            }
+
+            List<ComponentConfiguration> configs = cache.getConfigurations();
+            this.startupCacheSnapshotId = snapshotID;
+
+            logger.info("Loading init configurations from: {}... Done, using the startup configuration cache",
+                    snapshotID);
+            return configs;
+        } catch (IOException e) {
+            logger.warn("Invalid startup configuration cache {}, ignoring it", cachePath, e);
+            return null;
+        }
+    }
+
+    private void writeStartupCache(long snapshotID, Collection<ComponentConfiguration> configs) {
+        Path cachePath = getStartupCachePath();
+        if (cachePath == null || this.cryptoService == null) {
+            return;
+        }
+
+        try {
+            File fSnapshot = isDeltaSnapshot(snapshotID) ? getSnapshotDeltaFile(snapshotID)
+                    : getSnapshotFile(snapshotID);
+            if (fSnapshot == null || !fSnapshot.exists()) {
+                return;
+            }
+
+            StartupConfigurationCache.write(cachePath, snapshotID, fSnapshot, configs, this.cryptoService);
+            this.startupCacheSnapshotId = snapshotID;
+        } catch (Exception e) {
+            logger.warn("Failed to write the startup configuration cache {}", cachePath, e);
+        }
+    }
+
     XmlComponentConfigurations loadEncryptedSnapshotFileContent(long snapshotID) throws KuraException {
-        File fSnapshot = getSnapshotFile(snapshotID);
+        if (isDeltaSnapshot(snapshotID)) {
+            return loadSnapshotDeltas(snapshotID);
+        }
+
+        return loadEncryptedSnapshotFile(getSnapshotFile(snapshotID));
+    }
+
+    private XmlComponentConfigurations loadSnapshotDeltas(long snapshotID) throws KuraException {
+        // collect the deltas back to the full snapshot and apply them starting from the oldest one
+        Deque<SnapshotDelta> deltas = new ArrayDeque<>();
+
+        long sid = snapshotID;
+        while (isDeltaSnapshot(sid)) {
+            XmlComponentConfigurations xmlDelta = loadEncryptedSnapshotFile(getSnapshotDeltaFile(sid));
+            if (xmlDelta == null) {
+                return null;
+            }
+
+            SnapshotDelta delta = SnapshotDelta.fromXml(sid, xmlDelta);
+            deltas.push(delta);
+            sid = delta.getBaseSnapshotId();
+        }
+
+        XmlComponentConfigurations xmlConfigs = loadEncryptedSnapshotFile(getSnapshotFile(sid));
+        if (xmlConfigs == null) {
+            return null;
+        }
+
+        return SnapshotDelta.apply(xmlConfigs, deltas);
+    }
+
+    private XmlComponentConfigurations loadEncryptedSnapshotFile(File fSnapshot) throws KuraException {
         if (fSnapshot == null || !fSnapshot.exists()) {
             throw new KuraException(KuraErrorCode.CONFIGURATION_SNAPSHOT_NOT_FOUND,
                     fSnapshot != null ? fSnapshot.getAbsolutePath() : "null");
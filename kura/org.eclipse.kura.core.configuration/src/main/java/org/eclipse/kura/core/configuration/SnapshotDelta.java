@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.kura.KuraErrorCode;
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.configuration.Password;
+
+/**
+ * The difference between two configuration snapshots.
+ * <p>
+ * A delta snapshot refers to the snapshot it has been computed from, the base snapshot, and contains the complete
+ * configuration of the components that have been added or modified with respect to it, together with the PIDs of
+ * the components that have been removed. The configuration of the unchanged components is not stored.
+ * </p>
+ * <p>
+ * A delta is serialized as an {@link XmlComponentConfigurations} whose first element is a marker configuration with
+ * the {@link #DELTA_PID} PID, that holds the identifier of the base snapshot and the removed PIDs.
+ * </p>
+ */
+final class SnapshotDelta {
+
+    static final String DELTA_PID = "org.eclipse.kura.core.configuration.SnapshotDelta";
+    static final String BASE_SNAPSHOT_ID_PROP_NAME = "base.snapshot.id";
+    static final String DELETED_PIDS_PROP_NAME = "deleted.pids";
+
+    private final long baseSnapshotId;
+    private final List<ComponentConfiguration> changedConfigurations;
+    private final List<String> deletedPids;
+
+    private SnapshotDelta(final long baseSnapshotId, final List<ComponentConfiguration> changedConfigurations,
+            final List<String> deletedPids) {
+        this.baseSnapshotId = baseSnapshotId;
+        this.changedConfigurations = changedConfigurations;
+        this.deletedPids = deletedPids;
+    }
+
+    /**
+     * Computes the delta between the configurations of a base snapshot and a new set of configurations.
+     *
+     * @param baseSnapshotId
+     *            the identifier of the base snapshot
+     * @param baseConfigurations
+     *            the configurations of the base snapshot, indexed by PID
+     * @param configurations
+     *            the new configurations
+     * @return the delta
+     */
+    static SnapshotDelta compute(final long baseSnapshotId, final Map<String, ComponentConfiguration> baseConfigurations,
+            final List<ComponentConfiguration> configurations) {
+        final List<ComponentConfiguration> changed = new ArrayList<>();
+        final Set<String> deleted = new LinkedHashSet<>(baseConfigurations.keySet());
+
+        for (final ComponentConfiguration config : configurations) {
+            final String pid = config.getPid();
+            deleted.remove(pid);
+
+            final ComponentConfiguration baseConfig = baseConfigurations.get(pid);
+
+            if (baseConfig == null
+                    || !propertiesEqual(baseConfig.getConfigurationProperties(), config.getConfigurationProperties())) {
+                changed.add(config);
+            }
+        }
+
+        return new SnapshotDelta(baseSnapshotId, changed, new ArrayList<>(deleted));
+    }
+
+    /**
+     * Returns whether the provided snapshot content is a delta.
+     *
+     * @param xmlConfigs
+     *            the snapshot content
+     * @return {@code true} if the content has been produced by {@link #toXml()}
+     */
+    static boolean isDelta(final XmlComponentConfigurations xmlConfigs) {
+        final List<ComponentConfiguration> configs = xmlConfigs.getConfigurations();
+
+        return configs != null && !configs.isEmpty() && configs.get(0) != null
+                && DELTA_PID.equals(configs.get(0).getPid());
+    }
+
+    /**
+     * Parses a delta serialized with {@link #toXml()}.
+     *
+     * @param snapshotId
+     *            the identifier of the delta snapshot
+     * @param xmlConfigs
+     *            the snapshot content
+     * @return the delta
+     * @throws KuraException
+     *             if the content is not a valid delta
+     */
+    static SnapshotDelta fromXml(final long snapshotId, final XmlComponentConfigurations xmlConfigs)
+            throws KuraException {
+        if (!isDelta(xmlConfigs)) {
+            throw new KuraException(KuraErrorCode.DECODER_ERROR, "snapshot delta " + snapshotId);
+        }
+
+        final List<ComponentConfiguration> configs = xmlConfigs.getConfigurations();
+        final Map<String, Object> properties = configs.get(0).getConfigurationProperties();
+
+        final Object baseSnapshotId = properties != null ? properties.get(BASE_SNAPSHOT_ID_PROP_NAME) : null;
+
+        // a delta always refers to an older snapshot, this also rules out reference cycles
+        if (!(baseSnapshotId instanceof Long) || (Long) baseSnapshotId >= snapshotId) {
+            throw new KuraException(KuraErrorCode.DECODER_ERROR, "snapshot delta " + snapshotId);
+        }
+
+        final Object deletedPids = properties.get(DELETED_PIDS_PROP_NAME);
+
+        return new SnapshotDelta((Long) baseSnapshotId, new ArrayList<>(configs.subList(1, configs.size())),
+                deletedPids instanceof String[] ? Arrays.asList((String[]) deletedPids) : Collections.emptyList());
+    }
+
+    /**
+     * Serializes this delta.
+     *
+     * @return the snapshot content
+     */
+    XmlComponentConfigurations toXml() {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(BASE_SNAPSHOT_ID_PROP_NAME, this.baseSnapshotId);
+
+        if (!this.deletedPids.isEmpty()) {
+            properties.put(DELETED_PIDS_PROP_NAME, this.deletedPids.toArray(new String[0]));
+        }
+
+        final List<ComponentConfiguration> configs = new ArrayList<>(this.changedConfigurations.size() + 1);
+        configs.add(new ComponentConfigurationImpl(DELTA_PID, null, properties));
+        configs.addAll(this.changedConfigurations);
+
+        final XmlComponentConfigurations result = new XmlComponentConfigurations();
+        result.setConfigurations(configs);
+
+        return result;
+    }
+
+    long getBaseSnapshotId() {
+        return this.baseSnapshotId;
+    }
+
+    List<ComponentConfiguration> getChangedConfigurations() {
+        return Collections.unmodifiableList(this.changedConfigurations);
+    }
+
+    List<String> getDeletedPids() {
+        return Collections.unmodifiableList(this.deletedPids);
+    }
+
+    /**
+     * Returns the number of components added, modified or removed by this delta.
+     *
+     * @return the number of changes
+     */
+    int getChangeCount() {
+        return this.changedConfigurations.size() + this.deletedPids.size();
+    }
+
+    /**
+     * Applies the deltas, from the oldest to the newest, to the content of a full snapshot.
+     *
+     * @param base
+     *            the content of the full snapshot the first delta refers to
+     * @param deltas
+     *            the deltas
+     * @return the reconstructed snapshot content
+     */
+    static XmlComponentConfigurations apply(final XmlComponentConfigurations base,
+            final Collection<SnapshotDelta> deltas) {
+        final Map<String, ComponentConfiguration> configs = new LinkedHashMap<>();
+
+        if (base.getConfigurations() != null) {
+            for (final ComponentConfiguration config : base.getConfigurations()) {
+                if (config != null) {
+                    configs.put(config.getPid(), config);
+                }
+            }
+        }
+
+        for (final SnapshotDelta delta : deltas) {
+            for (final String pid : delta.deletedPids) {
+                configs.remove(pid);
+            }
+            for (final ComponentConfiguration config : delta.changedConfigurations) {
+                configs.put(config.getPid(), config);
+            }
+        }
+
+        final XmlComponentConfigurations result = new XmlComponentConfigurations();
+        result.setConfigurations(new ArrayList<>(configs.values()));
+
+        return result;
+    }
+
+    static boolean propertiesEqual(final Map<String, Object> first, final Map<String, Object> second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null || first.size() != second.size()) {
+            return false;
+        }
+
+        for (final Entry<String, Object> entry : first.entrySet()) {
+            final Object other = second.get(entry.getKey());
+
+            if (other == null && !second.containsKey(entry.getKey()) || !valueEquals(entry.getValue(), other)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean valueEquals(final Object first, final Object second) {
+        if (first instanceof Password && second instanceof Password) {
+            return Arrays.equals(((Password) first).getPassword(), ((Password) second).getPassword());
+        }
+
+        if (first instanceof Object[] && second instanceof Object[]) {
+            final Object[] firstArray = (Object[]) first;
+            final Object[] secondArray = (Object[]) second;
+
+            if (firstArray.getClass() != secondArray.getClass() || firstArray.length != secondArray.length) {
+                return false;
+            }
+
+            for (int i = 0; i < firstArray.length; i++) {
+                if (!valueEquals(firstArray[i], secondArray[i])) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return Objects.deepEquals(first, second);
+    }
+}
@@ -0,0 +1,514 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.configuration.Password;
+import org.eclipse.kura.crypto.CryptoService;
+
+/**
+ * A binary copy of the content of the latest snapshot, that allows to skip the XML parsing of the snapshot during
+ * startup.
+ * <p>
+ * The cache refers to a specific snapshot file, identified by snapshot id, size and last modification time, and must
+ * be discarded if the snapshot does not match. The content is protected by a CRC32 checksum. All the configurations
+ * are decoded together, since they are all applied to ConfigurationAdmin during startup.
+ * </p>
+ * <p>
+ * The cache is encrypted with the {@link CryptoService}, like the snapshots, and it is readable only by its owner.
+ * Password properties are stored in the same encrypted form they have in the snapshot.
+ * </p>
+ */
+final class StartupConfigurationCache {
+
+    private static final int MAGIC = 0x4b435343;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8 + 4;
+    private static final int CHECKSUM_SIZE = 8;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_DOUBLE = 3;
+    private static final byte TYPE_FLOAT = 4;
+    private static final byte TYPE_INTEGER = 5;
+    private static final byte TYPE_BYTE = 6;
+    private static final byte TYPE_CHAR = 7;
+    private static final byte TYPE_BOOLEAN = 8;
+    private static final byte TYPE_SHORT = 9;
+    private static final byte TYPE_PASSWORD = 10;
+    private static final byte ARRAY_FLAG = (byte) 0x80;
+
+    private static final Map<Class<?>, Byte> TYPES = new HashMap<>();
+
+    static {
+        TYPES.put(String.class, TYPE_STRING);
+        TYPES.put(Long.class, TYPE_LONG);
+        TYPES.put(Double.class, TYPE_DOUBLE);
+        TYPES.put(Float.class, TYPE_FLOAT);
+        TYPES.put(Integer.class, TYPE_INTEGER);
+        TYPES.put(Byte.class, TYPE_BYTE);
+        TYPES.put(Character.class, TYPE_CHAR);
+        TYPES.put(Boolean.class, TYPE_BOOLEAN);
+        TYPES.put(Short.class, TYPE_SHORT);
+        TYPES.put(Password.class, TYPE_PASSWORD);
+    }
+
+    private final long snapshotId;
+    private final long snapshotSize;
+    private final long snapshotLastModified;
+    private final ByteBuffer buffer;
+    private final Map<String, Integer> propertiesOffsets;
+
+    private StartupConfigurationCache(final long snapshotId, final long snapshotSize, final long snapshotLastModified,
+            final ByteBuffer buffer, final Map<String, Integer> propertiesOffsets) {
+        this.snapshotId = snapshotId;
+        this.snapshotSize = snapshotSize;
+        this.snapshotLastModified = snapshotLastModified;
+        this.buffer = buffer;
+        this.propertiesOffsets = propertiesOffsets;
+    }
+
+    /**
+     * Opens a cache file, verifying its checksum and indexing the stored PIDs.
+     *
+     * @param path
+     *            the cache file
+     * @param cryptoService
+     *            the service used to decrypt the cache
+     * @return the cache
+     * @throws IOException
+     *             if the file cannot be read or it is not a valid cache
+     */
+    static StartupConfigurationCache open(final Path path, final CryptoService cryptoService) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(decrypt(Files.readAllBytes(path), cryptoService));
+
+        if (buffer.limit() < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("invalid startup cache size: " + buffer.limit());
+        }
+
+        final int checksumOffset = buffer.limit() - CHECKSUM_SIZE;
+
+        if (buffer.getLong(checksumOffset) != checksum(buffer, checksumOffset)) {
+            throw new IOException("startup cache checksum mismatch");
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("unsupported startup cache format");
+            }
+
+            final long snapshotId = buffer.getLong();
+            final long snapshotSize = buffer.getLong();
+            final long snapshotLastModified = buffer.getLong();
+            final int count = buffer.getInt();
+
+            final Map<String, Integer> propertiesOffsets = new LinkedHashMap<>();
+
+            for (int i = 0; i < count; i++) {
+                final String pid = readString(buffer);
+                final int length = buffer.getInt();
+
+                propertiesOffsets.put(pid, buffer.position());
+                buffer.position(buffer.position() + length);
+            }
+
+            if (buffer.position() != checksumOffset) {
+                throw new IOException("invalid startup cache content");
+            }
+
+            return new StartupConfigurationCache(snapshotId, snapshotSize, snapshotLastModified, buffer,
+                    propertiesOffsets);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IOException("invalid startup cache content", e);
+        }
+    }
+
+    /**
+     * Writes a cache file for the provided snapshot. The file is replaced atomically.
+     *
+     * @param path
+     *            the cache file
+     * @param snapshotId
+     *            the identifier of the snapshot
+     * @param snapshotFile
+     *            the file the snapshot has been read from or written to
+     * @param configurations
+     *            the content of the snapshot
+     * @param cryptoService
+     *            the service used to encrypt the cache
+     * @throws IOException
+     *             if the file cannot be written or a property type is not supported
+     */
+    static void write(final Path path, final long snapshotId, final File snapshotFile,
+            final Collection<ComponentConfiguration> configurations, final CryptoService cryptoService)
+            throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(snapshotId);
+        out.writeLong(snapshotFile.length());
+        out.writeLong(snapshotFile.lastModified());
+        out.writeInt(configurations.size());
+
+        final ByteArrayOutputStream propertiesBytes = new ByteArrayOutputStream(1024);
+        final DataOutputStream propertiesOut = new DataOutputStream(propertiesBytes);
+
+        for (final ComponentConfiguration config : configurations) {
+            propertiesBytes.reset();
+            writeProperties(propertiesOut, config.getConfigurationProperties());
+
+            writeString(out, config.getPid());
+            out.writeInt(propertiesBytes.size());
+            propertiesBytes.writeTo(out);
+        }
+
+        out.flush();
+
+        final ByteBuffer content = ByteBuffer.wrap(bytes.toByteArray());
+        out.writeLong(checksum(content, content.limit()));
+        out.flush();
+
+        final byte[] encrypted = encrypt(bytes.toByteArray(), cryptoService);
+
+        final Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try {
+            try (FileOutputStream fos = new FileOutputStream(tmp.toFile())) {
+                fos.write(encrypted);
+                fos.flush();
+                fos.getFD().sync();
+            }
+
+            restrictPermissions(tmp);
+
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether the cache has been created from the given snapshot file.
+     *
+     * @param id
+     *            the snapshot identifier
+     * @param snapshotFile
+     *            the snapshot file
+     * @return {@code true} if the cache content matches the snapshot
+     */
+    boolean isValidFor(final long id, final File snapshotFile) {
+        return this.snapshotId == id && snapshotFile != null && this.snapshotSize == snapshotFile.length()
+                && this.snapshotLastModified == snapshotFile.lastModified();
+    }
+
+    long getSnapshotId() {
+        return this.snapshotId;
+    }
+
+    /**
+     * Decodes all the configurations, in the order they have been written.
+     *
+     * @return the configurations
+     * @throws IOException
+     *             if the stored properties are not valid
+     */
+    List<ComponentConfiguration> getConfigurations() throws IOException {
+        final List<ComponentConfiguration> result = new ArrayList<>(this.propertiesOffsets.size());
+        final ByteBuffer view = this.buffer.duplicate();
+
+        for (final Entry<String, Integer> entry : this.propertiesOffsets.entrySet()) {
+            view.position(entry.getValue());
+
+            try {
+                result.add(new ComponentConfigurationImpl(entry.getKey(), null, readProperties(view)));
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                throw new IOException("invalid startup cache content for " + entry.getKey(), e);
+            }
+        }
+
+        return result;
+    }
+
+    private static byte[] encrypt(final byte[] content, final CryptoService cryptoService) throws IOException {
+        try {
+            final char[] encrypted = cryptoService.encryptAes(Base64.getEncoder().encodeToString(content).toCharArray());
+            return new String(encrypted).getBytes(StandardCharsets.UTF_8);
+        } catch (KuraException e) {
+            throw new IOException("cannot encrypt the startup cache", e);
+        }
+    }
+
+    private static byte[] decrypt(final byte[] encrypted, final CryptoService cryptoService) throws IOException {
+        try {
+            final char[] decrypted = cryptoService
+                    .decryptAes(new String(encrypted, StandardCharsets.UTF_8).toCharArray());
+            return Base64.getDecoder().decode(new String(decrypted));
+        } catch (KuraException | IllegalArgumentException e) {
+            throw new IOException("cannot decrypt the startup cache", e);
+        }
+    }
+
+    private static void restrictPermissions(final Path file) throws IOException {
+        try {
+            Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // not a POSIX file system
+        }
+    }
+
+    private static long checksum(final ByteBuffer buffer, final int length) {
+        final CRC32 crc = new CRC32();
+        final ByteBuffer view = buffer.duplicate();
+        final byte[] chunk = new byte[8192];
+
+        view.position(0);
+        view.limit(length);
+
+        while (view.hasRemaining()) {
+            final int count = Math.min(chunk.length, view.remaining());
+            view.get(chunk, 0, count);
+            crc.update(chunk, 0, count);
+        }
+
+        return crc.getValue();
+    }
+
+    private static void writeProperties(final DataOutputStream out, final Map<String, Object> properties)
+            throws IOException {
+        if (properties == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        out.writeInt(properties.size());
+
+        for (final Entry<String, Object> entry : properties.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readProperties(final ByteBuffer in) {
+        final int count = in.getInt();
+
+        if (count < 0) {
+            return null;
+        }
+
+        final Map<String, Object> properties = new HashMap<>(count * 2);
+
+        for (int i = 0; i < count; i++) {
+            final String key = readString(in);
+            properties.put(key, readValue(in));
+        }
+
+        return properties;
+    }
+
+    private static void writeValue(final DataOutputStream out, final Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+            return;
+        }
+
+        final Class<?> clazz = value.getClass();
+
+        if (clazz.isArray()) {
+            final byte type = getType(clazz.getComponentType());
+            final Object[] array = (Object[]) value;
+
+            out.writeByte(type | ARRAY_FLAG);
+            out.writeInt(array.length);
+
+            for (final Object element : array) {
+                out.writeBoolean(element != null);
+                if (element != null) {
+                    writeScalar(out, type, element);
+                }
+            }
+        } else {
+            final byte type = getType(clazz);
+
+            out.writeByte(type);
+            writeScalar(out, type, value);
+        }
+    }
+
+    private static Object readValue(final ByteBuffer in) {
+        final byte tag = in.get();
+
+        if (tag == TYPE_NULL) {
+            return null;
+        }
+
+        if ((tag & ARRAY_FLAG) == 0) {
+            return readScalar(in, tag);
+        }
+
+        final byte type = (byte) (tag & ~ARRAY_FLAG);
+        final Object[] array = newArray(type, in.getInt());
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = in.get() != 0 ? readScalar(in, type) : null;
+        }
+
+        return array;
+    }
+
+    private static byte getType(final Class<?> clazz) throws IOException {
+        final Byte type = TYPES.get(clazz);
+
+        if (type == null) {
+            throw new IOException("unsupported property type: " + clazz.getName());
+        }
+
+        return type;
+    }
+
+    private static void writeScalar(final DataOutputStream out, final byte type, final Object value)
+            throws IOException {
+        switch (type) {
+        case TYPE_STRING:
+            writeString(out, (String) value);
+            break;
+        case TYPE_LONG:
+            out.writeLong((Long) value);
+            break;
+        case TYPE_DOUBLE:
+            out.writeDouble((Double) value);
+            break;
+        case TYPE_FLOAT:
+            out.writeFloat((Float) value);
+            break;
+        case TYPE_INTEGER:
+            out.writeInt((Integer) value);
+            break;
+        case TYPE_BYTE:
+            out.writeByte((Byte) value);
+            break;
+        case TYPE_CHAR:
+            out.writeChar((Character) value);
+            break;
+        case TYPE_BOOLEAN:
+            out.writeBoolean((Boolean) value);
+            break;
+        case TYPE_SHORT:
+            out.writeShort((Short) value);
+            break;
+        default:
+            writeString(out, new String(((Password) value).getPassword()));
+            break;
+        }
+    }
+
+    private static Object readScalar(final ByteBuffer in, final byte type) {
+        switch (type) {
+        case TYPE_STRING:
+            return readString(in);
+        case TYPE_LONG:
+            return in.getLong();
+        case TYPE_DOUBLE:
+            return in.getDouble();
+        case TYPE_FLOAT:
+            return in.getFloat();
+        case TYPE_INTEGER:
+            return in.getInt();
+        case TYPE_BYTE:
+            return in.get();
+        case TYPE_CHAR:
+            return in.getChar();
+        case TYPE_BOOLEAN:
+            return in.get() != 0;
+        case TYPE_SHORT:
+            return in.getShort();
+        case TYPE_PASSWORD:
+            return new Password(readString(in));
+        default:
+            throw new IllegalArgumentException("unsupported property type: " + type);
+        }
+    }
+
+    private static Object[] newArray(final byte type, final int length) {
+        switch (type) {
+        case TYPE_STRING:
+            return new String[length];
+        case TYPE_LONG:
+            return new Long[length];
+        case TYPE_DOUBLE:
+            return new Double[length];
+        case TYPE_FLOAT:
+            return new Float[length];
+        case TYPE_INTEGER:
+            return new Integer[length];
+        case TYPE_BYTE:
+            return new Byte[length];
+        case TYPE_CHAR:
+            return new Character[length];
+        case TYPE_BOOLEAN:
+            return new Boolean[length];
+        case TYPE_SHORT:
+            return new Short[length];
+        case TYPE_PASSWORD:
+            return new Password[length];
+        default:
+            throw new IllegalArgumentException("unsupported property type: " + type);
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(final ByteBuffer in) {
+        final int length = in.getInt();
+
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalArgumentException("invalid string length: " + length);
+        }
+
+        final byte[] encoded = new byte[length];
+        in.get(encoded);
+
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -40,12 +40,13 @@ import org.eclipse.kura.KuraException;
 import org.eclipse.kura.KuraNotConnectedException;
 import org.eclipse.kura.KuraStoreCapacityReachedException;
 import org.eclipse.kura.KuraStoreException;
-import org.eclipse.kura.KuraTooManyInflightMessagesException;
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.configuration.ConfigurationService;
 import org.eclipse.kura.connection.listener.ConnectionListener;
 import org.eclipse.kura.core.data.store.MessageStoreState;
 import org.eclipse.kura.core.db.H2DbMessageStoreImpl;
+import org.eclipse.kura.core.internal.data.AdaptivePublishController;
+import org.eclipse.kura.core.internal.data.PublisherLane;
 import org.eclipse.kura.core.internal.data.TokenBucket;
 import org.eclipse.kura.data.DataService;
 import org.eclipse.kura.data.DataTransportService;
@@ -102,6 +103,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
     private Optional<MessageStoreState> storeState = Optional.empty();
 
     private Map<DataTransportToken, Integer> inFlightMsgIds = new ConcurrentHashMap<>();
+    // confirmed messages not yet marked as confirmed in the store, guarded by this
+    private List<Integer> confirmedMsgIds = new ArrayList<>();
 
     private ScheduledExecutorService congestionExecutor;
     private ScheduledFuture<?> congestionFuture;
@@ -110,6 +113,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
     private CloudConnectionStatusEnum notificationStatus = CloudConnectionStatusEnum.OFF;
 
     private TokenBucket throttle;
+    private volatile Optional<AdaptivePublishController> publishController = Optional.empty();
+    private List<PublisherLane> publisherLanes = Collections.emptyList();
 
     private final Lock lock = new ReentrantLock();
     private boolean notifyPending;
@@ -148,6 +153,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
         this.congestionExecutor = Executors.newSingleThreadScheduledExecutor();
 
         createThrottle();
+        createPublishController();
+        createPublisherLanes();
         submitPublishingWork();
 
         restartDbServiceTracker(this.dataServiceOptions.getDbServiceInstancePid());
@@ -250,6 +257,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
                             message.getTopic(), message.getId(), token.get().getMessageId());
                 }
             }
+
+            countPublisherLaneMessages();
         } catch (KuraStoreException e) {
             logger.error("Failed to start store", e);
             DataServiceImpl.this.disconnectDataTransportAndLog(e);
@@ -267,6 +276,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
         this.dataServiceOptions = new DataServiceOptions(properties);
 
         createThrottle();
+        createPublishController();
+        createPublisherLanes();
 
         final String currentDbServicePid = this.dataServiceOptions.getDbServiceInstancePid();
 
@@ -278,6 +289,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             restartDbServiceTracker(currentDbServicePid);
         }
 
+        countPublisherLaneMessages();
         createAutoConnectStrategy();
     }
 
@@ -307,6 +319,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
 
         this.dataTransportService.removeDataTransportListener(this);
 
+        markAsConfirmed();
+
         if (storeState.isPresent()) {
             this.storeState.get().shutdown();
         }
@@ -439,7 +453,9 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
         // in the DataPublisherService persistence.
 
         if (newSession) {
+            markAsConfirmed();
             unpublishOrDropInFlightMessages(this.dataServiceOptions.isPublishInFlightMessages());
+            this.publishController.ifPresent(AdaptivePublishController::reset);
         }
 
         // Notify the listeners
@@ -456,6 +472,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             try {
                 this.storeState.get().getOrOpenMessageStore().unpublishAllInFlighMessages();
                 this.inFlightMsgIds.clear();
+                this.publisherLanes.forEach(PublisherLane::onInFlightMessagesUnpublished);
             } catch (KuraStoreException e) {
                 logger.error("Failed to unpublish in-flight messages", e);
                 DataServiceImpl.this.disconnectDataTransportAndLog(e);
@@ -465,6 +482,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             try {
                 this.storeState.get().getOrOpenMessageStore().dropAllInFlightMessages();
                 this.inFlightMsgIds.clear();
+                this.publisherLanes.forEach(PublisherLane::onInFlightMessagesDropped);
             } catch (KuraStoreException e) {
                 logger.error("Failed to drop in-flight messages", e);
                 DataServiceImpl.this.disconnectDataTransportAndLog(e);
@@ -485,6 +503,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
     public void onDisconnected() {
         logger.info("Notified disconnected");
         this.cloudConnectionStatusService.updateStatus(this, CloudConnectionStatusEnum.OFF);
+        this.publishController.ifPresent(AdaptivePublishController::onDisconnected);
 
         // Notify the listeners
         this.dataServiceListeners.onDisconnected();
@@ -513,6 +532,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
     @Override
     public void onConnectionLost(Throwable cause) {
         logger.info("connectionLost");
+        this.publishController.ifPresent(AdaptivePublishController::onDisconnected);
 
         // Notify the listeners
         this.dataServiceListeners.onConnectionLost(cause);
@@ -544,20 +564,25 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
                     token.getMessageId());
         } else {
 
+            // the message is marked as confirmed in the store by the publisher thread, together with the other
+            // messages confirmed in the meantime
+            this.confirmedMsgIds.add(messageId);
+
             Optional<StoredMessage> confirmedMessage = Optional.empty();
             try {
-                logger.info("Confirmed message ID: {} to store", messageId);
+                logger.info("Confirmed message ID: {}", messageId);
                 if (this.storeState.isPresent()) {
-                    this.storeState.get().getOrOpenMessageStore().markAsConfirmed(messageId);
                     confirmedMessage = this.storeState.get().getOrOpenMessageStore().get(messageId);
                 }
             } catch (KuraStoreException e) {
-                logger.error("Cannot confirm message to store", e);
+                logger.error("Cannot load confirmed message from store", e);
                 disconnectDataTransportAndLog(e);
             }
 
             // Notify the listeners
             if (confirmedMessage.isPresent()) {
+                findPublisherLane(confirmedMessage.get().getPriority()).ifPresent(PublisherLane::onMessageConfirmed);
+
                 String topic = confirmedMessage.get().getTopic();
                 this.dataServiceListeners.onMessageConfirmed(messageId, topic);
             } else {
@@ -565,13 +590,43 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             }
         }
 
-        if (this.inFlightMsgIds.size() < this.dataServiceOptions.getMaxInFlightMessages()) {
+        // With the adaptive rate a full window is the normal operating condition, a confirmation is enough to
+        // show that the connection is not stuck
+        final Optional<AdaptivePublishController> controller = this.publishController;
+        controller.ifPresent(c -> c.onMessageConfirmed(token));
+        if (controller.isPresent() || this.inFlightMsgIds.size() < getInFlightWindow()) {
             handleInFlightDecongestion();
         }
 
         signalPublisher();
     }
 
+    /**
+     * Marks the messages confirmed so far as confirmed in the store, with a single statement.
+     */
+    private void markAsConfirmed() {
+        final List<Integer> msgIds;
+        synchronized (this) {
+            if (this.confirmedMsgIds.isEmpty()) {
+                return;
+            }
+            msgIds = this.confirmedMsgIds;
+            this.confirmedMsgIds = new ArrayList<>();
+        }
+
+        if (!this.storeState.isPresent()) {
+            return;
+        }
+
+        try {
+            this.storeState.get().getOrOpenMessageStore().markAsConfirmed(msgIds);
+            logger.debug("Marked {} messages as confirmed", msgIds.size());
+        } catch (KuraStoreException e) {
+            logger.error("Cannot confirm messages to store", e);
+            disconnectDataTransportAndLog(e);
+        }
+    }
+
     private void disconnectDataTransportAndLog(Throwable e) {
 
         if (e instanceof KuraStoreCapacityReachedException) {
@@ -656,28 +711,10 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             try {
                 logger.info("Storing message on topic: {}, priority: {}", topic, priority);
 
-                final MessageStore currentStore = this.storeState.get().getOrOpenMessageStore();
-                final int messageId;
-
-                synchronized (currentStore) {
-                    // Priority 0 are used for life-cycle messages like birth and death
-                    // certificates.
-                    // Priority 1 are used for remove management by Cloudlet applications.
-                    // For those messages, bypass the maximum message count check of the DB cache.
-                    // We want to publish those message even if the DB is full, so allow their
-                    // storage.
-                    if (priority != 0 && priority != 1) {
-                        int count = currentStore.getMessageCount();
-                        logger.debug("Store message count: {}", count);
-                        if (count >= this.dataServiceOptions.getStoreCapacity()) {
-                            logger.error("Store capacity exceeded");
-                            throw new KuraStoreCapacityReachedException("Store capacity exceeded");
-                        }
-                    }
+                final int messageId = this.storeState.get().store(topic, payload, qos, retain, priority);
+                logger.info("Stored message on topic: {}, priority: {}", topic, priority);
 
-                    messageId = currentStore.store(topic, payload, qos, retain, priority);
-                    logger.info("Stored message on topic: {}, priority: {}", topic, priority);
-                }
+                findPublisherLane(priority).ifPresent(PublisherLane::onMessageStored);
 
                 signalPublisher();
 
@@ -803,8 +840,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             int initialDelay = Math.max(this.random.nextInt(maxDelay), RECONNECTION_MIN_DELAY);
 
             logger.info("Starting reconnect task with initial delay {}", initialDelay);
-            this.connectionMonitorFuture = this.connectionMonitorExecutor.scheduleAtFixedRate(new ReconnectTask(),
-                    initialDelay, reconnectInterval, TimeUnit.SECONDS);
+            this.connectionMonitorFuture = scheduleReconnectTask(initialDelay, reconnectInterval);
         } else {
             // Change notification status to off. Connection is not expected to happen in
             // the future
@@ -813,6 +849,17 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
         }
     }
 
+    private ScheduledFuture<?> scheduleReconnectTask(int initialDelay, int reconnectInterval) {
+        final ReconnectTask reconnectTask = new ReconnectTask();
+
+        // the task blocks while connecting, it keeps a dedicated thread instead of a shared timer worker
+        final ScheduledFuture<?> future = this.connectionMonitorExecutor.scheduleAtFixedRate(reconnectTask,
+                initialDelay, reconnectInterval, TimeUnit.SECONDS);
+
+        reconnectTask.setFuture(future);
+        return future;
+    }
+
     private void createThrottle() {
         if (this.dataServiceOptions.isRateLimitEnabled()) {
             int publishRate = this.dataServiceOptions.getRateLimitAverageRate();
@@ -826,6 +873,70 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
         }
     }
 
+    private void createPublishController() {
+        if (this.dataServiceOptions.isAdaptiveRateEnabled()) {
+            int maxWindow = this.dataServiceOptions.getMaxInFlightMessages();
+            double latencyThreshold = this.dataServiceOptions.getAdaptiveRateLatencyThreshold();
+
+            logger.info("Get adaptive publish controller with maximum window {} and latency threshold {}", maxWindow,
+                    latencyThreshold);
+            this.publishController = Optional.of(new AdaptivePublishController(maxWindow, latencyThreshold));
+        } else {
+            this.publishController = Optional.empty();
+        }
+    }
+
+    private void createPublisherLanes() {
+        this.publisherLanes = this.dataServiceOptions.getPublisherLanes();
+
+        if (!this.publisherLanes.isEmpty()) {
+            logger.info("Get publisher lanes {}", this.publisherLanes);
+        }
+    }
+
+    private Optional<PublisherLane> findPublisherLane(final int priority) {
+        for (final PublisherLane lane : this.publisherLanes) {
+            if (lane.includes(priority)) {
+                return Optional.of(lane);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Counts the unpublished and in-flight messages of each publisher lane. The counts are then kept up to date by
+     * the lanes as messages are stored, published and confirmed, so that they can be reported without querying the
+     * store.
+     */
+    private synchronized void countPublisherLaneMessages() {
+        final List<PublisherLane> lanes = this.publisherLanes;
+
+        if (lanes.isEmpty() || !this.storeState.isPresent()) {
+            return;
+        }
+
+        try {
+            final MessageStore store = this.storeState.get().getOrOpenMessageStore();
+            final List<StoredMessage> inFlightMessages = store.getInFlightMessages();
+
+            for (final PublisherLane lane : lanes) {
+                final long inFlightCount = inFlightMessages.stream()
+                        .filter(message -> lane.includes(message.getPriority())).count();
+
+                lane.setMessageCounts(store.getUnpublishedMessageCount(lane.getMinPriority(), lane.getMaxPriority()),
+                        inFlightCount);
+            }
+        } catch (KuraStoreException e) {
+            logger.warn("Cannot count the messages in the publisher lanes", e);
+        }
+    }
+
+    private int getInFlightWindow() {
+        final int maxInFlightMessages = this.dataServiceOptions.getMaxInFlightMessages();
+        return this.publishController.map(controller -> Math.min(controller.getWindow(), maxInFlightMessages))
+                .orElse(maxInFlightMessages);
+    }
+
     private void stopConnectionMonitorTask() {
         if (this.connectionMonitorFuture != null && !this.connectionMonitorFuture.isDone()) {
 
@@ -891,6 +1002,29 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
 
     private final class ReconnectTask implements Runnable {
 
+        private final AtomicBoolean terminated = new AtomicBoolean();
+        private volatile ScheduledFuture<?> future;
+
+        void setFuture(final ScheduledFuture<?> future) {
+            this.future = future;
+
+            // the task could have connected before the future was available
+            if (this.terminated.get()) {
+                future.cancel(false);
+            }
+        }
+
+        private void terminate() {
+            this.terminated.set(true);
+
+            // cancelling the future stops the executor from running the task again
+            final ScheduledFuture<?> currentFuture = this.future;
+
+            if (currentFuture != null) {
+                currentFuture.cancel(false);
+            }
+        }
+
         @Override
         public void run() {
             Thread.currentThread().setName(
@@ -931,9 +1065,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             } finally {
                 if (connected) {
                     unregisterAsCriticalComponent();
-                    // Throwing an exception will suppress subsequent executions of this periodic
-                    // task.
-                    throw new RuntimeException("Connected. Reconnect task will be terminated.");
+                    terminate();
                 }
             }
         }
@@ -955,57 +1087,166 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
 
     private final class PublishManager implements Runnable {
 
+        private long sleepingTime;
+        private boolean inFlightWindowFull;
+
         @Override
         public void run() {
             Thread.currentThread().setName("DataServiceImpl:Submit");
             while (DataServiceImpl.this.publisherEnabled.get()) {
-                long sleepingTime = -1;
+                this.sleepingTime = -1;
                 boolean messagePublished = false;
 
+                DataServiceImpl.this.markAsConfirmed();
+
                 if (DataServiceImpl.this.dataTransportService.isConnected()) {
+                    final List<Integer> publishedQos0MessageIds = new ArrayList<>();
+
                     try {
-                        if (DataServiceImpl.this.storeState.isPresent()) {
-                            final Optional<StoredMessage> message = DataServiceImpl.this.storeState.get()
-                                    .getOrOpenMessageStore().getNextMessage();
-
-                            if (message.isPresent()) {
-                                checkInFlightMessages(message.get());
-
-                                if (DataServiceImpl.this.dataServiceOptions.isRateLimitEnabled()
-                                        && message.get().getPriority() >= 5) {
-                                    messagePublished = publishMessageTokenBucket(message.get());
-                                    sleepingTime = DataServiceImpl.this.throttle.getTokenWaitTime();
-                                } else {
-                                    publishMessageUnbound(message.get());
-                                    messagePublished = true;
-                                }
-                            }
+                        final List<PublisherLane> lanes = DataServiceImpl.this.publisherLanes;
+
+                        if (DataServiceImpl.this.storeState.isPresent() && !lanes.isEmpty()) {
+                            messagePublished = publishLanes(
+                                    DataServiceImpl.this.storeState.get().getOrOpenMessageStore(), lanes,
+                                    publishedQos0MessageIds);
+                        } else if (DataServiceImpl.this.storeState.isPresent()) {
+                            final List<StoredMessage> messages = DataServiceImpl.this.storeState.get()
+                                    .getOrOpenMessageStore()
+                                    .getNextMessages(DataServiceImpl.this.dataServiceOptions.getPublisherFetchSize());
+
+                            messagePublished = publishMessages(messages, publishedQos0MessageIds) > 0;
                         }
                     } catch (KuraNotConnectedException e) {
                         logger.info("DataPublisherService is not connected");
-                    } catch (KuraTooManyInflightMessagesException e) {
-                        logger.info("Too many in-flight messages");
-                        handleInFlightCongestion();
                     } catch (Exception e) {
                         logger.error("Probably an unrecoverable exception", e);
+                    } finally {
+                        markAsPublished(publishedQos0MessageIds);
                     }
                 } else {
                     logger.info("DataPublisherService not connected");
                 }
 
                 if (!messagePublished) {
-                    suspendPublisher(sleepingTime, TimeUnit.NANOSECONDS);
+                    suspendPublisher(this.sleepingTime, TimeUnit.NANOSECONDS);
                 }
             }
             logger.debug("Exited publisher loop.");
         }
 
-        private void checkInFlightMessages(StoredMessage message) throws KuraTooManyInflightMessagesException {
-            if (message.getQos() > 0 && DataServiceImpl.this.inFlightMsgIds
-                    .size() >= DataServiceImpl.this.dataServiceOptions.getMaxInFlightMessages()) {
-                logger.warn("The configured maximum number of in-flight messages has been reached");
-                throw new KuraTooManyInflightMessagesException("Too many in-flight messages");
+        /**
+         * Performs a round over the publisher lanes in order, publishing up to the lane weight messages from each
+         * lane. The round stops at the first lane whose messages cannot all be published because of the in-flight
+         * window or of the rate limit, so that the next round starts again from the highest priority lane.
+         */
+        private boolean publishLanes(final MessageStore store, final List<PublisherLane> lanes,
+                final List<Integer> publishedQos0MessageIds) throws KuraException {
+            boolean messagePublished = false;
+
+            for (final PublisherLane lane : lanes) {
+                if (!DataServiceImpl.this.publisherEnabled.get()) {
+                    break;
+                }
+
+                final List<StoredMessage> messages = store.getNextMessages(lane.getMinPriority(),
+                        lane.getMaxPriority(), lane.getWeight());
+                lane.onMessagesFetched(messages);
+
+                final int publishedCount = publishMessages(messages, publishedQos0MessageIds);
+                lane.onMessagesPublished(messages.subList(0, publishedCount));
+
+                messagePublished |= publishedCount > 0;
+
+                if (publishedCount < messages.size()) {
+                    break;
+                }
+            }
+
+            return messagePublished;
+        }
+
+        /**
+         * Publishes the provided messages in order, stopping at the first message that cannot be published
+         * because of the in-flight window or of the rate limit. The messages that are not published
+         * are left untouched in the store and will be fetched again by the next iteration.
+         *
+         * @return the number of published messages
+         */
+        private int publishMessages(final List<StoredMessage> messages, final List<Integer> publishedQos0MessageIds)
+                throws KuraException {
+            int publishedCount = 0;
+
+            for (final StoredMessage message : messages) {
+                if (!DataServiceImpl.this.publisherEnabled.get()) {
+                    break;
+                }
+
+                if (isInFlightWindowFull(message)) {
+                    onInFlightWindowFull();
+                    break;
+                }
+
+                final Optional<AdaptivePublishController> controller = DataServiceImpl.this.publishController;
+                if (message.getQos() > 0 && controller.isPresent()) {
+                    final long publishWaitTime = controller.get().getPublishWaitTime();
+
+                    if (publishWaitTime > 0) {
+                        this.sleepingTime = publishWaitTime;
+                        break;
+                    }
+                }
+
+                if (DataServiceImpl.this.dataServiceOptions.isRateLimitEnabled() && message.getPriority() >= 5) {
+                    final boolean published = publishMessageTokenBucket(message, publishedQos0MessageIds);
+                    this.sleepingTime = DataServiceImpl.this.throttle.getTokenWaitTime();
+
+                    if (!published) {
+                        break;
+                    }
+                } else {
+                    publishMessageUnbound(message, publishedQos0MessageIds);
+                }
+
+                this.inFlightWindowFull = false;
+                publishedCount++;
+            }
+
+            return publishedCount;
+        }
+
+        private void markAsPublished(final List<Integer> publishedQos0MessageIds) {
+            if (publishedQos0MessageIds.isEmpty() || !DataServiceImpl.this.storeState.isPresent()) {
+                return;
+            }
+
+            try {
+                DataServiceImpl.this.storeState.get().getOrOpenMessageStore().markAsPublished(publishedQos0MessageIds);
+                logger.debug("Marked {} messages as published", publishedQos0MessageIds.size());
+            } catch (KuraStoreException e) {
+                DataServiceImpl.this.disconnectDataTransportAndLog(e);
+            }
+        }
+
+        private boolean isInFlightWindowFull(StoredMessage message) {
+            return message.getQos() > 0 && DataServiceImpl.this.inFlightMsgIds.size() >= getInFlightWindow();
+        }
+
+        /**
+         * A full in-flight window is a wait condition, the publisher is suspended until a confirmation frees a slot.
+         * The congestion timeout is started if not already running, since confirmations cancel it.
+         */
+        private void onInFlightWindowFull() {
+            if (!this.inFlightWindowFull) {
+                this.inFlightWindowFull = true;
+                if (DataServiceImpl.this.inFlightMsgIds.size() >= DataServiceImpl.this.dataServiceOptions
+                        .getMaxInFlightMessages()) {
+                    logger.warn("The configured maximum number of in-flight messages has been reached");
+                } else {
+                    logger.debug("The adaptive in-flight window of {} messages is full, waiting for confirmations",
+                            getInFlightWindow());
+                }
             }
+            handleInFlightCongestion();
         }
 
         private void suspendPublisher(long timeout, TimeUnit timeUnit) {
@@ -1031,17 +1272,19 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             }
         }
 
-        private void publishMessageUnbound(StoredMessage message) throws KuraException {
-            publishInternal(message);
+        private void publishMessageUnbound(StoredMessage message, List<Integer> publishedQos0MessageIds)
+                throws KuraException {
+            publishInternal(message, publishedQos0MessageIds);
             // Notify the listeners
             DataServiceImpl.this.dataServiceListeners.onMessagePublished(message.getId(), message.getTopic());
         }
 
-        private boolean publishMessageTokenBucket(StoredMessage message) throws KuraException {
+        private boolean publishMessageTokenBucket(StoredMessage message, List<Integer> publishedQos0MessageIds)
+                throws KuraException {
             boolean tokenAvailable = DataServiceImpl.this.throttle.getToken();
 
             if (tokenAvailable) {
-                publishMessageUnbound(message);
+                publishMessageUnbound(message, publishedQos0MessageIds);
                 return true;
             }
             return false;
@@ -1057,6 +1300,7 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
                 DataServiceImpl.this.congestionFuture = DataServiceImpl.this.congestionExecutor.schedule(() -> {
                     Thread.currentThread().setName("DataServiceImpl:InFlightCongestion");
                     logger.warn("In-flight message congestion timeout elapsed. Disconnecting and reconnecting again");
+                    DataServiceImpl.this.publishController.ifPresent(AdaptivePublishController::onCongestion);
                     disconnect();
                     startConnectionMonitorTask();
                 }, timeout, TimeUnit.SECONDS);
@@ -1065,7 +1309,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
 
         // It's very important that the publishInternal and messageConfirmed methods are
         // synchronized
-        private synchronized void publishInternal(StoredMessage message) throws KuraException {
+        private synchronized void publishInternal(StoredMessage message, List<Integer> publishedQos0MessageIds)
+                throws KuraException {
 
             String topic = message.getTopic();
             byte[] payload = message.getPayload();
@@ -1081,7 +1326,9 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
             if (DataServiceImpl.this.storeState.isPresent()) {
                 try {
                     if (token == null) {
-                        DataServiceImpl.this.storeState.get().getOrOpenMessageStore().markAsPublished(msgId);
+                        // QoS 0 messages are marked as published in a single statement once the
+                        // current batch has been processed
+                        publishedQos0MessageIds.add(msgId);
                         logger.debug("Published message with ID: {}", msgId);
                     } else {
 
@@ -1093,6 +1340,8 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
                         }
 
                         DataServiceImpl.this.inFlightMsgIds.put(token, msgId);
+                        DataServiceImpl.this.publishController
+                                .ifPresent(controller -> controller.onMessagePublished(token));
                         DataServiceImpl.this.storeState.get().getOrOpenMessageStore().markAsPublished(msgId, token);
                         logger.debug("Published message with ID: {} and MQTT message ID: {}", msgId,
                                 token.getMessageId());
@@ -1125,9 +1374,29 @@ public class DataServiceImpl implements DataService, DataTransportListener, Conf
         result.put("Account", this.dataTransportService.getAccountName());
         result.put("Username", this.dataTransportService.getUsername());
         result.put("Client ID", this.dataTransportService.getClientId());
+        this.publishController.ifPresent(controller -> {
+            result.put("Adaptive In-flight Window", Integer.toString(getInFlightWindow()));
+            result.put("Adaptive Publish Rate", String.format("%.2f msg/s", controller.getPublishRate()));
+            result.put("Confirmation Latency", controller.getSmoothedLatency() + " ms (min "
+                    + controller.getMinLatency() + " ms)");
+            result.put("Adaptive Window Decreases", Long.toString(controller.getDecreaseCount()));
+        });
+        for (final PublisherLane lane : this.publisherLanes) {
+            result.put("Publisher Lane " + lane, getPublisherLaneInfo(lane));
+        }
         return result;
     }
 
+    private static String getPublisherLaneInfo(final PublisherLane lane) {
+        final long queuedCount = lane.getQueuedCount();
+        final long inFlightCount = lane.getInFlightCount();
+
+        return String.format("%s queued, %s in flight, head of line age %d ms, %.2f msg/s",
+                queuedCount >= 0 ? Long.toString(queuedCount) : "unknown",
+                inFlightCount >= 0 ? Long.toString(inFlightCount) : "unknown", lane.getHeadOfLineAge(),
+                lane.getPublishRate());
+    }
+
     @Override
     public void startConnectionTask() {
         if (!this.dataTransportService.isConnected()) {
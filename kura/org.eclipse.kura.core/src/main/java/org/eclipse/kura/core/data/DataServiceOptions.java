@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,13 @@ package org.eclipse.kura.core.data;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.kura.configuration.ConfigurationService;
+import org.eclipse.kura.core.internal.data.PublisherLane;
 import org.eclipse.kura.db.H2DbService;
 import org.quartz.CronExpression;
 import org.slf4j.Logger;
@@ -39,10 +41,14 @@ public class DataServiceOptions {
     private static final String REPUBLISH_IN_FLIGHT_MSGS_PROP_NAME = "in-flight-messages.republish-on-new-session";
     private static final String MAX_IN_FLIGHT_MSGS_PROP_NAME = "in-flight-messages.max-number";
     private static final String IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_PROP_NAME = "in-flight-messages.congestion-timeout";
+    private static final String PUBLISHER_FETCH_SIZE_PROP_NAME = "publisher.fetch-size";
+    private static final String PUBLISHER_LANES_PROP_NAME = "publisher.lanes";
     private static final String RATE_LIMIT_ENABLE_PROP_NAME = "enable.rate.limit";
     private static final String RATE_LIMIT_AVERAGE_RATE_PROP_NAME = "rate.limit.average";
     private static final String RATE_LIMIT_TIME_UNIT_PROP_NAME = "rate.limit.time.unit";
     private static final String RATE_LIMIT_BURST_SIZE_PROP_NAME = "rate.limit.burst.size";
+    private static final String ADAPTIVE_RATE_ENABLE_PROP_NAME = "enable.adaptive.rate";
+    private static final String ADAPTIVE_RATE_LATENCY_THRESHOLD_PROP_NAME = "adaptive.rate.latency.threshold";
     private static final String RECOVERY_ENABLE_PROP_NAME = "enable.recovery.on.connection.failure";
     private static final String RECOVERY_MAX_FAILURES_PROP_NAME = "connection.recovery.max.failures";
     private static final String CONNECTION_SCHEDULE_ENABLED = "connection.schedule.enabled";
@@ -62,10 +68,14 @@ public class DataServiceOptions {
     private static final boolean REPUBLISH_IN_FLIGHT_MSGS_DEFAULT = true;
     private static final int MAX_IN_FLIGHT_MSGS_DEFAULT = 9;
     private static final int IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_DEFAULT = 0;
+    private static final int PUBLISHER_FETCH_SIZE_DEFAULT = 10;
+    private static final String PUBLISHER_LANES_DEFAULT = "";
     private static final boolean RATE_LIMIT_ENABLE_DEFAULT = true;
     private static final int RATE_LIMIT_AVERAGE_RATE_DEFAULT = 1;
     private static final String RATE_LIMIT_TIME_UNIT_DEFAULT = "SECONDS";
     private static final int RATE_LIMIT_BURST_SIZE_DEFAULT = 1;
+    private static final boolean ADAPTIVE_RATE_ENABLE_DEFAULT = false;
+    private static final int ADAPTIVE_RATE_LATENCY_THRESHOLD_DEFAULT = 200;
     private static final boolean RECOVERY_ENABLE_DEFAULT = true;
     private static final int RECOVERY_MAX_FAILURES_DEFAULT = 10;
     private static final boolean CONNECTION_SCHEDULE_ENABLED_DEFAULT = false;
@@ -110,6 +120,27 @@ public class DataServiceOptions {
                 IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_DEFAULT);
     }
 
+    public int getPublisherFetchSize() {
+        return Math.max(1, (int) this.properties.getOrDefault(PUBLISHER_FETCH_SIZE_PROP_NAME,
+                PUBLISHER_FETCH_SIZE_DEFAULT));
+    }
+
+    public List<PublisherLane> getPublisherLanes() {
+        final String lanes = (String) this.properties.getOrDefault(PUBLISHER_LANES_PROP_NAME,
+                PUBLISHER_LANES_DEFAULT);
+
+        if (lanes == null || lanes.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return PublisherLane.parse(lanes);
+        } catch (final Exception e) {
+            logger.warn("failed to parse publisher lanes, using a single lane", e);
+            return Collections.emptyList();
+        }
+    }
+
     public boolean isAutoConnect() {
         return (boolean) this.properties.getOrDefault(AUTOCONNECT_PROP_NAME, AUTOCONNECT_PROP_DEFAULT);
     }
@@ -156,6 +187,18 @@ public class DataServiceOptions {
         return timeUnit.toNanos(1);
     }
 
+    public boolean isAdaptiveRateEnabled() {
+        return (boolean) this.properties.getOrDefault(ADAPTIVE_RATE_ENABLE_PROP_NAME, ADAPTIVE_RATE_ENABLE_DEFAULT);
+    }
+
+    /**
+     * @return the ratio between the smoothed and the minimum confirmation latency that is considered a congestion
+     */
+    public double getAdaptiveRateLatencyThreshold() {
+        return Math.max(100, (int) this.properties.getOrDefault(ADAPTIVE_RATE_LATENCY_THRESHOLD_PROP_NAME,
+                ADAPTIVE_RATE_LATENCY_THRESHOLD_DEFAULT)) / 100d;
+    }
+
     public String getDbServiceInstancePid() {
         return (String) this.properties.getOrDefault(STORE_DB_SERVICE_INSTANCE_PROP_NAME, DB_SERVICE_INSTANCE_DEFAULT);
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,7 @@ public class HouseKeeperTask implements Runnable {
             // delete all confirmed messages
             logger.info("HouseKeeperTask: Delete confirmed messages...");
             this.store.getOrOpenMessageStore().deleteStaleMessages(this.purgeAge);
+            this.store.onMessagesDeleted();
 
             logger.info("HouseKeeperTask ended.");
         } catch (KuraStoreException me) { // do not throw the exception as that will stop future executions
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,7 @@ public class MessageStoreState {
     private DataServiceOptions options;
     private Optional<MessageStore> messageStore = Optional.empty();
     private Optional<ScheduledExecutorService> houseKeeperExecutor = Optional.empty();
+    private final MessageStoreWriter writer = new MessageStoreWriter();
 
     public MessageStoreState(final MessageStoreProvider messageStoreProvider, final DataServiceOptions options) {
 
@@ -72,10 +73,38 @@ public class MessageStoreState {
         final MessageStore result = this.messageStoreProvider.openMessageStore(this.options.getKuraServicePid());
 
         this.messageStore = Optional.of(result);
+        this.writer.invalidateMessageCount();
 
         return result;
     }
 
+    /**
+     * Stores a message enforcing the configured store capacity. Messages stored concurrently are written together.
+     *
+     * @return the identifier of the stored message
+     * @throws KuraStoreException
+     *             if the message cannot be stored or the store capacity has been reached
+     */
+    public int store(final String topic, final byte[] payload, final int qos, final boolean retain,
+            final int priority) throws KuraStoreException {
+        final MessageStore store;
+        final int capacity;
+
+        synchronized (this) {
+            store = getOrOpenMessageStore();
+            capacity = this.options.getStoreCapacity();
+        }
+
+        return this.writer.store(store, topic, payload, qos, retain, priority, capacity);
+    }
+
+    /**
+     * Must be called after messages have been deleted from the store.
+     */
+    public void onMessagesDeleted() {
+        this.writer.invalidateMessageCount();
+    }
+
     public synchronized void shutdown() {
         if (this.houseKeeperExecutor.isPresent()) {
             this.houseKeeperExecutor.get().shutdown();
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.data.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.kura.KuraStoreCapacityReachedException;
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the messages published concurrently with a single {@link MessageStore#store(List)} call.
+ * <p>
+ * The first caller that finds no write in progress becomes the writer: it stores all the queued messages, including
+ * the ones queued by other callers while it was writing, and returns when the queue is empty. The other callers wait
+ * for the outcome of their own message. Each caller gets the identifier of its message or the exception that
+ * prevented storing it.
+ * <p>
+ * The number of messages in the store, used to enforce the store capacity, is kept in memory and is read again from
+ * the store only after it has been invalidated, for example by the housekeeper.
+ */
+public class MessageStoreWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageStoreWriter.class);
+
+    private static final int MAX_BATCH_SIZE = 500;
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition completed = this.lock.newCondition();
+    private final List<StoreRequest> pendingRequests = new ArrayList<>();
+    private boolean writing;
+
+    private final AtomicBoolean messageCountValid = new AtomicBoolean();
+    private long messageCount;
+
+    /**
+     * Stores a message, waiting for the write to be completed.
+     *
+     * @param store
+     *            the store to use if this call performs the write
+     * @param capacity
+     *            the maximum number of messages in the store, not enforced for messages with priority 0 and 1
+     * @return the identifier of the stored message
+     * @throws KuraStoreCapacityReachedException
+     *             if the store capacity has been reached
+     * @throws KuraStoreException
+     *             if the message cannot be stored
+     */
+    public int store(final MessageStore store, final String topic, final byte[] payload, final int qos,
+            final boolean retain, final int priority, final int capacity) throws KuraStoreException {
+
+        final StoreRequest request = new StoreRequest(new StoredMessage.Builder(0).withTopic(topic)
+                .withPayload(payload).withQos(qos).withRetain(retain).withPriority(priority).build());
+
+        this.lock.lock();
+        try {
+            this.pendingRequests.add(request);
+
+            while (!request.done && this.writing) {
+                this.completed.awaitUninterruptibly();
+            }
+
+            if (request.done) {
+                return request.getMessageId();
+            }
+
+            this.writing = true;
+        } finally {
+            this.lock.unlock();
+        }
+
+        writePendingRequests(store, capacity);
+
+        return request.getMessageId();
+    }
+
+    /**
+     * Forces the number of messages to be read again from the store before the next write. Must be called after
+     * messages are deleted or when the store is replaced.
+     */
+    public void invalidateMessageCount() {
+        this.messageCountValid.set(false);
+    }
+
+    private void writePendingRequests(final MessageStore store, final int capacity) {
+        try {
+            while (true) {
+                final List<StoreRequest> batch;
+
+                this.lock.lock();
+                try {
+                    if (this.pendingRequests.isEmpty()) {
+                        return;
+                    }
+
+                    final List<StoreRequest> head = this.pendingRequests.subList(0,
+                            Math.min(MAX_BATCH_SIZE, this.pendingRequests.size()));
+                    batch = new ArrayList<>(head);
+                    head.clear();
+                } finally {
+                    this.lock.unlock();
+                }
+
+                write(store, capacity, batch);
+
+                this.lock.lock();
+                try {
+                    for (final StoreRequest request : batch) {
+                        request.done = true;
+                    }
+                    this.completed.signalAll();
+                } finally {
+                    this.lock.unlock();
+                }
+            }
+        } finally {
+            this.lock.lock();
+            try {
+                this.writing = false;
+                this.completed.signalAll();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private void write(final MessageStore store, final int capacity, final List<StoreRequest> batch) {
+        final List<StoreRequest> accepted = new ArrayList<>(batch.size());
+
+        try {
+            final long count = getMessageCount(store);
+
+            for (final StoreRequest request : batch) {
+                // Priority 0 and 1 messages are life-cycle messages and replies to cloudlet requests, they are
+                // stored even if the store is full
+                final int priority = request.message.getPriority();
+                if (priority != 0 && priority != 1 && count + accepted.size() >= capacity) {
+                    logger.error("Store capacity exceeded");
+                    request.error = new KuraStoreCapacityReachedException("Store capacity exceeded");
+                } else {
+                    accepted.add(request);
+                }
+            }
+
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            if (accepted.size() == 1) {
+                final StoredMessage message = accepted.get(0).message;
+                accepted.get(0).messageId = store.store(message.getTopic(), message.getPayload(), message.getQos(),
+                        message.isRetain(), message.getPriority());
+            } else {
+                storeBatch(store, accepted);
+            }
+
+            this.messageCount += accepted.size();
+        } catch (final KuraStoreException e) {
+            invalidateMessageCount();
+            fail(accepted.isEmpty() ? batch : accepted, e);
+        } catch (final RuntimeException e) {
+            invalidateMessageCount();
+            fail(accepted.isEmpty() ? batch : accepted, new KuraStoreException(e, "Cannot store message"));
+        }
+    }
+
+    private static void storeBatch(final MessageStore store, final List<StoreRequest> requests)
+            throws KuraStoreException {
+        final List<StoredMessage> messages = new ArrayList<>(requests.size());
+        for (final StoreRequest request : requests) {
+            messages.add(request.message);
+        }
+
+        final List<Integer> messageIds = store.store(messages);
+
+        for (int i = 0; i < requests.size(); i++) {
+            requests.get(i).messageId = messageIds.get(i);
+        }
+
+        logger.debug("Stored {} messages in a single write", requests.size());
+    }
+
+    private long getMessageCount(final MessageStore store) throws KuraStoreException {
+        if (!this.messageCountValid.getAndSet(true)) {
+            try {
+                this.messageCount = store.getMessageCount();
+            } catch (final KuraStoreException | RuntimeException e) {
+                this.messageCountValid.set(false);
+                throw e;
+            }
+        }
+
+        logger.debug("Store message count: {}", this.messageCount);
+        return this.messageCount;
+    }
+
+    private static void fail(final List<StoreRequest> requests, final KuraStoreException e) {
+        for (final StoreRequest request : requests) {
+            if (request.error == null) {
+                request.error = e;
+            }
+        }
+    }
+
+    private static final class StoreRequest {
+
+        private final StoredMessage message;
+        private int messageId;
+        private KuraStoreException error;
+        private boolean done;
+
+        StoreRequest(final StoredMessage message) {
+            this.message = message;
+        }
+
+        int getMessageId() throws KuraStoreException {
+            if (this.error != null) {
+                throw this.error;
+            }
+            return this.messageId;
+        }
+    }
+}
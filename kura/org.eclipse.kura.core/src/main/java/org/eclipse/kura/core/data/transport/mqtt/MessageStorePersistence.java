@@ -0,0 +1,324 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.data.transport.mqtt;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.eclipse.kura.message.store.provider.MessageStoreProvider;
+import org.eclipse.paho.client.mqttv3.MqttClientPersistence;
+import org.eclipse.paho.client.mqttv3.MqttPersistable;
+import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link MqttClientPersistence} that keeps the Paho in-flight state in a {@link MessageStore}, so that it is
+ * stored in the same database as the messages queued by the DataService.
+ * <p>
+ * Each persisted entry is stored as a message whose topic is the Paho key and whose payload contains the header and
+ * the payload of the MQTT packet. The messages are never published: a removed entry is marked as published and
+ * deleted by the next purge. Removals are written in batches, after a crash some already completed entries can be
+ * restored and the corresponding packets sent again, as allowed by QoS 1.
+ */
+public class MessageStorePersistence implements MqttClientPersistence {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageStorePersistence.class);
+
+    private static final String STORE_NAME_PREFIX = "paho_";
+    private static final int ENTRY_QOS = 0;
+    private static final int ENTRY_PRIORITY = 0;
+    private static final int REMOVAL_BATCH_SIZE = 32;
+    private static final int PURGE_INTERVAL = 1000;
+
+    private final MessageStoreProvider messageStoreProvider;
+
+    private final Map<String, Integer> messageIds = new HashMap<>();
+    private final List<Integer> pendingRemovals = new ArrayList<>();
+    private MessageStore store;
+    private int removalsSincePurge;
+
+    public MessageStorePersistence(final MessageStoreProvider messageStoreProvider) {
+        this.messageStoreProvider = messageStoreProvider;
+    }
+
+    @Override
+    public synchronized void open(final String clientId, final String serverURI) throws MqttPersistenceException {
+        if (this.store != null) {
+            return;
+        }
+
+        try {
+            this.store = this.messageStoreProvider.openMessageStore(getStoreName(clientId, serverURI));
+            this.store.deleteStaleMessages(0);
+
+            for (final StoredMessage message : this.store.getUnpublishedMessages()) {
+                restore(message);
+            }
+
+            flushRemovals();
+        } catch (final KuraStoreException e) {
+            closeStore();
+            throw new MqttPersistenceException(e);
+        }
+
+        logger.info("Restored {} in-flight entries from the message store", this.messageIds.size());
+    }
+
+    @Override
+    public synchronized void close() throws MqttPersistenceException {
+        if (this.store == null) {
+            return;
+        }
+
+        try {
+            flushRemovals();
+        } catch (final KuraStoreException e) {
+            throw new MqttPersistenceException(e);
+        } finally {
+            closeStore();
+        }
+    }
+
+    @Override
+    public synchronized void put(final String key, final MqttPersistable persistable)
+            throws MqttPersistenceException {
+        checkIsOpen();
+
+        try {
+            final int id = this.store.store(key, encode(persistable), ENTRY_QOS, false, ENTRY_PRIORITY);
+
+            final Integer previousId = this.messageIds.put(key, id);
+            if (previousId != null) {
+                removeLater(previousId);
+            }
+        } catch (final KuraStoreException e) {
+            throw new MqttPersistenceException(e);
+        }
+    }
+
+    @Override
+    public synchronized MqttPersistable get(final String key) throws MqttPersistenceException {
+        checkIsOpen();
+
+        final Integer id = this.messageIds.get(key);
+        if (id == null) {
+            return null;
+        }
+
+        try {
+            final Optional<StoredMessage> message = this.store.get(id);
+            if (!message.isPresent()) {
+                throw new MqttPersistenceException(MqttPersistenceException.REASON_CODE_CLIENT_EXCEPTION);
+            }
+            return decode(message.get().getPayload());
+        } catch (final KuraStoreException e) {
+            throw new MqttPersistenceException(e);
+        }
+    }
+
+    @Override
+    public synchronized void remove(final String key) throws MqttPersistenceException {
+        checkIsOpen();
+
+        final Integer id = this.messageIds.remove(key);
+        if (id == null) {
+            return;
+        }
+
+        try {
+            removeLater(id);
+        } catch (final KuraStoreException e) {
+            throw new MqttPersistenceException(e);
+        }
+    }
+
+    @Override
+    public synchronized Enumeration<String> keys() throws MqttPersistenceException {
+        checkIsOpen();
+
+        return Collections.enumeration(new ArrayList<>(this.messageIds.keySet()));
+    }
+
+    @Override
+    public synchronized void clear() throws MqttPersistenceException {
+        checkIsOpen();
+
+        this.pendingRemovals.addAll(this.messageIds.values());
+        this.messageIds.clear();
+
+        try {
+            flushRemovals();
+            purge();
+        } catch (final KuraStoreException e) {
+            throw new MqttPersistenceException(e);
+        }
+    }
+
+    @Override
+    public synchronized boolean containsKey(final String key) throws MqttPersistenceException {
+        checkIsOpen();
+
+        return this.messageIds.containsKey(key);
+    }
+
+    /**
+     * After a crash the store can contain more than one entry for the same key, since the removal of the replaced
+     * entries is batched. The entries are not returned in insertion order, the one with the highest id is the last
+     * one stored and is kept.
+     */
+    private void restore(final StoredMessage message) {
+        final String key = message.getTopic();
+        final int id = message.getId();
+        final Integer previousId = this.messageIds.get(key);
+
+        if (previousId == null) {
+            this.messageIds.put(key, id);
+        } else if (previousId < id) {
+            this.messageIds.put(key, id);
+            this.pendingRemovals.add(previousId);
+        } else {
+            this.pendingRemovals.add(id);
+        }
+    }
+
+    private void removeLater(final int id) throws KuraStoreException {
+        this.pendingRemovals.add(id);
+
+        if (this.pendingRemovals.size() >= REMOVAL_BATCH_SIZE) {
+            flushRemovals();
+        }
+    }
+
+    private void flushRemovals() throws KuraStoreException {
+        if (this.pendingRemovals.isEmpty()) {
+            return;
+        }
+
+        this.store.markAsPublished(new ArrayList<>(this.pendingRemovals));
+        this.removalsSincePurge += this.pendingRemovals.size();
+        this.pendingRemovals.clear();
+
+        if (this.removalsSincePurge >= PURGE_INTERVAL) {
+            purge();
+        }
+    }
+
+    private void purge() throws KuraStoreException {
+        this.store.deleteStaleMessages(0);
+        this.removalsSincePurge = 0;
+    }
+
+    private void closeStore() {
+        if (this.store != null) {
+            this.store.close();
+            this.store = null;
+        }
+        this.messageIds.clear();
+        this.pendingRemovals.clear();
+        this.removalsSincePurge = 0;
+    }
+
+    private void checkIsOpen() throws MqttPersistenceException {
+        if (this.store == null) {
+            throw new MqttPersistenceException(MqttPersistenceException.REASON_CODE_PERSISTENCE_IN_USE);
+        }
+    }
+
+    private static String getStoreName(final String clientId, final String serverURI) {
+        final StringBuilder builder = new StringBuilder(STORE_NAME_PREFIX);
+
+        for (final char c : (clientId + "_" + serverURI).toCharArray()) {
+            if (Character.isLetterOrDigit(c) || c == '_') {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static byte[] encode(final MqttPersistable persistable) throws MqttPersistenceException {
+        final int headerLength = persistable.getHeaderLength();
+        final int payloadLength = persistable.getPayloadBytes() != null ? persistable.getPayloadLength() : 0;
+
+        final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + headerLength + payloadLength);
+        buffer.putInt(headerLength);
+        buffer.put(persistable.getHeaderBytes(), persistable.getHeaderOffset(), headerLength);
+        if (payloadLength > 0) {
+            buffer.put(persistable.getPayloadBytes(), persistable.getPayloadOffset(), payloadLength);
+        }
+
+        return buffer.array();
+    }
+
+    private static MqttPersistable decode(final byte[] data) {
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        final byte[] header = new byte[buffer.getInt()];
+        buffer.get(header);
+        final byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+
+        return new StoredPersistable(header, payload);
+    }
+
+    private static final class StoredPersistable implements MqttPersistable {
+
+        private final byte[] header;
+        private final byte[] payload;
+
+        StoredPersistable(final byte[] header, final byte[] payload) {
+            this.header = header;
+            this.payload = payload;
+        }
+
+        @Override
+        public byte[] getHeaderBytes() {
+            return this.header;
+        }
+
+        @Override
+        public int getHeaderLength() {
+            return this.header.length;
+        }
+
+        @Override
+        public int getHeaderOffset() {
+            return 0;
+        }
+
+        @Override
+        public byte[] getPayloadBytes() {
+            return this.payload;
+        }
+
+        @Override
+        public int getPayloadLength() {
+            return this.payload.length;
+        }
+
+        @Override
+        public int getPayloadOffset() {
+            return 0;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -19,19 +19,27 @@ public class MqttClientConfiguration {
     private final String brokerUrl;
     private final String clientId;
     private final PersistenceType persistenceType;
+    private final String persistenceStorePid;
     private final MqttConnectOptions connectOptions;
 
     public enum PersistenceType {
         FILE,
-        MEMORY
+        MEMORY,
+        STORE
     }
 
     public MqttClientConfiguration(String brokerUrl, String clientId, PersistenceType persistenceType,
             MqttConnectOptions connectOptions) {
+        this(brokerUrl, clientId, persistenceType, null, connectOptions);
+    }
+
+    public MqttClientConfiguration(String brokerUrl, String clientId, PersistenceType persistenceType,
+            String persistenceStorePid, MqttConnectOptions connectOptions) {
         super();
         this.brokerUrl = brokerUrl;
         this.clientId = clientId;
         this.persistenceType = persistenceType;
+        this.persistenceStorePid = persistenceStorePid;
         this.connectOptions = connectOptions;
     }
 
@@ -47,6 +55,13 @@ public class MqttClientConfiguration {
         return this.persistenceType;
     }
 
+    /**
+     * @return the kura.service.pid of the message store provider used with {@link PersistenceType#STORE}
+     */
+    public String getPersistenceStorePid() {
+        return this.persistenceStorePid;
+    }
+
     public MqttConnectOptions getConnectOptions() {
         return this.connectOptions;
     }
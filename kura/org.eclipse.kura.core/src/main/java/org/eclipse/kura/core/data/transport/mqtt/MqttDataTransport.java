@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,10 @@
 package org.eclipse.kura.core.data.transport.mqtt;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,6 +37,7 @@ import org.eclipse.kura.crypto.CryptoService;
 import org.eclipse.kura.data.DataTransportService;
 import org.eclipse.kura.data.DataTransportToken;
 import org.eclipse.kura.data.transport.listener.DataTransportListener;
+import org.eclipse.kura.message.store.provider.MessageStoreProvider;
 import org.eclipse.kura.ssl.SslManagerService;
 import org.eclipse.kura.ssl.SslServiceListener;
 import org.eclipse.kura.status.CloudConnectionStatusComponent;
@@ -52,6 +55,9 @@ import org.eclipse.paho.client.mqttv3.MqttMessage;
 import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
 import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
 import org.eclipse.paho.client.mqttv3.persist.MqttDefaultFilePersistence;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -95,6 +101,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
     private static final String CLOUD_ACCOUNT_NAME_PROP_NAME = "topic.context.account-name";
 
     private static final String PERSISTENCE_TYPE_PROP_NAME = "in-flight.persistence";
+    private static final String PERSISTENCE_STORE_PID_PROP_NAME = "in-flight.persistence.store.pid";
 
     private static final String TOPIC_ACCOUNT_NAME_CTX_NAME = "account-name";
     private static final String TOPIC_DEVICE_ID_CTX_NAME = "client-id";
@@ -117,7 +124,10 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
     private String sessionId;
 
     private PersistenceType persistenceType;
+    private String persistenceStorePid;
     private MqttClientPersistence persistence;
+    private ServiceReference<MessageStoreProvider> persistenceStoreReference;
+    private BundleContext bundleContext;
 
     private final Map<String, String> topicContext = new HashMap<>();
     private final Map<String, Object> properties = new HashMap<>();
@@ -218,6 +228,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             }
 
             this.dataTransportListeners = new DataTransportListenerS(componentContext);
+            this.bundleContext = componentContext.getBundleContext();
 
             // Do nothing waiting for the connect request from the upper layer.
         }
@@ -236,6 +247,12 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         if (isConnected()) {
             disconnect(0);
         }
+
+        synchronized (this.updateLock) {
+            if (this.persistenceStoreReference != null) {
+                closePersistence();
+            }
+        }
     }
 
     public void updated(Map<String, Object> properties) {
@@ -839,12 +856,20 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             localPersistenceType = PersistenceType.FILE;
         } else if ("memory".equals(sType)) {
             localPersistenceType = PersistenceType.MEMORY;
+        } else if ("store".equals(sType)) {
+            localPersistenceType = PersistenceType.STORE;
         } else {
             throw new IllegalStateException(
                     "Invalid MQTT client configuration: persistenceType: " + localPersistenceType);
         }
 
-        clientConfiguration = new MqttClientConfiguration(brokerUrl, clientId, localPersistenceType, conOpt);
+        String persistenceStorePid = (String) properties.get(PERSISTENCE_STORE_PID_PROP_NAME);
+        if (localPersistenceType == PersistenceType.STORE) {
+            ValidationUtil.notEmptyOrNull(persistenceStorePid, PERSISTENCE_STORE_PID_PROP_NAME);
+        }
+
+        clientConfiguration = new MqttClientConfiguration(brokerUrl, clientId, localPersistenceType,
+                persistenceStorePid, conOpt);
 
         return clientConfiguration;
     }
@@ -898,7 +923,8 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
 
         // We need to construct a new client instance only if either the broker URL
         // or the client ID changes.
-        // We also need to construct a new instance if the persistence type (file or memory) changes.
+        // We also need to construct a new instance if the persistence type (file, memory or store) or the message
+        // store used for persistence changes.
         // We MUST avoid to construct a new client instance every time because
         // in that case the MQTT message ID is reset to 1.
         if (this.mqttClient != null) {
@@ -906,7 +932,8 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             String clientId = this.mqttClient.getClientId();
 
             if (!(brokerUrl.equals(this.clientConf.getBrokerUrl()) && clientId.equals(this.clientConf.getClientId())
-                    && this.persistenceType == this.clientConf.getPersistenceType())) {
+                    && this.persistenceType == this.clientConf.getPersistenceType()
+                    && Objects.equals(this.persistenceStorePid, this.clientConf.getPersistenceStorePid()))) {
                 closeMqttClient();
             }
         }
@@ -965,7 +992,15 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             PersistenceType newPersistenceType = this.clientConf.getPersistenceType();
             if (newPersistenceType == PersistenceType.MEMORY) {
                 logger.info("Using memory persistence for in-flight messages");
+
+                closePersistence();
                 this.persistence = new MemoryPersistence();
+            } else if (newPersistenceType == PersistenceType.STORE) {
+                logger.info("Using message store persistence for in-flight messages: {}",
+                        this.clientConf.getPersistenceStorePid());
+
+                closePersistence();
+                this.persistence = createMessageStorePersistence(this.clientConf.getPersistenceStorePid());
             } else {
                 StringBuffer sb = new StringBuffer();
                 sb.append(this.systemService.getKuraDataDirectory()).append(this.systemService.getFileSeparator())
@@ -979,13 +1014,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
                 // Make sure persistence is closed.
                 // This is needed if the previous connect attempt was
                 // forcibly terminated by closing the client.
-                if (this.persistence != null) {
-                    try {
-                        this.persistence.close();
-                    } catch (MqttPersistenceException e) {
-                        logger.warn("Failed to close persistence. Ignoring exception.", e);
-                    }
-                }
+                closePersistence();
                 this.persistence = new MqttDefaultFilePersistence(dir);
             }
 
@@ -1003,6 +1032,7 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
             }
 
             this.persistenceType = newPersistenceType;
+            this.persistenceStorePid = this.clientConf.getPersistenceStorePid();
 
             if (!this.clientConf.getConnectOptions().isCleanSession()) {
                 // This is tricky.
@@ -1030,6 +1060,47 @@ public class MqttDataTransport implements DataTransportService, MqttCallback, Co
         this.sessionId = generateSessionId();
     }
 
+    private MqttClientPersistence createMessageStorePersistence(final String storePid) {
+        final Collection<ServiceReference<MessageStoreProvider>> references;
+
+        try {
+            references = this.bundleContext.getServiceReferences(MessageStoreProvider.class,
+                    "(" + ConfigurationService.KURA_SERVICE_PID + "=" + storePid + ")");
+        } catch (InvalidSyntaxException e) {
+            throw new IllegalStateException("Invalid message store pid: " + storePid, e);
+        }
+
+        if (references.isEmpty()) {
+            throw new IllegalStateException("Message store provider not available: " + storePid);
+        }
+
+        final ServiceReference<MessageStoreProvider> reference = references.iterator().next();
+        final MessageStoreProvider messageStoreProvider = this.bundleContext.getService(reference);
+
+        if (messageStoreProvider == null) {
+            throw new IllegalStateException("Message store provider not available: " + storePid);
+        }
+
+        this.persistenceStoreReference = reference;
+
+        return new MessageStorePersistence(messageStoreProvider);
+    }
+
+    private void closePersistence() {
+        if (this.persistence != null) {
+            try {
+                this.persistence.close();
+            } catch (MqttPersistenceException e) {
+                logger.warn("Failed to close persistence. Ignoring exception.", e);
+            }
+        }
+
+        if (this.persistenceStoreReference != null) {
+            this.bundleContext.ungetService(this.persistenceStoreReference);
+            this.persistenceStoreReference = null;
+        }
+    }
+
     private void closeMqttClient() {
 
         if (this.mqttClient == null) {
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.kura.data.DataTransportToken;
+
+/**
+ * Adapts the in-flight window and the publish rate of the messages that require a confirmation to the latency
+ * measured between the publish and the confirmation of each message.
+ * <p>
+ * The window grows by one message per confirmation until the first congestion (slow start), then by one message
+ * per window of confirmations. When the smoothed confirmation latency exceeds the minimum observed latency by the
+ * configured threshold, or when a congestion is reported, the window is halved, at most once per round trip.
+ * The minimum latency is measured over a sliding interval, so that a lasting increase of the network latency
+ * becomes the new baseline instead of being treated as a congestion forever.
+ * The publish rate is paced to spread a window of messages over the smoothed latency.
+ */
+public class AdaptivePublishController {
+
+    private static final double LATENCY_SMOOTHING_FACTOR = 0.125;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final long MIN_LATENCY_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+
+    private final int maxWindow;
+    private final double latencyThreshold;
+    private final LongSupplier nanoTime;
+
+    private final Map<DataTransportToken, Long> publishTimes;
+
+    private double window;
+    private double slowStartThreshold;
+    private long smoothedLatency;
+    private long minLatency;
+    private long minLatencyTime;
+    private long lastPublishTime;
+    private long lastDecreaseTime;
+    private long decreaseCount;
+
+    /**
+     * @param maxWindow
+     *            the maximum number of in-flight messages
+     * @param latencyThreshold
+     *            the ratio between the smoothed and the minimum confirmation latency that is considered a congestion
+     */
+    public AdaptivePublishController(int maxWindow, double latencyThreshold) {
+        this(maxWindow, latencyThreshold, System::nanoTime);
+    }
+
+    AdaptivePublishController(int maxWindow, double latencyThreshold, LongSupplier nanoTime) {
+        this.maxWindow = Math.max(1, maxWindow);
+        this.latencyThreshold = Math.max(1, latencyThreshold);
+        this.nanoTime = nanoTime;
+        // no more than maxWindow messages can be in-flight, older entries belong to messages that will never be
+        // confirmed
+        this.publishTimes = new LinkedHashMap<DataTransportToken, Long>() {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<DataTransportToken, Long> eldest) {
+                return size() > AdaptivePublishController.this.maxWindow;
+            }
+        };
+        reset();
+    }
+
+    /**
+     * Restarts from the minimum window, forgetting the messages published and the latency measured so far.
+     */
+    public synchronized void reset() {
+        this.publishTimes.clear();
+        this.window = 1;
+        this.slowStartThreshold = this.maxWindow;
+        this.smoothedLatency = -1;
+        this.minLatency = -1;
+    }
+
+    /**
+     * Forgets the messages published so far, since their confirmations will not be received after a disconnection.
+     */
+    public synchronized void onDisconnected() {
+        this.publishTimes.clear();
+    }
+
+    public synchronized void onMessagePublished(DataTransportToken token) {
+        final long now = this.nanoTime.getAsLong();
+        this.publishTimes.put(token, now);
+        this.lastPublishTime = now;
+    }
+
+    public synchronized void onMessageConfirmed(DataTransportToken token) {
+        final Long publishTime = this.publishTimes.remove(token);
+        if (publishTime == null) {
+            return;
+        }
+
+        final long now = this.nanoTime.getAsLong();
+        final long latency = now - publishTime;
+
+        if (this.smoothedLatency < 0) {
+            this.smoothedLatency = latency;
+        } else {
+            this.smoothedLatency += (long) ((latency - this.smoothedLatency) * LATENCY_SMOOTHING_FACTOR);
+        }
+
+        if (this.minLatency < 0 || latency <= this.minLatency || now - this.minLatencyTime > MIN_LATENCY_INTERVAL) {
+            this.minLatency = latency;
+            this.minLatencyTime = now;
+        }
+
+        if (this.smoothedLatency > this.minLatency * this.latencyThreshold) {
+            decrease(now);
+        } else if (this.window < this.slowStartThreshold) {
+            this.window = Math.min(this.maxWindow, this.window + 1);
+        } else {
+            this.window = Math.min(this.maxWindow, this.window + 1 / this.window);
+        }
+    }
+
+    /**
+     * Reports a congestion not detected from the confirmation latency, like a confirmation that does not arrive in
+     * time.
+     */
+    public synchronized void onCongestion() {
+        decrease(this.nanoTime.getAsLong());
+    }
+
+    private void decrease(long now) {
+        if (this.decreaseCount > 0 && now - this.lastDecreaseTime < Math.max(0, this.smoothedLatency)) {
+            return;
+        }
+
+        this.window = Math.max(1, this.window * DECREASE_FACTOR);
+        this.slowStartThreshold = this.window;
+        this.lastDecreaseTime = now;
+        this.decreaseCount++;
+    }
+
+    /**
+     * @return the current number of messages that can be in-flight
+     */
+    public synchronized int getWindow() {
+        return (int) this.window;
+    }
+
+    /**
+     * @return the time in nanoseconds to wait before publishing the next message, 0 if it can be published now
+     */
+    public synchronized long getPublishWaitTime() {
+        if (this.smoothedLatency < 0) {
+            return 0;
+        }
+
+        final long publishPeriod = (long) (this.smoothedLatency / this.window);
+        return Math.max(0, this.lastPublishTime + publishPeriod - this.nanoTime.getAsLong());
+    }
+
+    /**
+     * @return the current publish rate in messages per second, 0 if no latency has been measured yet
+     */
+    public synchronized double getPublishRate() {
+        if (this.smoothedLatency <= 0) {
+            return 0;
+        }
+        return this.window * 1_000_000_000d / this.smoothedLatency;
+    }
+
+    /**
+     * @return the smoothed confirmation latency in milliseconds, -1 if no latency has been measured yet
+     */
+    public synchronized long getSmoothedLatency() {
+        return this.smoothedLatency < 0 ? -1 : this.smoothedLatency / 1_000_000;
+    }
+
+    /**
+     * @return the minimum confirmation latency in milliseconds, -1 if no latency has been measured yet
+     */
+    public synchronized long getMinLatency() {
+        return this.minLatency < 0 ? -1 : this.minLatency / 1_000_000;
+    }
+
+    /**
+     * @return the number of times the window has been decreased
+     */
+    public synchronized long getDecreaseCount() {
+        return this.decreaseCount;
+    }
+}
@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.kura.message.store.StoredMessage;
+
+/**
+ * A range of message priorities that is fetched from the store with its own query and that can publish up to
+ * {@code weight} messages in each round of the publisher, so that a backlog of messages in a lane does not delay the
+ * messages of the other lanes.
+ * <p>
+ * Lanes are described by a comma separated list of {@code <min>-<max>:<weight>} entries, where {@code <max>} can be
+ * omitted in the last entry to include all the priorities starting from {@code <min>}. For example
+ * {@code 0-1:8,2-4:4,5-:1}. The lanes must cover all the priorities starting from 0, without gaps or overlaps.
+ * <p>
+ * The number of unpublished and in-flight messages of the lane is counted on the store once, with
+ * {@link #setMessageCounts(long, long)}, and then kept up to date as messages are stored, published and confirmed.
+ */
+public class PublisherLane {
+
+    private static final long RATE_WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    private final int minPriority;
+    private final int maxPriority;
+    private final int weight;
+    private final LongSupplier nanoTime;
+
+    private Optional<Date> headCreatedOn = Optional.empty();
+    private long publishedCount;
+    private long rateWindowStart;
+    private long rateWindowCount;
+    private double publishRate;
+    private long queuedCount = -1;
+    private long inFlightCount = -1;
+
+    public PublisherLane(int minPriority, int maxPriority, int weight) {
+        this(minPriority, maxPriority, weight, System::nanoTime);
+    }
+
+    PublisherLane(int minPriority, int maxPriority, int weight, LongSupplier nanoTime) {
+        if (minPriority < 0 || maxPriority < minPriority || weight <= 0) {
+            throw new IllegalArgumentException(
+                    "Invalid publisher lane: " + minPriority + "-" + maxPriority + ":" + weight);
+        }
+
+        this.minPriority = minPriority;
+        this.maxPriority = maxPriority;
+        this.weight = weight;
+        this.nanoTime = nanoTime;
+        this.rateWindowStart = nanoTime.getAsLong();
+    }
+
+    /**
+     * Parses a lane list.
+     *
+     * @throws IllegalArgumentException
+     *             if the list is malformed or if the lanes do not cover all the priorities
+     */
+    public static List<PublisherLane> parse(final String lanes) {
+        final List<PublisherLane> result = new ArrayList<>();
+
+        for (final String entry : lanes.split(",")) {
+            final String[] rangeAndWeight = entry.trim().split(":");
+            if (rangeAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid publisher lane: " + entry);
+            }
+
+            final String range = rangeAndWeight[0].trim();
+            final int separator = range.indexOf('-');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid publisher lane: " + entry);
+            }
+
+            final String max = range.substring(separator + 1).trim();
+
+            result.add(new PublisherLane(Integer.parseInt(range.substring(0, separator).trim()),
+                    max.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(max),
+                    Integer.parseInt(rangeAndWeight[1].trim())));
+        }
+
+        result.sort(Comparator.comparingInt(PublisherLane::getMinPriority));
+
+        long nextPriority = 0;
+        for (final PublisherLane lane : result) {
+            if (lane.minPriority != nextPriority) {
+                throw new IllegalArgumentException("Publisher lanes must cover all priorities without overlaps");
+            }
+            nextPriority = (long) lane.maxPriority + 1;
+        }
+
+        if (nextPriority <= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The last publisher lane must include all the remaining priorities");
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+    public int getMinPriority() {
+        return this.minPriority;
+    }
+
+    public int getMaxPriority() {
+        return this.maxPriority;
+    }
+
+    /**
+     * @return the maximum number of messages fetched and published from this lane in each round
+     */
+    public int getWeight() {
+        return this.weight;
+    }
+
+    /**
+     * Records the messages fetched from the store for this lane, in publishing order.
+     */
+    public synchronized void onMessagesFetched(final List<StoredMessage> messages) {
+        this.headCreatedOn = messages.isEmpty() ? Optional.empty() : messages.get(0).getCreatedOn();
+    }
+
+    /**
+     * Records the messages of this lane that have been published, in publishing order.
+     */
+    public synchronized void onMessagesPublished(final List<StoredMessage> messages) {
+        updateRate();
+        this.publishedCount += messages.size();
+        this.rateWindowCount += messages.size();
+
+        if (this.queuedCount >= 0) {
+            this.queuedCount = Math.max(0, this.queuedCount - messages.size());
+        }
+        if (this.inFlightCount >= 0) {
+            this.inFlightCount += messages.stream().filter(message -> message.getQos() > 0).count();
+        }
+    }
+
+    public synchronized void onMessageStored() {
+        if (this.queuedCount >= 0) {
+            this.queuedCount++;
+        }
+    }
+
+    public synchronized void onMessageConfirmed() {
+        if (this.inFlightCount > 0) {
+            this.inFlightCount--;
+        }
+    }
+
+    public synchronized void onInFlightMessagesUnpublished() {
+        if (this.queuedCount >= 0 && this.inFlightCount >= 0) {
+            this.queuedCount += this.inFlightCount;
+        } else {
+            this.queuedCount = -1;
+        }
+        this.inFlightCount = 0;
+    }
+
+    public synchronized void onInFlightMessagesDropped() {
+        this.inFlightCount = 0;
+    }
+
+    public synchronized void setMessageCounts(final long queuedCount, final long inFlightCount) {
+        this.queuedCount = queuedCount;
+        this.inFlightCount = inFlightCount;
+    }
+
+    /**
+     * @return the number of messages of this lane waiting to be published, -1 if not counted yet
+     */
+    public synchronized long getQueuedCount() {
+        return this.queuedCount;
+    }
+
+    /**
+     * @return the number of messages of this lane published and waiting for a confirmation, -1 if not counted yet
+     */
+    public synchronized long getInFlightCount() {
+        return this.inFlightCount;
+    }
+
+    public boolean includes(final int priority) {
+        return priority >= this.minPriority && priority <= this.maxPriority;
+    }
+
+    /**
+     * @return the age in milliseconds of the first message waiting in this lane at the last fetch, -1 if the lane was
+     *         empty
+     */
+    public synchronized long getHeadOfLineAge() {
+        return this.headCreatedOn.map(createdOn -> Math.max(0, System.currentTimeMillis() - createdOn.getTime()))
+                .orElse(-1L);
+    }
+
+    /**
+     * @return the number of messages published per second, measured over the last completed window of 10 seconds
+     */
+    public synchronized double getPublishRate() {
+        updateRate();
+        return this.publishRate;
+    }
+
+    public synchronized long getPublishedCount() {
+        return this.publishedCount;
+    }
+
+    private void updateRate() {
+        final long now = this.nanoTime.getAsLong();
+        final long elapsed = now - this.rateWindowStart;
+
+        if (elapsed >= RATE_WINDOW) {
+            this.publishRate = this.rateWindowCount * 1_000_000_000d / elapsed;
+            this.rateWindowCount = 0;
+            this.rateWindowStart = now;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.minPriority + "-" + (this.maxPriority == Integer.MAX_VALUE ? "" : this.maxPriority) + ":"
+                + this.weight;
+    }
+}
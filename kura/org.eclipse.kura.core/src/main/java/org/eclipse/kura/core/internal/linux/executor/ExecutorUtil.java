@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2019, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,11 @@ public class ExecutorUtil {
     }
 
     public boolean isRunning(Pid pid) {
+        final ProcessTable processTable = getProcessTable();
+        if (processTable.isAvailable()) {
+            return processTable.isRunning(pid.getPid());
+        }
+
         boolean isRunning = false;
         String pidString = ((Integer) pid.getPid()).toString();
         String psCommand = "ps -p " + pidString;
@@ -169,6 +174,11 @@ public class ExecutorUtil {
     }
 
     public Map<String, Pid> getPids(String[] commandLine) {
+        final ProcessTable processTable = getProcessTable();
+        if (processTable.isAvailable()) {
+            return parsePids(processTable.getProcesses(), commandLine);
+        }
+
         Map<String, Pid> pids = new HashMap<>();
         CommandLine psCommandLine = new CommandLine("ps");
         psCommandLine.addArgument("-ax");
@@ -220,6 +230,20 @@ public class ExecutorUtil {
                 pids.put(line, Integer.parseInt(pid));
             }
         }
+        return sortPids(pids);
+    }
+
+    private Map<String, Pid> parsePids(List<ProcessTable.ProcessInfo> processes, String[] commandLine) {
+        Map<String, Integer> pids = new HashMap<>();
+        for (ProcessTable.ProcessInfo process : processes) {
+            if (checkLine(process.getCommandLine(), commandLine)) {
+                pids.put(process.getCommandLine(), process.getPid());
+            }
+        }
+        return sortPids(pids);
+    }
+
+    private Map<String, Pid> sortPids(Map<String, Integer> pids) {
         // Sort pids in reverse order (useful when stop processes...)
         return pids.entrySet().stream().sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> new LinuxPid(e.getValue()), (e1, e2) -> e1,
@@ -259,6 +283,8 @@ public class ExecutorUtil {
             stopStreamHandler(executor);
             commandStatus.setExitStatus(new LinuxExitStatus(exitStatus));
             commandStatus.setTimedout(executor.getWatchdog().killedProcess());
+            // the command may have started or stopped other processes
+            getProcessTable().invalidate();
         }
 
         return commandStatus;
@@ -299,6 +325,10 @@ public class ExecutorUtil {
         return new DefaultExecutor();
     }
 
+    protected ProcessTable getProcessTable() {
+        return ProcessTable.getDefault();
+    }
+
     private void executeAsync(Command command, CommandLine commandLine, Consumer<CommandStatus> callback) {
         CommandStatus commandStatus = new CommandStatus(command, new LinuxExitStatus(0));
         commandStatus.setOutputStream(command.getOutputStream());
@@ -324,6 +354,9 @@ public class ExecutorUtil {
             stopStreamHandler(executor);
             commandStatus.setExitStatus(new LinuxExitStatus(1));
             logger.error(COMMAND_MESSAGE + commandLine + " failed", e);
+        } finally {
+            // the cached process list does not include the started process
+            getProcessTable().invalidate();
         }
     }
 
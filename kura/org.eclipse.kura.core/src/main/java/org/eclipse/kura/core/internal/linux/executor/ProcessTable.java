@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.linux.executor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads the process table from procfs, without forking a {@code ps} process.
+ * <p>
+ * The list of processes is scanned from {@code /proc/<pid>/cmdline} and {@code /proc/<pid>/stat} and is cached for
+ * a short time, so that callers that check the same processes in a loop share a single scan. Checking if a single
+ * process exists only requires a lookup of the {@code /proc/<pid>} directory and does not use the cache.
+ */
+public class ProcessTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessTable.class);
+
+    private static final Path DEFAULT_PROC_ROOT = Paths.get("/proc");
+    private static final long DEFAULT_SNAPSHOT_TTL = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private static final ProcessTable DEFAULT_INSTANCE = new ProcessTable(DEFAULT_PROC_ROOT, DEFAULT_SNAPSHOT_TTL,
+            System::nanoTime);
+
+    private final Path procRoot;
+    private final long snapshotTtl;
+    private final LongSupplier nanoTime;
+    private final boolean available;
+
+    private List<ProcessInfo> snapshot;
+    private long snapshotTime;
+
+    ProcessTable(final Path procRoot, final long snapshotTtl, final LongSupplier nanoTime) {
+        this.procRoot = procRoot;
+        this.snapshotTtl = snapshotTtl;
+        this.nanoTime = nanoTime;
+        this.available = Files.isDirectory(procRoot);
+    }
+
+    /**
+     * @return the process table of the host, shared by all the callers
+     */
+    public static ProcessTable getDefault() {
+        return DEFAULT_INSTANCE;
+    }
+
+    /**
+     * @return {@code true} if procfs is mounted and can be used to read the process table
+     */
+    public boolean isAvailable() {
+        return this.available;
+    }
+
+    public boolean isRunning(final int pid) {
+        return pid > 0 && Files.isDirectory(this.procRoot.resolve(Integer.toString(pid)));
+    }
+
+    /**
+     * Returns the processes running on the host. The returned list can be up to 250 milliseconds old.
+     */
+    public synchronized List<ProcessInfo> getProcesses() {
+        final long now = this.nanoTime.getAsLong();
+
+        if (this.snapshot == null || now - this.snapshotTime >= this.snapshotTtl) {
+            this.snapshot = Collections.unmodifiableList(scan());
+            this.snapshotTime = now;
+        }
+
+        return this.snapshot;
+    }
+
+    /**
+     * Discards the cached process list, for example after a process has been started or killed.
+     */
+    public synchronized void invalidate() {
+        this.snapshot = null;
+    }
+
+    private List<ProcessInfo> scan() {
+        final List<ProcessInfo> processes = new ArrayList<>();
+
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.procRoot)) {
+            for (final Path entry : entries) {
+                final Optional<Integer> pid = parsePid(entry.getFileName().toString());
+
+                if (pid.isPresent()) {
+                    readProcess(entry, pid.get()).ifPresent(processes::add);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read the process table from {}", this.procRoot, e);
+        }
+
+        // same order as ps
+        processes.sort(Comparator.comparingInt(ProcessInfo::getPid));
+
+        return processes;
+    }
+
+    private static Optional<ProcessInfo> readProcess(final Path processDir, final int pid) {
+        try {
+            final String stat = new String(Files.readAllBytes(processDir.resolve("stat")), UTF_8);
+            final int commStart = stat.indexOf('(');
+            final int commEnd = stat.lastIndexOf(')');
+
+            if (commStart < 0 || commEnd < commStart) {
+                return Optional.empty();
+            }
+
+            final String comm = stat.substring(commStart + 1, commEnd);
+            final char state = commEnd + 2 < stat.length() ? stat.charAt(commEnd + 2) : '?';
+
+            String commandLine = parseCommandLine(Files.readAllBytes(processDir.resolve("cmdline")));
+            if (commandLine.isEmpty()) {
+                // kernel threads and zombies have no command line, ps shows the command name instead
+                commandLine = "[" + comm + "]";
+            }
+
+            return Optional.of(new ProcessInfo(pid, commandLine, state));
+        } catch (IOException e) {
+            // the process terminated while scanning
+            logger.trace("Failed to read process {}", pid, e);
+            return Optional.empty();
+        }
+    }
+
+    private static String parseCommandLine(final byte[] cmdline) {
+        int length = cmdline.length;
+        while (length > 0 && cmdline[length - 1] == 0) {
+            length--;
+        }
+
+        final byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = cmdline[i] == 0 ? (byte) ' ' : cmdline[i];
+        }
+
+        return new String(result, UTF_8);
+    }
+
+    private static Optional<Integer> parsePid(final String name) {
+        if (name.isEmpty() || name.length() > 10) {
+            return Optional.empty();
+        }
+
+        for (int i = 0; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return Optional.empty();
+            }
+        }
+
+        try {
+            return Optional.of(Integer.parseInt(name));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static final class ProcessInfo {
+
+        private final int pid;
+        private final String commandLine;
+        private final char state;
+
+        ProcessInfo(final int pid, final String commandLine, final char state) {
+            this.pid = pid;
+            this.commandLine = commandLine;
+            this.state = state;
+        }
+
+        public int getPid() {
+            return this.pid;
+        }
+
+        /**
+         * @return the command line arguments separated by spaces, as shown by {@code ps}
+         */
+        public String getCommandLine() {
+            return this.commandLine;
+        }
+
+        /**
+         * @return the process state as reported by {@code /proc/<pid>/stat}, for example {@code R}, {@code S} or
+         *         {@code Z}
+         */
+        public char getState() {
+            return this.state;
+        }
+    }
+}
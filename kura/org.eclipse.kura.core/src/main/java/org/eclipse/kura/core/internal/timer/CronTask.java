@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.timer;
+
+import java.util.Date;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.quartz.CronExpression;
+
+/**
+ * A task run at the fire times of a cron expression. The fire times are wall clock times, converted to a deadline of
+ * the monotonic clock of the wheel when each tick is scheduled, and are computed again when the system time changes.
+ */
+class CronTask extends PeriodicTask {
+
+    private final CronExpression expression;
+
+    CronTask(final TimerServiceImpl service, final Runnable task, final CronExpression expression) {
+        super(service, task);
+        this.expression = expression;
+    }
+
+    @Override
+    OptionalLong getFirstDeadline() {
+        return getNextFireDeadline();
+    }
+
+    @Override
+    OptionalLong getNextDeadline(final long previousDeadline) {
+        return getNextFireDeadline();
+    }
+
+    @Override
+    void onClockChanged() {
+        reschedule(getNextFireDeadline());
+    }
+
+    private OptionalLong getNextFireDeadline() {
+        final long nanoTime = System.nanoTime();
+        final long now = System.currentTimeMillis();
+        final Date nextFireTime = this.expression.getNextValidTimeAfter(new Date(now));
+
+        if (nextFireTime == null) {
+            return OptionalLong.empty();
+        }
+
+        return OptionalLong.of(nanoTime + TimeUnit.MILLISECONDS.toNanos(nextFireTime.getTime() - now));
+    }
+}
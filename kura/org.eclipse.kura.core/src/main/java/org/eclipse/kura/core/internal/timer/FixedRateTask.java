@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.timer;
+
+import java.util.OptionalLong;
+
+/**
+ * A task run at a fixed rate. The deadlines are computed from the first deadline, so that the delays of the timer do
+ * not accumulate. If the timer is late by more than a period, the ticks that have already elapsed are skipped.
+ */
+class FixedRateTask extends PeriodicTask {
+
+    private final long firstDeadline;
+    private final long period;
+
+    FixedRateTask(final TimerServiceImpl service, final Runnable task, final long firstDeadline, final long period) {
+        super(service, task);
+        this.firstDeadline = firstDeadline;
+        this.period = period;
+    }
+
+    @Override
+    OptionalLong getFirstDeadline() {
+        return OptionalLong.of(this.firstDeadline);
+    }
+
+    @Override
+    OptionalLong getNextDeadline(final long previousDeadline) {
+        long nextDeadline = previousDeadline + this.period;
+        final long now = System.nanoTime();
+
+        if (nextDeadline - now <= 0) {
+            final long skipped = (now - nextDeadline) / this.period + 1;
+            addMissedTicks(skipped);
+            nextDeadline += skipped * this.period;
+        }
+
+        return OptionalLong.of(nextDeadline);
+    }
+}
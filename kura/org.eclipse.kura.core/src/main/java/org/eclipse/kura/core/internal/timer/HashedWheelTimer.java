@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.timer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer based on a hashed timing wheel, that runs an unbounded number of timeouts on a single thread.
+ * <p>
+ * The wheel is an array of buckets, each one covering a tick. A timeout is stored in the bucket of the tick of its
+ * deadline together with the number of wheel rounds that must elapse before it expires, so that adding and
+ * cancelling timeouts takes constant time. The timeouts expire with a precision of one tick.
+ * <p>
+ * The expired timeouts are run on the timer thread and must return quickly. The timer thread is started with the
+ * first timeout and waits without ticking while there are no timeouts.
+ */
+final class HashedWheelTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    private final long tickDuration;
+    private final List<List<Timeout>> wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Object lock = new Object();
+    private final Thread workerThread;
+    private final long startTime;
+
+    private volatile boolean started;
+    private volatile boolean stopped;
+
+    // accessed only by the worker thread
+    private long tick;
+    private int activeTimeouts;
+
+    HashedWheelTimer(final String name, final long tickDuration, final TimeUnit unit, final int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tick duration must be greater than zero");
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("wheel size must be greater than zero");
+        }
+
+        this.tickDuration = unit.toNanos(tickDuration);
+
+        // rounded up to a power of two, so that the bucket of a tick can be computed with a mask
+        final int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.wheel = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            this.wheel.add(new ArrayList<>());
+        }
+        this.mask = this.wheel.size() - 1;
+
+        this.startTime = System.nanoTime();
+        this.workerThread = new Thread(this::work, name);
+        this.workerThread.setDaemon(true);
+    }
+
+    int getWheelSize() {
+        return this.wheel.size();
+    }
+
+    /**
+     * Schedules a task to be run by the timer thread.
+     *
+     * @param task
+     *            the task to run
+     * @param deadline
+     *            the time when the task should run, as returned by {@link System#nanoTime()}
+     * @return the timeout, that can be used to cancel the task
+     */
+    Timeout newTimeout(final Runnable task, final long deadline) {
+        if (this.stopped) {
+            throw new IllegalStateException("The timer has been stopped");
+        }
+
+        final Timeout timeout = new Timeout(task, deadline);
+        this.pendingTimeouts.add(timeout);
+
+        synchronized (this.lock) {
+            if (!this.started) {
+                this.started = true;
+                this.workerThread.start();
+            }
+            this.lock.notifyAll();
+        }
+
+        return timeout;
+    }
+
+    void stop() {
+        synchronized (this.lock) {
+            this.stopped = true;
+            this.lock.notifyAll();
+        }
+
+        if (this.started && Thread.currentThread() != this.workerThread) {
+            this.workerThread.interrupt();
+            try {
+                this.workerThread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void work() {
+        this.tick = currentTick();
+
+        while (!this.stopped) {
+            transferPendingTimeouts();
+
+            if (this.activeTimeouts == 0 && !waitForTimeouts()) {
+                return;
+            }
+
+            if (!waitForNextTick()) {
+                return;
+            }
+
+            transferPendingTimeouts();
+            expireTimeouts(this.wheel.get((int) (this.tick & this.mask)));
+            this.tick++;
+        }
+    }
+
+    private boolean waitForTimeouts() {
+        synchronized (this.lock) {
+            while (this.pendingTimeouts.isEmpty() && !this.stopped) {
+                try {
+                    this.lock.wait();
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            }
+        }
+
+        // the wheel has been idle, skip the ticks elapsed in the meantime since all the buckets are empty
+        this.tick = Math.max(this.tick, currentTick());
+        transferPendingTimeouts();
+
+        return !this.stopped;
+    }
+
+    private boolean waitForNextTick() {
+        final long deadline = this.startTime + (this.tick + 1) * this.tickDuration;
+
+        while (true) {
+            final long remaining = deadline - System.nanoTime();
+
+            if (remaining <= 0) {
+                return true;
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                if (this.stopped) {
+                    return false;
+                }
+            }
+        }
+    }
+
+    private long currentTick() {
+        return (System.nanoTime() - this.startTime) / this.tickDuration;
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+
+        while ((timeout = this.pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+
+            final long deadlineTick = Math.floorDiv(timeout.deadline - this.startTime, this.tickDuration);
+            final long bucketTick = Math.max(deadlineTick, this.tick);
+
+            timeout.remainingRounds = (bucketTick - this.tick) / this.wheel.size();
+            this.wheel.get((int) (bucketTick & this.mask)).add(timeout);
+            this.activeTimeouts++;
+        }
+    }
+
+    private void expireTimeouts(final List<Timeout> bucket) {
+        final Iterator<Timeout> iterator = bucket.iterator();
+
+        while (iterator.hasNext()) {
+            final Timeout timeout = iterator.next();
+
+            if (timeout.isCancelled()) {
+                iterator.remove();
+                this.activeTimeouts--;
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                this.activeTimeouts--;
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        long getDeadline() {
+            return this.deadline;
+        }
+
+        boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        /**
+         * Cancels the timeout, the timeout is removed from the wheel the next time its bucket is visited.
+         */
+        void cancel() {
+            this.cancelled = true;
+        }
+
+        private void expire() {
+            try {
+                this.task.run();
+            } catch (Exception e) {
+                logger.warn("Timer task failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.timer;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.kura.core.internal.timer.HashedWheelTimer.Timeout;
+import org.eclipse.kura.timer.TimerHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A task scheduled by the {@link TimerServiceImpl}. When the timeout of the task expires, the task is submitted to
+ * the worker pool unless the previous run is still queued or running, and the timeout of the next tick is added to
+ * the wheel.
+ */
+abstract class PeriodicTask implements TimerHandle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PeriodicTask.class);
+
+    private final TimerServiceImpl service;
+    private final Runnable task;
+
+    private final AtomicBoolean busy = new AtomicBoolean();
+    private final AtomicBoolean skipping = new AtomicBoolean();
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private final AtomicLong tickCount = new AtomicLong();
+    private final AtomicLong missedTickCount = new AtomicLong();
+    private volatile long lastDrift;
+    private volatile long maxDrift;
+
+    // guarded by this, the generation is incremented each time the timeout is replaced, the expiration of a stale
+    // timeout is ignored
+    private long generation;
+    private long deadline;
+    private Timeout timeout;
+
+    PeriodicTask(final TimerServiceImpl service, final Runnable task) {
+        this.service = service;
+        this.task = task;
+    }
+
+    /**
+     * @return the deadline of the first tick, as returned by {@link System#nanoTime()}, or empty if the task should
+     *         never run
+     */
+    abstract OptionalLong getFirstDeadline();
+
+    /**
+     * @param previousDeadline
+     *            the deadline of the tick that just expired
+     * @return the deadline of the next tick, or empty if the task should not run again
+     */
+    abstract OptionalLong getNextDeadline(long previousDeadline);
+
+    void onClockChanged() {
+        // wall clock time is not used by default
+    }
+
+    final void start() {
+        reschedule(getFirstDeadline());
+    }
+
+    final synchronized void reschedule(final OptionalLong nextDeadline) {
+        if (isCancelled()) {
+            return;
+        }
+
+        if (this.timeout != null) {
+            this.timeout.cancel();
+            this.timeout = null;
+        }
+
+        final long currentGeneration = ++this.generation;
+
+        if (nextDeadline.isPresent()) {
+            this.deadline = nextDeadline.getAsLong();
+            this.timeout = this.service.getWheel().newTimeout(() -> onTimeout(currentGeneration), this.deadline);
+        }
+    }
+
+    final void addMissedTicks(final long count) {
+        this.missedTickCount.addAndGet(count);
+    }
+
+    private void onTimeout(final long timeoutGeneration) {
+        final long expiredDeadline;
+
+        synchronized (this) {
+            if (isCancelled() || timeoutGeneration != this.generation) {
+                return;
+            }
+            expiredDeadline = this.deadline;
+        }
+
+        dispatch(expiredDeadline);
+
+        final OptionalLong nextDeadline = getNextDeadline(expiredDeadline);
+
+        synchronized (this) {
+            if (timeoutGeneration == this.generation) {
+                reschedule(nextDeadline);
+            }
+        }
+    }
+
+    private void dispatch(final long expiredDeadline) {
+        if (!this.busy.compareAndSet(false, true)) {
+            final long missed = this.missedTickCount.incrementAndGet();
+            // logged once for each sequence of skipped ticks
+            if (this.skipping.compareAndSet(false, true)) {
+                logger.warn("Previous run of {} not completed, skipping ticks, {} ticks missed so far", this.task,
+                        missed);
+            } else {
+                logger.debug("Previous run of {} not completed, skipping tick", this.task);
+            }
+            return;
+        }
+
+        if (this.skipping.compareAndSet(true, false)) {
+            logger.info("Ticks of {} resumed, {} ticks missed so far", this.task, this.missedTickCount.get());
+        }
+
+        try {
+            this.service.getWorkers().execute(() -> run(expiredDeadline));
+        } catch (RejectedExecutionException e) {
+            this.busy.set(false);
+            logger.debug("Timer service is shutting down, skipping tick of {}", this.task);
+        }
+    }
+
+    private void run(final long expiredDeadline) {
+        // some tasks rename the thread they run on, the name is restored since the worker threads are shared
+        final String threadName = Thread.currentThread().getName();
+
+        try {
+            if (isCancelled()) {
+                return;
+            }
+
+            final long drift = System.nanoTime() - expiredDeadline;
+
+            // the task does not run concurrently with itself, the drift is only updated by one thread at a time
+            this.lastDrift = drift;
+            if (drift > this.maxDrift) {
+                this.maxDrift = drift;
+            }
+            this.tickCount.incrementAndGet();
+
+            this.task.run();
+        } catch (Exception e) {
+            logger.warn("Timer task {} failed", this.task, e);
+        } finally {
+            Thread.currentThread().setName(threadName);
+            this.busy.set(false);
+        }
+    }
+
+    // ----------------------------------------------------------------
+    //
+    // TimerHandle APIs
+    //
+    // ----------------------------------------------------------------
+
+    @Override
+    public long getTickCount() {
+        return this.tickCount.get();
+    }
+
+    @Override
+    public long getMissedTickCount() {
+        return this.missedTickCount.get();
+    }
+
+    @Override
+    public long getLastDrift(final TimeUnit unit) {
+        return unit.convert(this.lastDrift, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long getMaxDrift(final TimeUnit unit) {
+        return unit.convert(this.maxDrift, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public synchronized long getDelay(final TimeUnit unit) {
+        return unit.convert(this.deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(final Delayed other) {
+        return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Cancels the task. A run that is already in progress is not interrupted and completes normally.
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (isCancelled()) {
+                return false;
+            }
+
+            this.cancelled.countDown();
+            this.generation++;
+
+            if (this.timeout != null) {
+                this.timeout.cancel();
+                this.timeout = null;
+            }
+        }
+
+        this.service.onTaskCancelled(this);
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return this.cancelled.getCount() == 0;
+    }
+
+    @Override
+    public boolean isDone() {
+        return isCancelled();
+    }
+
+    @Override
+    public Void get() throws InterruptedException {
+        this.cancelled.await();
+        throw new CancellationException();
+    }
+
+    @Override
+    public Void get(final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (!this.cancelled.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        throw new CancellationException();
+    }
+}
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.timer;
+
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.clock.ClockEvent;
+import org.eclipse.kura.timer.TimerHandle;
+import org.eclipse.kura.timer.TimerService;
+import org.eclipse.kura.util.configuration.Property;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
+import org.quartz.CronExpression;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link TimerService} implementation that keeps the deadlines of all the tasks in a {@link HashedWheelTimer} and
+ * runs the tasks on a fixed size pool of worker threads.
+ * <p>
+ * Since a task is never queued again while it is queued or running, the work queue of the pool cannot hold more
+ * entries than the number of scheduled tasks.
+ */
+public class TimerServiceImpl implements TimerService, EventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimerServiceImpl.class);
+
+    static final Property<Long> TICK_DURATION = new Property<>("timer.tick.duration.ms", 10L);
+    static final Property<Integer> WHEEL_SIZE = new Property<>("timer.wheel.size", 512);
+    static final Property<Integer> WORKER_THREADS = new Property<>("timer.worker.threads", 4);
+
+    private final Set<PeriodicTask> tasks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private HashedWheelTimer wheel;
+    private ExecutorService workers;
+
+    // ----------------------------------------------------------------
+    //
+    // Activation APIs
+    //
+    // ----------------------------------------------------------------
+
+    protected void activate(final Map<String, Object> properties) {
+        logger.info("activate...");
+
+        final long tickDuration = Math.max(1L, TICK_DURATION.get(properties));
+        final int wheelSize = Math.max(1, WHEEL_SIZE.get(properties));
+        final int workerThreads = Math.max(1, WORKER_THREADS.get(properties));
+
+        this.wheel = new HashedWheelTimer("TimerService", tickDuration, TimeUnit.MILLISECONDS, wheelSize);
+        this.workers = createWorkers(workerThreads);
+
+        logger.info("activate...done, tick duration: {} ms, wheel size: {}, worker threads: {}", tickDuration,
+                this.wheel.getWheelSize(), workerThreads);
+    }
+
+    protected void deactivate() {
+        logger.info("deactivate...");
+
+        for (final PeriodicTask task : this.tasks) {
+            task.cancel(false);
+        }
+
+        this.wheel.stop();
+        this.workers.shutdown();
+
+        try {
+            if (!this.workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                this.workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.workers.shutdownNow();
+        }
+
+        logger.info("deactivate...done");
+    }
+
+    // ----------------------------------------------------------------
+    //
+    // Service APIs
+    //
+    // ----------------------------------------------------------------
+
+    @Override
+    public TimerHandle scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period,
+            final TimeUnit unit) {
+        if (task == null || unit == null) {
+            throw new NullPointerException();
+        }
+        if (period <= 0) {
+            throw new IllegalArgumentException("period must be greater than zero");
+        }
+
+        final FixedRateTask result = new FixedRateTask(this, task, System.nanoTime() + unit.toNanos(initialDelay),
+                unit.toNanos(period));
+        this.tasks.add(result);
+        result.start();
+
+        return result;
+    }
+
+    @Override
+    public TimerHandle scheduleCron(final Runnable task, final String cronExpression) {
+        if (task == null) {
+            throw new NullPointerException();
+        }
+
+        final CronExpression expression;
+        try {
+            expression = new CronExpression(cronExpression);
+        } catch (ParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid cron expression: " + cronExpression, e);
+        }
+
+        final CronTask result = new CronTask(this, task, expression);
+        this.tasks.add(result);
+        result.start();
+
+        return result;
+    }
+
+    @Override
+    public void handleEvent(final Event event) {
+        if (!ClockEvent.CLOCK_EVENT_TOPIC.equals(event.getTopic())) {
+            return;
+        }
+
+        logger.info("System clock changed, rescheduling cron tasks");
+
+        for (final PeriodicTask task : this.tasks) {
+            task.onClockChanged();
+        }
+    }
+
+    // ----------------------------------------------------------------
+    //
+    // Private methods
+    //
+    // ----------------------------------------------------------------
+
+    HashedWheelTimer getWheel() {
+        return this.wheel;
+    }
+
+    ExecutorService getWorkers() {
+        return this.workers;
+    }
+
+    void onTaskCancelled(final PeriodicTask task) {
+        this.tasks.remove(task);
+    }
+
+    int getTaskCount() {
+        return this.tasks.size();
+    }
+
+    private static ExecutorService createWorkers(final int workerThreads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        return new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    final Thread thread = new Thread(r, "TimerServiceWorker-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
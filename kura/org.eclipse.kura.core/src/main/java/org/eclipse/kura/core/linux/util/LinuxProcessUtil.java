@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2021 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,7 @@ import java.util.StringTokenizer;
 import javax.naming.OperationNotSupportedException;
 
 import org.eclipse.kura.KuraException;
+import org.eclipse.kura.core.internal.linux.executor.ProcessTable;
 import org.eclipse.kura.core.util.ProcessUtil;
 import org.eclipse.kura.core.util.SafeProcess;
 import org.eclipse.kura.system.SystemService;
@@ -64,6 +65,8 @@ public class LinuxProcessUtil {
         try {
             logger.info(EXECUTING, command);
             proc = ProcessUtil.exec(command);
+            // the cached process list does not include the started process
+            ProcessTable.getDefault().invalidate();
             if (wait) {
                 waitFor(proc);
 
@@ -112,6 +115,7 @@ public class LinuxProcessUtil {
         SafeProcess proc = null;
         logger.info(EXECUTING, command);
         proc = ProcessUtil.exec(command);
+        ProcessTable.getDefault().invalidate();
 
         try {
             int exitVal = proc.waitFor();
@@ -135,6 +139,7 @@ public class LinuxProcessUtil {
         }
         logger.debug(EXECUTING, cmdBuilder);
         proc = ProcessUtil.exec(command);
+        ProcessTable.getDefault().invalidate();
 
         wairFor(proc, cmdBuilder);
 
@@ -152,6 +157,10 @@ public class LinuxProcessUtil {
             if (command != null && !command.isEmpty()) {
                 logger.trace("searching process list for {}", command);
 
+                if (ProcessTable.getDefault().isAvailable()) {
+                    return getPidFromProcessTable(command, new String[0]);
+                }
+
                 if (isUsingBusyBox()) {
                     proc = ProcessUtil.exec("ps");
                 } else {
@@ -201,6 +210,11 @@ public class LinuxProcessUtil {
         try {
             if (command != null && !command.isEmpty()) {
                 logger.trace("searching process list for {}", command);
+
+                if (ProcessTable.getDefault().isAvailable()) {
+                    return getPidFromProcessTable(command, tokens);
+                }
+
                 if (isUsingBusyBox()) {
                     proc = ProcessUtil.exec("ps");
                 } else {
@@ -298,6 +312,10 @@ public class LinuxProcessUtil {
      *             if an I/O or execution error occurs
      */
     public static boolean isProcessRunning(int pid) throws IOException {
+        if (ProcessTable.getDefault().isAvailable()) {
+            return ProcessTable.getDefault().isRunning(pid);
+        }
+
         boolean isRunning = false;
 
         SafeProcess proc = null;
@@ -454,6 +472,19 @@ public class LinuxProcessUtil {
         return exists;
     }
 
+    private static int getPidFromProcessTable(String command, String[] tokens) {
+        for (ProcessTable.ProcessInfo process : ProcessTable.getDefault().getProcesses()) {
+            final String line = process.getCommandLine();
+
+            if (line.indexOf(command) >= 0 && checkLine(line, tokens)) {
+                logger.trace("found pid {} for command: {}", process.getPid(), command);
+                return process.getPid();
+            }
+        }
+
+        return -1;
+    }
+
     private static int parsePid(String line) {
         StringTokenizer st = new StringTokenizer(line);
         int processID = -1;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,28 @@ package org.eclipse.kura.core.util;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 public class GZipUtil {
 
+    // magic, deflate method, no flags, no mtime, no extra flags, unknown OS
+    private static final byte[] GZIP_HEADER = { (byte) GZIPInputStream.GZIP_MAGIC,
+            (byte) (GZIPInputStream.GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+    private static final int GZIP_TRAILER_LENGTH = 8;
+    private static final int DEFLATE_OVERHEAD = 13;
+    private static final int MIN_GROW_SIZE = 512;
+    private static final int MAX_CACHED_BUFFER_SIZE = 1024 * 1024;
+
+    // the native memory of the deflaters not kept in the pool is released as soon as they are no longer used
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(
+            Runtime.getRuntime().availableProcessors());
+    private static final ThreadLocal<byte[]> BUFFER = new ThreadLocal<>();
+
     private GZipUtil() {
 
     }
@@ -33,14 +50,96 @@ public class GZipUtil {
         }
     }
 
+    /**
+     * Compresses the provided data using the GZIP format.
+     * <br>
+     * The compressed stream is the same as the one produced by {@link java.util.zip.GZIPOutputStream}, but the
+     * {@link Deflater} instances are pooled and the output buffer is reused across invocations performed by the same
+     * thread.
+     *
+     * @param source
+     *            the data to be compressed
+     * @return the compressed data
+     * @throws IOException
+     */
     public static byte[] compress(byte[] source) throws IOException {
+        final Deflater deflater = acquireDeflater();
+        try {
+            return compress(deflater, source);
+        } finally {
+            releaseDeflater(deflater);
+        }
+    }
 
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-            GZIPOutputStream gzipos = new GZIPOutputStream(baos);
-            gzipos.write(source);
-            gzipos.close();
-            return baos.toByteArray();
+    private static byte[] compress(final Deflater deflater, final byte[] source) {
+        final int length = source.length;
+
+        deflater.setInput(source);
+        deflater.finish();
+
+        final CRC32 crc = new CRC32();
+        crc.update(source);
+
+        byte[] buffer = getBuffer(GZIP_HEADER.length + length + (length >> 12) + (length >> 14) + (length >> 25)
+                + DEFLATE_OVERHEAD + GZIP_TRAILER_LENGTH);
+        System.arraycopy(GZIP_HEADER, 0, buffer, 0, GZIP_HEADER.length);
+        int position = GZIP_HEADER.length;
+
+        while (!deflater.finished()) {
+            if (buffer.length - position < GZIP_TRAILER_LENGTH + 1) {
+                buffer = growBuffer(buffer, position);
+            }
+            position += deflater.deflate(buffer, position, buffer.length - position - GZIP_TRAILER_LENGTH);
+        }
+
+        writeIntLE(buffer, position, (int) crc.getValue());
+        writeIntLE(buffer, position + 4, length);
+        position += GZIP_TRAILER_LENGTH;
+
+        final byte[] result = Arrays.copyOf(buffer, position);
+
+        if (buffer.length <= MAX_CACHED_BUFFER_SIZE) {
+            BUFFER.set(buffer);
         }
+
+        return result;
+    }
+
+    private static Deflater acquireDeflater() {
+        final Deflater deflater = DEFLATERS.poll();
+
+        if (deflater != null) {
+            return deflater;
+        }
+        return new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    private static void releaseDeflater(final Deflater deflater) {
+        deflater.reset();
+
+        if (!DEFLATERS.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private static byte[] getBuffer(final int minSize) {
+        final byte[] buffer = BUFFER.get();
+
+        if (buffer != null && buffer.length >= minSize) {
+            return buffer;
+        }
+        return new byte[minSize];
+    }
+
+    private static byte[] growBuffer(final byte[] buffer, final int position) {
+        return Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + MIN_GROW_SIZE));
+    }
+
+    private static void writeIntLE(final byte[] buffer, final int offset, final int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
     }
 
     public static byte[] decompress(byte[] source) throws IOException {
@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * An index of MQTT topic filters that allows to find the filters matching a topic name by visiting only the topic
+ * levels of the name, instead of matching the name against every registered filter.
+ * <p>
+ * Every topic filter is associated with one or more values. The {@code +} and {@code #} wildcards are supported as
+ * defined by the MQTT specification: {@code +} matches exactly one (possibly empty) topic level and {@code #}, that
+ * must be the last level of a filter, matches the parent level and any number of child levels.
+ * </p>
+ * <p>
+ * Updates are serialized, lookups are not blocking and can be performed concurrently with the updates.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the values associated with the topic filters
+ */
+public final class MqttTopicTrie<T> {
+
+    private static final char LEVEL_SEPARATOR = '/';
+    private static final String SINGLE_LEVEL_WILDCARD = "+";
+    private static final String MULTI_LEVEL_WILDCARD = "#";
+
+    private final Node<T> root = new Node<>(null, null);
+
+    /**
+     * Associates a value with a topic filter. Adding a value that is already associated with the filter has no effect.
+     *
+     * @param topicFilter
+     *            the topic filter
+     * @param value
+     *            the value
+     * @throws IllegalArgumentException
+     *             if the topic filter is not valid
+     */
+    public synchronized void add(final String topicFilter, final T value) {
+        MqttTopicUtil.validate(topicFilter, true);
+
+        Node<T> node = this.root;
+
+        for (final String level : splitLevels(topicFilter)) {
+            Node<T> child = node.children.get(level);
+
+            if (child == null) {
+                child = new Node<>(node, level);
+                node.children.put(level, child);
+            }
+
+            node = child;
+        }
+
+        node.addValue(value);
+    }
+
+    /**
+     * Removes the association between a value and a topic filter.
+     *
+     * @param topicFilter
+     *            the topic filter
+     * @param value
+     *            the value
+     * @return {@code true} if the value was associated with the topic filter
+     */
+    public synchronized boolean remove(final String topicFilter, final T value) {
+        Node<T> node = this.root;
+
+        for (final String level : splitLevels(topicFilter)) {
+            node = node.children.get(level);
+
+            if (node == null) {
+                return false;
+            }
+        }
+
+        if (!node.removeValue(value)) {
+            return false;
+        }
+
+        while (node.parent != null && node.isEmpty()) {
+            node.parent.children.remove(node.level);
+            node = node.parent;
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes all the topic filters.
+     */
+    public synchronized void clear() {
+        this.root.children.clear();
+    }
+
+    /**
+     * Returns whether no topic filters are registered.
+     *
+     * @return {@code true} if no topic filters are registered
+     */
+    public boolean isEmpty() {
+        return this.root.isEmpty();
+    }
+
+    /**
+     * Passes to the provided consumer the values associated with all the topic filters that match the given topic
+     * name. A value is reported once for every matching filter it is associated with.
+     *
+     * @param topicName
+     *            the topic name, it must not contain wildcards
+     * @param consumer
+     *            the consumer
+     */
+    public void forEachMatch(final String topicName, final Consumer<? super T> consumer) {
+        if (this.root.children.isEmpty()) {
+            return;
+        }
+
+        final List<String> levels = splitLevels(topicName);
+
+        match(this.root, levels, 0, consumer);
+    }
+
+    /**
+     * Returns the values associated with all the topic filters that match the given topic name.
+     *
+     * @param topicName
+     *            the topic name, it must not contain wildcards
+     * @return the matching values
+     * @see #forEachMatch(String, Consumer)
+     */
+    public List<T> getMatches(final String topicName) {
+        final List<T> result = new ArrayList<>();
+
+        forEachMatch(topicName, result::add);
+
+        return result;
+    }
+
+    private static <T> void match(final Node<T> node, final List<String> levels, final int index,
+            final Consumer<? super T> consumer) {
+
+        final Node<T> multiLevel = node.children.get(MULTI_LEVEL_WILDCARD);
+
+        if (multiLevel != null) {
+            multiLevel.forEachValue(consumer);
+        }
+
+        if (index == levels.size()) {
+            node.forEachValue(consumer);
+            return;
+        }
+
+        final Node<T> singleLevel = node.children.get(SINGLE_LEVEL_WILDCARD);
+
+        if (singleLevel != null) {
+            match(singleLevel, levels, index + 1, consumer);
+        }
+
+        final Node<T> exact = node.children.get(levels.get(index));
+
+        if (exact != null) {
+            match(exact, levels, index + 1, consumer);
+        }
+    }
+
+    private static List<String> splitLevels(final String topic) {
+        final List<String> result = new ArrayList<>();
+
+        int start = 0;
+        int end;
+
+        while ((end = topic.indexOf(LEVEL_SEPARATOR, start)) != -1) {
+            result.add(topic.substring(start, end));
+            start = end + 1;
+        }
+
+        result.add(topic.substring(start));
+
+        return result;
+    }
+
+    private static final class Node<T> {
+
+        private final Node<T> parent;
+        private final String level;
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>(4);
+
+        private volatile List<T> values = Collections.emptyList();
+
+        Node(final Node<T> parent, final String level) {
+            this.parent = parent;
+            this.level = level;
+        }
+
+        void addValue(final T value) {
+            final List<T> current = this.values;
+
+            if (current.contains(value)) {
+                return;
+            }
+
+            final List<T> updated = new ArrayList<>(current.size() + 1);
+            updated.addAll(current);
+            updated.add(value);
+
+            this.values = Collections.unmodifiableList(updated);
+        }
+
+        boolean removeValue(final T value) {
+            final List<T> current = this.values;
+
+            if (!current.contains(value)) {
+                return false;
+            }
+
+            final List<T> updated = new ArrayList<>(current);
+            updated.remove(value);
+
+            this.values = updated.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(updated);
+
+            return true;
+        }
+
+        void forEachValue(final Consumer<? super T> consumer) {
+            for (final T value : this.values) {
+                consumer.accept(value);
+            }
+        }
+
+        boolean isEmpty() {
+            return this.values.isEmpty() && this.children.isEmpty();
+        }
+    }
+}
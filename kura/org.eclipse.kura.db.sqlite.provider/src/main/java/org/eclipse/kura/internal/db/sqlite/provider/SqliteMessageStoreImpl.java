@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,7 +12,11 @@
  *******************************************************************************/
 package org.eclipse.kura.internal.db.sqlite.provider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
 import org.eclipse.kura.util.message.store.AbstractJdbcMessageStoreImpl;
 import org.eclipse.kura.util.message.store.JdbcMessageStoreQueries;
@@ -63,10 +67,22 @@ public class SqliteMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
                         + escapedTableName + " AS a JOIN (SELECT id, publishedOn FROM " + super.escapedTableName
                         + " ORDER BY publishedOn ASC NULLS FIRST, priority ASC, createdOn ASC LIMIT 1) AS b "
                         + "WHERE a.id = b.id AND b.publishedOn IS NULL;")
+                .withSqlGetNextMessages("SELECT id, topic, qos, retain, createdOn, publishedOn, publishedMessageId, "
+                        + "confirmedOn, payload, priority, sessionId, droppedOn FROM " + super.escapedTableName
+                        + " WHERE publishedOn IS NULL ORDER BY priority ASC, createdOn ASC LIMIT ?;")
+                .withSqlGetNextMessagesInPriorityRange("SELECT id, topic, qos, retain, createdOn, publishedOn, "
+                        + "publishedMessageId, confirmedOn, payload, priority, sessionId, droppedOn FROM "
+                        + super.escapedTableName + " WHERE publishedOn IS NULL AND priority >= ? AND priority <= ? "
+                        + "ORDER BY priority ASC, createdOn ASC LIMIT ?;")
+                .withSqlUnpublishedMessageCountInPriorityRange("SELECT COUNT(*) FROM " + super.escapedTableName
+                        + " WHERE publishedOn IS NULL AND priority >= ? AND priority <= ?;")
                 .withSqlSetPublishedQoS1(UPDATE + super.escapedTableName
                         + " SET publishedOn = ?, publishedMessageId = ?, sessionId = ? WHERE id = ?;")
                 .withSqlSetPublishedQoS0(UPDATE + super.escapedTableName + " SET publishedOn = ? WHERE id = ?;")
+                .withSqlSetPublishedQoS0Multiple(
+                        UPDATE + super.escapedTableName + " SET publishedOn = ? WHERE id IN ({0});")
                 .withSqlSetConfirmed(UPDATE + escapedTableName + " SET confirmedOn = ? WHERE id = ?;")
+                .withSqlSetConfirmedMultiple(UPDATE + escapedTableName + " SET confirmedOn = ? WHERE id IN ({0});")
                 .withSqlAllUnpublishedMessages(SELECT_MESSAGE_METADATA_FROM + super.escapedTableName
                         + " WHERE publishedOn IS NULL ORDER BY priority ASC, createdOn ASC;")
                 .withSqlAllInFlightMessages(SELECT_MESSAGE_METADATA_FROM + super.escapedTableName
@@ -122,4 +138,35 @@ public class SqliteMessageStoreImpl extends AbstractJdbcMessageStoreImpl {
 
     }
 
+    @Override
+    public synchronized List<Integer> store(List<StoredMessage> messages) throws KuraStoreException {
+
+        final List<Long> ids = super.storeInternal(messages);
+        final List<Integer> result = new ArrayList<>(ids.size());
+
+        for (int i = 0; i < ids.size(); i++) {
+            final long id = ids.get(i);
+
+            if (id > Integer.MAX_VALUE) {
+                result.add(storeAfterIdOverflow(id, messages.get(i)));
+            } else {
+                result.add((int) id);
+            }
+        }
+
+        return result;
+    }
+
+    private int storeAfterIdOverflow(final long id, final StoredMessage message) throws KuraStoreException {
+        super.execute(this.sqlDeleteMessage, id);
+
+        if (super.getMessageCountInternal() >= Integer.MAX_VALUE) {
+            throw new KuraStoreException("Table size is greater or equal than integer max value");
+        }
+
+        super.execute(this.sqlResetId);
+        return (int) super.storeInternal(message.getTopic(), message.getPayload(), message.getQos(),
+                message.isRetain(), message.getPriority());
+    }
+
 }
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.driver.block;
+
+/**
+ * Estimates the time needed to transfer a block of data from or to a device, modeled as a fixed per request latency
+ * plus a per address unit transfer cost, with an optional limit on the size of a single request (for example the
+ * maximum PDU size of the protocol).
+ * <p>
+ * The initial estimates are provided in the constructor and are refined online using the durations of the requests
+ * actually performed, reported through {@link #addSample(int, long)}. The two parameters are fitted with an
+ * exponentially weighted least squares regression of the request duration over the request size, so the model adapts
+ * to changes in the network conditions.
+ * </p>
+ * <p>
+ * The generation returned by {@link #getGeneration()} is incremented every time the estimates change enough to
+ * potentially affect the aggregation, components that cache an aggregation plan can use it to detect when the plan
+ * should be recomputed.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @see CostModelAggregationPlanner
+ * @since 1.1
+ */
+public class AggregationCostModel {
+
+    private static final double SMOOTHING_FACTOR = 0.05;
+    private static final double MINIMUM_SIZE_VARIANCE = 1.0;
+    private static final double OUTLIER_RATIO = 10.0;
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double GENERATION_CHANGE_THRESHOLD = 0.25;
+
+    private final int maximumBlockSize;
+
+    private double requestCost;
+    private double unitCost;
+
+    private long sampleCount;
+    private double meanSize;
+    private double meanDuration;
+    private double sizeVariance;
+    private double covariance;
+
+    private double lastBreakEvenGap;
+    private volatile int generation;
+
+    /**
+     * Creates a new {@link AggregationCostModel}.
+     *
+     * @param requestCost
+     *            the initial estimate of the fixed cost of a request, in nanoseconds
+     * @param unitCost
+     *            the initial estimate of the cost of transferring one address unit, in nanoseconds
+     * @param maximumBlockSize
+     *            the maximum size of a single request, in address units, or a value lesser than or equal to 0 if there
+     *            is no limit
+     * @throws IllegalArgumentException
+     *             if any of the costs is negative
+     */
+    public AggregationCostModel(double requestCost, double unitCost, int maximumBlockSize) {
+        if (requestCost < 0 || unitCost < 0) {
+            throw new IllegalArgumentException("Costs must be non negative");
+        }
+        this.requestCost = requestCost;
+        this.unitCost = unitCost;
+        this.maximumBlockSize = maximumBlockSize > 0 ? maximumBlockSize : Integer.MAX_VALUE;
+        this.lastBreakEvenGap = computeBreakEvenGap();
+    }
+
+    /**
+     * Returns the current estimate of the fixed cost of a request.
+     *
+     * @return the request cost in nanoseconds
+     */
+    public synchronized double getRequestCost() {
+        return this.requestCost;
+    }
+
+    /**
+     * Returns the current estimate of the cost of transferring one address unit.
+     *
+     * @return the unit cost in nanoseconds
+     */
+    public synchronized double getUnitCost() {
+        return this.unitCost;
+    }
+
+    /**
+     * Returns the maximum size of a single request.
+     *
+     * @return the maximum block size in address units, {@link Integer#MAX_VALUE} if there is no limit
+     */
+    public int getMaximumBlockSize() {
+        return this.maximumBlockSize;
+    }
+
+    /**
+     * Returns the estimated cost of a request of the given size.
+     *
+     * @param size
+     *            the request size in address units
+     * @return the estimated cost in nanoseconds
+     */
+    public synchronized double getCost(int size) {
+        return this.requestCost + this.unitCost * size;
+    }
+
+    /**
+     * Returns a counter that is incremented when the estimates change significantly.
+     *
+     * @return the generation
+     */
+    public int getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Updates the estimates with the measured duration of a request.
+     *
+     * @param size
+     *            the request size in address units
+     * @param duration
+     *            the measured duration in nanoseconds
+     */
+    public synchronized void addSample(int size, long duration) {
+        if (size < 0 || duration < 0) {
+            return;
+        }
+
+        if (this.sampleCount >= WARMUP_SAMPLES && duration > OUTLIER_RATIO * getCost(size)) {
+            // most likely a failed request that waited for a timeout
+            return;
+        }
+
+        this.sampleCount++;
+
+        final double weight = Math.max(1.0 / this.sampleCount, SMOOTHING_FACTOR);
+        final double sizeDelta = size - this.meanSize;
+        final double durationDelta = duration - this.meanDuration;
+
+        this.meanSize += weight * sizeDelta;
+        this.meanDuration += weight * durationDelta;
+        this.sizeVariance = (1 - weight) * (this.sizeVariance + weight * sizeDelta * sizeDelta);
+        this.covariance = (1 - weight) * (this.covariance + weight * sizeDelta * durationDelta);
+
+        if (this.sampleCount >= WARMUP_SAMPLES && this.sizeVariance >= MINIMUM_SIZE_VARIANCE) {
+            this.unitCost = Math.max(0, this.covariance / this.sizeVariance);
+        }
+        this.requestCost = Math.max(0, this.meanDuration - this.unitCost * this.meanSize);
+
+        final double breakEvenGap = computeBreakEvenGap();
+        if (Math.abs(breakEvenGap - this.lastBreakEvenGap) > GENERATION_CHANGE_THRESHOLD * this.lastBreakEvenGap) {
+            this.lastBreakEvenGap = breakEvenGap;
+            this.generation++;
+        }
+    }
+
+    private double computeBreakEvenGap() {
+        // the size of the largest gap that is worth transferring instead of performing a separate request
+        return this.requestCost / Math.max(this.unitCost, Double.MIN_NORMAL);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "AggregationCostModel [requestCost=" + this.requestCost + ", unitCost=" + this.unitCost
+                + ", maximumBlockSize=" + this.maximumBlockSize + ", samples=" + this.sampleCount + "]";
+    }
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.driver.block;
+
+import java.util.List;
+
+/**
+ * Decides how a set of blocks that can be aggregated together should be grouped into requests. An
+ * {@link AggregationPlanner} can be provided to a {@link BlockAggregator} to replace the aggregation based on the
+ * {@code minimumGapSize} parameter.
+ * <p>
+ * The {@link BlockAggregator} splits its input into runs of blocks that are not separated by a {@link ProhibitedBlock}
+ * and invokes the planner once for each run.
+ * </p>
+ *
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface AggregationPlanner {
+
+    /**
+     * Groups the provided blocks into output blocks. The implementation must satisfy the following requirements:
+     * <ul>
+     * <li>Every input block must be contained in exactly one output block.</li>
+     * <li>The output blocks must be returned sorted by start address and must not overlap.</li>
+     * <li>For each pair of output blocks (b1, b2), {@code b1.getEnd() < b2.getStart()}, adjacent or overlapping input
+     * blocks must therefore be assigned to the same output block.</li>
+     * </ul>
+     *
+     * @param blocks
+     *            a non empty list of blocks sorted by start address, not containing any {@link ProhibitedBlock}. The
+     *            list must not be modified.
+     * @param factory
+     *            the {@link BlockFactory} that must be used to create the output blocks
+     * @return the output blocks
+     */
+    public <T extends Block> List<T> plan(List<Block> blocks, BlockFactory<T> factory);
+}
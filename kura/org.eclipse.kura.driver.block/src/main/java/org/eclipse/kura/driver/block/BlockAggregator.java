@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.kura.driver.block;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -65,6 +66,13 @@ import java.util.stream.StreamSupport;
  * transfered.
  * </p>
  *
+ * <p>
+ * As an alternative to the {@code minimumGapSize} parameter, an {@link AggregationPlanner} can be provided using the
+ * {@link #setPlanner(AggregationPlanner)} method, in this case the planner decides how the blocks that are not
+ * separated by a {@link ProhibitedBlock} are grouped, for example basing on a cost model of the device (see
+ * {@link CostModelAggregationPlanner}).
+ * </p>
+ *
  * @param <T>
  *            The type of the blocks obtained as result of the aggregation process.
  */
@@ -73,6 +81,7 @@ public class BlockAggregator<T extends Block> {
     protected List<Block> blocks;
     private final BlockFactory<T> factory;
     private int minimumGapSize;
+    private AggregationPlanner planner;
 
     /**
      * Creates a new {@link BlockAggregator} instance that operates on the given list of blocks.
@@ -113,6 +122,9 @@ public class BlockAggregator<T extends Block> {
     @SuppressWarnings("unchecked")
     public Stream<T> stream() {
         this.blocks.sort((Block o1, Block o2) -> o1.getStart() - o2.getStart());
+        if (this.planner != null) {
+            return plan().stream();
+        }
         return (Stream<T>) StreamSupport
                 .stream(Spliterators.spliteratorUnknownSize(new AggregatingIterator(this.blocks.listIterator()),
                         Spliterator.ORDERED), false)
@@ -133,6 +145,32 @@ public class BlockAggregator<T extends Block> {
         this.minimumGapSize = minimumGapSize;
     }
 
+    /**
+     * Specifies the {@link AggregationPlanner} that will be used to aggregate the blocks. If a planner is set, the
+     * {@code minimumGapSize} parameter is ignored. The default is {@code null}.
+     * <p>
+     * If a planner is set, the aggregation is no longer performed lazily: the planner is invoked for the whole input
+     * block list when the {@link #stream()} method is called.
+     * </p>
+     *
+     * @param planner
+     *            the planner, or {@code null} to use the {@code minimumGapSize} parameter
+     * @since 1.1
+     */
+    public void setPlanner(AggregationPlanner planner) {
+        this.planner = planner;
+    }
+
+    /**
+     * Returns the {@link AggregationPlanner} that will be used to aggregate the blocks.
+     *
+     * @return the planner, or {@code null} if the {@code minimumGapSize} parameter is used
+     * @since 1.1
+     */
+    public AggregationPlanner getPlanner() {
+        return this.planner;
+    }
+
     /**
      * Inserts a new {@link Block} into the input blocks list.
      *
@@ -144,6 +182,44 @@ public class BlockAggregator<T extends Block> {
         this.blocks.add(block);
     }
 
+    private List<T> plan() {
+        final List<T> result = new ArrayList<>();
+        final List<Block> run = new ArrayList<>();
+
+        Block lastProhibited = null;
+        Block lastAllowed = null;
+
+        for (final Block block : this.blocks) {
+            if (block instanceof ProhibitedBlock) {
+                if (lastAllowed != null && lastAllowed.getEnd() > block.getStart()) {
+                    throw new IllegalArgumentException("Conflicting blocks: " + lastAllowed + " " + block);
+                }
+                flushRun(run, result);
+                if (lastProhibited == null || block.getEnd() > lastProhibited.getEnd()) {
+                    lastProhibited = block;
+                }
+            } else {
+                if (lastProhibited != null && lastProhibited.getEnd() > block.getStart()) {
+                    throw new IllegalArgumentException("Conflicting blocks: " + lastProhibited + " " + block);
+                }
+                run.add(block);
+                if (lastAllowed == null || block.getEnd() > lastAllowed.getEnd()) {
+                    lastAllowed = block;
+                }
+            }
+        }
+        flushRun(run, result);
+
+        return result;
+    }
+
+    private void flushRun(List<Block> run, List<T> result) {
+        if (!run.isEmpty()) {
+            result.addAll(this.planner.plan(run, this.factory));
+            run.clear();
+        }
+    }
+
     private class AggregatingIterator implements Iterator<Block> {
 
         private final ListIterator<Block> source;
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.driver.block;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An {@link AggregationPlanner} that minimizes the total cost of the requests estimated by an
+ * {@link AggregationCostModel}.
+ * <p>
+ * Merging two blocks saves the fixed cost of a request but requires transferring the gap between them, and the size of
+ * a request is limited by the maximum block size of the model. The planner finds the grouping with the minimum
+ * estimated cost using dynamic programming over the blocks sorted by address. Since only groups that fit in the
+ * maximum block size are considered, the planning time is linear in the number of blocks if the maximum block size is
+ * small compared to the address range.
+ * </p>
+ * <p>
+ * Input blocks larger than the maximum block size, or that overlap other blocks so that no valid grouping fits in the
+ * maximum block size, are returned as a single output block.
+ * </p>
+ *
+ * @since 1.1
+ */
+public class CostModelAggregationPlanner implements AggregationPlanner {
+
+    private final AggregationCostModel costModel;
+
+    /**
+     * Creates a new {@link CostModelAggregationPlanner}.
+     *
+     * @param costModel
+     *            the cost model
+     */
+    public CostModelAggregationPlanner(AggregationCostModel costModel) {
+        requireNonNull(costModel, "Cost model cannot be null");
+        this.costModel = costModel;
+    }
+
+    /**
+     * Returns the cost model used by this planner.
+     *
+     * @return the cost model
+     */
+    public AggregationCostModel getCostModel() {
+        return this.costModel;
+    }
+
+    @Override
+    public <T extends Block> List<T> plan(List<Block> blocks, BlockFactory<T> factory) {
+        final int count = blocks.size();
+
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+
+        final double requestCost = this.costModel.getRequestCost();
+        final double unitCost = this.costModel.getUnitCost();
+        final int maximumBlockSize = this.costModel.getMaximumBlockSize();
+
+        final int[] starts = new int[count];
+        final int[] ends = new int[count];
+        // canSplitBefore[i] is true if a group can start at block i
+        final boolean[] canSplitBefore = new boolean[count];
+
+        int maxEnd = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            final Block block = blocks.get(i);
+            starts[i] = block.getStart();
+            ends[i] = block.getEnd();
+            canSplitBefore[i] = i == 0 || maxEnd < starts[i];
+            maxEnd = Math.max(maxEnd, ends[i]);
+        }
+
+        // bestCost[i] is the minimum cost for the first i blocks, firstOfLastGroup[i] is the index of the first block
+        // of the last group in the corresponding solution
+        final double[] bestCost = new double[count + 1];
+        final int[] firstOfLastGroup = new int[count + 1];
+        final int[] groupEnds = new int[count + 1];
+
+        for (int i = 1; i <= count; i++) {
+            bestCost[i] = Double.POSITIVE_INFINITY;
+            int groupEnd = Integer.MIN_VALUE;
+
+            for (int j = i - 1; j >= 0; j--) {
+                groupEnd = Math.max(groupEnd, ends[j]);
+                final int groupSize = groupEnd - starts[j];
+
+                if (groupSize > maximumBlockSize && bestCost[i] != Double.POSITIVE_INFINITY) {
+                    // larger groups do not fit either
+                    break;
+                }
+
+                if (!canSplitBefore[j]) {
+                    continue;
+                }
+
+                final double cost = bestCost[j] + requestCost + unitCost * groupSize;
+                if (cost < bestCost[i]) {
+                    bestCost[i] = cost;
+                    firstOfLastGroup[i] = j;
+                    groupEnds[i] = groupEnd;
+                }
+            }
+        }
+
+        final ArrayList<T> result = new ArrayList<>();
+        for (int i = count; i > 0; i = firstOfLastGroup[i]) {
+            result.add(factory.build(starts[firstOfLastGroup[i]], groupEnds[i]));
+        }
+        Collections.reverse(result);
+
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,12 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -33,8 +36,10 @@ import org.eclipse.kura.channel.ChannelStatus;
 import org.eclipse.kura.channel.listener.ChannelListener;
 import org.eclipse.kura.driver.Driver;
 import org.eclipse.kura.driver.PreparedRead;
+import org.eclipse.kura.driver.block.AggregationCostModel;
 import org.eclipse.kura.driver.block.Block;
 import org.eclipse.kura.driver.block.BlockFactory;
+import org.eclipse.kura.driver.block.CostModelAggregationPlanner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -64,6 +69,14 @@ import org.slf4j.LoggerFactory;
  * This class provides a default implementation for the {@link #read(List)}, {@link #write(List)} and
  * {@link #prepareRead(List)} methods of the {@link Driver} interface.
  * </p>
+ * <p>
+ * By default the read tasks are aggregated using the minimum gap size returned by
+ * {@link #getReadMinimumGapSizeForDomain(Object)}. Implementors can instead return an {@link AggregationCostModel}
+ * from {@link #getReadCostModelForDomain(Object)}, in this case the read tasks are aggregated by a
+ * {@link CostModelAggregationPlanner} and the duration of the {@link ToplevelBlockTask} instances executed in
+ * {@link Mode#READ} is reported to the cost model. The plan of a {@link PreparedRead} is cached and recomputed only
+ * if the estimates of the cost model change significantly.
+ * </p>
  *
  * @param <T>
  *            the type of the domain, can be any type suitable for being used as an {@link java.util.HashMap} key
@@ -122,6 +135,22 @@ public abstract class AbstractBlockDriver<T> implements Driver {
         return 0;
     }
 
+    /**
+     * Returns the {@link AggregationCostModel} that will be used to aggregate tasks in {@link Mode#READ} for the
+     * specified domain. If a cost model is returned, the value returned by
+     * {@link #getReadMinimumGapSizeForDomain(Object)} is ignored for pure read operations. The returned instance should
+     * be kept by the implementor and returned on subsequent calls, since it learns from the duration of the performed
+     * requests. The default implementation returns {@code null}.
+     *
+     * @param domain
+     *            the domain
+     * @return the cost model for the provided domain, or {@code null} if the minimum gap size should be used
+     * @since 1.1
+     */
+    protected AggregationCostModel getReadCostModelForDomain(T domain) {
+        return null;
+    }
+
     /**
      * This method is called immediately before an aggregation is performed for the specific domain and mode. This
      * method can be overridden by implementors in order to customize the {@link BlockTaskAggregator} provided as
@@ -160,6 +189,11 @@ public abstract class AbstractBlockDriver<T> implements Driver {
      *             if any exception is thrown during the process
      */
     protected List<BlockTask> optimize(List<ChannelRecord> records, Mode mode) throws KuraException {
+        return optimize(records, mode, null);
+    }
+
+    private List<BlockTask> optimize(List<ChannelRecord> records, Mode mode,
+            Map<BlockTask, AggregationCostModel> costModels) throws KuraException {
         try {
             final ArrayList<BlockTask> resultTasks = new ArrayList<>();
             final HashSet<T> domainsWithUpdateTasks = new HashSet<>();
@@ -182,6 +216,7 @@ public abstract class AbstractBlockDriver<T> implements Driver {
             groupedTasks.entrySet().forEach(entry -> {
                 final T domain = entry.getKey();
                 final BlockTaskAggregator aggregator;
+                AggregationCostModel costModel = null;
                 if (domainsWithUpdateTasks.contains(domain)) {
                     aggregator = new UpdateBlockTaskAggregator(entry.getValue(),
                             getTaskFactoryForDomain(domain, Mode.READ), getTaskFactoryForDomain(domain, Mode.WRITE));
@@ -189,11 +224,22 @@ public abstract class AbstractBlockDriver<T> implements Driver {
                 } else {
                     aggregator = new BlockTaskAggregator(entry.getValue(), getTaskFactoryForDomain(domain, mode));
                     if (mode == Mode.READ) {
-                        aggregator.setMinimumGapSize(getReadMinimumGapSizeForDomain(domain));
+                        costModel = getReadCostModelForDomain(domain);
+                        if (costModel != null) {
+                            aggregator.setPlanner(new CostModelAggregationPlanner(costModel));
+                        } else {
+                            aggregator.setMinimumGapSize(getReadMinimumGapSizeForDomain(domain));
+                        }
                     }
                 }
                 beforeAggregation(domain, mode, aggregator);
-                aggregator.stream().forEach(resultTasks::add);
+                final AggregationCostModel domainCostModel = costModel;
+                aggregator.stream().forEach(task -> {
+                    resultTasks.add(task);
+                    if (costModels != null && domainCostModel != null) {
+                        costModels.put(task, domainCostModel);
+                    }
+                });
             });
 
             return resultTasks;
@@ -202,6 +248,25 @@ public abstract class AbstractBlockDriver<T> implements Driver {
         }
     }
 
+    private ReadPlan optimizeRead(List<ChannelRecord> records) throws KuraException {
+        final Map<BlockTask, AggregationCostModel> costModels = new IdentityHashMap<>();
+        final List<BlockTask> tasks = optimize(records, Mode.READ, costModels);
+        return new ReadPlan(tasks, costModels);
+    }
+
+    private void runTasks(ReadPlan plan) {
+        for (final BlockTask task : plan.tasks) {
+            final AggregationCostModel costModel = plan.costModels.get(task);
+            if (costModel == null) {
+                runTask(task);
+                continue;
+            }
+            final long start = System.nanoTime();
+            runTask(task);
+            costModel.addSample(task.getEnd() - task.getStart(), System.nanoTime() - start);
+        }
+    }
+
     /**
      * Executes the provided {@link BlockTask}. Implementors can override this method, for example for catching any
      * exception thrown by the task and implement error handling.
@@ -232,7 +297,7 @@ public abstract class AbstractBlockDriver<T> implements Driver {
     public synchronized void read(final List<ChannelRecord> records) throws ConnectionException {
         connect();
         try {
-            optimize(records, Mode.READ).forEach(this::runTask);
+            runTasks(optimizeRead(records));
         } catch (Exception e) {
             logger.warn("Unexpected exception during read", e);
             for (ChannelRecord record : records) {
@@ -263,7 +328,12 @@ public abstract class AbstractBlockDriver<T> implements Driver {
     @Override
     public synchronized PreparedRead prepareRead(List<ChannelRecord> records) {
         try {
-            return createPreparedRead(records, optimize(records, Mode.READ));
+            final ReadPlan plan = optimizeRead(records);
+            final PreparedRead result = createPreparedRead(records, plan.tasks);
+            if (result instanceof AbstractBlockDriver.BlockPreparedRead) {
+                ((AbstractBlockDriver<?>.BlockPreparedRead) result).setPlan(plan);
+            }
+            return result;
         } catch (KuraException e) {
             for (ChannelRecord record : records) {
                 record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE, e.getMessage(), e));
@@ -277,12 +347,19 @@ public abstract class AbstractBlockDriver<T> implements Driver {
 
         private final List<ChannelRecord> records;
         private final List<BlockTask> tasks;
+        private ReadPlan plan;
 
         public BlockPreparedRead(List<ChannelRecord> records, List<BlockTask> tasks) {
             this.records = records;
             this.tasks = tasks;
         }
 
+        private void setPlan(ReadPlan plan) {
+            if (plan.tasks == this.tasks) {
+                this.plan = plan;
+            }
+        }
+
         @Override
         public void close() throws Exception {
         }
@@ -291,9 +368,17 @@ public abstract class AbstractBlockDriver<T> implements Driver {
         public List<ChannelRecord> execute() throws ConnectionException, KuraException {
             synchronized (AbstractBlockDriver.this) {
                 connect();
-                for (BlockTask task : this.tasks) {
-                    runTask(task);
+                if (this.plan == null) {
+                    for (BlockTask task : this.tasks) {
+                        runTask(task);
+                    }
+                    return this.records;
+                }
+                if (this.plan.isStale()) {
+                    logger.debug("Cost model estimates changed, recomputing read plan");
+                    this.plan = optimizeRead(this.records);
                 }
+                runTasks(this.plan);
                 return this.records;
             }
         }
@@ -305,6 +390,34 @@ public abstract class AbstractBlockDriver<T> implements Driver {
 
     }
 
+    /**
+     * The tasks of a read operation, together with the cost models of the tasks and the cost model generations
+     * observed when the tasks were aggregated.
+     */
+    private static final class ReadPlan {
+
+        private final List<BlockTask> tasks;
+        private final Map<BlockTask, AggregationCostModel> costModels;
+        private final Map<AggregationCostModel, Integer> generations = new HashMap<>();
+
+        ReadPlan(List<BlockTask> tasks, Map<BlockTask, AggregationCostModel> costModels) {
+            this.tasks = tasks;
+            this.costModels = costModels;
+            for (final AggregationCostModel costModel : costModels.values()) {
+                this.generations.put(costModel, costModel.getGeneration());
+            }
+        }
+
+        boolean isStale() {
+            for (final Entry<AggregationCostModel, Integer> entry : this.generations.entrySet()) {
+                if (entry.getKey().getGeneration() != entry.getValue()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     public static final class Pair<U, V> {
 
         private final U first;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.eclipse.kura.driver.block.AggregationPlanner;
 import org.eclipse.kura.driver.block.Block;
 import org.eclipse.kura.driver.block.BlockFactory;
 import org.eclipse.kura.driver.block.ProhibitedBlock;
@@ -106,6 +107,21 @@ public class UpdateBlockTaskAggregator extends BlockTaskAggregator {
         this.readTaskAggregator.setMinimumGapSize(minimumGapSize);
     }
 
+    /**
+     * Sets the {@link AggregationPlanner} that will be used for aggregating the {@link ToplevelBlockTask} tasks
+     * in {@link Mode#READ} mode, the {@link ToplevelBlockTask} instances in {@link Mode#WRITE} will always be
+     * aggregated with {@code minimumGapSize = 0}.
+     */
+    @Override
+    public void setPlanner(AggregationPlanner planner) {
+        this.readTaskAggregator.setPlanner(planner);
+    }
+
+    @Override
+    public AggregationPlanner getPlanner() {
+        return this.readTaskAggregator.getPlanner();
+    }
+
     /**
      * {@inheritDoc}
      *
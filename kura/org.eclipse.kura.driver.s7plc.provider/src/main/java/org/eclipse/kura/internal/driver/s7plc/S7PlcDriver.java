@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,11 +25,13 @@ import org.eclipse.kura.channel.ChannelRecord;
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.crypto.CryptoService;
 import org.eclipse.kura.driver.ChannelDescriptor;
+import org.eclipse.kura.driver.block.AggregationCostModel;
 import org.eclipse.kura.driver.block.BlockFactory;
 import org.eclipse.kura.driver.block.task.AbstractBlockDriver;
 import org.eclipse.kura.driver.block.task.BlockTask;
 import org.eclipse.kura.driver.block.task.Mode;
 import org.eclipse.kura.driver.block.task.ToplevelBlockTask;
+import org.eclipse.kura.internal.driver.s7plc.S7PlcOptions.AggregationMode;
 import org.eclipse.kura.internal.driver.s7plc.task.S7PlcTaskBuilder;
 import org.eclipse.kura.internal.driver.s7plc.task.S7PlcToplevelBlockTask;
 import org.slf4j.Logger;
@@ -59,8 +61,12 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
 
     private static final Logger logger = LoggerFactory.getLogger(S7PlcDriver.class);
 
+    // initial estimate of the transfer time of a byte, refined by the cost model
+    private static final double INITIAL_BYTE_TRANSFER_COST_NANOS = 1000.0;
+
     private S7ClientState state = new S7ClientState(new S7PlcOptions(Collections.emptyMap()));
     private final AtomicReference<S7PlcOptions> options = new AtomicReference<>();
+    private final AtomicReference<AggregationCostModel> readCostModel = new AtomicReference<>();
 
     private CryptoService cryptoService;
 
@@ -90,7 +96,15 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
 
     public void updated(final Map<String, Object> properties) {
         logger.debug("Updating S7 PLC Driver...");
-        this.options.set(new S7PlcOptions(properties));
+        final S7PlcOptions newOptions = new S7PlcOptions(properties);
+        if (newOptions.getAggregationMode() == AggregationMode.COST_MODEL) {
+            // a single model for all data blocks, the latency depends on the connection
+            this.readCostModel.set(new AggregationCostModel(newOptions.getRequestLatency() * 1_000_000.0,
+                    INITIAL_BYTE_TRANSFER_COST_NANOS, newOptions.getMaxBlockSize()));
+        } else {
+            this.readCostModel.set(null);
+        }
+        this.options.set(newOptions);
         logger.debug("Updating S7 PLC Driver... Done");
     }
 
@@ -156,6 +170,11 @@ public class S7PlcDriver extends AbstractBlockDriver<S7PlcDomain> implements Con
         return this.options.get().getMinimumGapSize();
     }
 
+    @Override
+    protected AggregationCostModel getReadCostModelForDomain(S7PlcDomain domain) {
+        return this.readCostModel.get();
+    }
+
     @Override
     protected BlockFactory<ToplevelBlockTask> getTaskFactoryForDomain(final S7PlcDomain domain, final Mode mode) {
         return (start, end) -> new S7PlcToplevelBlockTask(S7PlcDriver.this, mode, domain.getDB(), start, end);
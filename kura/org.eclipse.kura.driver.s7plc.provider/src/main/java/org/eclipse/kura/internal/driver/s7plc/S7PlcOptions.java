@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,15 @@ final class S7PlcOptions {
     private static final Property<Integer> RACK_PROP = new Property<>("rack", 0);
     private static final Property<Integer> SLOT_PROP = new Property<>("slot", 2);
     private static final Property<Integer> MINIMUM_GAP_SIZE_PROP = new Property<>("read.minimum.gap.size", 0);
+    private static final Property<String> AGGREGATION_MODE_PROP = new Property<>("read.aggregation.mode",
+            AggregationMode.MINIMUM_GAP_SIZE.name());
+    private static final Property<Integer> MAX_BLOCK_SIZE_PROP = new Property<>("read.max.block.size", 222);
+    private static final Property<Integer> REQUEST_LATENCY_PROP = new Property<>("read.request.latency", 10);
+
+    enum AggregationMode {
+        MINIMUM_GAP_SIZE,
+        COST_MODEL
+    }
 
     private final String ip;
     private final boolean authenticate;
@@ -31,6 +40,9 @@ final class S7PlcOptions {
     private final int rack;
     private final int slot;
     private final int minimumGapSize;
+    private final AggregationMode aggregationMode;
+    private final int maxBlockSize;
+    private final int requestLatency;
 
     S7PlcOptions(final Map<String, Object> properties) {
         this.ip = IP_PROP.get(properties);
@@ -39,6 +51,17 @@ final class S7PlcOptions {
         this.rack = RACK_PROP.get(properties);
         this.slot = SLOT_PROP.get(properties);
         this.minimumGapSize = MINIMUM_GAP_SIZE_PROP.get(properties);
+        this.aggregationMode = parseAggregationMode(AGGREGATION_MODE_PROP.get(properties));
+        this.maxBlockSize = MAX_BLOCK_SIZE_PROP.get(properties);
+        this.requestLatency = REQUEST_LATENCY_PROP.get(properties);
+    }
+
+    private static AggregationMode parseAggregationMode(final String value) {
+        try {
+            return AggregationMode.valueOf(value);
+        } catch (final IllegalArgumentException e) {
+            return AggregationMode.MINIMUM_GAP_SIZE;
+        }
     }
 
     String getIp() {
@@ -65,6 +88,18 @@ final class S7PlcOptions {
         return this.minimumGapSize;
     }
 
+    AggregationMode getAggregationMode() {
+        return this.aggregationMode;
+    }
+
+    int getMaxBlockSize() {
+        return this.maxBlockSize;
+    }
+
+    int getRequestLatency() {
+        return this.requestLatency;
+    }
+
     private static class Property<T> {
 
         private final String key;
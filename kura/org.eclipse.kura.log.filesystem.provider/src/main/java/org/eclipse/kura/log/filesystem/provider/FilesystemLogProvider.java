@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,15 +12,32 @@
  *******************************************************************************/
 package org.eclipse.kura.log.filesystem.provider;
 
-import java.io.EOFException;
-import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.log.LogEntry;
@@ -33,8 +50,9 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
 
     private static final Logger logger = LoggerFactory.getLogger(FilesystemLogProvider.class);
     public static final String LOG_FILEPATH_PROP_KEY = "logFilePath";
+    public static final String FILE_WATCH_ENABLED_PROP_KEY = "fileWatchEnabled";
 
-    private final List<LogListener> registeredListeners = new LinkedList<>();
+    private final List<LogListener> registeredListeners = new CopyOnWriteArrayList<>();
     private FileLogReader readerThread;
     private String filePath;
 
@@ -58,7 +76,9 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
             this.readerThread.interrupt();
         }
         this.filePath = (String) properties.get(LOG_FILEPATH_PROP_KEY);
-        this.readerThread = new FileLogReader(this.filePath);
+        final Object fileWatchEnabled = properties.get(FILE_WATCH_ENABLED_PROP_KEY);
+        this.readerThread = new FileLogReader(this.filePath,
+                fileWatchEnabled instanceof Boolean ? (Boolean) fileWatchEnabled : true);
         this.readerThread.start();
         logger.info("Updated FilesystemLogProvider... Done.");
     }
@@ -76,99 +96,277 @@ public class FilesystemLogProvider implements ConfigurableComponent, LogProvider
     class FileLogReader extends Thread {
 
         private static final long SAMPLE_INTERVAL = 100;
-        private final File logFile;
-        private boolean follow = true;
+        private static final long WATCH_SAMPLE_INTERVAL = 1000;
+        private static final int BUFFER_SIZE = 64 * 1024;
 
-        public FileLogReader(String filePath) {
-            this.logFile = new File(filePath);
-            this.follow = true;
+        private final Path logFile;
+        private final String logFilePath;
+        private final boolean fileWatchEnabled;
+
+        private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final CharBuffer charBuffer = CharBuffer.allocate(BUFFER_SIZE);
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        private final StringBuilder currentLine = new StringBuilder();
+        private final StringBuilder pendingStacktrace = new StringBuilder();
+        private final List<LogEntry> pendingEntries = new ArrayList<>();
+        private String pendingMessage;
+
+        private FileChannel channel;
+        private Object fileKey;
+        private long position;
+
+        public FileLogReader(String filePath, boolean fileWatchEnabled) {
+            this.logFile = Paths.get(filePath);
+            this.logFilePath = filePath;
+            this.fileWatchEnabled = fileWatchEnabled;
         }
 
         @Override
         public void run() {
-            try (RandomAccessFile file = new RandomAccessFile(this.logFile, "r")) {
-                while (this.follow) {
-                    readLinesAndNotifyListeners(file);
-                    sleep(SAMPLE_INTERVAL);
+            try (WatchService watchService = createWatchService()) {
+                openFile();
+
+                while (!isInterrupted()) {
+                    final boolean dataRead = readChunk();
+
+                    if (!dataRead) {
+                        flushPendingEntry();
+                        checkRotation();
+                    }
+
+                    notifyListeners();
+
+                    if (!dataRead) {
+                        waitForChanges(watchService);
+                    }
                 }
-            } catch (FileNotFoundException fnf) {
-                logger.error("File '{}' not found.", this.logFile.getPath());
-            } catch (InterruptedException ie) {
+            } catch (NoSuchFileException | AccessDeniedException e) {
+                logger.error("File '{}' not found.", this.logFile);
+            } catch (InterruptedException | ClosedByInterruptException | ClosedWatchServiceException e) {
                 // nothing to do
             } catch (Exception e) {
                 logger.error("Unexpected exception in FilesystemLogProvider.", e);
             } finally {
+                closeFile();
                 Thread.currentThread().interrupt();
             }
         }
 
-        private void readLinesAndNotifyListeners(RandomAccessFile file) throws IOException {
-            Optional<String> line = readUntilNewLine(file);
+        private WatchService createWatchService() {
+            final Path directory = this.logFile.toAbsolutePath().getParent();
+
+            if (!this.fileWatchEnabled || directory == null) {
+                return null;
+            }
 
-            if (line.isPresent()) {
-                String stacktrace = readStacktrace(file);
-                notifyListeners(line.get(), stacktrace);
+            WatchService watchService = null;
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                return watchService;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.warn("Cannot watch '{}' for changes, falling back to polling.", directory, e);
+                closeWatchService(watchService);
+                return null;
             }
         }
 
-        private Optional<String> readUntilNewLine(RandomAccessFile file) throws IOException {
-            StringBuilder resultLine = new StringBuilder();
-            long pointerToLastSuccessfulRead = file.getFilePointer();
+        private void closeWatchService(WatchService watchService) {
+            if (watchService != null) {
+                try {
+                    watchService.close();
+                } catch (IOException e) {
+                    // nothing to do
+                }
+            }
+        }
 
-            if (pointerToLastSuccessfulRead < file.length()) {
-                char newChar = 0;
+        private void waitForChanges(WatchService watchService) throws InterruptedException {
+            if (watchService == null) {
+                sleep(SAMPLE_INTERVAL);
+                return;
+            }
 
-                do {
-                    try {
-                        newChar = (char) file.readByte();
-                        resultLine.append(newChar);
-                        pointerToLastSuccessfulRead = file.getFilePointer();
-                    } catch (EOFException eof) {
-                        file.seek(pointerToLastSuccessfulRead);
-                    }
-                } while (newChar != '\n');
+            // the timeout covers the file systems that do not report the changes
+            WatchKey key = watchService.poll(WATCH_SAMPLE_INTERVAL, TimeUnit.MILLISECONDS);
+
+            while (key != null) {
+                key.pollEvents();
+                key.reset();
+                key = watchService.poll();
+            }
+        }
+
+        private void openFile() throws IOException {
+            this.channel = FileChannel.open(this.logFile, StandardOpenOption.READ);
+            this.fileKey = Files.readAttributes(this.logFile, BasicFileAttributes.class).fileKey();
+            this.position = 0;
+            resetDecoding();
+        }
+
+        private void closeFile() {
+            if (this.channel != null) {
+                try {
+                    this.channel.close();
+                } catch (IOException e) {
+                    // nothing to do
+                }
+                this.channel = null;
+            }
+        }
+
+        private void resetDecoding() {
+            this.byteBuffer.clear();
+            this.decoder.reset();
+            this.currentLine.setLength(0);
+        }
+
+        private boolean readChunk() throws IOException {
+            if (this.channel == null) {
+                return false;
+            }
+
+            final int read = this.channel.read(this.byteBuffer);
+
+            if (read <= 0) {
+                return false;
+            }
 
-                return Optional.of(resultLine.toString());
-            } else {
-                return Optional.empty();
+            this.position += read;
+
+            this.byteBuffer.flip();
+            this.decoder.decode(this.byteBuffer, this.charBuffer, false);
+            // an incomplete multi-byte sequence is kept for the next read
+            this.byteBuffer.compact();
+
+            this.charBuffer.flip();
+            splitLines();
+            this.charBuffer.clear();
+
+            return true;
+        }
+
+        private void splitLines() {
+            final char[] chars = this.charBuffer.array();
+            final int end = this.charBuffer.arrayOffset() + this.charBuffer.limit();
+            int lineStart = this.charBuffer.arrayOffset() + this.charBuffer.position();
+
+            for (int i = lineStart; i < end; i++) {
+                if (chars[i] == '\n') {
+                    this.currentLine.append(chars, lineStart, i + 1 - lineStart);
+                    processLine(this.currentLine.toString());
+                    this.currentLine.setLength(0);
+                    lineStart = i + 1;
+                }
             }
+
+            // a partial line is completed by the next reads
+            this.currentLine.append(chars, lineStart, end - lineStart);
         }
 
-        private String readStacktrace(RandomAccessFile file) throws IOException {
-            StringBuilder stacktrace = new StringBuilder();
-            long lastReadPosition = file.getFilePointer();
+        private void processLine(String line) {
+            if (this.pendingMessage != null && isStacktrace(line)) {
+                this.pendingStacktrace.append(line);
+                this.pendingStacktrace.append("\n");
+                return;
+            }
 
-            Optional<String> maybeStacktrace = readUntilNewLine(file);
+            flushPendingEntry();
+            this.pendingMessage = line;
+        }
 
-            while (maybeStacktrace.isPresent() && isStacktrace(maybeStacktrace.get())) {
-                stacktrace.append(maybeStacktrace.get());
-                stacktrace.append("\n");
-                lastReadPosition = file.getFilePointer();
-                maybeStacktrace = readUntilNewLine(file);
+        private void flushPendingEntry() {
+            if (this.pendingMessage == null) {
+                return;
             }
 
-            file.seek(lastReadPosition);
+            this.pendingEntries.add(new KuraLogLineParser(this.pendingMessage, this.logFilePath,
+                    this.pendingStacktrace.toString().trim()).createLogEntry());
 
-            return stacktrace.toString().trim();
+            this.pendingMessage = null;
+            this.pendingStacktrace.setLength(0);
+        }
+
+        private void checkRotation() throws IOException {
+            if (this.channel == null) {
+                reopenFile();
+                return;
+            }
+
+            final BasicFileAttributes attributes;
+
+            try {
+                attributes = Files.readAttributes(this.logFile, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                // rotated, the new file has not been created yet
+                return;
+            }
+
+            final Object currentFileKey = attributes.fileKey();
+
+            if (currentFileKey != null && !Objects.equals(currentFileKey, this.fileKey)) {
+                logger.debug("File '{}' has been rotated, reopening it.", this.logFile);
+
+                // consume what has been appended to the old file before the rotation
+                while (readChunk()) {
+                    // nothing to do
+                }
+                flushPendingEntry();
+                closeFile();
+                reopenFile();
+            } else if (attributes.size() < this.position) {
+                logger.debug("File '{}' has been truncated, reading it from the beginning.", this.logFile);
+
+                this.channel.position(0);
+                this.position = 0;
+                resetDecoding();
+            }
+        }
+
+        private void reopenFile() throws IOException {
+            try {
+                openFile();
+            } catch (NoSuchFileException e) {
+                // the new file has been moved away as well, retry at the next check
+                closeFile();
+            }
         }
 
         private boolean isStacktrace(String line) {
             /*
              * stacktrace lines do not start with a timestamp
-             * 
+             *
              * in kura-audit log file the lines start with a '<'
              */
-            return line.length() > 4 && !line.substring(0, 4).matches("\\d{4}") && !line.startsWith("<");
+            return line.length() > 4 && !startsWithDigits(line, 4) && !line.startsWith("<");
         }
 
-        private synchronized void notifyListeners(String message, String stacktrace) {
-            if (message != null) {
-                for (LogListener listener : FilesystemLogProvider.this.registeredListeners) {
-                    LogEntry entry = new KuraLogLineParser(message, FilesystemLogProvider.this.filePath, stacktrace)
-                            .createLogEntry();
+        private boolean startsWithDigits(String line, int count) {
+            for (int i = 0; i < count; i++) {
+                final char c = line.charAt(i);
+
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void notifyListeners() {
+            if (this.pendingEntries.isEmpty()) {
+                return;
+            }
+
+            for (LogListener listener : FilesystemLogProvider.this.registeredListeners) {
+                for (LogEntry entry : this.pendingEntries) {
                     listener.newLogEntry(entry);
                 }
             }
+
+            this.pendingEntries.clear();
         }
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2011, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.kura.protocol.modbus;
 
+import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,7 +23,14 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.kura.KuraConnectionStatus;
 import org.eclipse.kura.comm.CommConnection;
@@ -60,6 +69,7 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
     private Communicate comm;
     private Properties modbusProperties = null;
     private static int transactionIndex = 0;
+    private static final int FRAME_BUFFER_SIZE = 262;
 
     public void setConnectionFactory(ConnectionFactory connectionFactory) {
         this.connectionFactory = connectionFactory;
@@ -189,6 +199,13 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
      * <td>port</td>
      * <td>port on the field device to connect to</td>
      * </tr>
+     * <tr>
+     * <td>maxOutstandingTransactions</td>
+     * <td>optional, only for PROTOCOL_CONNECTION_TYPE_ETHER_TCP. The maximum number of transactions that can be in
+     * flight on the socket at the same time, defaults to 1. If greater than 1, concurrent calls to the methods of this
+     * service are pipelined and the responses are matched to the requests by the MBAP transaction identifier. The
+     * field device must support multiple outstanding transactions.</td>
+     * </tr>
      * </table>
      */
     @Override
@@ -229,8 +246,14 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
                 throw new ModbusProtocolException(ModbusProtocolErrorCode.NOT_AVAILABLE);
             }
             this.comm = new SerialCommunicate(this.connectionFactory, connectionConfig);
-        } else if (PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType)
-                || PROTOCOL_CONNECTION_TYPE_ETHER_RTU.equals(this.connType)) {
+        } else if (PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType)) {
+            final int maxOutstandingTransactions = getMaxOutstandingTransactions(connectionConfig);
+            if (maxOutstandingTransactions > 1) {
+                this.comm = new PipelinedEthernetCommunicate(connectionConfig, maxOutstandingTransactions);
+            } else {
+                this.comm = new EthernetCommunicate(this.connectionFactory, connectionConfig);
+            }
+        } else if (PROTOCOL_CONNECTION_TYPE_ETHER_RTU.equals(this.connType)) {
             this.comm = new EthernetCommunicate(this.connectionFactory, connectionConfig);
         } else {
             throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_CONFIGURATION);
@@ -239,6 +262,22 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
         this.connConfigd = true;
     }
 
+    private static int getMaxOutstandingTransactions(Properties connectionConfig) throws ModbusProtocolException {
+        final String maxOutstandingTransactions = connectionConfig.getProperty("maxOutstandingTransactions");
+        if (maxOutstandingTransactions == null) {
+            return 1;
+        }
+        try {
+            final int result = Integer.parseInt(maxOutstandingTransactions.trim());
+            if (result < 1 || result > 0xffff) {
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_CONFIGURATION);
+            }
+            return result;
+        } catch (NumberFormatException e) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_CONFIGURATION);
+        }
+    }
+
     /**
      * get the name "modbus" for this protocol
      *
@@ -648,6 +687,8 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
         String ipAddress;
         String connType;
         boolean connected = false;
+        private final byte[] cmd = new byte[FRAME_BUFFER_SIZE];
+        private final byte[] response = new byte[FRAME_BUFFER_SIZE];
 
         public EthernetCommunicate(ConnectionFactory connFactory, Properties connectionConfig)
                 throws ModbusProtocolException {
@@ -729,37 +770,23 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
         }
 
         @Override
-        public byte[] msgTransaction(byte[] msg) throws ModbusProtocolException {
-            byte[] cmd = null;
+        public synchronized byte[] msgTransaction(byte[] msg) throws ModbusProtocolException {
+            final boolean isModbusTcp = PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType);
+            final int cmdLength;
 
             // ---------------------------------------------- Send Message
             // ---------------------------------------------------
             if (ModbusProtocolDevice.this.txMode == ModbusTransmissionMode.RTU_MODE) {
-                if (PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType)) {
-                    cmd = new byte[msg.length + 6];
-                    // build MBAP header
-                    int index = getNextTransactionIndex();
-                    cmd[0] = (byte) (index >> 8);
-                    cmd[1] = (byte) index;
-                    cmd[2] = 0;
-                    cmd[3] = 0;
-                    // length
-                    int len = msg.length;
-                    cmd[4] = (byte) (len >> 8);
-                    cmd[5] = (byte) len;
-                    for (int i = 0; i < msg.length; i++) {
-                        cmd[i + 6] = msg[i];
-                    }
+                if (isModbusTcp) {
                     // No crc in Modbus TCP
+                    cmdLength = writeMbapFrame(this.cmd, getNextTransactionIndex(), msg);
                 } else {
-                    cmd = new byte[msg.length + 2];
-                    for (int i = 0; i < msg.length; i++) {
-                        cmd[i] = msg[i];
-                    }
+                    System.arraycopy(msg, 0, this.cmd, 0, msg.length);
                     // Add crc calculation to end of message
                     int crc = Crc16.getCrc16(msg, msg.length, 0x0ffff);
-                    cmd[msg.length] = (byte) crc;
-                    cmd[msg.length + 1] = (byte) (crc >> 8);
+                    this.cmd[msg.length] = (byte) crc;
+                    this.cmd[msg.length + 1] = (byte) (crc >> 8);
+                    cmdLength = msg.length + 2;
                 }
             } else {
                 throw new ModbusProtocolException(ModbusProtocolErrorCode.METHOD_NOT_SUPPORTED,
@@ -776,11 +803,12 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
             // Send the message
             try {
                 // flush input
-                while (this.inputStream.available() > 0) {
-                    this.inputStream.read();
+                int available;
+                while ((available = this.inputStream.available()) > 0) {
+                    this.inputStream.skip(available);
                 }
                 // send all data
-                this.outputStream.write(cmd, 0, cmd.length);
+                this.outputStream.write(this.cmd, 0, cmdLength);
                 this.outputStream.flush();
             } catch (IOException e) {
                 // Assume this means the socket is closed...make sure it is
@@ -794,92 +822,410 @@ public class ModbusProtocolDevice implements ModbusProtocolDeviceService {
             // ---------------------------------------------------
             // wait for and process response
 
-            boolean endFrame = false;
-            byte[] response = new byte[262]; // response buffer
+            final byte[] response = this.response;
             int respIndex = 0;
             int minimumLength = 5; // default minimum message length
-            if (PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType)) {
+            if (isModbusTcp) {
                 minimumLength += 6;
             }
-            while (!endFrame) {
-                try {
-                    this.socket.setSoTimeout(ModbusProtocolDevice.this.respTout);
-                    int resp = this.inputStream.read(response, respIndex, 1);
-                    if (resp > 0) {
-                        respIndex += resp;
-                        if (PROTOCOL_CONNECTION_TYPE_ETHER_TCP.equals(this.connType)) {
-                            if (respIndex == 7) {
-                                // test modbus id
-                                if (response[6] != msg[0]) {
-                                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
-                                            "incorrect modbus id " + String.format("%02X", response[6]));
-                                }
-                            } else if (respIndex == 8) {
-                                // test function number
-                                if ((response[7] & 0x7f) != msg[1]) {
-                                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
-                                            "incorrect function number " + String.format("%02X", response[7]));
-                                }
-                            } else if (respIndex == 9) {
-                                // Check first for an Exception response
-                                if ((response[7] & 0x80) == 0x80) {
-                                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
-                                            "Modbus responds an error = " + String.format("%02X", response[8]));
-                                } else {
-                                    if (response[7] == ModbusFunctionCodes.FORCE_SINGLE_COIL
-                                            || response[7] == ModbusFunctionCodes.PRESET_SINGLE_REG
-                                            || response[7] == ModbusFunctionCodes.FORCE_MULTIPLE_COILS
-                                            || response[7] == ModbusFunctionCodes.PRESET_MULTIPLE_REGS) {
-                                        minimumLength = 12;
-                                    } else {
-                                        // bytes count
-                                        minimumLength = (response[8] & 0xff) + 9;
-                                    }
-                                }
-                            } else if (respIndex == minimumLength) {
-                                endFrame = true;
-                            }
-                        } else {
-
-                        }
+            boolean headerChecked = false;
+            try {
+                this.socket.setSoTimeout(ModbusProtocolDevice.this.respTout);
+                while (!isModbusTcp || respIndex < minimumLength) {
+                    // read up to the end of the header that needs to be checked, or up to the end of the frame
+                    final int nextIndex;
+                    if (!isModbusTcp) {
+                        nextIndex = respIndex + 1;
+                    } else if (!headerChecked) {
+                        nextIndex = 9;
                     } else {
+                        nextIndex = minimumLength;
+                    }
+                    int resp = this.inputStream.read(response, respIndex, nextIndex - respIndex);
+                    if (resp <= 0) {
                         logger.error("Socket disconnect in recv");
                         throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Recv failure");
                     }
-                } catch (SocketTimeoutException e) {
-                    String failMsg = "Recv timeout";
-                    logger.warn(failMsg);
-                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, failMsg);
-                } catch (IOException e) {
-                    logger.error("Socket disconnect in recv: " + e);
-                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Recv failure");
+                    respIndex += resp;
+                    if (isModbusTcp && !headerChecked && respIndex >= 9) {
+                        headerChecked = true;
+                        checkTcpResponseHeader(response, msg);
+                        minimumLength = getTcpResponseLength(response);
+                        if (minimumLength > FRAME_BUFFER_SIZE) {
+                            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                                    "invalid byte count " + String.format("%02X", response[8]));
+                        }
+                    }
                 }
-
+            } catch (SocketTimeoutException e) {
+                String failMsg = "Recv timeout";
+                logger.warn(failMsg);
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, failMsg);
+            } catch (IOException e) {
+                logger.error("Socket disconnect in recv: " + e);
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Recv failure");
             }
 
             // then check for a valid message
-            switch (response[7]) {
-            case ModbusFunctionCodes.FORCE_SINGLE_COIL:
-            case ModbusFunctionCodes.PRESET_SINGLE_REG:
-            case ModbusFunctionCodes.FORCE_MULTIPLE_COILS:
-            case ModbusFunctionCodes.PRESET_MULTIPLE_REGS:
-                byte[] ret = new byte[8];
-                for (int i = 6; i < 12; i++) {
-                    ret[i - 6] = response[i];
+            return copyTcpResponse(response);
+        }
+    }
+
+    /**
+     * Modbus TCP connection that keeps up to {@code maxOutstandingTransactions} transactions in flight on the same
+     * socket.
+     * <p>
+     * Requests are sent as soon as a transaction slot is available, without waiting for the responses to the previous
+     * ones. A reader thread parses the incoming frames, using the MBAP length field, and matches them to the pending
+     * requests by transaction identifier, so the responses may be received in any order. Callers of
+     * {@link #msgTransaction(byte[])} block until their own response is received or the response timeout expires.
+     */
+    private final class PipelinedEthernetCommunicate extends Communicate {
+
+        private final String ipAddress;
+        private final int port;
+        private final Semaphore slots;
+        private final Map<Integer, PendingTransaction> pendingTransactions = new ConcurrentHashMap<>();
+        private final byte[] cmd = new byte[FRAME_BUFFER_SIZE];
+
+        private Socket socket;
+        private OutputStream outputStream;
+        private volatile boolean connected = false;
+        private int nextTransactionId = 0;
+
+        public PipelinedEthernetCommunicate(Properties connectionConfig, int maxOutstandingTransactions)
+                throws ModbusProtocolException {
+            logger.debug("Configure pipelined TCP connection, max outstanding transactions: {}",
+                    maxOutstandingTransactions);
+            String sPort;
+
+            if ((sPort = connectionConfig.getProperty("ethport")) == null
+                    || connectionConfig.getProperty("ipAddress") == null) {
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.INVALID_CONFIGURATION);
+            }
+            this.ipAddress = connectionConfig.getProperty("ipAddress");
+            this.port = Integer.valueOf(sPort).intValue();
+            this.slots = new Semaphore(maxOutstandingTransactions, true);
+        }
+
+        @Override
+        public synchronized void connect() {
+            if (this.connected) {
+                return;
+            }
+
+            final Socket newSocket = new Socket();
+            try {
+                newSocket.connect(new InetSocketAddress(this.ipAddress, this.port),
+                        ModbusProtocolDevice.this.respTout);
+                newSocket.setTcpNoDelay(true);
+                final InputStream newInputStream = new BufferedInputStream(newSocket.getInputStream());
+                this.outputStream = newSocket.getOutputStream();
+                this.socket = newSocket;
+                this.connected = true;
+
+                final Thread reader = new Thread(() -> readResponses(newSocket, newInputStream),
+                        "ModbusTcpReader-" + this.ipAddress + ":" + this.port);
+                reader.setDaemon(true);
+                reader.start();
+
+                logger.info("TCP connected");
+            } catch (IOException e) {
+                closeQuietly(newSocket);
+                this.socket = null;
+                this.outputStream = null;
+                logger.error("Failed to connect to remote: " + e);
+            }
+        }
+
+        @Override
+        public synchronized void disconnect() {
+            if (!this.connected) {
+                return;
+            }
+            closeQuietly(this.socket);
+            this.socket = null;
+            this.outputStream = null;
+            this.connected = false;
+            failPendingTransactions("Connection closed");
+        }
+
+        @Override
+        public int getConnectStatus() {
+            if (this.connected) {
+                return KuraConnectionStatus.CONNECTED;
+            } else {
+                return KuraConnectionStatus.DISCONNECTED;
+            }
+        }
+
+        @Override
+        public byte[] msgTransaction(byte[] msg) throws ModbusProtocolException {
+            if (ModbusProtocolDevice.this.txMode != ModbusTransmissionMode.RTU_MODE) {
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.METHOD_NOT_SUPPORTED,
+                        "Only RTU over TCP/IP supported");
+            }
+
+            acquireSlot();
+            try {
+                final PendingTransaction transaction = new PendingTransaction(msg);
+                final int transactionId = send(transaction);
+
+                return awaitResponse(transactionId, transaction);
+            } finally {
+                this.slots.release();
+            }
+        }
+
+        private void acquireSlot() throws ModbusProtocolException {
+            final int timeout = ModbusProtocolDevice.this.respTout;
+            try {
+                if (timeout == 0) {
+                    this.slots.acquire();
+                } else if (!this.slots.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                            "Timeout waiting for a transaction slot");
                 }
-                return ret;
-            case ModbusFunctionCodes.READ_COIL_STATUS:
-            case ModbusFunctionCodes.READ_INPUT_STATUS:
-            case ModbusFunctionCodes.READ_INPUT_REGS:
-            case ModbusFunctionCodes.READ_HOLDING_REGS:
-                int byteCnt = (response[8] & 0xff) + 3 + 6;
-                ret = new byte[byteCnt - 6];
-                for (int i = 6; i < byteCnt; i++) {
-                    ret[i - 6] = response[i];
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Interrupted");
+            }
+        }
+
+        private synchronized int send(final PendingTransaction transaction) throws ModbusProtocolException {
+            connect();
+            if (!this.connected) {
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                        "Cannot transact on closed socket");
+            }
+
+            int transactionId;
+            do {
+                transactionId = this.nextTransactionId;
+                this.nextTransactionId = this.nextTransactionId + 1 & 0xffff;
+            } while (this.pendingTransactions.putIfAbsent(transactionId, transaction) != null);
+
+            try {
+                final int cmdLength = writeMbapFrame(this.cmd, transactionId, transaction.request);
+                this.outputStream.write(this.cmd, 0, cmdLength);
+                this.outputStream.flush();
+            } catch (IOException e) {
+                this.pendingTransactions.remove(transactionId);
+                logger.error("Socket disconnect in send: " + e);
+                disconnect();
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                        "Send failure: " + e.getMessage());
+            }
+
+            return transactionId;
+        }
+
+        private byte[] awaitResponse(final int transactionId, final PendingTransaction transaction)
+                throws ModbusProtocolException {
+            final int timeout = ModbusProtocolDevice.this.respTout;
+            try {
+                if (timeout == 0) {
+                    return transaction.response.get();
+                }
+                return transaction.response.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                this.pendingTransactions.remove(transactionId, transaction);
+                String failMsg = "Recv timeout";
+                logger.warn(failMsg);
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, failMsg);
+            } catch (InterruptedException e) {
+                this.pendingTransactions.remove(transactionId, transaction);
+                Thread.currentThread().interrupt();
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "Interrupted");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof ModbusProtocolException) {
+                    throw (ModbusProtocolException) e.getCause();
                 }
-                return ret;
+                throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, e.getCause());
             }
-            return null;
+        }
+
+        private void readResponses(final Socket readerSocket, final InputStream in) {
+            // the frame buffer is reused, only the returned responses are allocated
+            final byte[] frame = new byte[FRAME_BUFFER_SIZE];
+            try {
+                while (true) {
+                    readFully(in, frame, 0, 6);
+                    final int length = (frame[4] & 0xff) << 8 | frame[5] & 0xff;
+                    if (length < 3 || length > FRAME_BUFFER_SIZE - 6) {
+                        throw new IOException("Invalid MBAP length " + length);
+                    }
+                    readFully(in, frame, 6, length);
+
+                    final int transactionId = (frame[0] & 0xff) << 8 | frame[1] & 0xff;
+                    final PendingTransaction transaction = this.pendingTransactions.remove(transactionId);
+                    if (transaction == null) {
+                        logger.debug("Discarding response for unknown transaction {}", transactionId);
+                        continue;
+                    }
+                    try {
+                        transaction.complete(frame, length);
+                    } catch (RuntimeException e) {
+                        // the transaction is no longer pending, fail it here as disconnect() will not see it
+                        transaction.response.completeExceptionally(e);
+                        throw e;
+                    }
+                }
+            } catch (IOException e) {
+                closeReaderConnection(readerSocket, "Socket disconnect in recv: " + e);
+            } catch (RuntimeException e) {
+                // the reader thread is about to terminate, pending and future transactions would never complete
+                closeReaderConnection(readerSocket, "Failed to process response in recv: " + e);
+            }
+        }
+
+        private synchronized void closeReaderConnection(final Socket readerSocket, final String message) {
+            if (this.socket == readerSocket) {
+                logger.error(message);
+                disconnect();
+            }
+        }
+
+        private void failPendingTransactions(final String message) {
+            final ModbusProtocolException exception = new ModbusProtocolException(
+                    ModbusProtocolErrorCode.TRANSACTION_FAILURE, message);
+            for (final Integer transactionId : this.pendingTransactions.keySet()) {
+                final PendingTransaction transaction = this.pendingTransactions.remove(transactionId);
+                if (transaction != null) {
+                    transaction.response.completeExceptionally(exception);
+                }
+            }
+        }
+    }
+
+    private static final class PendingTransaction {
+
+        final byte[] request;
+        final CompletableFuture<byte[]> response = new CompletableFuture<>();
+
+        PendingTransaction(final byte[] request) {
+            this.request = request;
+        }
+
+        void complete(final byte[] frame, final int length) {
+            try {
+                checkTcpResponseHeader(frame, this.request);
+                checkTcpResponseLength(frame, length);
+                this.response.complete(copyTcpResponse(frame));
+            } catch (ModbusProtocolException e) {
+                this.response.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the MBAP header followed by the provided PDU in the target buffer.
+     *
+     * @return the length of the frame
+     */
+    private static int writeMbapFrame(byte[] target, int transactionId, byte[] msg) {
+        target[0] = (byte) (transactionId >> 8);
+        target[1] = (byte) transactionId;
+        target[2] = 0;
+        target[3] = 0;
+        // length
+        int len = msg.length;
+        target[4] = (byte) (len >> 8);
+        target[5] = (byte) len;
+        System.arraycopy(msg, 0, target, 6, len);
+        return len + 6;
+    }
+
+    /**
+     * Validates the unit identifier, function number and exception flag of a Modbus TCP response, the first 9 bytes of
+     * the response must be available.
+     */
+    private static void checkTcpResponseHeader(byte[] response, byte[] msg) throws ModbusProtocolException {
+        // test modbus id
+        if (response[6] != msg[0]) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    "incorrect modbus id " + String.format("%02X", response[6]));
+        }
+        // test function number
+        if ((response[7] & 0x7f) != msg[1]) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    "incorrect function number " + String.format("%02X", response[7]));
+        }
+        // Check first for an Exception response
+        if ((response[7] & 0x80) == 0x80) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE,
+                    "Modbus responds an error = " + String.format("%02X", response[8]));
+        }
+    }
+
+    /**
+     * Validates the byte count of a Modbus TCP response against the MBAP length field, that includes the unit
+     * identifier. The response must have been received completely.
+     */
+    private static void checkTcpResponseLength(byte[] response, int mbapLength) throws ModbusProtocolException {
+        if (getTcpResponseLength(response) - 6 != mbapLength) {
+            throw new ModbusProtocolException(ModbusProtocolErrorCode.TRANSACTION_FAILURE, "invalid byte count "
+                    + String.format("%02X", response[8]) + " for MBAP length " + mbapLength);
+        }
+    }
+
+    /**
+     * Returns the expected length of a Modbus TCP response, computed from its first 9 bytes.
+     */
+    private static int getTcpResponseLength(byte[] response) {
+        if (response[7] == ModbusFunctionCodes.FORCE_SINGLE_COIL || response[7] == ModbusFunctionCodes.PRESET_SINGLE_REG
+                || response[7] == ModbusFunctionCodes.FORCE_MULTIPLE_COILS
+                || response[7] == ModbusFunctionCodes.PRESET_MULTIPLE_REGS) {
+            return 12;
+        } else {
+            // bytes count
+            return (response[8] & 0xff) + 9;
+        }
+    }
+
+    /**
+     * Copies the PDU of a validated Modbus TCP response, prefixed by the unit identifier.
+     */
+    private static byte[] copyTcpResponse(byte[] response) {
+        switch (response[7]) {
+        case ModbusFunctionCodes.FORCE_SINGLE_COIL:
+        case ModbusFunctionCodes.PRESET_SINGLE_REG:
+        case ModbusFunctionCodes.FORCE_MULTIPLE_COILS:
+        case ModbusFunctionCodes.PRESET_MULTIPLE_REGS:
+            byte[] ret = new byte[8];
+            System.arraycopy(response, 6, ret, 0, 6);
+            return ret;
+        case ModbusFunctionCodes.READ_COIL_STATUS:
+        case ModbusFunctionCodes.READ_INPUT_STATUS:
+        case ModbusFunctionCodes.READ_INPUT_REGS:
+        case ModbusFunctionCodes.READ_HOLDING_REGS:
+            int byteCnt = (response[8] & 0xff) + 3 + 6;
+            ret = new byte[byteCnt - 6];
+            System.arraycopy(response, 6, ret, 0, byteCnt - 6);
+            return ret;
+        }
+        return null;
+    }
+
+    private static void readFully(InputStream in, byte[] buffer, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            final int count = in.read(buffer, offset + read, length - read);
+            if (count < 0) {
+                throw new EOFException();
+            }
+            read += count;
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        if (socket == null) {
+            return;
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.error("Error closing TCP: " + e);
         }
     }
 
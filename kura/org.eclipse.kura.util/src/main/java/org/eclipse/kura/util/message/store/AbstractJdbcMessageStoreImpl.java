@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
@@ -38,6 +39,7 @@ import org.eclipse.kura.util.jdbc.SQLFunction;
 public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
 
     private static final String TOPIC_ELEMENT = "topic";
+    private static final int MAX_IDS_PER_STATEMENT = 500;
 
     protected final String tableName;
     protected final String escapedTableName;
@@ -106,17 +108,7 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
             try (PreparedStatement pstmt = c.prepareStatement(this.queries.getSqlStore(),
                     new String[] { "id" })) {
 
-                pstmt.setString(1, topic);
-                pstmt.setInt(2, qos);
-                pstmt.setBoolean(3, retain);
-                pstmt.setTimestamp(4, now, this.utcCalendar);
-                pstmt.setTimestamp(5, null);
-                pstmt.setInt(6, -1);
-                pstmt.setTimestamp(7, null);
-                pstmt.setBytes(8, payload);
-                pstmt.setInt(9, priority);
-                pstmt.setString(10, null);
-                pstmt.setTimestamp(11, null);
+                setStoreParameters(pstmt, now, topic, payload, qos, retain, priority);
                 pstmt.execute();
 
                 result = getFirstColumnValue(pstmt::getGeneratedKeys, ResultSet::getLong);
@@ -131,6 +123,64 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
 
     }
 
+    /**
+     * Inserts all the provided messages in a single transaction, the transaction is
+     * rolled back if any of the inserts fails.
+     *
+     * @return the generated identifiers, in the same order of the messages
+     */
+    protected List<Long> storeInternal(final List<StoredMessage> messages) throws KuraStoreException {
+        for (final StoredMessage message : messages) {
+            validate(message.getTopic());
+        }
+
+        final Timestamp now = new Timestamp(new Date().getTime());
+
+        return this.connectionProvider.withConnection(c -> {
+
+            final boolean autoCommit = c.getAutoCommit();
+
+            c.setAutoCommit(false);
+
+            try (PreparedStatement pstmt = c.prepareStatement(this.queries.getSqlStore(), new String[] { "id" })) {
+                final List<Long> result = new ArrayList<>(messages.size());
+
+                for (final StoredMessage message : messages) {
+                    setStoreParameters(pstmt, now, message.getTopic(), message.getPayload(), message.getQos(),
+                            message.isRetain(), message.getPriority());
+                    pstmt.execute();
+
+                    result.add(getFirstColumnValue(pstmt::getGeneratedKeys, ResultSet::getLong));
+                }
+
+                c.commit();
+
+                return result;
+            } catch (final SQLException e) {
+                c.rollback();
+                throw e;
+            } finally {
+                c.setAutoCommit(autoCommit);
+            }
+
+        }, "Cannot store messages");
+    }
+
+    protected void setStoreParameters(final PreparedStatement pstmt, final Timestamp now, final String topic,
+            final byte[] payload, final int qos, final boolean retain, final int priority) throws SQLException {
+        pstmt.setString(1, topic);
+        pstmt.setInt(2, qos);
+        pstmt.setBoolean(3, retain);
+        pstmt.setTimestamp(4, now, this.utcCalendar);
+        pstmt.setTimestamp(5, null);
+        pstmt.setInt(6, -1);
+        pstmt.setTimestamp(7, null);
+        pstmt.setBytes(8, payload);
+        pstmt.setInt(9, priority);
+        pstmt.setString(10, null);
+        pstmt.setTimestamp(11, null);
+    }
+
     @Override
     public Optional<StoredMessage> get(int msgId) throws KuraStoreException {
 
@@ -163,6 +213,78 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
                 "Cannot get message next message");
     }
 
+    @Override
+    public List<StoredMessage> getNextMessages(final int maxCount) throws KuraStoreException {
+
+        return getNextMessages(maxCount, rs -> buildStoredMessageBuilder(rs, true).build());
+    }
+
+    protected List<StoredMessage> getNextMessages(final int maxCount,
+            final SQLFunction<ResultSet, StoredMessage> messageBuilder) throws KuraStoreException {
+
+        if (maxCount <= 0) {
+            return new ArrayList<>();
+        }
+
+        return this.connectionProvider.withPreparedStatement(this.queries.getSqlGetNextMessages(), (c, stmt) -> {
+            stmt.setInt(1, maxCount);
+
+            final List<StoredMessage> messages = new ArrayList<>();
+
+            try (final ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    messages.add(messageBuilder.call(rs));
+                }
+            }
+
+            return messages;
+        }, "Cannot get next messages");
+    }
+
+    @Override
+    public List<StoredMessage> getNextMessages(final int minPriority, final int maxPriority, final int maxCount)
+            throws KuraStoreException {
+
+        return getNextMessages(minPriority, maxPriority, maxCount, rs -> buildStoredMessageBuilder(rs, true).build());
+    }
+
+    protected List<StoredMessage> getNextMessages(final int minPriority, final int maxPriority, final int maxCount,
+            final SQLFunction<ResultSet, StoredMessage> messageBuilder) throws KuraStoreException {
+
+        if (maxCount <= 0) {
+            return new ArrayList<>();
+        }
+
+        return this.connectionProvider.withPreparedStatement(this.queries.getSqlGetNextMessagesInPriorityRange(),
+                (c, stmt) -> {
+                    stmt.setInt(1, minPriority);
+                    stmt.setInt(2, maxPriority);
+                    stmt.setInt(3, maxCount);
+
+                    final List<StoredMessage> messages = new ArrayList<>();
+
+                    try (final ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            messages.add(messageBuilder.call(rs));
+                        }
+                    }
+
+                    return messages;
+                }, "Cannot get next messages");
+    }
+
+    @Override
+    public int getUnpublishedMessageCount(final int minPriority, final int maxPriority) throws KuraStoreException {
+
+        return this.connectionProvider.withPreparedStatement(this.queries.getSqlUnpublishedMessageCountInPriorityRange(),
+                (c, stmt) -> {
+                    stmt.setInt(1, minPriority);
+                    stmt.setInt(2, maxPriority);
+
+                    return getFirstColumnValue(stmt::executeQuery, ResultSet::getInt);
+                }, "Cannot get message count");
+    }
+
     @Override
     public void markAsPublished(int msgId, DataTransportToken token) throws KuraStoreException {
         final Timestamp now = new Timestamp(new Date().getTime());
@@ -190,11 +312,21 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
         updateTimestamp(this.queries.getSqlSetPublishedQoS0(), msgId);
     }
 
+    @Override
+    public void markAsPublished(final List<Integer> msgIds) throws KuraStoreException {
+        updateTimestamps(this.queries.getSqlSetPublishedQoS0Multiple(), msgIds);
+    }
+
     @Override
     public void markAsConfirmed(int msgId) throws KuraStoreException {
         updateTimestamp(this.queries.getSqlSetConfirmed(), msgId);
     }
 
+    @Override
+    public void markAsConfirmed(final List<Integer> msgIds) throws KuraStoreException {
+        updateTimestamps(this.queries.getSqlSetConfirmedMultiple(), msgIds);
+    }
+
     @Override
     public List<StoredMessage> getUnpublishedMessages() throws KuraStoreException {
 
@@ -263,6 +395,70 @@ public abstract class AbstractJdbcMessageStoreImpl implements MessageStore {
         }, "Cannot update timestamp");
     }
 
+    /**
+     * Sets the current time as the timestamp parameter of the given statement
+     * template for all of the provided message ids. The template must contain a
+     * <code>{0}</code> placeholder for the comma separated list of id parameters.
+     * The update is performed in a single transaction, splitting the id list if
+     * it is too large for a single statement.
+     */
+    protected void updateTimestamps(final String sqlTemplate, final List<Integer> msgIds)
+            throws KuraStoreException {
+        if (msgIds.isEmpty()) {
+            return;
+        }
+
+        final Timestamp now = new Timestamp(new Date().getTime());
+
+        this.connectionProvider.withConnection(c -> {
+
+            final boolean autoCommit = c.getAutoCommit();
+
+            c.setAutoCommit(false);
+
+            try {
+                for (int start = 0; start < msgIds.size(); start += MAX_IDS_PER_STATEMENT) {
+                    final List<Integer> chunk = msgIds.subList(start,
+                            Math.min(msgIds.size(), start + MAX_IDS_PER_STATEMENT));
+
+                    try (final PreparedStatement stmt = c
+                            .prepareStatement(MessageFormat.format(sqlTemplate, buildParameterList(chunk.size())))) {
+                        stmt.setTimestamp(1, now, this.utcCalendar);
+
+                        for (int i = 0; i < chunk.size(); i++) {
+                            stmt.setInt(2 + i, chunk.get(i));
+                        }
+
+                        stmt.execute();
+                    }
+                }
+
+                c.commit();
+            } catch (final SQLException e) {
+                c.rollback();
+                throw e;
+            } finally {
+                c.setAutoCommit(autoCommit);
+            }
+
+            return null;
+
+        }, "Cannot update timestamps");
+    }
+
+    private static String buildParameterList(final int count) {
+        final StringBuilder builder = new StringBuilder(count * 3);
+
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append('?');
+        }
+
+        return builder.toString();
+    }
+
     protected List<StoredMessage> listMessages(String sql, Integer... params) throws KuraStoreException {
         return this.connectionProvider.withPreparedStatement(sql, (c, stmt) -> {
             if (params != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,9 +21,14 @@ public final class JdbcMessageStoreQueries {
     private final String sqlStore;
     private final String sqlGetMessage;
     private final String sqlGetNextMessage;
+    private final String sqlGetNextMessages;
+    private final String sqlGetNextMessagesInPriorityRange;
+    private final String sqlUnpublishedMessageCountInPriorityRange;
     private final String sqlSetPublishedQoS1;
     private final String sqlSetPublishedQoS0;
+    private final String sqlSetPublishedQoS0Multiple;
     private final String sqlSetConfirmed;
+    private final String sqlSetConfirmedMultiple;
     private final String sqlAllUnpublishedMessages;
     private final String sqlAllInFlightMessages;
     private final String sqlAllDroppedInFlightMessages;
@@ -43,9 +48,15 @@ public final class JdbcMessageStoreQueries {
         this.sqlStore = requireNonNull(builder.sqlStore);
         this.sqlGetMessage = requireNonNull(builder.sqlGetMessage);
         this.sqlGetNextMessage = requireNonNull(builder.sqlGetNextMessage);
+        this.sqlGetNextMessages = requireNonNull(builder.sqlGetNextMessages);
+        this.sqlGetNextMessagesInPriorityRange = requireNonNull(builder.sqlGetNextMessagesInPriorityRange);
+        this.sqlUnpublishedMessageCountInPriorityRange = requireNonNull(
+                builder.sqlUnpublishedMessageCountInPriorityRange);
         this.sqlSetPublishedQoS1 = requireNonNull(builder.sqlSetPublishedQoS1);
         this.sqlSetPublishedQoS0 = requireNonNull(builder.sqlSetPublishedQoS0);
+        this.sqlSetPublishedQoS0Multiple = requireNonNull(builder.sqlSetPublishedQoS0Multiple);
         this.sqlSetConfirmed = requireNonNull(builder.sqlSetConfirmed);
+        this.sqlSetConfirmedMultiple = requireNonNull(builder.sqlSetConfirmedMultiple);
         this.sqlAllUnpublishedMessages = requireNonNull(builder.sqlAllUnpublishedMessages);
         this.sqlAllInFlightMessages = requireNonNull(builder.sqlAllInFlightMessages);
         this.sqlAllDroppedInFlightMessages = requireNonNull(builder.sqlAllDroppedInFlightMessages);
@@ -80,6 +91,18 @@ public final class JdbcMessageStoreQueries {
         return sqlGetNextMessage;
     }
 
+    public String getSqlGetNextMessages() {
+        return sqlGetNextMessages;
+    }
+
+    public String getSqlGetNextMessagesInPriorityRange() {
+        return sqlGetNextMessagesInPriorityRange;
+    }
+
+    public String getSqlUnpublishedMessageCountInPriorityRange() {
+        return sqlUnpublishedMessageCountInPriorityRange;
+    }
+
     public String getSqlSetPublishedQoS1() {
         return sqlSetPublishedQoS1;
     }
@@ -88,10 +111,18 @@ public final class JdbcMessageStoreQueries {
         return sqlSetPublishedQoS0;
     }
 
+    public String getSqlSetPublishedQoS0Multiple() {
+        return sqlSetPublishedQoS0Multiple;
+    }
+
     public String getSqlSetConfirmed() {
         return sqlSetConfirmed;
     }
 
+    public String getSqlSetConfirmedMultiple() {
+        return sqlSetConfirmedMultiple;
+    }
+
     public String getSqlAllUnpublishedMessages() {
         return sqlAllUnpublishedMessages;
     }
@@ -151,9 +182,14 @@ public final class JdbcMessageStoreQueries {
         private String sqlStore;
         private String sqlGetMessage;
         private String sqlGetNextMessage;
+        private String sqlGetNextMessages;
+        private String sqlGetNextMessagesInPriorityRange;
+        private String sqlUnpublishedMessageCountInPriorityRange;
         private String sqlSetPublishedQoS1;
         private String sqlSetPublishedQoS0;
+        private String sqlSetPublishedQoS0Multiple;
         private String sqlSetConfirmed;
+        private String sqlSetConfirmedMultiple;
         private String sqlAllUnpublishedMessages;
         private String sqlAllInFlightMessages;
         private String sqlAllDroppedInFlightMessages;
@@ -192,6 +228,22 @@ public final class JdbcMessageStoreQueries {
             return this;
         }
 
+        public Builder withSqlGetNextMessages(String sqlGetNextMessages) {
+            this.sqlGetNextMessages = sqlGetNextMessages;
+            return this;
+        }
+
+        public Builder withSqlGetNextMessagesInPriorityRange(String sqlGetNextMessagesInPriorityRange) {
+            this.sqlGetNextMessagesInPriorityRange = sqlGetNextMessagesInPriorityRange;
+            return this;
+        }
+
+        public Builder withSqlUnpublishedMessageCountInPriorityRange(
+                String sqlUnpublishedMessageCountInPriorityRange) {
+            this.sqlUnpublishedMessageCountInPriorityRange = sqlUnpublishedMessageCountInPriorityRange;
+            return this;
+        }
+
         public Builder withSqlSetPublishedQoS1(String sqlSetPublishedQoS1) {
             this.sqlSetPublishedQoS1 = sqlSetPublishedQoS1;
             return this;
@@ -202,11 +254,21 @@ public final class JdbcMessageStoreQueries {
             return this;
         }
 
+        public Builder withSqlSetPublishedQoS0Multiple(String sqlSetPublishedQoS0Multiple) {
+            this.sqlSetPublishedQoS0Multiple = sqlSetPublishedQoS0Multiple;
+            return this;
+        }
+
         public Builder withSqlSetConfirmed(String sqlSetConfirmed) {
             this.sqlSetConfirmed = sqlSetConfirmed;
             return this;
         }
 
+        public Builder withSqlSetConfirmedMultiple(String sqlSetConfirmedMultiple) {
+            this.sqlSetConfirmedMultiple = sqlSetConfirmedMultiple;
+            return this;
+        }
+
         public Builder withSqlAllUnpublishedMessages(String sqlAllUnpublishedMessages) {
             this.sqlAllUnpublishedMessages = sqlAllUnpublishedMessages;
             return this;
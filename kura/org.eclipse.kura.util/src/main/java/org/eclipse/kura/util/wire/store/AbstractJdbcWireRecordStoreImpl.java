@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2023, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -30,10 +34,20 @@ import java.util.Set;
 
 import org.eclipse.kura.KuraStoreException;
 import org.eclipse.kura.connection.listener.ConnectionListener;
+import org.eclipse.kura.type.BooleanValue;
+import org.eclipse.kura.type.ByteArrayValue;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.DoubleValue;
+import org.eclipse.kura.type.FloatValue;
+import org.eclipse.kura.type.IntegerValue;
+import org.eclipse.kura.type.LongValue;
+import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.util.jdbc.ConnectionProvider;
 import org.eclipse.kura.util.jdbc.JdbcUtil;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.store.provider.WireRecordStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +58,7 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     private static final String COLUMN_NAME = "COLUMN_NAME";
     private static final String TYPE_NAME = "TYPE_NAME";
+    private static final int MAX_CACHED_SIGNATURES = 64;
 
     protected final String tableName;
     protected final String escapedTableName;
@@ -52,6 +67,13 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     private Set<ConnectionListener> connectionListeners;
 
+    private Map<String, String> cachedColumnTypes;
+    private final Set<ColumnSignature> reconciledSignatures = new HashSet<>();
+    private final Map<ColumnSignature, String> insertQueries = new HashMap<>();
+
+    private WireRecordSchema lastSchema;
+    private ColumnSignature lastSchemaSignature;
+
     protected AbstractJdbcWireRecordStoreImpl(final ConnectionProvider connectionProvider, final String tableName) {
         if (tableName == null || tableName.trim().isEmpty()) {
             throw new IllegalArgumentException("Table name cannot be null or empty.");
@@ -123,18 +145,33 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
     @Override
     public synchronized void insertRecords(final List<WireRecord> records) throws KuraStoreException {
+        if (records.isEmpty()) {
+            return;
+        }
+
         this.connectionProvider.withConnection(c -> {
 
-            for (final WireRecord r : records) {
+            final boolean autoCommit = c.getAutoCommit();
+
+            c.setAutoCommit(false);
+
+            try {
                 try {
-                    createColumns(c, r);
-                    insertRecord(c, r);
+                    insertRecordsBatch(c, records);
                 } catch (final SQLException e) {
                     logger.info("Reconciling table and columns");
+                    c.rollback();
+                    invalidateSchemaCache();
                     execute(c, this.queries.getSqlCreateTable());
-                    createColumns(c, r);
-                    insertRecord(c, r);
+                    insertRecordsBatch(c, records);
                 }
+
+                c.commit();
+            } catch (final SQLException e) {
+                c.rollback();
+                throw e;
+            } finally {
+                c.setAutoCommit(autoCommit);
             }
 
             return null;
@@ -146,9 +183,54 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         // nothing to close
     }
 
+    protected void insertRecordsBatch(final Connection c, final List<WireRecord> records) throws SQLException {
+        final Map<ColumnSignature, PreparedStatement> statements = new LinkedHashMap<>();
+
+        try {
+            PreparedStatement current = null;
+            ColumnSignature currentSignature = null;
+
+            for (final WireRecord wireRecord : records) {
+                final ColumnSignature signature = getSignature(wireRecord);
+
+                if (!signature.equals(currentSignature)) {
+                    if (current != null) {
+                        current.executeBatch();
+                    }
+
+                    reconcileColumns(c, signature, wireRecord);
+
+                    current = statements.get(signature);
+
+                    if (current == null) {
+                        current = c.prepareStatement(getInsertQuerySql(signature, wireRecord));
+                        statements.put(signature, current);
+                    }
+
+                    currentSignature = signature;
+                }
+
+                if (wireRecord instanceof PrimitiveWireRecord) {
+                    bindRecord(current, System.currentTimeMillis(), (PrimitiveWireRecord) wireRecord);
+                } else {
+                    bindRecord(current, System.currentTimeMillis(), wireRecord.getProperties());
+                }
+                current.addBatch();
+            }
+
+            if (current != null) {
+                current.executeBatch();
+            }
+
+            logger.debug("Stored {} records into table {}", records.size(), escapedTableName);
+        } finally {
+            closeStatements(statements);
+        }
+    }
+
     protected void createColumns(final Connection c, final WireRecord wireRecord) throws SQLException {
 
-        final Map<String, String> columnTypes = probeColumnTypes(c);
+        final Map<String, String> columnTypes = getColumnTypes(c);
 
         for (Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
 
@@ -173,6 +255,7 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
             logger.debug("creating new column: {} {}", name, mappedType.get());
             execute(c, MessageFormat.format(queries.getSqlAddColumn(), escapedColName, mappedType.get()));
+            columnTypes.put(escapedColName, mappedType.get());
 
         } else {
             final String actualColumnType = columnTypes.get(escapedColName);
@@ -183,6 +266,7 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
 
                 execute(c, MessageFormat.format(queries.getSqlDropColumn(), escapedColName));
                 execute(c, MessageFormat.format(queries.getSqlAddColumn(), escapedColName, mappedType.get()));
+                columnTypes.put(escapedColName, mappedType.get());
             }
         }
     }
@@ -191,6 +275,34 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         return mappedType.equals(actualType);
     }
 
+    protected Map<String, String> getColumnTypes(final Connection c) throws SQLException {
+        if (this.cachedColumnTypes == null) {
+            this.cachedColumnTypes = probeColumnTypes(c);
+        }
+
+        return this.cachedColumnTypes;
+    }
+
+    protected void invalidateSchemaCache() {
+        this.cachedColumnTypes = null;
+        this.reconciledSignatures.clear();
+    }
+
+    private void reconcileColumns(final Connection c, final ColumnSignature signature, final WireRecord wireRecord)
+            throws SQLException {
+        if (this.reconciledSignatures.contains(signature)) {
+            return;
+        }
+
+        createColumns(c, wireRecord);
+
+        if (this.reconciledSignatures.size() >= MAX_CACHED_SIGNATURES) {
+            this.reconciledSignatures.clear();
+        }
+
+        this.reconciledSignatures.add(signature);
+    }
+
     protected Map<String, String> probeColumnTypes(final Connection c) throws SQLException {
         final Map<String, String> result = new HashMap<>();
 
@@ -226,26 +338,102 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         logger.debug("Storing data into table {}...", escapedTableName);
 
         try (final PreparedStatement stmt = connection.prepareStatement(insertQuery)) {
-            stmt.setLong(1, timestamp);
+            bindRecord(stmt, timestamp, wireRecord.getProperties());
 
-            int i = 2;
+            stmt.execute();
 
-            for (Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
+            if (isExplicitCommitEnabled()) {
+                connection.commit();
+            }
 
-                setParameterValue(stmt, i, entry.getValue().getValue());
+            logger.debug("Stored typed value");
+        }
 
-                i++;
+    }
+
+    protected void bindRecord(final PreparedStatement stmt, final long timestamp,
+            final Map<String, TypedValue<?>> properties) throws SQLException {
+        stmt.setLong(1, timestamp);
+
+        int i = 2;
+
+        for (Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+
+            setParameterValue(stmt, i, entry.getValue().getValue());
+
+            i++;
+        }
+    }
+
+    /**
+     * Binds the values of a {@link PrimitiveWireRecord} reading them directly from the record, the parameters are
+     * bound in schema order.
+     */
+    protected void bindRecord(final PreparedStatement stmt, final long timestamp, final PrimitiveWireRecord record)
+            throws SQLException {
+        stmt.setLong(1, timestamp);
+
+        final WireRecordSchema schema = record.getSchema();
+
+        for (int i = 0; i < schema.size(); i++) {
+            final int index = i + 2;
+
+            switch (schema.getType(i)) {
+            case BOOLEAN:
+                stmt.setBoolean(index, record.getBoolean(i));
+                break;
+            case INTEGER:
+                stmt.setInt(index, record.getInteger(i));
+                break;
+            case LONG:
+                stmt.setLong(index, record.getLong(i));
+                break;
+            case FLOAT:
+                stmt.setFloat(index, record.getFloat(i));
+                break;
+            case DOUBLE:
+                stmt.setDouble(index, record.getDouble(i));
+                break;
+            case BYTE_ARRAY:
+                stmt.setBytes(index, record.getByteArray(i));
+                break;
+            default:
+                stmt.setString(index, record.getString(i));
+                break;
             }
+        }
+    }
 
-            stmt.execute();
+    private ColumnSignature getSignature(final WireRecord wireRecord) {
+        if (!(wireRecord instanceof PrimitiveWireRecord)) {
+            return ColumnSignature.of(wireRecord.getProperties());
+        }
 
-            if (isExplicitCommitEnabled()) {
-                connection.commit();
+        // records emitted by the same component share the schema instance
+        final WireRecordSchema schema = ((PrimitiveWireRecord) wireRecord).getSchema();
+
+        if (schema != this.lastSchema) {
+            this.lastSchemaSignature = ColumnSignature.of(schema);
+            this.lastSchema = schema;
+        }
+
+        return this.lastSchemaSignature;
+    }
+
+    private String getInsertQuerySql(final ColumnSignature signature, final WireRecord wireRecord) {
+        String result = this.insertQueries.get(signature);
+
+        if (result == null) {
+            result = buildInsertQuerySql(wireRecord.getProperties());
+
+            if (this.insertQueries.size() >= MAX_CACHED_SIGNATURES) {
+                this.insertQueries.clear();
             }
 
-            logger.debug("Stored typed value");
+            this.insertQueries.put(signature, result);
         }
 
+        return result;
     }
 
     protected String buildInsertQuerySql(final Map<String, TypedValue<?>> properties) {
@@ -310,4 +498,95 @@ public abstract class AbstractJdbcWireRecordStoreImpl implements WireRecordStore
         return false;
     }
 
+    private static void closeStatements(final Map<ColumnSignature, PreparedStatement> statements) {
+        final Iterator<PreparedStatement> iter = statements.values().iterator();
+
+        while (iter.hasNext()) {
+            try {
+                iter.next().close();
+            } catch (final SQLException e) {
+                logger.warn("failed to close statement", e);
+            }
+        }
+    }
+
+    private static final class ColumnSignature {
+
+        private final String[] names;
+        private final Class<?>[] types;
+        private final int hashCode;
+
+        private ColumnSignature(final String[] names, final Class<?>[] types) {
+            this.names = names;
+            this.types = types;
+            this.hashCode = 31 * Arrays.hashCode(names) + Arrays.hashCode(types);
+        }
+
+        static ColumnSignature of(final Map<String, TypedValue<?>> properties) {
+            final String[] names = new String[properties.size()];
+            final Class<?>[] types = new Class<?>[properties.size()];
+
+            int i = 0;
+
+            for (final Entry<String, TypedValue<?>> entry : properties.entrySet()) {
+                final TypedValue<?> value = entry.getValue();
+
+                names[i] = entry.getKey();
+                types[i] = value != null ? value.getClass() : null;
+                i++;
+            }
+
+            return new ColumnSignature(names, types);
+        }
+
+        static ColumnSignature of(final WireRecordSchema schema) {
+            final String[] names = new String[schema.size()];
+            final Class<?>[] types = new Class<?>[schema.size()];
+
+            for (int i = 0; i < schema.size(); i++) {
+                names[i] = schema.getName(i);
+                types[i] = getTypedValueClass(schema.getType(i));
+            }
+
+            return new ColumnSignature(names, types);
+        }
+
+        private static Class<?> getTypedValueClass(final DataType type) {
+            switch (type) {
+            case BOOLEAN:
+                return BooleanValue.class;
+            case BYTE_ARRAY:
+                return ByteArrayValue.class;
+            case DOUBLE:
+                return DoubleValue.class;
+            case FLOAT:
+                return FloatValue.class;
+            case INTEGER:
+                return IntegerValue.class;
+            case LONG:
+                return LongValue.class;
+            default:
+                return StringValue.class;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ColumnSignature)) {
+                return false;
+            }
+            final ColumnSignature other = (ColumnSignature) obj;
+            return this.hashCode == other.hashCode && Arrays.equals(this.names, other.names)
+                    && Arrays.equals(this.types, other.types);
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@ package org.eclipse.kura.wire.ai.component.provider;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +26,7 @@ import org.eclipse.kura.KuraException;
 import org.eclipse.kura.ai.inference.InferenceEngineService;
 import org.eclipse.kura.ai.inference.ModelInfo;
 import org.eclipse.kura.ai.inference.Tensor;
+import org.eclipse.kura.ai.inference.TensorDescriptor;
 import org.eclipse.kura.configuration.ConfigurableComponent;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEmitter;
@@ -53,6 +56,8 @@ public class AIComponent implements WireEmitter, WireReceiver, ConfigurableCompo
     private Optional<ModelInfo> infoInfer;
     private Optional<ModelInfo> infoPost;
 
+    private volatile WireRecordBatcher batcher;
+
     public void bindWireHelperService(final WireHelperService wireHelperService) {
         if (this.wireHelperService == null) {
             this.wireHelperService = wireHelperService;
@@ -89,6 +94,7 @@ public class AIComponent implements WireEmitter, WireReceiver, ConfigurableCompo
 
     public void deactivate() {
         logger.info("Deactivating AIComponent...");
+        closeBatcher();
         logger.info("Deactivating AIComponent... Done.");
     }
 
@@ -100,6 +106,12 @@ public class AIComponent implements WireEmitter, WireReceiver, ConfigurableCompo
         this.infoInfer = Optional.empty();
         this.infoPost = Optional.empty();
 
+        closeBatcher();
+        if (this.options.isBatchEnabled()) {
+            this.batcher = new WireRecordBatcher(this.options.getBatchSize(), this.options.getBatchWindow(),
+                    this.options.getBatchQueueCapacity(), this::processBatch);
+        }
+
         try {
             loadModelInfos();
             logger.info("Updating AIComponent... Done");
@@ -109,22 +121,55 @@ public class AIComponent implements WireEmitter, WireReceiver, ConfigurableCompo
     }
 
     @Override
-    public synchronized void onWireReceive(WireEnvelope wireEnvelope) {
+    public void onWireReceive(WireEnvelope wireEnvelope) {
         requireNonNull(wireEnvelope, "Wire Envelope cannot be null");
 
-        for (WireRecord wireRecord : wireEnvelope.getRecords()) {
-            try {
+        // a batcher closed by a concurrent update rejects the records, they go to its replacement if any
+        WireRecordBatcher currentBatcher;
+        while ((currentBatcher = this.batcher) != null) {
+            if (currentBatcher.add(wireEnvelope.getRecords())) {
+                return;
+            }
+        }
+
+        synchronized (this) {
+            for (WireRecord wireRecord : wireEnvelope.getRecords()) {
+                try {
 
-                Optional<List<WireRecord>> inferenceResult = inferenceProcess(wireRecord);
-                if (inferenceResult.isPresent()) {
-                    this.wireSupport.emit(inferenceResult.get());
+                    Optional<List<WireRecord>> inferenceResult = inferenceProcess(wireRecord);
+                    if (inferenceResult.isPresent()) {
+                        this.wireSupport.emit(inferenceResult.get());
+                    }
+
+                } catch (KuraException e) {
+                    logger.error("Error processing WireRecord.", e);
                 }
+            }
+        }
+
+    }
 
-            } catch (KuraException e) {
-                logger.error("Error processing WireRecord.", e);
+    private synchronized void processBatch(List<WireRecord> wireRecords) {
+        try {
+            Optional<List<Optional<List<WireRecord>>>> inferenceResults = inferenceProcess(wireRecords);
+            if (inferenceResults.isPresent()) {
+                for (Optional<List<WireRecord>> inferenceResult : inferenceResults.get()) {
+                    if (inferenceResult.isPresent()) {
+                        this.wireSupport.emit(inferenceResult.get());
+                    }
+                }
             }
+        } catch (KuraException e) {
+            logger.error("Error processing WireRecord batch.", e);
         }
+    }
 
+    private void closeBatcher() {
+        final WireRecordBatcher currentBatcher = this.batcher;
+        if (currentBatcher != null) {
+            this.batcher = null;
+            currentBatcher.close();
+        }
     }
 
     @Override
@@ -213,4 +258,64 @@ public class AIComponent implements WireEmitter, WireReceiver, ConfigurableCompo
             return Optional.empty();
         }
     }
+
+    /*
+     * The returned list has an element for each received record, at the same position. The element is empty if the
+     * record could not be converted from or to tensors.
+     */
+    private Optional<List<Optional<List<WireRecord>>>> inferenceProcess(List<WireRecord> wireRecords)
+            throws KuraException {
+        if (this.inferenceEngineService != null && this.inferenceEngineService.isEngineReady()) {
+
+            loadModelInfos();
+
+            List<TensorDescriptor> inputDescriptors = this.infoPre.isPresent() ? this.infoPre.get().getInputs()
+                    : this.infoInfer.get().getInputs();
+            List<List<Tensor>> tensorBatch = new ArrayList<>(wireRecords.size());
+            List<Integer> recordIndexes = new ArrayList<>(wireRecords.size());
+
+            for (int index = 0; index < wireRecords.size(); index++) {
+                try {
+                    tensorBatch.add(
+                            TensorListAdapter.givenDescriptors(inputDescriptors).fromWireRecord(wireRecords.get(index)));
+                    recordIndexes.add(index);
+                } catch (KuraException e) {
+                    logger.error("Error processing WireRecord.", e);
+                }
+            }
+
+            List<Optional<List<WireRecord>>> results = new ArrayList<>(
+                    Collections.nCopies(wireRecords.size(), Optional.empty()));
+
+            if (tensorBatch.isEmpty()) {
+                return Optional.of(results);
+            }
+
+            if (this.infoPre.isPresent()) {
+                tensorBatch = this.inferenceEngineService.inferBatch(this.infoPre.get(), tensorBatch);
+            }
+
+            tensorBatch = this.inferenceEngineService.inferBatch(this.infoInfer.get(), tensorBatch);
+
+            ModelInfo outputInfo = this.infoInfer.get();
+            if (this.infoPost.isPresent()) {
+                tensorBatch = this.inferenceEngineService.inferBatch(this.infoPost.get(), tensorBatch);
+                outputInfo = this.infoPost.get();
+            }
+
+            for (int index = 0; index < tensorBatch.size(); index++) {
+                try {
+                    results.set(recordIndexes.get(index), Optional.of(TensorListAdapter
+                            .givenDescriptors(outputInfo.getOutputs()).fromTensorList(tensorBatch.get(index))));
+                } catch (KuraException e) {
+                    logger.error("Error processing WireRecord.", e);
+                }
+            }
+
+            return Optional.of(results);
+        } else {
+            logger.info("Selected InferenceEngineService not ready yet.");
+            return Optional.empty();
+        }
+    }
 }
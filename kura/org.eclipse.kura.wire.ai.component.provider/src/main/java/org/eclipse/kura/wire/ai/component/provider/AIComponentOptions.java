@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,13 @@ public class AIComponentOptions {
     private static final String PREPROCESSOR_MODEL_NAME = "preprocessor.model.name";
     private static final String INFERENCE_MODEL_NAME = "inference.model.name";
     private static final String POSTPROCESSOR_MODEL_NAME = "postprocessor.model.name";
+    private static final String BATCH_SIZE = "batch.size";
+    private static final String BATCH_WINDOW = "batch.window";
+    private static final String BATCH_QUEUE_CAPACITY = "batch.queue.capacity";
+
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long DEFAULT_BATCH_WINDOW = 100;
+    private static final int DEFAULT_BATCH_QUEUE_CAPACITY = 16;
 
     private final Map<String, Object> properties;
 
@@ -45,4 +52,23 @@ public class AIComponentOptions {
         return (value != null && !value.trim().isEmpty()) ? Optional.of(value.trim()) : Optional.empty();
     }
 
+    public int getBatchSize() {
+        Object value = this.properties.get(BATCH_SIZE);
+        return (value instanceof Integer && (Integer) value > 0) ? (Integer) value : DEFAULT_BATCH_SIZE;
+    }
+
+    public long getBatchWindow() {
+        Object value = this.properties.get(BATCH_WINDOW);
+        return (value instanceof Long && (Long) value >= 0) ? (Long) value : DEFAULT_BATCH_WINDOW;
+    }
+
+    public int getBatchQueueCapacity() {
+        Object value = this.properties.get(BATCH_QUEUE_CAPACITY);
+        return (value instanceof Integer && (Integer) value > 0) ? (Integer) value : DEFAULT_BATCH_QUEUE_CAPACITY;
+    }
+
+    public boolean isBatchEnabled() {
+        return getBatchSize() > 1;
+    }
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  ******************************************************************************/
 package org.eclipse.kura.wire.ai.component.provider;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -61,7 +62,8 @@ public class TensorListAdapter {
      * @return a list of {@link Tensor}, one for each property in the {@code wireRecord}.
      *         <p>
      *         Each created {@link Tensor} will contain a data list of length 1 if the type is BOOLEAN, DOUBLE, FLOAT,
-     *         INTEGER, LONG, STRING. In case of BYTE_ARRAY the list is equal to the length of the array.
+     *         INTEGER, LONG, STRING. In case of BYTE_ARRAY the list is equal to the length of the array and the
+     *         {@link Tensor} is backed by the array, without copying it.
      * @throws KuraException
      *             if no descriptor matches the record name or the type is not a {@link org.eclipse.kura.type.DataType}
      */
@@ -103,7 +105,13 @@ public class TensorListAdapter {
                 List<?> tensorDataList = (List<?>) tensorData.get();
                 Object data;
 
-                if (tensorType.isAssignableFrom(Byte.class)) {
+                Optional<ByteBuffer> rawData = tensor.getRawData();
+                if (tensorType.isAssignableFrom(Byte.class) && rawData.isPresent()) {
+                    ByteBuffer buffer = rawData.get();
+                    byte[] bytes = new byte[buffer.remaining()];
+                    buffer.get(bytes);
+                    data = bytes;
+                } else if (tensorType.isAssignableFrom(Byte.class)) {
                     data = toByteArray(tensorDataList);
                 } else {
                     if (tensorDataList.size() != 1) {
@@ -143,14 +151,7 @@ public class TensorListAdapter {
 
             return new Tensor(Boolean.class, descriptor, boolData);
         case BYTE_ARRAY:
-            byte[] byteArrayValue = (byte[]) value;
-
-            List<Byte> byteArrayData = new ArrayList<>();
-            for (byte b : byteArrayValue) {
-                byteArrayData.add(b);
-            }
-
-            return new Tensor(Byte.class, descriptor, byteArrayData);
+            return new Tensor(Byte.class, descriptor, ByteBuffer.wrap((byte[]) value));
         case DOUBLE:
             List<Double> doubleData = new ArrayList<>();
             doubleData.add((Double) value);
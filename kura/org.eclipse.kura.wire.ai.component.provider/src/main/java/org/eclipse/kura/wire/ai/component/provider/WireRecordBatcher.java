@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.ai.component.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.kura.wire.WireRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects {@link WireRecord}s in batches of at most {@code batchSize} records and delivers them to a consumer in a
+ * dedicated thread. A batch is delivered when it is full or when {@code batchWindow} milliseconds have elapsed since
+ * its first record has been added. Batches are delivered one at a time, in the order of the records.
+ * <br>
+ * At most {@code queueCapacity} batches wait for delivery. The caller of {@link #add(List)} is never blocked: if the
+ * consumer cannot keep up and the queue is full, the oldest waiting batch is discarded and a warning is logged.
+ */
+public class WireRecordBatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WireRecordBatcher.class);
+
+    private final int batchSize;
+    private final long batchWindow;
+    private final int queueCapacity;
+    private final Consumer<List<WireRecord>> batchConsumer;
+    private final ScheduledExecutorService executor;
+
+    private final Queue<List<WireRecord>> readyBatches = new ConcurrentLinkedQueue<>();
+    private List<WireRecord> pendingRecords;
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
+
+    public WireRecordBatcher(int batchSize, long batchWindow, int queueCapacity,
+            Consumer<List<WireRecord>> batchConsumer) {
+        this.batchSize = batchSize;
+        this.batchWindow = batchWindow;
+        this.queueCapacity = queueCapacity;
+        this.batchConsumer = batchConsumer;
+        this.pendingRecords = new ArrayList<>(batchSize);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AIComponentBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds the records to the current batch.
+     *
+     * @return {@code false} if the batcher has been closed and the records have not been added
+     */
+    public synchronized boolean add(List<WireRecord> wireRecords) {
+        if (this.closed) {
+            return false;
+        }
+
+        for (WireRecord wireRecord : wireRecords) {
+            this.pendingRecords.add(wireRecord);
+
+            if (this.pendingRecords.size() >= this.batchSize) {
+                enqueuePendingRecords();
+                this.executor.execute(this::deliverReadyBatches);
+            }
+        }
+
+        if (!this.pendingRecords.isEmpty() && this.flushTask == null) {
+            this.flushTask = this.executor.schedule(this::flush, this.batchWindow, TimeUnit.MILLISECONDS);
+        }
+
+        return true;
+    }
+
+    /**
+     * Delivers the pending records and stops the delivery thread once the batches already collected have been
+     * delivered. The records added after this method has been called are rejected.
+     */
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+
+            if (this.flushTask != null) {
+                this.flushTask.cancel(false);
+                this.flushTask = null;
+            }
+            enqueuePendingRecords();
+        }
+
+        this.executor.execute(this::deliverReadyBatches);
+        this.executor.shutdown();
+    }
+
+    private void flush() {
+        synchronized (this) {
+            this.flushTask = null;
+            enqueuePendingRecords();
+        }
+
+        deliverReadyBatches();
+    }
+
+    private void enqueuePendingRecords() {
+        if (this.pendingRecords.isEmpty()) {
+            return;
+        }
+
+        if (this.readyBatches.size() >= this.queueCapacity) {
+            List<WireRecord> discarded = this.readyBatches.poll();
+            logger.warn("Inference is slower than the incoming records, discarding {} records",
+                    discarded != null ? discarded.size() : 0);
+        }
+
+        this.readyBatches.add(this.pendingRecords);
+        this.pendingRecords = new ArrayList<>(this.batchSize);
+    }
+
+    private void deliverReadyBatches() {
+        List<WireRecord> batch;
+        while ((batch = this.readyBatches.poll()) != null) {
+            try {
+                this.batchConsumer.accept(batch);
+            } catch (Exception e) {
+                logger.error("Error processing WireRecord batch.", e);
+            }
+        }
+    }
+}
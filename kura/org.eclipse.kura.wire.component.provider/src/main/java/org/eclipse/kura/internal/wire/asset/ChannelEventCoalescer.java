@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.channel.ChannelRecord;
+
+/**
+ * Collects the records of the channel events received by a {@link WireAsset} and delivers them in batches.
+ * <br>
+ * The coalescing window starts when the first event is received and the collected records are delivered when the
+ * window ends, or as soon as the configured number of events is reached. In the latter case the records are delivered
+ * on the thread that added the last event, slowing down the driver if the downstream components cannot keep up.
+ * <br>
+ * Batches are delivered one at a time, in the order they have been collected. The windows are timed by a scheduler
+ * shared by all the Wire Assets, whose threads terminate when idle.
+ */
+final class ChannelEventCoalescer {
+
+    private static final Logger logger = LogManager.getLogger(ChannelEventCoalescer.class);
+
+    private static final ScheduledThreadPoolExecutor scheduler = createScheduler();
+
+    private final long window;
+    private final int maxEvents;
+    private final ListenerCoalescingMode mode;
+    private final Consumer<List<ChannelRecord>> consumer;
+
+    private final Object deliveryLock = new Object();
+
+    // guarded by this
+    private final Map<String, ChannelRecord> latestRecords = new LinkedHashMap<>();
+    private final List<ChannelRecord> records = new ArrayList<>();
+    private int eventCount;
+    private ScheduledFuture<?> flushTask;
+    private boolean closed;
+
+    ChannelEventCoalescer(final long window, final int maxEvents, final ListenerCoalescingMode mode,
+            final Consumer<List<ChannelRecord>> consumer) {
+        this.window = window;
+        this.maxEvents = maxEvents;
+        this.mode = mode;
+        this.consumer = consumer;
+    }
+
+    void add(final ChannelRecord channelRecord) {
+        final boolean isFull;
+
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+
+            if (this.mode == ListenerCoalescingMode.SINGLE_RECORD) {
+                this.latestRecords.put(channelRecord.getChannelName(), channelRecord);
+            } else {
+                this.records.add(channelRecord);
+            }
+
+            this.eventCount++;
+
+            isFull = this.maxEvents > 0 && this.eventCount >= this.maxEvents;
+
+            if (!isFull && this.flushTask == null) {
+                this.flushTask = scheduler.schedule(this::flush, this.window, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (isFull) {
+            flush();
+        }
+    }
+
+    void flush() {
+        synchronized (this.deliveryLock) {
+            final List<ChannelRecord> pending;
+
+            synchronized (this) {
+                if (this.flushTask != null) {
+                    this.flushTask.cancel(false);
+                    this.flushTask = null;
+                }
+
+                if (this.closed || this.eventCount == 0) {
+                    return;
+                }
+
+                if (this.mode == ListenerCoalescingMode.SINGLE_RECORD) {
+                    pending = new ArrayList<>(this.latestRecords.values());
+                    this.latestRecords.clear();
+                } else {
+                    pending = new ArrayList<>(this.records);
+                    this.records.clear();
+                }
+
+                this.eventCount = 0;
+            }
+
+            try {
+                this.consumer.accept(pending);
+            } catch (final Exception e) {
+                logger.warn("Failed to emit coalesced channel events", e);
+            }
+        }
+    }
+
+    /**
+     * Stops the coalescer, the events collected and not yet delivered are discarded.
+     */
+    synchronized void close() {
+        this.closed = true;
+
+        if (this.flushTask != null) {
+            this.flushTask.cancel(false);
+            this.flushTask = null;
+        }
+
+        this.latestRecords.clear();
+        this.records.clear();
+        this.eventCount = 0;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        final AtomicInteger threadCount = new AtomicInteger();
+
+        final ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(
+                Runtime.getRuntime().availableProcessors(), runnable -> {
+                    final Thread thread = new Thread(runnable,
+                            "WireAssetEventCoalescer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        result.setKeepAliveTime(60, TimeUnit.SECONDS);
+        result.allowCoreThreadTimeOut(true);
+        result.setRemoveOnCancelPolicy(true);
+
+        return result;
+    }
+}
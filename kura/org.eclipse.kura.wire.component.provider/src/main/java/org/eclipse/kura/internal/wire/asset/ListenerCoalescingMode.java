@@ -0,0 +1,29 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+/**
+ * Specifies how the channel events received during a coalescing window are emitted.
+ */
+enum ListenerCoalescingMode {
+
+    /**
+     * A single record containing the latest value of each channel.
+     */
+    SINGLE_RECORD,
+
+    /**
+     * A single envelope containing a record for each event, in the order they have been received.
+     */
+    RECORD_PER_EVENT
+}
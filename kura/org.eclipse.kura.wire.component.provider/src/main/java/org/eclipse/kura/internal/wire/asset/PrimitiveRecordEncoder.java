@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+import java.util.List;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+
+/**
+ * Converts the channel records of a prepared read into {@link PrimitiveWireRecord}s with the same properties that
+ * would be produced by {@link Utils#toWireRecordProperties(List, WireAssetOptions)}.
+ * <br>
+ * The {@link WireRecordSchema} is shared by all the emitted records and it is rebuilt only if the layout of the
+ * channel records changes, for example if a channel read fails or a driver returns a value with a different type.
+ */
+final class PrimitiveRecordEncoder {
+
+    private final TimestampMode timestampMode;
+    private final boolean emitErrors;
+
+    private WireRecordSchema schema;
+    private DataType[] valueTypes;
+    private boolean[] hasUnit;
+
+    PrimitiveRecordEncoder(final WireAssetOptions options) {
+        this.timestampMode = options.getTimestampMode();
+        this.emitErrors = options.emitErrors();
+    }
+
+    /**
+     * Makes sure that the current schema matches the provided channel records, rebuilding it if needed.
+     *
+     * @return {@code false} if the channel records cannot be represented as a {@link PrimitiveWireRecord}
+     */
+    boolean updateLayout(final List<ChannelRecord> channelRecords) {
+        if (this.schema != null && matchesLayout(channelRecords)) {
+            return true;
+        }
+
+        return rebuildLayout(channelRecords);
+    }
+
+    /**
+     * Returns whether the current layout contains only the asset name property.
+     */
+    boolean isEmpty() {
+        return this.schema.size() == 1;
+    }
+
+    PrimitiveWireRecord encode(final List<ChannelRecord> channelRecords, final String assetName) {
+        final PrimitiveWireRecord.Builder builder = PrimitiveWireRecord.builder(this.schema);
+        final boolean isPerChannel = this.timestampMode == TimestampMode.PER_CHANNEL;
+
+        long minTimestamp = Long.MAX_VALUE;
+        long maxTimestamp = 0;
+        int index = 0;
+
+        for (int i = 0; i < this.valueTypes.length; i++) {
+            final ChannelRecord record = channelRecords.get(i);
+
+            if (this.valueTypes[i] != null) {
+                builder.set(index++, record.getValue());
+
+                if (this.hasUnit[i]) {
+                    builder.setString(index++, record.getUnit());
+                }
+            }
+
+            if (isPerChannel) {
+                builder.setLong(index++, record.getTimestamp());
+            }
+
+            if (this.emitErrors) {
+                builder.setString(index++, RecordFillers.getErrorMessage(record.getChannelStatus()));
+            }
+
+            minTimestamp = Math.min(minTimestamp, record.getTimestamp());
+            maxTimestamp = Math.max(maxTimestamp, record.getTimestamp());
+        }
+
+        switch (this.timestampMode) {
+        case SINGLE_ASSET_GENERATED:
+            builder.setLong(index++, System.currentTimeMillis());
+            break;
+        case SINGLE_DRIVER_GENERATED_MAX:
+            builder.setLong(index++, maxTimestamp);
+            break;
+        case SINGLE_DRIVER_GENERATED_MIN:
+            builder.setLong(index++, minTimestamp);
+            break;
+        default:
+            break;
+        }
+
+        builder.setString(index, assetName);
+
+        return builder.build();
+    }
+
+    private boolean matchesLayout(final List<ChannelRecord> channelRecords) {
+        final int size = channelRecords.size();
+
+        if (size != this.valueTypes.length) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            final ChannelRecord record = channelRecords.get(i);
+            final boolean isSuccess = isSuccess(record);
+
+            if (isSuccess != (this.valueTypes[i] != null)) {
+                return false;
+            }
+
+            if (isSuccess) {
+                final TypedValue<?> value = record.getValue();
+
+                if (value == null || value.getType() != this.valueTypes[i] || hasUnit(record) != this.hasUnit[i]) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean rebuildLayout(final List<ChannelRecord> channelRecords) {
+        this.schema = null;
+
+        final int size = channelRecords.size();
+        final DataType[] newValueTypes = new DataType[size];
+        final boolean[] newHasUnit = new boolean[size];
+        final WireRecordSchema.Builder builder = WireRecordSchema.builder();
+
+        try {
+            for (int i = 0; i < size; i++) {
+                final ChannelRecord record = channelRecords.get(i);
+                final String channelName = record.getChannelName();
+
+                if (isSuccess(record)) {
+                    final TypedValue<?> value = record.getValue();
+
+                    if (value == null) {
+                        return false;
+                    }
+
+                    newValueTypes[i] = value.getType();
+                    newHasUnit[i] = hasUnit(record);
+
+                    builder.add(channelName, newValueTypes[i]);
+
+                    if (newHasUnit[i]) {
+                        builder.add(channelName + WireAssetConstants.PROP_SUFFIX_UNIT.value(), DataType.STRING);
+                    }
+                }
+
+                if (this.timestampMode == TimestampMode.PER_CHANNEL) {
+                    builder.add(channelName + WireAssetConstants.PROP_SUFFIX_TIMESTAMP.value(), DataType.LONG);
+                }
+
+                if (this.emitErrors) {
+                    builder.add(channelName + WireAssetConstants.PROP_SUFFIX_ERROR.value(), DataType.STRING);
+                }
+            }
+
+            if (this.timestampMode != TimestampMode.NO_TIMESTAMPS
+                    && this.timestampMode != TimestampMode.PER_CHANNEL) {
+                builder.add(WireAssetConstants.PROP_SINGLE_TIMESTAMP_NAME.value(), DataType.LONG);
+            }
+
+            builder.add(WireAssetConstants.PROP_ASSET_NAME.value(), DataType.STRING);
+        } catch (final IllegalArgumentException e) {
+            // some generated property names clash, the map based conversion must be used
+            return false;
+        }
+
+        this.valueTypes = newValueTypes;
+        this.hasUnit = newHasUnit;
+        this.schema = builder.build();
+
+        return true;
+    }
+
+    private static boolean isSuccess(final ChannelRecord record) {
+        return record.getChannelStatus().getChannelFlag() == ChannelFlag.SUCCESS;
+    }
+
+    private static boolean hasUnit(final ChannelRecord record) {
+        final String unit = record.getUnit();
+
+        return unit != null && !unit.trim().isEmpty();
+    }
+}
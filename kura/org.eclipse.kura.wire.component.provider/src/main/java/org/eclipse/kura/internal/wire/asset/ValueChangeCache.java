@@ -1,30 +1,56 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
- * 
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
+ *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
  * which is available at https://www.eclipse.org/legal/epl-2.0/
- * 
+ *
  * SPDX-License-Identifier: EPL-2.0
- * 
+ *
  * Contributors:
  *  Eurotech
  *******************************************************************************/
 package org.eclipse.kura.internal.wire.asset;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.eclipse.kura.channel.ChannelFlag;
 import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.TypedValue;
 
+/**
+ * Filters out the channel records whose value did not change since the last emitted one.
+ * <br>
+ * By default any difference causes a record to be emitted. The values of numeric channels can be further filtered
+ * with the {@link ValueChangeOptions} of each channel:
+ * <ul>
+ * <li>a value within the absolute or percentage deadband of the last emitted value is not emitted</li>
+ * <li>with compression enabled, a value is not emitted as long as it lies within the swinging door corridor that
+ * starts at the last emitted value, that is as long as all the values since the last emission can be approximated by a
+ * straight line within the configured deviation</li>
+ * <li>with an heartbeat interval, a value is always emitted if no value has been emitted for that interval</li>
+ * </ul>
+ * The state of each channel is kept in mutable, primitive fields, so that filtering records that are not emitted
+ * does not allocate.
+ */
 public class ValueChangeCache {
 
-    private final Map<String, TypedValue<?>> cache = new HashMap<>();
+    private final Map<String, ChannelState> cache = new HashMap<>();
+    private final Map<String, ValueChangeOptions> channelOptions;
+
+    public ValueChangeCache() {
+        this(Collections.emptyMap());
+    }
+
+    ValueChangeCache(final Map<String, ValueChangeOptions> channelOptions) {
+        this.channelOptions = channelOptions;
+    }
 
     private boolean update(final ChannelRecord channelRecord) {
 
@@ -37,21 +63,152 @@ public class ValueChangeCache {
             return true;
         }
 
-        final TypedValue<?> value = channelRecord.getValue();
+        final ChannelState state = cache.get(key);
 
-        if (Objects.equals(cache.get(key), value)) {
+        if (state == null) {
+            final ChannelState newState = new ChannelState();
+            newState.set(channelRecord);
+            cache.put(key, newState);
+            return true;
+        }
+
+        if (!state.isChanged(channelRecord, this.channelOptions.getOrDefault(key, ValueChangeOptions.DEFAULT))) {
             return false;
         }
 
-        cache.put(key, value);
+        state.set(channelRecord);
 
         return true;
 
     }
 
+    /**
+     * Returns the records that should be emitted. If all records should be emitted, the provided list is returned.
+     */
     public synchronized List<ChannelRecord> filterRecords(final List<ChannelRecord> channelRecords) {
 
-        return channelRecords.stream().filter(this::update).collect(Collectors.toList());
+        final int size = channelRecords.size();
+        List<ChannelRecord> result = null;
+
+        for (int i = 0; i < size; i++) {
+            final ChannelRecord channelRecord = channelRecords.get(i);
+            final boolean isChanged = update(channelRecord);
+
+            if (result != null) {
+                if (isChanged) {
+                    result.add(channelRecord);
+                }
+            } else if (!isChanged) {
+                result = new ArrayList<>(size - 1);
+
+                for (int j = 0; j < i; j++) {
+                    result.add(channelRecords.get(j));
+                }
+            }
+        }
+
+        return result != null ? result : channelRecords;
+    }
+
+    private static boolean isNumeric(final DataType type) {
+        return type == DataType.INTEGER || type == DataType.LONG || type == DataType.FLOAT
+                || type == DataType.DOUBLE;
+    }
+
+    private static boolean isFloatingPoint(final DataType type) {
+        return type == DataType.FLOAT || type == DataType.DOUBLE;
+    }
+
+    private static final class ChannelState {
+
+        private DataType type;
+        private long timestamp;
+
+        // only one of these is used, depending on the type
+        private TypedValue<?> value;
+        private long longValue;
+        private double doubleValue;
+
+        // slopes of the swinging door corridor, in value units per millisecond
+        private double upperSlope;
+        private double lowerSlope;
+
+        void set(final ChannelRecord channelRecord) {
+            final TypedValue<?> newValue = channelRecord.getValue();
+
+            this.type = newValue != null ? newValue.getType() : null;
+            this.timestamp = channelRecord.getTimestamp();
+            this.upperSlope = Double.POSITIVE_INFINITY;
+            this.lowerSlope = Double.NEGATIVE_INFINITY;
+
+            if (!isNumeric(this.type)) {
+                this.value = newValue;
+            } else if (isFloatingPoint(this.type)) {
+                this.value = null;
+                this.doubleValue = ((Number) newValue.getValue()).doubleValue();
+            } else {
+                this.value = null;
+                this.longValue = ((Number) newValue.getValue()).longValue();
+                this.doubleValue = this.longValue;
+            }
+        }
+
+        boolean isChanged(final ChannelRecord channelRecord, final ValueChangeOptions options) {
+            final TypedValue<?> newValue = channelRecord.getValue();
+            final DataType newType = newValue != null ? newValue.getType() : null;
+
+            if (newType != this.type) {
+                return true;
+            }
+
+            final long newTimestamp = channelRecord.getTimestamp();
+
+            if (options.hasHeartbeat() && newTimestamp - this.timestamp >= options.getHeartbeatInterval()) {
+                return true;
+            }
+
+            if (!isNumeric(newType)) {
+                return !Objects.equals(this.value, newValue);
+            }
+
+            final double current;
+            final boolean isDifferent;
+
+            if (isFloatingPoint(newType)) {
+                current = ((Number) newValue.getValue()).doubleValue();
+                isDifferent = Double.compare(current, this.doubleValue) != 0;
+            } else {
+                final long currentLong = ((Number) newValue.getValue()).longValue();
+                current = currentLong;
+                isDifferent = currentLong != this.longValue;
+            }
+
+            // the corridor must be narrowed by every value, including the ones suppressed by the deadband
+            final boolean isInsideCorridor = options.hasCompression()
+                    && isInsideCorridor(current, newTimestamp, options.getCompressionDeviation());
+
+            if (!isDifferent || isInsideCorridor) {
+                return false;
+            }
+
+            final double deadband = options.getDeadband(this.doubleValue);
+
+            // NaN differences are always emitted
+            return deadband <= 0 || !(Math.abs(current - this.doubleValue) <= deadband);
+        }
+
+        private boolean isInsideCorridor(final double current, final long newTimestamp, final double deviation) {
+            final long elapsed = newTimestamp - this.timestamp;
+
+            if (elapsed <= 0) {
+                return Math.abs(current - this.doubleValue) <= deviation;
+            }
+
+            this.upperSlope = Math.min(this.upperSlope, (current + deviation - this.doubleValue) / elapsed);
+            this.lowerSlope = Math.max(this.lowerSlope, (current - deviation - this.doubleValue) / elapsed);
+
+            return this.lowerSlope <= this.upperSlope;
+        }
     }
 
 }
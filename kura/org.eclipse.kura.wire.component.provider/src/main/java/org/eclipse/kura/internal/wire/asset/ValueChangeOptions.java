@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.COMPRESSION_DEVIATION_PROP_NAME;
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.DEADBAND_ABSOLUTE_PROP_NAME;
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.DEADBAND_PERCENT_PROP_NAME;
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.HEARTBEAT_INTERVAL_PROP_NAME;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.eclipse.kura.channel.Channel;
+
+/**
+ * The per channel options of the {@link ValueChangeCache}, parsed from the channel properties defined by
+ * {@link WireAssetChannelDescriptor}. Missing, invalid or negative values disable the corresponding filter.
+ */
+final class ValueChangeOptions {
+
+    private static final Logger logger = LogManager.getLogger(ValueChangeOptions.class);
+
+    static final ValueChangeOptions DEFAULT = new ValueChangeOptions(0, 0, 0, 0);
+
+    private final double absoluteDeadband;
+    private final double percentDeadband;
+    private final long heartbeatInterval;
+    private final double compressionDeviation;
+
+    ValueChangeOptions(final double absoluteDeadband, final double percentDeadband, final long heartbeatInterval,
+            final double compressionDeviation) {
+        this.absoluteDeadband = Math.max(0, absoluteDeadband);
+        this.percentDeadband = Math.max(0, percentDeadband);
+        this.heartbeatInterval = Math.max(0, heartbeatInterval);
+        this.compressionDeviation = Math.max(0, compressionDeviation);
+    }
+
+    static ValueChangeOptions fromChannelConfiguration(final Map<String, Object> channelConfig) {
+        final double absoluteDeadband = getDouble(channelConfig, DEADBAND_ABSOLUTE_PROP_NAME.value());
+        final double percentDeadband = getDouble(channelConfig, DEADBAND_PERCENT_PROP_NAME.value());
+        final long heartbeatInterval = (long) getDouble(channelConfig, HEARTBEAT_INTERVAL_PROP_NAME.value());
+        final double compressionDeviation = getDouble(channelConfig, COMPRESSION_DEVIATION_PROP_NAME.value());
+
+        if (absoluteDeadband <= 0 && percentDeadband <= 0 && heartbeatInterval <= 0 && compressionDeviation <= 0) {
+            return DEFAULT;
+        }
+
+        return new ValueChangeOptions(absoluteDeadband, percentDeadband, heartbeatInterval, compressionDeviation);
+    }
+
+    /**
+     * Returns the options of the channels that define at least one filter, the other channels use {@link #DEFAULT}.
+     */
+    static Map<String, ValueChangeOptions> fromChannels(final Map<String, Channel> channels) {
+        final Map<String, ValueChangeOptions> result = new HashMap<>();
+
+        for (final Channel channel : channels.values()) {
+            final ValueChangeOptions options = fromChannelConfiguration(channel.getConfiguration());
+
+            if (options != DEFAULT) {
+                result.put(channel.getName(), options);
+            }
+        }
+
+        return result;
+    }
+
+    private static double getDouble(final Map<String, Object> channelConfig, final String key) {
+        final Object value = channelConfig.get(key);
+
+        if (value == null) {
+            return 0;
+        }
+
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+
+        final String stringValue = value.toString().trim();
+
+        if (stringValue.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            return Double.parseDouble(stringValue);
+        } catch (final NumberFormatException e) {
+            logger.warn("Invalid value for channel property {}: {}", key, stringValue);
+            return 0;
+        }
+    }
+
+    double getAbsoluteDeadband() {
+        return this.absoluteDeadband;
+    }
+
+    double getPercentDeadband() {
+        return this.percentDeadband;
+    }
+
+    long getHeartbeatInterval() {
+        return this.heartbeatInterval;
+    }
+
+    double getCompressionDeviation() {
+        return this.compressionDeviation;
+    }
+
+    boolean hasHeartbeat() {
+        return this.heartbeatInterval > 0;
+    }
+
+    boolean hasCompression() {
+        return this.compressionDeviation > 0;
+    }
+
+    /**
+     * Returns the minimum difference from the last emitted value that causes a numeric value to be emitted, zero if
+     * any difference should be emitted.
+     */
+    double getDeadband(final double lastValue) {
+        if (this.percentDeadband <= 0) {
+            return this.absoluteDeadband;
+        }
+
+        return Math.max(this.absoluteDeadband, Math.abs(lastValue) * this.percentDeadband / 100);
+    }
+}
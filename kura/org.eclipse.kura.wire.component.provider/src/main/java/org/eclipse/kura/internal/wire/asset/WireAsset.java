@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.kura.channel.ChannelType.READ_WRITE;
 import static org.eclipse.kura.channel.ChannelType.WRITE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -112,6 +113,8 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
 
     private PreparedEmit preparedEmit;
 
+    private volatile ChannelEventCoalescer eventCoalescer;
+
     /**
      * Binds the Wire Helper Service.
      *
@@ -164,13 +167,17 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
         logger.debug("Updating Wire Asset...");
         this.options = new WireAssetOptions(properties);
 
+        super.updated(properties);
+
         if (this.options.emitOnChange()) {
-            this.valueChangeCache = Optional.of(new ValueChangeCache());
+            this.valueChangeCache = Optional.of(
+                    new ValueChangeCache(ValueChangeOptions.fromChannels(getAssetConfiguration().getAssetChannels())));
         } else {
             this.valueChangeCache = Optional.empty();
         }
 
-        super.updated(properties);
+        updateEventCoalescer();
+
         logger.debug("Updating Wire Asset...Done");
     }
 
@@ -183,6 +190,7 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
     @Override
     protected void deactivate(final ComponentContext context) {
         logger.debug("Deactivating Wire Asset...");
+        closeEventCoalescer();
         super.deactivate(context);
         logger.debug("Deactivating Wire Asset...Done");
     }
@@ -244,6 +252,41 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
         this.preparedEmit = null;
     }
 
+    private void updateEventCoalescer() {
+        closeEventCoalescer();
+
+        final long window = this.options.getListenerCoalescingWindow();
+
+        if (window > 0) {
+            // the event records are not emitted if all channels are read, there is no need to keep all of them
+            final ListenerCoalescingMode mode = this.options.emitAllChannels() ? ListenerCoalescingMode.SINGLE_RECORD
+                    : this.options.getListenerCoalescingMode();
+
+            this.eventCoalescer = new ChannelEventCoalescer(window, this.options.getListenerCoalescingMaxEvents(),
+                    mode, this::emitCoalescedRecords);
+        }
+    }
+
+    private void closeEventCoalescer() {
+        final ChannelEventCoalescer coalescer = this.eventCoalescer;
+
+        if (coalescer != null) {
+            coalescer.close();
+            this.eventCoalescer = null;
+        }
+    }
+
+    private void emitCoalescedRecords(final List<ChannelRecord> channelRecords) {
+        if (this.options.emitAllChannels()) {
+            // the values of all channels are read once per window
+            emitAllReadChannels();
+        } else if (this.options.getListenerCoalescingMode() == ListenerCoalescingMode.RECORD_PER_EVENT) {
+            emitChannelRecordsSeparately(channelRecords);
+        } else {
+            emitChannelRecords(channelRecords);
+        }
+    }
+
     private void emitAllReadChannels() {
         if (hasReadChannels()) {
             try {
@@ -308,19 +351,49 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
             throw new IllegalArgumentException("Channel Records cannot be empty");
         }
 
+        final WireRecord wireRecord = toFilteredWireRecord(channelRecords);
+
+        if (wireRecord != null) {
+            this.wireSupport.emit(Collections.singletonList(wireRecord));
+        }
+    }
+
+    /**
+     * Emits a single envelope containing a {@link WireRecord} for each one of the provided channel records.
+     *
+     * @param channelRecords
+     *                       the list of channel records
+     */
+    private void emitChannelRecordsSeparately(final List<ChannelRecord> channelRecords) {
+        final List<WireRecord> wireRecords = new ArrayList<>(channelRecords.size());
+
+        for (final ChannelRecord channelRecord : channelRecords) {
+            final WireRecord wireRecord = toFilteredWireRecord(Collections.singletonList(channelRecord));
+
+            if (wireRecord != null) {
+                wireRecords.add(wireRecord);
+            }
+        }
+
+        if (!wireRecords.isEmpty()) {
+            this.wireSupport.emit(wireRecords);
+        }
+    }
+
+    private WireRecord toFilteredWireRecord(final List<ChannelRecord> channelRecords) {
         final List<ChannelRecord> toBeEmitted = this.valueChangeCache.map(c -> c.filterRecords(channelRecords))
                 .orElse(channelRecords);
 
-        final Map<String, TypedValue<?>> wireRecordProperties;
-
         if (this.preparedEmit != null) {
-            wireRecordProperties = this.preparedEmit.execute(toBeEmitted);
+            return this.preparedEmit.execute(toBeEmitted);
         } else {
-            wireRecordProperties = Utils.toWireRecordProperties(toBeEmitted, this.options);
+            return toWireRecord(Utils.toWireRecordProperties(toBeEmitted, this.options));
         }
+    }
 
+    private WireRecord toWireRecord(final Map<String, TypedValue<?>> wireRecordProperties) {
         if (!this.options.emitEmptyEnvelopes() && wireRecordProperties.isEmpty()) {
-            return;
+            return null;
         }
 
         try {
@@ -330,7 +403,7 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
             logger.error("Configurations cannot be null", e);
         }
 
-        this.wireSupport.emit(Collections.singletonList(new WireRecord(wireRecordProperties)));
+        return new WireRecord(wireRecordProperties);
     }
 
     /**
@@ -423,8 +496,14 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
 
         @Override
         public void onChannelEvent(ChannelEvent event) {
+            final ChannelEventCoalescer coalescer = WireAsset.this.eventCoalescer;
+
             if (WireAsset.this.options.emitAllChannels()) {
-                emitAllReadChannels();
+                if (coalescer != null) {
+                    coalescer.add(event.getChannelRecord());
+                } else {
+                    emitAllReadChannels();
+                }
             } else {
                 final ChannelRecord eventRecord = event.getChannelRecord();
 
@@ -437,7 +516,11 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
                     }
                 }
 
-                emitChannelRecords(Collections.singletonList(eventRecord));
+                if (coalescer != null) {
+                    coalescer.add(eventRecord);
+                } else {
+                    emitChannelRecords(Collections.singletonList(eventRecord));
+                }
             }
         }
 
@@ -450,21 +533,41 @@ public final class WireAsset extends BaseAsset implements WireEmitter, WireRecei
 
         private final List<ChannelRecord> preparedRecords;
         private final List<RecordFiller> recordFillers;
+        private final PrimitiveRecordEncoder encoder;
 
         PreparedEmit(final List<ChannelRecord> records) {
             this.preparedRecords = records;
             this.recordFillers = RecordFillers.create(this.preparedRecords, WireAsset.this.options);
+            this.encoder = new PrimitiveRecordEncoder(WireAsset.this.options);
         }
 
-        Map<String, TypedValue<?>> execute(final List<ChannelRecord> channelRecords) {
+        WireRecord execute(final List<ChannelRecord> channelRecords) {
 
             if (channelRecords != this.preparedRecords) {
                 // driver changed the record list
                 // fallback to slow mode
-                return Utils.toWireRecordProperties(channelRecords, WireAsset.this.options);
+                return toWireRecord(Utils.toWireRecordProperties(channelRecords, WireAsset.this.options));
+            }
+
+            final String assetName;
+
+            try {
+                assetName = getKuraServicePid();
+            } catch (final KuraException e) {
+                return toWireRecord(
+                        Utils.toWireRecordProperties(channelRecords, WireAsset.this.options, this.recordFillers));
+            }
+
+            if (!this.encoder.updateLayout(channelRecords)) {
+                return toWireRecord(
+                        Utils.toWireRecordProperties(channelRecords, WireAsset.this.options, this.recordFillers));
+            }
+
+            if (!WireAsset.this.options.emitEmptyEnvelopes() && this.encoder.isEmpty()) {
+                return null;
             }
 
-            return Utils.toWireRecordProperties(channelRecords, WireAsset.this.options, this.recordFillers);
+            return this.encoder.encode(channelRecords, assetName);
         }
 
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,10 @@
 
 package org.eclipse.kura.internal.wire.asset;
 
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.COMPRESSION_DEVIATION_PROP_NAME;
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.DEADBAND_ABSOLUTE_PROP_NAME;
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.DEADBAND_PERCENT_PROP_NAME;
+import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.HEARTBEAT_INTERVAL_PROP_NAME;
 import static org.eclipse.kura.internal.wire.asset.WireAssetConstants.LISTEN_PROP_NAME;
 
 import org.eclipse.kura.asset.provider.BaseChannelDescriptor;
@@ -36,6 +40,53 @@ public class WireAssetChannelDescriptor extends BaseChannelDescriptor {
 
         this.defaultElements.add(listen);
 
+        final Tad absoluteDeadband = new Tad();
+        absoluteDeadband.setName(DEADBAND_ABSOLUTE_PROP_NAME.value().substring(1));
+        absoluteDeadband.setId(DEADBAND_ABSOLUTE_PROP_NAME.value());
+        absoluteDeadband.setDescription("If emit.on.change is enabled, the value of a numeric channel is emitted"
+                + " only if it differs from the last emitted value by more than this amount. Zero disables the deadband");
+        absoluteDeadband.setType(Tscalar.DOUBLE);
+        absoluteDeadband.setRequired(false);
+        absoluteDeadband.setMin("0");
+
+        this.defaultElements.add(absoluteDeadband);
+
+        final Tad percentDeadband = new Tad();
+        percentDeadband.setName(DEADBAND_PERCENT_PROP_NAME.value().substring(1));
+        percentDeadband.setId(DEADBAND_PERCENT_PROP_NAME.value());
+        percentDeadband.setDescription("If emit.on.change is enabled, the value of a numeric channel is emitted"
+                + " only if it differs from the last emitted value by more than this percentage of the last emitted"
+                + " value. If both deadbands are set, the larger one is used. Zero disables the deadband");
+        percentDeadband.setType(Tscalar.DOUBLE);
+        percentDeadband.setRequired(false);
+        percentDeadband.setMin("0");
+
+        this.defaultElements.add(percentDeadband);
+
+        final Tad heartbeatInterval = new Tad();
+        heartbeatInterval.setName(HEARTBEAT_INTERVAL_PROP_NAME.value().substring(1));
+        heartbeatInterval.setId(HEARTBEAT_INTERVAL_PROP_NAME.value());
+        heartbeatInterval.setDescription("If emit.on.change is enabled, the maximum time in milliseconds between"
+                + " two emissions of the channel value, the value is emitted even if it did not change once this"
+                + " interval elapses. Zero disables the heartbeat");
+        heartbeatInterval.setType(Tscalar.LONG);
+        heartbeatInterval.setRequired(false);
+        heartbeatInterval.setMin("0");
+
+        this.defaultElements.add(heartbeatInterval);
+
+        final Tad compressionDeviation = new Tad();
+        compressionDeviation.setName(COMPRESSION_DEVIATION_PROP_NAME.value().substring(1));
+        compressionDeviation.setId(COMPRESSION_DEVIATION_PROP_NAME.value());
+        compressionDeviation.setDescription("If emit.on.change is enabled, enables swinging door compression for a"
+                + " numeric channel: values that lie within this distance from a straight line starting at the last"
+                + " emitted value are not emitted, so that linear trends are reported only when they change."
+                + " Zero disables the compression");
+        compressionDeviation.setType(Tscalar.DOUBLE);
+        compressionDeviation.setRequired(false);
+        compressionDeviation.setMin("0");
+
+        this.defaultElements.add(compressionDeviation);
     }
 
     public static WireAssetChannelDescriptor get() {
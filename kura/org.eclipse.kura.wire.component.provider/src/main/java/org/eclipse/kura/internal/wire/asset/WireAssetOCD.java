@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -44,11 +44,27 @@ public class WireAssetOCD extends BaseAssetOCD {
     private static final String EMIT_ON_CHANGE_DESCRIPTION = "If set to true, this component will include"
             + " a channel value in the output emitted in Kura Wires"
             + " only if it is different than the one from the previous read operation or event."
-            + " Channel errors will always be emitted if emit.errors is set to true.";
+            + " Channel errors will always be emitted if emit.errors is set to true."
+            + " The change detection of numeric channels can be tuned with the deadband, heartbeat and compression"
+            + " channel properties.";
 
     private static final String EMIT_EMPTY_ENVELOPES_DESCRIPTION = "If set to false, this component will not emit empty envelopes."
             + " This property can be useful if combined with emit.on.change.";
 
+    private static final String LISTENER_COALESCING_WINDOW_DESCRIPTION = "The time in milliseconds during which the"
+            + " channel events are collected before being emitted, starting from the first event."
+            + " If emit.all.channels is set to true, a single read of all channels is performed at the end of the"
+            + " window. If set to 0, each event is emitted as soon as it is received.";
+
+    private static final String LISTENER_COALESCING_MAX_EVENTS_DESCRIPTION = "The number of collected channel events"
+            + " that causes an emission before the end of the coalescing window. If set to 0, there is no limit."
+            + " This property is ignored if listener.coalescing.window is set to 0.";
+
+    private static final String LISTENER_COALESCING_MODE_DESCRIPTION = "Specifies how the channel events collected"
+            + " in a coalescing window are emitted if emit.all.channels is set to false."
+            + " If set to SINGLE_RECORD, a single record containing the latest value of each channel is emitted."
+            + " If set to RECORD_PER_EVENT, a single envelope containing a record for each event is emitted.";
+
     private static void addOptions(Tad target, Enum<?>[] values) {
         final List<Option> options = target.getOption();
         for (Enum<?> value : values) {
@@ -120,6 +136,43 @@ public class WireAssetOCD extends BaseAssetOCD {
 
         addAD(emitEmptyEnvelopesAd);
 
+        final Tad listenerCoalescingWindowAd = new Tad();
+        listenerCoalescingWindowAd.setId(WireAssetOptions.LISTENER_COALESCING_WINDOW_PROP_NAME);
+        listenerCoalescingWindowAd.setName(WireAssetOptions.LISTENER_COALESCING_WINDOW_PROP_NAME);
+        listenerCoalescingWindowAd.setCardinality(0);
+        listenerCoalescingWindowAd.setType(Tscalar.LONG);
+        listenerCoalescingWindowAd.setDescription(LISTENER_COALESCING_WINDOW_DESCRIPTION);
+        listenerCoalescingWindowAd.setRequired(true);
+        listenerCoalescingWindowAd.setDefault("0");
+        listenerCoalescingWindowAd.setMin("0");
+
+        addAD(listenerCoalescingWindowAd);
+
+        final Tad listenerCoalescingMaxEventsAd = new Tad();
+        listenerCoalescingMaxEventsAd.setId(WireAssetOptions.LISTENER_COALESCING_MAX_EVENTS_PROP_NAME);
+        listenerCoalescingMaxEventsAd.setName(WireAssetOptions.LISTENER_COALESCING_MAX_EVENTS_PROP_NAME);
+        listenerCoalescingMaxEventsAd.setCardinality(0);
+        listenerCoalescingMaxEventsAd.setType(Tscalar.INTEGER);
+        listenerCoalescingMaxEventsAd.setDescription(LISTENER_COALESCING_MAX_EVENTS_DESCRIPTION);
+        listenerCoalescingMaxEventsAd.setRequired(true);
+        listenerCoalescingMaxEventsAd.setDefault("0");
+        listenerCoalescingMaxEventsAd.setMin("0");
+
+        addAD(listenerCoalescingMaxEventsAd);
+
+        final Tad listenerCoalescingModeAd = new Tad();
+        listenerCoalescingModeAd.setId(WireAssetOptions.LISTENER_COALESCING_MODE_PROP_NAME);
+        listenerCoalescingModeAd.setName(WireAssetOptions.LISTENER_COALESCING_MODE_PROP_NAME);
+        listenerCoalescingModeAd.setCardinality(0);
+        listenerCoalescingModeAd.setType(Tscalar.STRING);
+        listenerCoalescingModeAd.setDescription(LISTENER_COALESCING_MODE_DESCRIPTION);
+        listenerCoalescingModeAd.setRequired(true);
+        listenerCoalescingModeAd.setDefault(ListenerCoalescingMode.SINGLE_RECORD.name());
+
+        addOptions(listenerCoalescingModeAd, ListenerCoalescingMode.values());
+
+        addAD(listenerCoalescingModeAd);
+
     }
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2018, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,12 +22,18 @@ class WireAssetOptions {
     public static final String EMIT_ERRORS_PROP_NAME = "emit.errors";
     public static final String EMIT_ON_CHANGE_PROP_NAME = "emit.on.change";
     public static final String EMIT_EMPTY_ENVELOPES_PROP_NAME = "emit.empty.envelopes";
+    public static final String LISTENER_COALESCING_WINDOW_PROP_NAME = "listener.coalescing.window";
+    public static final String LISTENER_COALESCING_MAX_EVENTS_PROP_NAME = "listener.coalescing.max.events";
+    public static final String LISTENER_COALESCING_MODE_PROP_NAME = "listener.coalescing.mode";
 
     private boolean emitAllChannels;
     private TimestampMode timestampMode;
     private boolean emitErrors;
     private boolean emitOnChange;
     private boolean emitEmptyEnvelopes;
+    private long listenerCoalescingWindow;
+    private int listenerCoalescingMaxEvents;
+    private ListenerCoalescingMode listenerCoalescingMode = ListenerCoalescingMode.SINGLE_RECORD;
 
     public WireAssetOptions() {
     }
@@ -44,6 +50,17 @@ class WireAssetOptions {
         this.emitEmptyEnvelopes = !(emitEmptyEnvelopesProp instanceof Boolean) || (Boolean) emitEmptyEnvelopesProp;
 
         this.timestampMode = extractTimestampMode(properties);
+
+        final Object listenerCoalescingWindowProp = properties.get(LISTENER_COALESCING_WINDOW_PROP_NAME);
+        final Object listenerCoalescingMaxEventsProp = properties.get(LISTENER_COALESCING_MAX_EVENTS_PROP_NAME);
+
+        this.listenerCoalescingWindow = listenerCoalescingWindowProp instanceof Number
+                ? Math.max(0, ((Number) listenerCoalescingWindowProp).longValue())
+                : 0;
+        this.listenerCoalescingMaxEvents = listenerCoalescingMaxEventsProp instanceof Number
+                ? Math.max(0, ((Number) listenerCoalescingMaxEventsProp).intValue())
+                : 0;
+        this.listenerCoalescingMode = extractListenerCoalescingMode(properties);
     }
 
     public boolean emitAllChannels() {
@@ -66,6 +83,26 @@ class WireAssetOptions {
         return this.emitEmptyEnvelopes;
     }
 
+    /**
+     * Returns the time in milliseconds during which the channel events are collected before being emitted, zero if
+     * each event is emitted as soon as it is received.
+     */
+    public long getListenerCoalescingWindow() {
+        return this.listenerCoalescingWindow;
+    }
+
+    /**
+     * Returns the number of collected channel events that causes an emission before the end of the coalescing
+     * window, zero if there is no limit.
+     */
+    public int getListenerCoalescingMaxEvents() {
+        return this.listenerCoalescingMaxEvents;
+    }
+
+    public ListenerCoalescingMode getListenerCoalescingMode() {
+        return this.listenerCoalescingMode;
+    }
+
     private static TimestampMode extractTimestampMode(final Map<String, Object> properties) {
         try {
             return TimestampMode.valueOf(properties.get(TIMESTAMP_MODE_PROP_NAME).toString());
@@ -74,4 +111,12 @@ class WireAssetOptions {
         }
     }
 
+    private static ListenerCoalescingMode extractListenerCoalescingMode(final Map<String, Object> properties) {
+        try {
+            return ListenerCoalescingMode.valueOf(properties.get(LISTENER_COALESCING_MODE_PROP_NAME).toString());
+        } catch (Exception e) {
+            return ListenerCoalescingMode.SINGLE_RECORD;
+        }
+    }
+
 }
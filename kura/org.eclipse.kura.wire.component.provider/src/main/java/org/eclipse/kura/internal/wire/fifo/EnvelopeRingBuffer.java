@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.fifo;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded queue backed by a preallocated ring buffer.
+ * <br>
+ * {@link #offer(Object)} and {@link #poll()} are lock free and can be invoked concurrently by multiple producers and
+ * consumers, each slot carries a sequence number that tells whether it is ready to be written or read.
+ * <br>
+ * The blocking {@link #put(Object)} and {@link #take()} methods only acquire a lock if they actually need to wait
+ * for space or for an element to become available.
+ */
+final class EnvelopeRingBuffer<T> {
+
+    private static final long WAIT_TIMEOUT_MS = 100;
+
+    private final int capacity;
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    private final Lock lock = new ReentrantLock();
+    private final Condition notEmpty = this.lock.newCondition();
+    private final Condition notFull = this.lock.newCondition();
+    private final AtomicInteger waitingConsumers = new AtomicInteger();
+    private final AtomicInteger waitingProducers = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    EnvelopeRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+
+        this.capacity = capacity;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    boolean offer(final T element) {
+        long position = this.tail.get();
+        int index;
+
+        while (true) {
+            index = (int) (position % this.capacity);
+            final long difference = this.sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = this.tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = this.tail.get();
+            }
+        }
+
+        this.buffer.set(index, element);
+        this.sequences.set(index, position + 1);
+
+        if (this.waitingConsumers.get() > 0) {
+            signal(this.notEmpty);
+        }
+
+        return true;
+    }
+
+    T poll() {
+        long position = this.head.get();
+        int index;
+
+        while (true) {
+            index = (int) (position % this.capacity);
+            final long difference = this.sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (this.head.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = this.head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = this.head.get();
+            }
+        }
+
+        final T result = this.buffer.get(index);
+        this.buffer.set(index, null);
+        this.sequences.set(index, position + this.capacity);
+
+        if (this.waitingProducers.get() > 0) {
+            signal(this.notFull);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds an element, waiting for space to become available if the buffer is full.
+     *
+     * @return {@code true} if the element has been added, {@code false} if the buffer has been closed
+     */
+    boolean put(final T element) throws InterruptedException {
+        while (!this.closed) {
+            if (offer(element)) {
+                return true;
+            }
+
+            this.waitingProducers.incrementAndGet();
+            this.lock.lock();
+            try {
+                if (!this.closed && isFull()) {
+                    this.notFull.await(WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                this.lock.unlock();
+                this.waitingProducers.decrementAndGet();
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Removes an element, waiting for one to become available if the buffer is empty.
+     *
+     * @return the element, or {@code null} if the buffer has been closed
+     */
+    T take() throws InterruptedException {
+        while (!this.closed) {
+            final T result = poll();
+
+            if (result != null) {
+                return result;
+            }
+
+            this.waitingConsumers.incrementAndGet();
+            this.lock.lock();
+            try {
+                if (!this.closed && isEmpty()) {
+                    this.notEmpty.await(WAIT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                this.lock.unlock();
+                this.waitingConsumers.decrementAndGet();
+            }
+        }
+
+        return null;
+    }
+
+    void close() {
+        this.closed = true;
+
+        this.lock.lock();
+        try {
+            this.notEmpty.signalAll();
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    int size() {
+        final long size = this.tail.get() - this.head.get();
+
+        return (int) Math.max(0, Math.min(size, this.capacity));
+    }
+
+    int capacity() {
+        return this.capacity;
+    }
+
+    private boolean isEmpty() {
+        return this.tail.get() == this.head.get();
+    }
+
+    private boolean isFull() {
+        return this.tail.get() - this.head.get() >= this.capacity;
+    }
+
+    private void signal(final Condition condition) {
+        this.lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,9 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +31,7 @@ import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.WireSupport;
+import org.eclipse.kura.wire.graph.MultiportWireSupport;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.wireadmin.Wire;
@@ -40,13 +40,14 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
 
     private static final String DISCARD_ENVELOPES_PROP_NAME = "discard.envelopes";
     private static final String QUEUE_CAPACITY_PROP_NAME = "queue.capacity";
+    private static final String PARALLEL_EMITTERS_PROP_NAME = "parallel.emitters";
 
     private static final Logger logger = LogManager.getLogger(Fifo.class);
 
     private volatile WireHelperService wireHelperService;
     private WireSupport wireSupport;
 
-    private FifoEmitterThread emitterThread;
+    private volatile FifoEmitter emitter;
 
     public void bindWireHelperService(final WireHelperService wireHelperService) {
         if (isNull(this.wireHelperService)) {
@@ -81,33 +82,37 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
                 + "-EmitterThread";
         int queueCapacity = (Integer) properties.getOrDefault(QUEUE_CAPACITY_PROP_NAME, 50);
         boolean discardEnvelopes = (Boolean) properties.getOrDefault(DISCARD_ENVELOPES_PROP_NAME, false);
+        int parallelEmitters = Math.max(1, (Integer) properties.getOrDefault(PARALLEL_EMITTERS_PROP_NAME, 1));
 
-        restartEmitterThread(threadName, queueCapacity, discardEnvelopes);
+        restartEmitterThread(threadName, queueCapacity, discardEnvelopes, parallelEmitters);
 
         logger.info("Updating Fifo... Done");
     }
 
     private synchronized void stopEmitterThread() {
-        if (this.emitterThread != null) {
-            this.emitterThread.shutdown();
-            this.emitterThread = null;
+        if (this.emitter != null) {
+            this.emitter.shutdown();
+            this.emitter = null;
         }
     }
 
-    private synchronized void restartEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes) {
+    private synchronized void restartEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes,
+            int parallelEmitters) {
         stopEmitterThread();
 
-        logger.debug("Creating new emitter thread: {}, queue capacity: {}, discard envelopes: {}", threadName,
-                queueCapacity, discardEnvelopes);
-        this.emitterThread = new FifoEmitterThread(threadName, queueCapacity, discardEnvelopes);
-        this.emitterThread.start();
+        logger.debug(
+                "Creating new emitter thread: {}, queue capacity: {}, discard envelopes: {}, parallel emitters: {}",
+                threadName, queueCapacity, discardEnvelopes, parallelEmitters);
+        this.emitter = new FifoEmitter(threadName, queueCapacity, discardEnvelopes, parallelEmitters);
+        this.emitter.start();
     }
 
     @Override
     public void onWireReceive(WireEnvelope wireEnvelope) {
         requireNonNull(wireEnvelope, "Wire Envelope cannot be null");
-        if (this.emitterThread != null) {
-            this.emitterThread.submit(wireEnvelope);
+        final FifoEmitter currentEmitter = this.emitter;
+        if (currentEmitter != null) {
+            currentEmitter.submit(wireEnvelope);
         }
     }
 
@@ -131,104 +136,138 @@ public class Fifo implements WireEmitter, WireReceiver, ConfigurableComponent {
         this.wireSupport.producersConnected(wires);
     }
 
-    private class FifoEmitterThread extends Thread {
+    /**
+     * Returns the number of envelopes currently stored in the queue.
+     */
+    public int getQueueDepth() {
+        final FifoEmitter emitter = this.emitter;
+        return emitter != null ? emitter.queue.size() : 0;
+    }
+
+    /**
+     * Returns the maximum number of envelopes that have been stored in the queue since the last configuration update.
+     */
+    public long getQueueHighWatermark() {
+        final FifoEmitter emitter = this.emitter;
+        return emitter != null ? emitter.highWatermark.get() : 0;
+    }
+
+    /**
+     * Returns the number of envelopes that have been discarded because of a full queue since the last configuration
+     * update.
+     */
+    public long getDroppedEnvelopes() {
+        final FifoEmitter emitter = this.emitter;
+        return emitter != null ? emitter.droppedEnvelopes.get() : 0;
+    }
 
-        private final Lock lock = new ReentrantLock();
+    private class FifoEmitter {
 
-        private final Condition producer = this.lock.newCondition();
-        private final Condition consumer = this.lock.newCondition();
+        private final EnvelopeRingBuffer<WireEnvelope> queue;
+        private final List<Thread> threads;
 
-        private boolean run = true;
-        private final ArrayList<WireEnvelope> queue;
-        private final int queueCapacity;
+        private final AtomicLong highWatermark = new AtomicLong();
+        private final AtomicLong droppedEnvelopes = new AtomicLong();
 
-        private Consumer<WireEnvelope> submitter;
+        private final Consumer<WireEnvelope> submitter;
+        private final Consumer<WireEnvelope> dispatcher;
 
-        public FifoEmitterThread(String threadName, int queueCapacity, boolean discardEnvelopes) {
-            this.queue = new ArrayList<>();
-            this.queueCapacity = queueCapacity;
-            setName(threadName);
+        public FifoEmitter(String threadName, int queueCapacity, boolean discardEnvelopes, int parallelEmitters) {
+            this.queue = new EnvelopeRingBuffer<>(queueCapacity);
             if (discardEnvelopes) {
                 this.submitter = getEnvelopeDiscardingSubmitter();
             } else {
                 this.submitter = getEmitterBlockingSubmitter();
             }
+            this.dispatcher = parallelEmitters > 1 ? getConcurrentDispatcher() : getOrderedDispatcher();
+
+            this.threads = new ArrayList<>(parallelEmitters);
+            for (int i = 0; i < parallelEmitters; i++) {
+                final String name = parallelEmitters > 1 ? threadName + "-" + i : threadName;
+                this.threads.add(new Thread(this::run, name));
+            }
         }
 
         private Consumer<WireEnvelope> getEnvelopeDiscardingSubmitter() {
-            return (envelope) -> {
-                try {
-                    this.lock.lock();
-                    if (!this.run || this.queue.size() >= this.queueCapacity) {
-                        logger.debug("envelope discarded");
-                        return;
-                    } else {
-                        this.queue.add(envelope);
-                        this.producer.signal();
-                        logger.debug("envelope submitted");
-                    }
-                } finally {
-                    this.lock.unlock();
+            return envelope -> {
+                if (this.queue.isClosed()) {
+                    return;
+                }
+                if (this.queue.offer(envelope)) {
+                    updateHighWatermark();
+                    logger.debug("envelope submitted");
+                } else {
+                    this.droppedEnvelopes.incrementAndGet();
+                    logger.debug("envelope discarded");
                 }
             };
         }
 
         private Consumer<WireEnvelope> getEmitterBlockingSubmitter() {
-            return (envelope) -> {
+            return envelope -> {
                 try {
-                    this.lock.lock();
-                    while (this.run && this.queue.size() >= this.queueCapacity) {
-                        this.consumer.await();
-                    }
-                    if (!this.run) {
-                        return;
+                    if (this.queue.put(envelope)) {
+                        updateHighWatermark();
+                        logger.debug("envelope submitted");
                     }
-                    this.queue.add(envelope);
-                    this.producer.signal();
-                    logger.debug("envelope submitted");
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     logger.warn("Interrupted while adding new envelope to queue", e);
-                } finally {
-                    this.lock.unlock();
                 }
             };
         }
 
-        public void shutdown() {
-            try {
-                this.lock.lock();
-                this.run = false;
-                this.producer.signalAll();
-                this.consumer.signalAll();
-            } finally {
-                this.lock.unlock();
+        private Consumer<WireEnvelope> getOrderedDispatcher() {
+            return envelope -> Fifo.this.wireSupport.emit(envelope.getRecords());
+        }
+
+        private Consumer<WireEnvelope> getConcurrentDispatcher() {
+            final WireSupport support = Fifo.this.wireSupport;
+
+            if (!(support instanceof MultiportWireSupport)) {
+                return getOrderedDispatcher();
+            }
+
+            // WireSupport.emit() is serialized, deliver through the emitter port to allow concurrent dispatch
+            final MultiportWireSupport multiportWireSupport = (MultiportWireSupport) support;
+            return envelope -> multiportWireSupport.getEmitterPorts().get(0)
+                    .emit(multiportWireSupport.createWireEnvelope(envelope.getRecords()));
+        }
+
+        private void updateHighWatermark() {
+            final long depth = this.queue.size();
+            long current = this.highWatermark.get();
+
+            while (depth > current && !this.highWatermark.compareAndSet(current, depth)) {
+                current = this.highWatermark.get();
             }
         }
 
+        public void start() {
+            this.threads.forEach(Thread::start);
+        }
+
+        public void shutdown() {
+            this.queue.close();
+            logger.debug("queue depth: {}, high watermark: {}, dropped envelopes: {}", this.queue.size(),
+                    this.highWatermark.get(), this.droppedEnvelopes.get());
+        }
+
         public void submit(WireEnvelope envelope) {
             this.submitter.accept(envelope);
         }
 
-        @Override
-        public void run() {
-            while (this.run) {
+        private void run() {
+            while (!this.queue.isClosed()) {
                 try {
-                    WireEnvelope next = null;
-                    try {
-                        this.lock.lock();
-                        while (this.run && this.queue.isEmpty()) {
-                            this.producer.await();
-                        }
-                        if (!this.run) {
-                            break;
-                        }
-                        next = this.queue.remove(0);
-                        this.consumer.signal();
-                    } finally {
-                        this.lock.unlock();
+                    final WireEnvelope next = this.queue.take();
+                    if (next == null) {
+                        break;
                     }
-                    Fifo.this.wireSupport.emit(next.getRecords());
+                    this.dispatcher.accept(next);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 } catch (Exception e) {
                     logger.warn("Unexpected exception while dispatching envelope", e);
                 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,14 +38,14 @@ import org.eclipse.kura.message.KuraPayload;
 import org.eclipse.kura.message.KuraPosition;
 import org.eclipse.kura.position.NmeaPosition;
 import org.eclipse.kura.position.PositionService;
-import org.eclipse.kura.type.ByteArrayValue;
-import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.wire.WireComponent;
 import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireReceiver;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.eclipse.kura.wire.WireSupport;
 import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.ComponentContext;
@@ -54,7 +58,8 @@ import org.osgi.service.wireadmin.Wire;
  * <br/>
  *
  * For every {@link WireRecord} as found in {@link WireEnvelope} will be wrapped inside a Kura
- * Payload and will be sent to the Cloud Platform.
+ * Payload and will be sent to the Cloud Platform. If batch mode is enabled, multiple {@link WireRecord}s are
+ * packed in a single Kura Payload using the {@link WireRecordBatchCodec}.
  */
 public final class CloudPublisher implements WireReceiver, ConfigurableComponent {
 
@@ -69,6 +74,11 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
 
     private org.eclipse.kura.cloudconnection.publisher.CloudPublisher cloudConnectionPublisher;
 
+    private final Object batchLock = new Object();
+    private List<WireRecord> pendingRecords = new ArrayList<>();
+    private ScheduledExecutorService batchExecutor;
+    private ScheduledFuture<?> batchFlushTask;
+
     // ----------------------------------------------------------------
     //
     // Dependencies
@@ -134,9 +144,14 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
      */
     public void updated(final Map<String, Object> properties) {
         logger.debug("Updating Cloud Publisher Wire Component...");
+        flushPendingRecords();
         // Update properties
         this.cloudPublisherOptions = new CloudPublisherOptions(properties);
 
+        if (!this.cloudPublisherOptions.isBatchMode()) {
+            shutdownBatchExecutor();
+        }
+
         logger.debug("Updating Cloud Publisher Wire Component... Done");
     }
 
@@ -148,7 +163,8 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
      */
     protected void deactivate(final ComponentContext componentContext) {
         logger.debug("Deactivating Cloud Publisher Wire Component...");
-
+        flushPendingRecords();
+        shutdownBatchExecutor();
         logger.debug("Deactivating Cloud Publisher Wire Component... Done");
     }
 
@@ -159,7 +175,11 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
 
         if (nonNull(this.cloudConnectionPublisher)) {
             final List<WireRecord> records = wireEnvelope.getRecords();
-            publish(records);
+            if (this.cloudPublisherOptions.isBatchMode()) {
+                publishInBatches(records);
+            } else {
+                publish(records);
+            }
         }
     }
 
@@ -201,32 +221,55 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
             kuraPayload.setPosition(kuraPosition);
         }
 
-        final Map<String, TypedValue<?>> wireRecordProperties = wireRecord.getProperties();
-
-        for (final Entry<String, TypedValue<?>> entry : wireRecordProperties.entrySet()) {
-            kuraPayload.addMetric(entry.getKey(), entry.getValue().getValue());
-        }
+        addMetrics(kuraPayload, wireRecord);
 
         final Optional<String> bodyProperty = this.cloudPublisherOptions.getBodyProperty();
 
         if (bodyProperty.isPresent()) {
-            publishBody(kuraPayload, wireRecordProperties, bodyProperty.get());
+            publishBody(kuraPayload, wireRecord, bodyProperty.get());
         }
 
         return kuraPayload;
     }
 
-    private void publishBody(final KuraPayload kuraPayload, final Map<String, TypedValue<?>> wireRecordProperties,
-            final String bodyProperty) {
+    private static void addMetrics(final KuraPayload kuraPayload, final WireRecord wireRecord) {
+        if (wireRecord instanceof PrimitiveWireRecord) {
+            final PrimitiveWireRecord primitiveWireRecord = (PrimitiveWireRecord) wireRecord;
+            final WireRecordSchema schema = primitiveWireRecord.getSchema();
+
+            for (int i = 0; i < schema.size(); i++) {
+                kuraPayload.addMetric(schema.getName(i), primitiveWireRecord.getValue(i));
+            }
+        } else {
+            for (final Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
+                kuraPayload.addMetric(entry.getKey(), entry.getValue().getValue());
+            }
+        }
+    }
+
+    private static Object getPropertyValue(final WireRecord wireRecord, final String propertyName) {
+        if (wireRecord instanceof PrimitiveWireRecord) {
+            final PrimitiveWireRecord primitiveWireRecord = (PrimitiveWireRecord) wireRecord;
+            final int index = primitiveWireRecord.getSchema().indexOf(propertyName);
+
+            return index >= 0 ? primitiveWireRecord.getValue(index) : null;
+        }
+
+        final TypedValue<?> value = wireRecord.getProperties().get(propertyName);
+
+        return value != null ? value.getValue() : null;
+    }
+
+    private void publishBody(final KuraPayload kuraPayload, final WireRecord wireRecord, final String bodyProperty) {
         try {
-            final TypedValue<?> bodyPropertyValue = wireRecordProperties.get(bodyProperty);
+            final Object bodyPropertyValue = getPropertyValue(wireRecord, bodyProperty);
 
             if (bodyPropertyValue == null) {
                 logger.warn("The \"{}\" property is missing, message body will not be set", bodyProperty);
-            } else if (bodyPropertyValue instanceof StringValue) {
-                kuraPayload.setBody(((String) bodyPropertyValue.getValue()).getBytes(StandardCharsets.UTF_8));
-            } else if (bodyPropertyValue instanceof ByteArrayValue) {
-                kuraPayload.setBody((byte[]) bodyPropertyValue.getValue());
+            } else if (bodyPropertyValue instanceof String) {
+                kuraPayload.setBody(((String) bodyPropertyValue).getBytes(StandardCharsets.UTF_8));
+            } else if (bodyPropertyValue instanceof byte[]) {
+                kuraPayload.setBody((byte[]) bodyPropertyValue);
             } else {
                 logger.warn("The type of the body property must be STRING or BYTE_ARRAY");
             }
@@ -282,13 +325,135 @@ public final class CloudPublisher implements WireReceiver, ConfigurableComponent
         }
     }
 
-    private Map<String, Object> buildKuraMessageProperties(final WireRecord wireRecord) {
-        Map<String, TypedValue<?>> wireRecordProps = wireRecord.getProperties();
+    /**
+     * Adds the provided {@link WireRecord}s to the current batch, publishing the batch if it is full or if no batch
+     * delay is configured. The batches are published outside of the batch lock.
+     *
+     * @param wireRecords
+     *            the provided list of {@link WireRecord}s
+     */
+    private void publishInBatches(final List<WireRecord> wireRecords) {
+        requireNonNull(wireRecords, "Wire Records cannot be null");
+
+        final int maxSize = this.cloudPublisherOptions.getBatchMaxSize();
+        final long maxDelay = this.cloudPublisherOptions.getBatchMaxDelay();
+        final List<List<WireRecord>> batches = new ArrayList<>();
+
+        synchronized (this.batchLock) {
+            this.pendingRecords.addAll(wireRecords);
+
+            while (this.pendingRecords.size() >= maxSize) {
+                final List<WireRecord> batch = this.pendingRecords.subList(0, maxSize);
+                batches.add(new ArrayList<>(batch));
+                batch.clear();
+            }
+
+            if (maxDelay == 0) {
+                batches.add(takePendingRecords());
+            } else if (!this.pendingRecords.isEmpty() && this.batchFlushTask == null) {
+                if (this.batchExecutor == null) {
+                    this.batchExecutor = Executors.newSingleThreadScheduledExecutor();
+                }
+                this.batchFlushTask = this.batchExecutor.schedule(this::flushPendingRecords, maxDelay,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+
+        for (final List<WireRecord> batch : batches) {
+            if (!batch.isEmpty()) {
+                publishBatch(batch);
+            }
+        }
+    }
 
+    private void flushPendingRecords() {
+        final List<WireRecord> batch;
+
+        synchronized (this.batchLock) {
+            batch = takePendingRecords();
+        }
+
+        if (!batch.isEmpty()) {
+            publishBatch(batch);
+        }
+    }
+
+    /**
+     * Cancels the scheduled flush and replaces the pending records with an empty list. Must be called holding the
+     * batch lock.
+     *
+     * @return the records that were pending
+     */
+    private List<WireRecord> takePendingRecords() {
+        if (this.batchFlushTask != null) {
+            this.batchFlushTask.cancel(false);
+            this.batchFlushTask = null;
+        }
+
+        final List<WireRecord> result = this.pendingRecords;
+        this.pendingRecords = new ArrayList<>();
+
+        return result;
+    }
+
+    private void shutdownBatchExecutor() {
+        synchronized (this.batchLock) {
+            if (this.batchExecutor != null) {
+                this.batchExecutor.shutdown();
+                this.batchExecutor = null;
+            }
+        }
+    }
+
+    /**
+     * Publishes the provided {@link WireRecord}s in a single message. The message properties are taken from the
+     * first record.
+     *
+     * @param wireRecords
+     *            the non empty list of {@link WireRecord}s to be published
+     */
+    private void publishBatch(final List<WireRecord> wireRecords) {
+        final org.eclipse.kura.cloudconnection.publisher.CloudPublisher publisher = this.cloudConnectionPublisher;
+
+        if (isNull(publisher)) {
+            logger.warn("Cloud publisher not available, dropping {} wire records", wireRecords.size());
+            return;
+        }
+
+        try {
+            final KuraPayload kuraPayload = new KuraPayload();
+
+            kuraPayload.setTimestamp(new Date());
+
+            if (this.cloudPublisherOptions.getPositionType() != PositionType.NONE) {
+                kuraPayload.setPosition(getPosition());
+            }
+
+            WireRecordBatchCodec.encode(wireRecords, kuraPayload);
+
+            final Map<String, Object> properties = buildKuraMessageProperties(wireRecords.get(0));
+            publisher.publish(new KuraMessage(kuraPayload, properties));
+        } catch (final Exception e) {
+            logger.error("Error in publishing wire records using cloud publisher..", e);
+        }
+    }
+
+    private Map<String, Object> buildKuraMessageProperties(final WireRecord wireRecord) {
         final Map<String, Object> properties = new HashMap<>();
-        List<String> l = new ArrayList<>(wireRecordProps.keySet());
-        for (String s : l) {
-            properties.put(s, wireRecordProps.get(s).getValue());
+
+        if (wireRecord instanceof PrimitiveWireRecord) {
+            final PrimitiveWireRecord primitiveWireRecord = (PrimitiveWireRecord) wireRecord;
+            final WireRecordSchema schema = primitiveWireRecord.getSchema();
+
+            for (int i = 0; i < schema.size(); i++) {
+                properties.put(schema.getName(i), primitiveWireRecord.getValue(i));
+            }
+        } else {
+            Map<String, TypedValue<?>> wireRecordProps = wireRecord.getProperties();
+            List<String> l = new ArrayList<>(wireRecordProps.keySet());
+            for (String s : l) {
+                properties.put(s, wireRecordProps.get(s).getValue());
+            }
         }
 
         Optional<String> bodyProperty = this.cloudPublisherOptions.getBodyProperty();
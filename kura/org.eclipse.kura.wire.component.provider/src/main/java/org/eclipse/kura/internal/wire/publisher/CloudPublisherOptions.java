@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,11 @@ final class CloudPublisherOptions {
     private static final String CONF_POSITION = "publish.position";
     private static final String CONF_BODY_PROPERTY = "set.body.from.property";
     private static final String CONF_REMOVE_BODY_PROPERTY = "remove.body.from.metrics";
+    private static final String CONF_BATCH_MODE = "batch.mode";
+    private static final String CONF_BATCH_MAX_SIZE = "batch.max.size";
+    private static final String CONF_BATCH_MAX_DELAY = "batch.max.delay";
+
+    private static final int DEFAULT_BATCH_MAX_SIZE = 500;
 
     private final Map<String, Object> properties;
 
@@ -87,4 +92,22 @@ final class CloudPublisherOptions {
     boolean getRemoveBodyPropertyFromMetrics() {
         return (boolean) this.properties.getOrDefault(CONF_REMOVE_BODY_PROPERTY, false);
     }
+
+    boolean isBatchMode() {
+        return (boolean) this.properties.getOrDefault(CONF_BATCH_MODE, false);
+    }
+
+    int getBatchMaxSize() {
+        return Math.max(1, (int) this.properties.getOrDefault(CONF_BATCH_MAX_SIZE, DEFAULT_BATCH_MAX_SIZE));
+    }
+
+    /**
+     * Returns the maximum time, in milliseconds, a record can wait for a batch to be filled before being published.
+     * If zero, the records of every envelope are published as soon as the envelope is received.
+     *
+     * @return the maximum batch delay in milliseconds
+     */
+    long getBatchMaxDelay() {
+        return Math.max(0, (int) this.properties.getOrDefault(CONF_BATCH_MAX_DELAY, 0));
+    }
 }
\ No newline at end of file
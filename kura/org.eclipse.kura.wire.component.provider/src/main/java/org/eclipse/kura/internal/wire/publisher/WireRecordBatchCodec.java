@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.publisher;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+
+/**
+ * Encodes a list of {@link WireRecord}s into a single {@link KuraPayload} and back.
+ * <br>
+ * The properties of the record at position {@code i} are stored as metrics named {@code <i>.<property name>}, the
+ * number of records is stored in the {@value #BATCH_SIZE_METRIC_NAME} metric and the version of this format in the
+ * {@value #BATCH_VERSION_METRIC_NAME} metric.
+ */
+public final class WireRecordBatchCodec {
+
+    public static final String BATCH_SIZE_METRIC_NAME = "kura.batch.size";
+    public static final String BATCH_VERSION_METRIC_NAME = "kura.batch.version";
+    public static final int BATCH_VERSION = 1;
+
+    private static final char INDEX_SEPARATOR = '.';
+
+    private WireRecordBatchCodec() {
+    }
+
+    public static void encode(final List<WireRecord> wireRecords, final KuraPayload kuraPayload) {
+        requireNonNull(wireRecords, "Wire Records cannot be null");
+        requireNonNull(kuraPayload, "Payload cannot be null");
+
+        int index = 0;
+
+        for (final WireRecord wireRecord : wireRecords) {
+            final String prefix = Integer.toString(index) + INDEX_SEPARATOR;
+
+            if (wireRecord instanceof PrimitiveWireRecord) {
+                final PrimitiveWireRecord primitiveWireRecord = (PrimitiveWireRecord) wireRecord;
+                final WireRecordSchema schema = primitiveWireRecord.getSchema();
+
+                for (int i = 0; i < schema.size(); i++) {
+                    kuraPayload.addMetric(prefix + schema.getName(i), primitiveWireRecord.getValue(i));
+                }
+            } else {
+                for (final Entry<String, TypedValue<?>> entry : wireRecord.getProperties().entrySet()) {
+                    kuraPayload.addMetric(prefix + entry.getKey(), entry.getValue().getValue());
+                }
+            }
+
+            index++;
+        }
+
+        kuraPayload.addMetric(BATCH_SIZE_METRIC_NAME, index);
+        kuraPayload.addMetric(BATCH_VERSION_METRIC_NAME, BATCH_VERSION);
+    }
+
+    public static boolean isBatch(final KuraPayload kuraPayload) {
+        return kuraPayload.getMetric(BATCH_SIZE_METRIC_NAME) instanceof Integer
+                && kuraPayload.getMetric(BATCH_VERSION_METRIC_NAME) instanceof Integer;
+    }
+
+    /**
+     * Decodes the records contained in a payload created by {@link #encode(List, KuraPayload)}.
+     *
+     * @param kuraPayload
+     *            the payload
+     * @return the decoded records
+     * @throws IllegalArgumentException
+     *             if the payload is not a batch or if its format version is not supported
+     */
+    public static List<WireRecord> decode(final KuraPayload kuraPayload) {
+        requireNonNull(kuraPayload, "Payload cannot be null");
+
+        if (!isBatch(kuraPayload)) {
+            throw new IllegalArgumentException("The payload does not contain a batch of records");
+        }
+
+        final int version = (Integer) kuraPayload.getMetric(BATCH_VERSION_METRIC_NAME);
+        if (version != BATCH_VERSION) {
+            throw new IllegalArgumentException("Unsupported batch format version " + version);
+        }
+
+        final int size = (Integer) kuraPayload.getMetric(BATCH_SIZE_METRIC_NAME);
+        final List<Map<String, TypedValue<?>>> recordProperties = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            recordProperties.add(new HashMap<>());
+        }
+
+        for (final Entry<String, Object> entry : kuraPayload.metrics().entrySet()) {
+            final String metricName = entry.getKey();
+            final int separatorIndex = metricName.indexOf(INDEX_SEPARATOR);
+
+            if (separatorIndex <= 0) {
+                continue;
+            }
+
+            final int recordIndex;
+            try {
+                recordIndex = Integer.parseInt(metricName.substring(0, separatorIndex));
+            } catch (final NumberFormatException e) {
+                continue;
+            }
+
+            if (recordIndex < 0 || recordIndex >= size) {
+                continue;
+            }
+
+            recordProperties.get(recordIndex).put(metricName.substring(separatorIndex + 1),
+                    TypedValues.newTypedValue(entry.getValue()));
+        }
+
+        final List<WireRecord> result = new ArrayList<>(size);
+
+        for (final Map<String, TypedValue<?>> properties : recordProperties) {
+            result.add(new WireRecord(properties));
+        }
+
+        return result;
+    }
+}
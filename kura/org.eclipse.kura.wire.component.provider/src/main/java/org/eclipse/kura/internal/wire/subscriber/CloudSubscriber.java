@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,7 @@ import org.apache.logging.log4j.Logger;
 import org.eclipse.kura.cloudconnection.message.KuraMessage;
 import org.eclipse.kura.cloudconnection.subscriber.listener.CloudSubscriberListener;
 import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.internal.wire.publisher.WireRecordBatchCodec;
 import org.eclipse.kura.message.KuraPayload;
 import org.eclipse.kura.type.ByteArrayValue;
 import org.eclipse.kura.type.DataType;
@@ -175,6 +176,10 @@ public final class CloudSubscriber implements WireEmitter, ConfigurableComponent
     private List<WireRecord> buildWireRecord(final KuraPayload payload) {
         requireNonNull(payload, "Payload cannot be null");
 
+        if (this.options.isBatchMode() && WireRecordBatchCodec.isBatch(payload)) {
+            return WireRecordBatchCodec.decode(payload);
+        }
+
         final Map<String, Object> kuraPayloadProperties = payload.metrics();
         final Map<String, TypedValue<?>> wireProperties = new HashMap<>();
 
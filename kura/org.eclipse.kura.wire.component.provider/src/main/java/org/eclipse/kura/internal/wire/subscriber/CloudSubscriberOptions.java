@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ final class CloudSubscriberOptions {
 
     private static final String CONF_BODY_PROPERTY = "set.property.from.body";
     private static final String CONF_BODY_PROPERTY_TYPE = "body.property.type";
+    private static final String CONF_BATCH_MODE = "batch.mode";
 
     private final Map<String, Object> properties;
 
@@ -45,6 +46,10 @@ final class CloudSubscriberOptions {
         return Optional.of(property);
     }
 
+    boolean isBatchMode() {
+        return (boolean) this.properties.getOrDefault(CONF_BATCH_MODE, false);
+    }
+
     DataType getBodyPropertyType() {
         try {
             return DataType.valueOf((String) this.properties.get(CONF_BODY_PROPERTY_TYPE));
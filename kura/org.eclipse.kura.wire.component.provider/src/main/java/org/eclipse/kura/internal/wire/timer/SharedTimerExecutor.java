@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.timer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.timer.TimerHandle;
+import org.eclipse.kura.timer.TimerService;
+import org.eclipse.kura.wire.WireSupport;
+
+/**
+ * Schedules the ticks of the Timer on the framework {@link TimerService}, without a dedicated thread or Quartz
+ * scheduler. Used only when enabled by the {@code shared.scheduler} property, since the downstream components run on
+ * the shared worker threads.
+ */
+public class SharedTimerExecutor implements TimerExecutor {
+
+    private final TimerHandle handle;
+
+    public SharedTimerExecutor(final TimerService timerService, final TimerOptions options,
+            final WireSupport wireSupport) {
+        final Runnable emit = () -> Timer.emit(wireSupport);
+
+        if ("SIMPLE".equalsIgnoreCase(options.getType())) {
+            long firstTickInterval = options.getSimpleInterval() * options.getSimpleTimeUnitMultiplier();
+            if (!options.isDefaultFirstTickBehavior()) {
+                firstTickInterval = options.firstTickInterval() * options.getSimpleTimeUnitMultiplier();
+            }
+
+            this.handle = timerService.scheduleAtFixedRate(emit, firstTickInterval,
+                    options.getSimpleInterval() * options.getSimpleTimeUnitMultiplier(), TimeUnit.MILLISECONDS);
+        } else {
+            this.handle = timerService.scheduleCron(emit, options.getCronExpression());
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        this.handle.cancel(false);
+    }
+}
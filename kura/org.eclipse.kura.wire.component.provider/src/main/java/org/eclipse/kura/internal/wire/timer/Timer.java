@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.kura.configuration.ConfigurableComponent;
+import org.eclipse.kura.timer.TimerService;
 import org.eclipse.kura.type.TypedValue;
 import org.eclipse.kura.type.TypedValues;
 import org.eclipse.kura.wire.WireComponent;
@@ -42,11 +43,16 @@ public class Timer implements WireEmitter, ConfigurableComponent {
     private WireHelperService wireHelperService;
     private WireSupport wireSupport;
     private Optional<TimerExecutor> timerExecutor = Optional.empty();
+    private Optional<TimerService> timerService = Optional.empty();
 
     public void bindWireHelperService(final WireHelperService wireHelperService) {
         this.wireHelperService = wireHelperService;
     }
 
+    public void bindTimerService(final TimerService timerService) {
+        this.timerService = Optional.of(timerService);
+    }
+
     @SuppressWarnings("unchecked")
     protected void activate(final ComponentContext ctx, final Map<String, Object> properties) {
         logger.debug("Activating Timer...");
@@ -79,8 +85,15 @@ public class Timer implements WireEmitter, ConfigurableComponent {
 
         shutdownExecutor();
 
+        if (options.isSharedSchedulerEnabled() && !this.timerService.isPresent()) {
+            logger.info("Timer service not available, using a dedicated scheduler");
+        }
+
         try {
-            if ("SIMPLE".equalsIgnoreCase(options.getType())) {
+            if (options.isSharedSchedulerEnabled() && this.timerService.isPresent()) {
+                this.timerExecutor = Optional
+                        .of(new SharedTimerExecutor(this.timerService.get(), options, this.wireSupport));
+            } else if ("SIMPLE".equalsIgnoreCase(options.getType())) {
                 this.timerExecutor = Optional.of(new SimpleTimerExecutor(options, this.wireSupport));
             } else {
                 this.timerExecutor = Optional.of(new CronTimerExecutor(options, this.wireSupport));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,8 @@ final class TimerOptions {
 
     private static final String PROP_INTERVAL_TYPE = "type";
 
+    private static final String PROP_SHARED_SCHEDULER = "shared.scheduler";
+
     private final Map<String, Object> properties;
 
     /**
@@ -120,6 +122,16 @@ final class TimerOptions {
         return type;
     }
 
+    /**
+     * Returns whether the ticks should be scheduled on the framework timer service.
+     *
+     * @return true if the shared scheduler should be used
+     */
+    boolean isSharedSchedulerEnabled() {
+        final Object sharedScheduler = this.properties.get(PROP_SHARED_SCHEDULER);
+        return sharedScheduler instanceof Boolean && (Boolean) sharedScheduler;
+    }
+
     String getOwnPid() {
         return (String) this.properties.get(ConfigurationService.KURA_SERVICE_PID);
     }
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import java.util.Collections;
+import java.util.Map;
+
+final class WireDispatchOptions {
+
+    enum DispatchMode {
+        SYNC,
+        ASYNC
+    }
+
+    enum OverflowPolicy {
+        BLOCK,
+        DROP_OLDEST,
+        DROP_NEWEST
+    }
+
+    private static final String DISPATCH_MODE_PROP_NAME = "dispatch.mode";
+    private static final String QUEUE_CAPACITY_PROP_NAME = "dispatch.queue.capacity";
+    private static final String OVERFLOW_POLICY_PROP_NAME = "dispatch.overflow.policy";
+    private static final String THREAD_COUNT_PROP_NAME = "dispatch.thread.count";
+
+    private static final DispatchMode DISPATCH_MODE_DEFAULT = DispatchMode.SYNC;
+    private static final int QUEUE_CAPACITY_DEFAULT = 100;
+    private static final OverflowPolicy OVERFLOW_POLICY_DEFAULT = OverflowPolicy.BLOCK;
+    private static final int THREAD_COUNT_DEFAULT = 4;
+
+    private final DispatchMode dispatchMode;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final int threadCount;
+
+    WireDispatchOptions(final Map<String, Object> properties) {
+        final Map<String, Object> props = properties != null ? properties : Collections.emptyMap();
+
+        this.dispatchMode = getEnum(props, DISPATCH_MODE_PROP_NAME, DispatchMode.class, DISPATCH_MODE_DEFAULT);
+        this.queueCapacity = Math.max(1, getInt(props, QUEUE_CAPACITY_PROP_NAME, QUEUE_CAPACITY_DEFAULT));
+        this.overflowPolicy = getEnum(props, OVERFLOW_POLICY_PROP_NAME, OverflowPolicy.class,
+                OVERFLOW_POLICY_DEFAULT);
+        this.threadCount = Math.max(1, getInt(props, THREAD_COUNT_PROP_NAME, THREAD_COUNT_DEFAULT));
+    }
+
+    DispatchMode getDispatchMode() {
+        return this.dispatchMode;
+    }
+
+    int getQueueCapacity() {
+        return this.queueCapacity;
+    }
+
+    OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy;
+    }
+
+    int getThreadCount() {
+        return this.threadCount;
+    }
+
+    private static int getInt(final Map<String, Object> properties, final String key, final int defaultValue) {
+        final Object value = properties.get(key);
+
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
+        return defaultValue;
+    }
+
+    private static <E extends Enum<E>> E getEnum(final Map<String, Object> properties, final String key,
+            final Class<E> type, final E defaultValue) {
+        final Object value = properties.get(key);
+
+        if (!(value instanceof String)) {
+            return defaultValue;
+        }
+
+        try {
+            return Enum.valueOf(type, (String) value);
+        } catch (final IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+}
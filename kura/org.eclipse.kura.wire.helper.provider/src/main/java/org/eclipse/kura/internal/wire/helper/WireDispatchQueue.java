@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import java.util.ArrayDeque;
+import java.util.Dictionary;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.graph.Constants;
+import org.eclipse.kura.wire.graph.MultiportWireConfiguration;
+import org.eclipse.kura.wire.graph.WireDispatchStatistics;
+import org.osgi.service.wireadmin.Wire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the envelopes to be delivered over a single {@link Wire}.
+ * <br>
+ * At most one drain task per queue is submitted to the executor of the {@link WireDispatcher} at any time, this
+ * preserves the ordering of the envelopes delivered over the Wire. If the executor is no longer available, because
+ * the dispatcher switched to synchronous mode or is shutting down, the envelopes still in the queue are delivered on the
+ * thread that would have scheduled the next drain task.
+ * <br>
+ * After a switch to synchronous mode the queue keeps accepting the envelopes emitted over its Wire until the backlog
+ * has been delivered, then it is retired and the emitters deliver directly on their own thread.
+ */
+final class WireDispatchQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(WireDispatchQueue.class);
+
+    private static final int MAX_ENVELOPES_PER_DRAIN = 32;
+    private static final long BLOCK_TIMEOUT_MS = 100;
+
+    private final Wire wire;
+    private final WireDispatcher dispatcher;
+
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private final Lock lock = new ReentrantLock();
+    private final Condition notFull = this.lock.newCondition();
+
+    private boolean scheduled;
+    private boolean closed;
+    private boolean retired;
+
+    private final AtomicLong dispatchedEnvelopes = new AtomicLong();
+    private final AtomicLong droppedEnvelopes = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    WireDispatchQueue(final Wire wire, final WireDispatcher dispatcher) {
+        this.wire = wire;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Enqueues the provided envelope. If {@code retireIfIdle} is {@code true} and the queue is idle, that is no
+     * envelope is queued or being delivered, the queue is retired instead and the envelope is not enqueued.
+     *
+     * @return {@code false} if the queue has been retired, the caller is responsible for delivering the envelope in
+     *         this case
+     */
+    boolean submit(final WireEnvelope envelope, final WireDispatchOptions options, final boolean retireIfIdle)
+            throws InterruptedException {
+        final Entry entry = new Entry(envelope, System.nanoTime());
+        final boolean schedule;
+
+        this.lock.lock();
+        try {
+            if (this.retired) {
+                return false;
+            }
+
+            if (retireIfIdle && !this.scheduled && this.queue.isEmpty()) {
+                this.retired = true;
+                this.closed = true;
+                return false;
+            }
+
+            if (this.closed) {
+                this.droppedEnvelopes.incrementAndGet();
+                return true;
+            }
+
+            if (this.queue.size() >= options.getQueueCapacity() && !makeRoom(options)) {
+                this.droppedEnvelopes.incrementAndGet();
+                logger.debug("Queue full for wire {}, envelope dropped", this.wire);
+                return true;
+            }
+
+            this.queue.addLast(entry);
+
+            schedule = !this.scheduled;
+            this.scheduled = true;
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (schedule) {
+            schedule();
+        }
+
+        return true;
+    }
+
+    /**
+     * Applies the overflow policy to a full queue, must be called with the lock held.
+     *
+     * @return {@code true} if the new envelope can be enqueued
+     */
+    private boolean makeRoom(final WireDispatchOptions options) throws InterruptedException {
+        switch (options.getOverflowPolicy()) {
+        case DROP_NEWEST:
+            return false;
+        case DROP_OLDEST:
+            this.queue.pollFirst();
+            this.droppedEnvelopes.incrementAndGet();
+            return true;
+        default:
+            // a dispatcher thread must never block waiting for a queue that is served by the same executor,
+            // the capacity is exceeded instead to avoid starving the pool
+            if (this.dispatcher.isDispatcherThread()) {
+                return true;
+            }
+            while (!this.closed && this.queue.size() >= options.getQueueCapacity()) {
+                this.notFull.await(BLOCK_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            }
+            return !this.closed;
+        }
+    }
+
+    void drain() {
+        if (drain(MAX_ENVELOPES_PER_DRAIN)) {
+            // give a chance to the other wires before continuing
+            schedule();
+        }
+    }
+
+    /**
+     * Delivers at most {@code maxEnvelopes} envelopes, must only be called by the thread that owns the scheduled flag.
+     *
+     * @return {@code true} if the queue still contains envelopes, the scheduled flag is still owned by the caller in
+     *         this case
+     */
+    private boolean drain(final int maxEnvelopes) {
+        for (int i = 0; i < maxEnvelopes; i++) {
+            final Entry next;
+
+            this.lock.lock();
+            try {
+                next = this.queue.pollFirst();
+                if (next == null) {
+                    this.scheduled = false;
+                    return false;
+                }
+                this.notFull.signal();
+            } finally {
+                this.lock.unlock();
+            }
+
+            deliver(next);
+        }
+
+        return true;
+    }
+
+    private void schedule() {
+        if (!this.dispatcher.execute(this::drain)) {
+            // the dispatcher switched to synchronous mode or is shutting down, deliver the remaining envelopes here
+            drain(Integer.MAX_VALUE);
+        }
+    }
+
+    private void deliver(final Entry entry) {
+        try {
+            this.wire.update(entry.envelope);
+        } catch (final Exception e) {
+            logger.warn("Unexpected exception while delivering envelope over wire {}", this.wire, e);
+        }
+
+        final long latency = System.nanoTime() - entry.enqueueTimeNanos;
+
+        this.dispatchedEnvelopes.incrementAndGet();
+        this.totalLatencyNanos.addAndGet(latency);
+
+        long currentMax = this.maxLatencyNanos.get();
+        while (latency > currentMax && !this.maxLatencyNanos.compareAndSet(currentMax, latency)) {
+            currentMax = this.maxLatencyNanos.get();
+        }
+    }
+
+    /**
+     * Prevents new envelopes from being submitted, the envelopes already in the queue will still be delivered.
+     */
+    void close() {
+        this.lock.lock();
+        try {
+            this.closed = true;
+            this.notFull.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    int size() {
+        this.lock.lock();
+        try {
+            return this.queue.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    WireDispatchStatistics getStatistics() {
+        final MultiportWireConfiguration wireConfiguration = toWireConfiguration(this.wire);
+
+        if (wireConfiguration == null) {
+            return null;
+        }
+
+        final long dispatched = this.dispatchedEnvelopes.get();
+        final long averageLatency = dispatched > 0 ? this.totalLatencyNanos.get() / dispatched : 0;
+
+        return new WireDispatchStatistics(wireConfiguration, size(), dispatched, this.droppedEnvelopes.get(),
+                averageLatency, this.maxLatencyNanos.get());
+    }
+
+    private static MultiportWireConfiguration toWireConfiguration(final Wire wire) {
+        final Dictionary<?, ?> wireProps = wire.getProperties();
+
+        final Object emitterKuraServicePid = wireProps.get(Constants.EMITTER_KURA_SERVICE_PID_PROP_NAME.value());
+        final Object receiverKuraServicePid = wireProps.get(Constants.RECEIVER_KURA_SERVICE_PID_PROP_NAME.value());
+        final Object emitterPort = wireProps.get(Constants.WIRE_EMITTER_PORT_PROP_NAME.value());
+        final Object receiverPort = wireProps.get(Constants.WIRE_RECEIVER_PORT_PROP_NAME.value());
+
+        if (!(emitterKuraServicePid instanceof String) || !(receiverKuraServicePid instanceof String)
+                || !(emitterPort instanceof Integer) || !(receiverPort instanceof Integer)) {
+            return null;
+        }
+
+        return new MultiportWireConfiguration((String) emitterKuraServicePid, (String) receiverKuraServicePid,
+                (Integer) emitterPort, (Integer) receiverPort);
+    }
+
+    private static final class Entry {
+
+        private final WireEnvelope envelope;
+        private final long enqueueTimeNanos;
+
+        Entry(final WireEnvelope envelope, final long enqueueTimeNanos) {
+            this.envelope = envelope;
+            this.enqueueTimeNanos = enqueueTimeNanos;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.internal.wire.helper.WireDispatchOptions.DispatchMode;
+import org.eclipse.kura.wire.WireEnvelope;
+import org.eclipse.kura.wire.graph.WireDispatchStatistics;
+import org.osgi.service.wireadmin.Wire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the envelopes emitted by the {@link WireSupportImpl} instances.
+ * <br>
+ * In synchronous mode envelopes are delivered on the emitter thread. In asynchronous mode each {@link Wire} gets a
+ * bounded {@link WireDispatchQueue} served by a shared executor. When switching from asynchronous to synchronous mode
+ * the envelopes emitted over a Wire keep going through its queue until the queue is idle, so that they are not
+ * delivered ahead of the ones that were already queued.
+ */
+final class WireDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WireDispatcher.class);
+
+    private static final ThreadLocal<Boolean> isDispatcherThread = ThreadLocal.withInitial(() -> false);
+
+    private final Map<Wire, WireDispatchQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+
+    private volatile WireDispatchOptions options = new WireDispatchOptions(null);
+    private volatile ExecutorService executor;
+    private boolean closed;
+
+    synchronized void update(final WireDispatchOptions newOptions) {
+        final WireDispatchOptions oldOptions = this.options;
+        this.options = newOptions;
+
+        if (newOptions.getDispatchMode() == DispatchMode.SYNC) {
+            // the drain tasks already submitted still run after the shutdown, once the executor rejects new tasks each
+            // queue delivers its remaining envelopes on the thread that was draining it. The queues are retired by
+            // dispatch() once idle
+            shutdownExecutor();
+        } else if (this.executor == null || oldOptions.getThreadCount() != newOptions.getThreadCount()) {
+            shutdownExecutor();
+            this.executor = Executors.newFixedThreadPool(newOptions.getThreadCount(), this::newThread);
+        }
+
+        logger.info("Wire dispatch mode: {}, queue capacity: {}, overflow policy: {}, threads: {}",
+                newOptions.getDispatchMode(), newOptions.getQueueCapacity(), newOptions.getOverflowPolicy(),
+                newOptions.getThreadCount());
+    }
+
+    synchronized void shutdown() {
+        this.closed = true;
+        this.options = new WireDispatchOptions(null);
+        this.queues.values().forEach(WireDispatchQueue::close);
+        this.queues.clear();
+        shutdownExecutor();
+    }
+
+    void dispatch(final Wire wire, final WireEnvelope envelope) {
+        final WireDispatchOptions currentOptions = this.options;
+        final boolean sync = currentOptions.getDispatchMode() == DispatchMode.SYNC;
+
+        try {
+            while (true) {
+                final WireDispatchQueue queue = sync ? this.queues.get(wire) : getOrCreateQueue(wire);
+
+                if (queue == null) {
+                    wire.update(envelope);
+                    return;
+                }
+
+                if (queue.submit(envelope, currentOptions, sync)) {
+                    return;
+                }
+
+                this.queues.remove(wire, queue);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while submitting envelope to wire {}", wire);
+        }
+    }
+
+    /**
+     * Returns the queue associated with the provided wire, creating it if needed.
+     *
+     * @return the queue, or {@code null} if the dispatcher has been shut down
+     */
+    private WireDispatchQueue getOrCreateQueue(final Wire wire) {
+        final WireDispatchQueue queue = this.queues.get(wire);
+
+        if (queue != null) {
+            return queue;
+        }
+
+        // creating the queue while holding the same lock as shutdown() guarantees that no queue is left behind
+        synchronized (this) {
+            if (this.closed) {
+                return null;
+            }
+            return this.queues.computeIfAbsent(wire, w -> new WireDispatchQueue(w, this));
+        }
+    }
+
+    /**
+     * Releases the resources associated with the provided wires. Envelopes already queued are still delivered.
+     */
+    void release(final Collection<Wire> wires) {
+        for (final Wire wire : wires) {
+            final WireDispatchQueue queue = this.queues.remove(wire);
+
+            if (queue != null) {
+                queue.close();
+            }
+        }
+    }
+
+    List<WireDispatchStatistics> getStatistics() {
+        final List<WireDispatchStatistics> result = new ArrayList<>();
+
+        for (final WireDispatchQueue queue : this.queues.values()) {
+            final WireDispatchStatistics statistics = queue.getStatistics();
+
+            if (statistics != null) {
+                result.add(statistics);
+            }
+        }
+
+        return result;
+    }
+
+    boolean execute(final Runnable task) {
+        ExecutorService currentExecutor = this.executor;
+
+        while (currentExecutor != null) {
+            try {
+                currentExecutor.execute(task);
+                return true;
+            } catch (final RejectedExecutionException e) {
+                // the executor has been replaced in the meantime, retry with the new one
+                final ExecutorService newExecutor = this.executor;
+                if (newExecutor == currentExecutor) {
+                    break;
+                }
+                currentExecutor = newExecutor;
+            }
+        }
+
+        logger.debug("Dispatcher not running, delivering pending envelopes on the calling thread");
+        return false;
+    }
+
+    boolean isDispatcherThread() {
+        return isDispatcherThread.get();
+    }
+
+    private void shutdownExecutor() {
+        if (this.executor != null) {
+            this.executor.shutdown();
+            this.executor = null;
+        }
+    }
+
+    private Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(() -> {
+            isDispatcherThread.set(true);
+            runnable.run();
+        }, "WireDispatcher-" + this.threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
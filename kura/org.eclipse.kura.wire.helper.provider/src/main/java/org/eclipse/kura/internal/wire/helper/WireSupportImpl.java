@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -20,8 +20,10 @@ import static org.eclipse.kura.wire.graph.Constants.WIRE_RECEIVER_PORT_PROP_NAME
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
@@ -57,15 +59,19 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
 
     private final Map<Wire, ReceiverPortImpl> receiverPortByWire;
 
+    private final WireDispatcher dispatcher;
+
     WireSupportImpl(final WireComponent wireComponent, final String servicePid, final String kuraServicePid,
-            int inputPortCount, int outputPortCount) {
+            int inputPortCount, int outputPortCount, final WireDispatcher dispatcher) {
         requireNonNull(wireComponent, "Wire component cannot be null");
         requireNonNull(servicePid, "service pid cannot be null");
         requireNonNull(kuraServicePid, "kura service pid cannot be null");
+        requireNonNull(dispatcher, "dispatcher cannot be null");
 
         this.servicePid = servicePid;
         this.kuraServicePid = kuraServicePid;
         this.wireComponent = wireComponent;
+        this.dispatcher = dispatcher;
 
         if (inputPortCount < 0) {
             throw new IllegalArgumentException("Input port count must be greater or equal than zero");
@@ -103,18 +109,23 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
     /** {@inheritDoc} */
     @Override
     public synchronized void consumersConnected(final Wire[] wires) {
-        clearEmitterPorts();
-        if (wires == null) {
-            return;
+        final Set<Wire> disconnectedWires = new HashSet<>();
+        for (final EmitterPort port : this.emitterPorts) {
+            disconnectedWires.addAll(((PortImpl) port).connectedWires);
         }
-        for (Wire w : wires) {
-            try {
-                final int outputPort = (Integer) w.getProperties().get(WIRE_EMITTER_PORT_PROP_NAME.value());
-                ((PortImpl) this.emitterPorts.get(outputPort)).connectedWires.add(w);
-            } catch (Exception e) {
-                logger.warn("Failed to assign outgoing wire to port", e);
+        clearEmitterPorts();
+        if (wires != null) {
+            for (Wire w : wires) {
+                disconnectedWires.remove(w);
+                try {
+                    final int outputPort = (Integer) w.getProperties().get(WIRE_EMITTER_PORT_PROP_NAME.value());
+                    ((PortImpl) this.emitterPorts.get(outputPort)).connectedWires.add(w);
+                } catch (Exception e) {
+                    logger.warn("Failed to assign outgoing wire to port", e);
+                }
             }
         }
+        this.dispatcher.release(disconnectedWires);
     }
 
     /** {@inheritDoc} */
@@ -193,7 +204,7 @@ final class WireSupportImpl implements WireSupport, MultiportWireSupport {
         @Override
         public void emit(WireEnvelope envelope) {
             for (final Wire wire : this.connectedWires) {
-                wire.update(envelope);
+                WireSupportImpl.this.dispatcher.dispatch(wire, envelope);
             }
         }
     }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -48,9 +48,11 @@ import org.eclipse.kura.marshalling.Marshaller;
 import org.eclipse.kura.marshalling.Unmarshaller;
 import org.eclipse.kura.util.service.ServiceUtil;
 import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.graph.Constants;
 import org.eclipse.kura.wire.graph.MultiportWireConfiguration;
 import org.eclipse.kura.wire.graph.WireComponentConfiguration;
+import org.eclipse.kura.wire.graph.WireDispatchStatistics;
 import org.eclipse.kura.wire.graph.WireGraphConfiguration;
 import org.eclipse.kura.wire.graph.WireGraphService;
 import org.osgi.framework.BundleContext;
@@ -85,6 +87,8 @@ public class WireGraphServiceImpl implements ConfigurableComponent, WireGraphSer
 
     private volatile WireAdmin wireAdmin;
 
+    private volatile WireHelperService wireHelperService;
+
     private ServiceTracker<WireComponent, WireComponent> wireComponentServiceTracker;
 
     private ConfigurationService configurationService;
@@ -120,6 +124,16 @@ public class WireGraphServiceImpl implements ConfigurableComponent, WireGraphSer
         }
     }
 
+    public void bindWireHelperService(final WireHelperService wireHelperService) {
+        this.wireHelperService = wireHelperService;
+    }
+
+    public void unbindWireHelperService(final WireHelperService wireHelperService) {
+        if (this.wireHelperService == wireHelperService) {
+            this.wireHelperService = null;
+        }
+    }
+
     public void setConfigurationService(ConfigurationService configurationService) {
         this.configurationService = configurationService;
     }
@@ -311,6 +325,17 @@ public class WireGraphServiceImpl implements ConfigurableComponent, WireGraphSer
 
     }
 
+    @Override
+    public List<WireDispatchStatistics> getWireDispatchStatistics() {
+        final WireHelperService currentWireHelperService = this.wireHelperService;
+
+        if (currentWireHelperService == null) {
+            return Collections.emptyList();
+        }
+
+        return currentWireHelperService.getWireDispatchStatistics();
+    }
+
     @Override
     public synchronized void update(WireGraphConfiguration newConfiguration) throws KuraException {
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.kura.ai.triton.server;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import org.junit.Test;
 
@@ -28,4 +29,13 @@ public class TritonServerServiceInferTest extends TritonServerServiceStepDefinit
         thenTensorsAreReturned();
     }
 
+    @Test
+    public void shouldInferBatch() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+
+        whenInferBatch(exampleModel(), Arrays.asList(exampleInputData(), exampleInputData(), exampleInputData()));
+
+        thenTensorsAreReturnedForEachInput(3);
+    }
+
 }
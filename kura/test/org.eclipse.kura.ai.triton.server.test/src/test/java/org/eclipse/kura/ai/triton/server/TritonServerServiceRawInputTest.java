@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+
+package org.eclipse.kura.ai.triton.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.kura.ai.inference.Tensor;
+import org.eclipse.kura.ai.inference.TensorDescriptor;
+import org.junit.Test;
+
+public class TritonServerServiceRawInputTest extends TritonServerServiceStepDefinitions {
+
+    private final List<Tensor> inputs = new ArrayList<>();
+
+    @Test
+    public void shouldEncodeBoolList() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("BOOL", Boolean.class, true, false, true);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x01, 0x00, 0x01));
+    }
+
+    @Test
+    public void shouldEncodeInt8List() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("INT8", Byte.class, (byte) -1, (byte) 2);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0xff, 0x02));
+    }
+
+    @Test
+    public void shouldEncodeUint8IntegerList() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("UINT8", Integer.class, 200, 1);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0xc8, 0x01));
+    }
+
+    @Test
+    public void shouldEncodeInt16List() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("INT16", Short.class, (short) 0x0102, (short) -2);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x02, 0x01, 0xfe, 0xff));
+    }
+
+    @Test
+    public void shouldEncodeUint16IntegerList() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("UINT16", Integer.class, 0xfffe, 0x0102);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0xfe, 0xff, 0x02, 0x01));
+    }
+
+    @Test
+    public void shouldEncodeInt32List() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("INT32", Integer.class, 0x01020304, -1);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x04, 0x03, 0x02, 0x01, 0xff, 0xff, 0xff, 0xff));
+    }
+
+    @Test
+    public void shouldEncodeInt64List() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("INT64", Long.class, 0x0102030405060708L);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x08, 0x07, 0x06, 0x05, 0x04, 0x03, 0x02, 0x01));
+    }
+
+    @Test
+    public void shouldEncodeFp32List() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("FP32", Float.class, 1.0f, -2.0f);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x00, 0x00, 0x80, 0x3f, 0x00, 0x00, 0x00, 0xc0));
+    }
+
+    @Test
+    public void shouldEncodeFp64List() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("FP64", Double.class, 1.0d);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xf0, 0x3f));
+    }
+
+    @Test
+    public void shouldPrefixBytesListWithLength() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("BYTES", Byte.class, (byte) 'a', (byte) 'b');
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x02, 0x00, 0x00, 0x00, 'a', 'b'));
+    }
+
+    @Test
+    public void shouldSendLittleEndianBufferAsIs() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("INT32", Integer.class, ByteOrder.LITTLE_ENDIAN, bytes(0x04, 0x03, 0x02, 0x01, 0x08, 0x07,
+                0x06, 0x05));
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x04, 0x03, 0x02, 0x01, 0x08, 0x07, 0x06, 0x05));
+    }
+
+    @Test
+    public void shouldConvertBigEndianBufferToLittleEndian() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("INT32", Integer.class, ByteOrder.BIG_ENDIAN, bytes(0x01, 0x02, 0x03, 0x04, 0x05, 0x06,
+                0x07, 0x08));
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x04, 0x03, 0x02, 0x01, 0x08, 0x07, 0x06, 0x05));
+    }
+
+    @Test
+    public void shouldConvertBigEndianFp64BufferToLittleEndian() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("FP64", Double.class, ByteOrder.BIG_ENDIAN,
+                bytes(0x3f, 0xf0, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00));
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0xf0, 0x3f));
+    }
+
+    @Test
+    public void shouldSendByteBufferAsIsForUint8() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("UINT8", Byte.class, ByteOrder.BIG_ENDIAN, bytes(0x01, 0xff, 0x03));
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x01, 0xff, 0x03));
+    }
+
+    @Test
+    public void shouldSendByteBufferAsIsForBool() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("BOOL", Byte.class, ByteOrder.BIG_ENDIAN, bytes(0x01, 0x00));
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x01, 0x00));
+    }
+
+    @Test
+    public void shouldPrefixByteBufferWithLengthForBytes() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("BYTES", Byte.class, ByteOrder.BIG_ENDIAN, bytes('a', 'b', 'c'));
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x03, 0x00, 0x00, 0x00, 'a', 'b', 'c'));
+    }
+
+    @Test
+    public void shouldNotSendByteBufferForWiderType() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("INT32", Byte.class, ByteOrder.LITTLE_ENDIAN, bytes(0x01, 0x02, 0x03, 0x04), 1L);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenNoInferRequestIsSent();
+    }
+
+    @Test
+    public void shouldNotSendBufferNotMatchingShape() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenBufferInput("INT32", Integer.class, ByteOrder.LITTLE_ENDIAN, bytes(0x01, 0x02, 0x03, 0x04, 0x05, 0x06,
+                0x07, 0x08), 3L);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenNoInferRequestIsSent();
+    }
+
+    @Test
+    public void shouldKeepInputOrder() throws IOException {
+        givenTritonServerServiceImpl(defaultProperties());
+        givenListInput("INT16", Short.class, (short) 1);
+        givenBufferInput("UINT8", Byte.class, ByteOrder.LITTLE_ENDIAN, bytes(0x02));
+        givenListInput("FP32", Float.class, 1.0f);
+
+        whenInferData(exampleModel(), this.inputs);
+
+        thenRawInputContentsAre(0, bytes(0x01, 0x00));
+        thenRawInputContentsAre(1, bytes(0x02));
+        thenRawInputContentsAre(2, bytes(0x00, 0x00, 0x80, 0x3f));
+    }
+
+    /*
+     * Given
+     */
+
+    @SafeVarargs
+    private final <T> void givenListInput(String dataType, Class<T> type, T... values) {
+        TensorDescriptor descriptor = TensorDescriptor
+                .builder("input" + this.inputs.size(), dataType, Collections.singletonList((long) values.length))
+                .build();
+
+        this.inputs.add(new Tensor(type, descriptor, Arrays.asList(values)));
+    }
+
+    private <T> void givenBufferInput(String dataType, Class<T> type, ByteOrder order, byte[] data) {
+        long elementCount = "BYTES".equals(dataType) ? 1L : data.length / elementSize(type);
+
+        givenBufferInput(dataType, type, order, data, elementCount);
+    }
+
+    private <T> void givenBufferInput(String dataType, Class<T> type, ByteOrder order, byte[] data,
+            long elementCount) {
+        TensorDescriptor descriptor = TensorDescriptor
+                .builder("input" + this.inputs.size(), dataType, Collections.singletonList(elementCount)).build();
+
+        this.inputs.add(new Tensor(type, descriptor, ByteBuffer.wrap(data).order(order)));
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static int elementSize(Class<?> type) {
+        if (type == Short.class) {
+            return Short.BYTES;
+        } else if (type == Integer.class || type == Float.class) {
+            return Integer.BYTES;
+        } else if (type == Long.class || type == Double.class) {
+            return Long.BYTES;
+        }
+        return 1;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
 
 package org.eclipse.kura.ai.triton.server;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.AdditionalAnswers.delegatesTo;
@@ -99,6 +101,8 @@ public abstract class TritonServerServiceStepDefinitions {
 
     protected List<String> modelsFound = new ArrayList<>();
     private List<Tensor> tensorList = new ArrayList<>();
+    private List<List<Tensor>> tensorBatch = new ArrayList<>();
+    private ModelInferRequest lastInferRequest;
     private boolean isEngineReady;
     private CommandExecutorService ces;
     private CryptoService cry;
@@ -172,6 +176,14 @@ public abstract class TritonServerServiceStepDefinitions {
         }
     }
 
+    protected void whenInferBatch(ModelInfo modelInfo, List<List<Tensor>> inputBatch) {
+        try {
+            this.tensorBatch = this.tritonServerService.inferBatch(modelInfo, inputBatch);
+        } catch (KuraException e) {
+            this.exceptionCaught = true;
+        }
+    }
+
     protected void whenAskingIfEngineIsReady() {
         this.isEngineReady = this.tritonServerService.isEngineReady();
     }
@@ -236,6 +248,24 @@ public abstract class TritonServerServiceStepDefinitions {
         assertFalse(this.tensorList.isEmpty());
     }
 
+    protected void thenTensorsAreReturnedForEachInput(int batchSize) {
+        assertFalse(this.exceptionCaught);
+        assertTrue(this.methodCalled);
+        assertEquals(batchSize, this.tensorBatch.size());
+        this.tensorBatch.forEach(tensors -> assertFalse(tensors.isEmpty()));
+    }
+
+    protected void thenRawInputContentsAre(int index, byte... expected) {
+        assertFalse(this.exceptionCaught);
+        assertTrue(this.methodCalled);
+        assertArrayEquals(expected, this.lastInferRequest.getRawInputContents(index).toByteArray());
+    }
+
+    protected void thenNoInferRequestIsSent() {
+        assertFalse(this.methodCalled);
+        assertTrue(this.tensorList.isEmpty());
+    }
+
     protected void thenAfterWaiting(long millisecondsToWait) throws InterruptedException {
         Thread.sleep(millisecondsToWait);
     }
@@ -363,6 +393,7 @@ public abstract class TritonServerServiceStepDefinitions {
         ManagedChannel channel = grpcCleanup
                 .register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
         tritonServerServiceImpl.setGrpcStub(GRPCInferenceServiceGrpc.newBlockingStub(channel));
+        tritonServerServiceImpl.setGrpcFutureStub(GRPCInferenceServiceGrpc.newFutureStub(channel));
 
         return tritonServerServiceImpl;
     }
@@ -392,6 +423,7 @@ public abstract class TritonServerServiceStepDefinitions {
         ManagedChannel channel = grpcCleanup
                 .register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
         tritonServerServiceImpl.setGrpcStub(GRPCInferenceServiceGrpc.newBlockingStub(channel));
+        tritonServerServiceImpl.setGrpcFutureStub(GRPCInferenceServiceGrpc.newFutureStub(channel));
 
         return tritonServerServiceImpl;
     }
@@ -421,6 +453,7 @@ public abstract class TritonServerServiceStepDefinitions {
         ManagedChannel channel = grpcCleanup
                 .register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
         tritonServerServiceImpl.setGrpcStub(GRPCInferenceServiceGrpc.newBlockingStub(channel));
+        tritonServerServiceImpl.setGrpcFutureStub(GRPCInferenceServiceGrpc.newFutureStub(channel));
 
         return tritonServerServiceImpl;
     }
@@ -459,6 +492,7 @@ public abstract class TritonServerServiceStepDefinitions {
         ManagedChannel channel = grpcCleanup
                 .register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
         tritonServerServiceImpl.setGrpcStub(GRPCInferenceServiceGrpc.newBlockingStub(channel));
+        tritonServerServiceImpl.setGrpcFutureStub(GRPCInferenceServiceGrpc.newFutureStub(channel));
 
         return tritonServerServiceImpl;
     }
@@ -528,6 +562,7 @@ public abstract class TritonServerServiceStepDefinitions {
                             StreamObserver<ModelInferResponse> responseObserver) {
 
                         TritonServerServiceStepDefinitions.this.methodCalled = true;
+                        TritonServerServiceStepDefinitions.this.lastInferRequest = request;
 
                         List<InferOutputTensor> outputTensor = new ArrayList<>();
                         outputTensor.add(InferOutputTensor.newBuilder().setDatatype("FP64").setName("name1")
@@ -593,6 +628,7 @@ public abstract class TritonServerServiceStepDefinitions {
         this.modelsFound.clear();
         this.modelInfo = Optional.empty();
         this.tensorList.clear();
+        this.tensorBatch.clear();
         this.isEngineReady = false;
 
         if (this.tritonServerService != null) {
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.asset.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.asset.provider.BaseAssetExecutor.IOMetrics;
+import org.junit.After;
+import org.junit.Test;
+
+public class BaseAssetExecutorTest {
+
+    private static final long REPORT_INTERVAL = TimeUnit.MINUTES.toNanos(10);
+
+    private final BaseAssetExecutor executor = new BaseAssetExecutor(Executors.newSingleThreadExecutor(),
+            Executors.newSingleThreadExecutor());
+    // taken after the creation of the executor, the first period ends at most REPORT_INTERVAL after this time
+    private final long start = System.nanoTime();
+    private IOMetrics report;
+
+    @After
+    public void tearDown() {
+        this.executor.shutdown();
+    }
+
+    @Test
+    public void shouldNotReportBeforeIntervalEnds() throws Exception {
+        givenIOOperations(2);
+
+        whenReportIsPolledAfter(REPORT_INTERVAL / 2);
+
+        thenNoReportIsProduced();
+    }
+
+    @Test
+    public void shouldReportOperationsOfPeriod() throws Exception {
+        givenIOOperations(2);
+
+        whenReportIsPolledAfter(REPORT_INTERVAL + 1);
+
+        thenReportedCountIs(2);
+    }
+
+    @Test
+    public void shouldReportOncePerPeriod() throws Exception {
+        givenIOOperations(2);
+        givenReportPolledAfter(REPORT_INTERVAL + 1);
+
+        whenReportIsPolledAfter(REPORT_INTERVAL + 2);
+
+        thenNoReportIsProduced();
+    }
+
+    @Test
+    public void shouldStartNewPeriodAfterReport() throws Exception {
+        givenIOOperations(2);
+        givenReportPolledAfter(REPORT_INTERVAL + 1);
+        givenIOOperations(1);
+
+        whenReportIsPolledAfter(2 * REPORT_INTERVAL + 2);
+
+        thenReportedCountIs(1);
+        thenTotalCountIs(3);
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenIOOperations(final int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            this.executor.runIO(() -> null).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void givenReportPolledAfter(final long elapsed) {
+        whenReportIsPolledAfter(elapsed);
+        assertNotNull(this.report);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenReportIsPolledAfter(final long elapsed) {
+        this.report = this.executor.pollIOMetricsReport(this.start + elapsed);
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenNoReportIsProduced() {
+        assertNull(this.report);
+    }
+
+    private void thenReportedCountIs(final long count) {
+        assertNotNull(this.report);
+        assertEquals(count, this.report.getCount());
+    }
+
+    private void thenTotalCountIs(final long count) {
+        assertEquals(count, this.executor.getIOMetrics().getCount());
+    }
+}
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.asset.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.asset.provider.BaseAssetExecutor;
+import org.eclipse.kura.asset.provider.BaseAssetExecutor.IOMetrics;
+import org.eclipse.kura.asset.provider.test.StubDriver;
+import org.eclipse.kura.driver.Driver;
+import org.junit.Test;
+
+public class SharedIOExecutorsTest {
+
+    private final SharedIOExecutors executors = new SharedIOExecutors(4);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final List<Integer> completed = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void shouldShareExecutorOfDriverInstance() throws InterruptedException {
+        final Driver driver = new StubDriver();
+
+        final SharedIOExecutors.Lease first = this.executors.acquire(driver, AssetIOExecutorMode.DRIVER);
+        final SharedIOExecutors.Lease second = this.executors.acquire(driver, AssetIOExecutorMode.DRIVER);
+
+        assertEquals(1, this.executors.getExecutorCount());
+
+        whenTasksAreSubmitted(20, first, second);
+
+        thenTasksRanOneAtATime();
+
+        first.release();
+        assertEquals(1, this.executors.getExecutorCount());
+
+        second.release();
+        second.release();
+        assertEquals(0, this.executors.getExecutorCount());
+    }
+
+    @Test
+    public void shouldSerializeTasksOfSameDriverOnSharedPool() throws InterruptedException {
+        final Driver driver = new StubDriver();
+
+        final SharedIOExecutors.Lease first = this.executors.acquire(driver, AssetIOExecutorMode.SHARED);
+        final SharedIOExecutors.Lease second = this.executors.acquire(driver, AssetIOExecutorMode.SHARED);
+
+        whenTasksAreSubmitted(20, first, second);
+
+        thenTasksRanOneAtATime();
+
+        first.release();
+        second.release();
+        assertEquals(0, this.executors.getExecutorCount());
+    }
+
+    @Test
+    public void shouldRunTasksOfDifferentDriversConcurrentlyOnSharedPool() throws InterruptedException {
+        final SharedIOExecutors.Lease first = this.executors.acquire(new StubDriver(), AssetIOExecutorMode.SHARED);
+        final SharedIOExecutors.Lease second = this.executors.acquire(new StubDriver(), AssetIOExecutorMode.SHARED);
+
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch done = new CountDownLatch(2);
+
+        for (final SharedIOExecutors.Lease lease : new SharedIOExecutors.Lease[] { first, second }) {
+            lease.execute(() -> {
+                started.countDown();
+                try {
+                    started.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, this.executors.getExecutorCount());
+
+        first.release();
+        second.release();
+    }
+
+    @Test
+    public void shouldRunSerialTasksInSubmissionOrder() throws InterruptedException {
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        final SerialExecutor serialExecutor = new SerialExecutor(pool);
+
+        whenTasksAreSubmitted(50, serialExecutor);
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+        }
+
+        assertEquals(expected, this.completed);
+        thenTasksRanOneAtATime();
+
+        pool.shutdown();
+    }
+
+    @Test
+    public void shouldRecordQueueWaitAndIOTime() throws Exception {
+        final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+        final ExecutorService configExecutor = Executors.newSingleThreadExecutor();
+        final BaseAssetExecutor executor = new BaseAssetExecutor(ioExecutor, configExecutor);
+
+        final CompletableFuture<Void> first = executor.runIO(() -> {
+            Thread.sleep(50);
+            return null;
+        });
+        final CompletableFuture<Void> second = executor.runIO(() -> null);
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        final IOMetrics metrics = executor.getIOMetrics();
+
+        assertEquals(2, metrics.getCount());
+        assertTrue(metrics.getMaxIOTime(TimeUnit.MILLISECONDS) >= 50);
+        assertTrue(metrics.getMaxQueueWaitTime(TimeUnit.MILLISECONDS) >= 40);
+        assertTrue(metrics.getAverageIOTime(TimeUnit.MILLISECONDS) >= 25);
+
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldUseSharedIOExecutor() throws Exception {
+        final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+        final ExecutorService configExecutor = Executors.newSingleThreadExecutor();
+        final BaseAssetExecutor executor = new BaseAssetExecutor(ioExecutor, configExecutor);
+        final SharedIOExecutors.Lease lease = this.executors.acquire(new StubDriver(), AssetIOExecutorMode.DRIVER);
+
+        executor.setSharedIOExecutor(lease);
+
+        final String threadName = executor.runIO(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        assertTrue(threadName.startsWith("AssetIOExecutor-"));
+
+        executor.shutdown();
+        lease.release();
+    }
+
+    private void whenTasksAreSubmitted(final int count, final java.util.concurrent.Executor... targets)
+            throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            final int id = i;
+            targets[i % targets.length].execute(() -> {
+                final int current = this.running.incrementAndGet();
+                this.maxRunning.accumulateAndGet(current, Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                this.completed.add(id);
+                this.running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    private void thenTasksRanOneAtATime() {
+        assertEquals(1, this.maxRunning.get());
+    }
+}
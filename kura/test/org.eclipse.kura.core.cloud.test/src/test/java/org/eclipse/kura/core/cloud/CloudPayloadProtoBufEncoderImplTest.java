@@ -0,0 +1,323 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.cloud;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+import org.eclipse.kura.KuraInvalidMessageException;
+import org.eclipse.kura.core.message.protobuf.KuraPayloadProto;
+import org.eclipse.kura.core.message.protobuf.KuraPayloadProto.KuraPayload.KuraMetric;
+import org.eclipse.kura.core.message.protobuf.KuraPayloadProto.KuraPayload.KuraMetric.ValueType;
+import org.eclipse.kura.core.util.GZipUtil;
+import org.eclipse.kura.message.KuraPayload;
+import org.eclipse.kura.message.KuraPosition;
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UninitializedMessageException;
+
+public class CloudPayloadProtoBufEncoderImplTest {
+
+    @Test
+    public void testEncodeEmptyPayload() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+
+        final byte[] encoded = assertSameAsProtoBuf(payload);
+
+        assertEquals(0, encoded.length);
+    }
+
+    @Test
+    public void testEncodeTimestamp() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.setTimestamp(new Date(1_700_000_000_123L));
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test
+    public void testEncodeAllMetricTypes() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("string", "foo");
+        payload.addMetric("emptyString", "");
+        payload.addMetric("unicodeString", "\u00e8\u20ac\ud83d\ude00");
+        payload.addMetric("double", 12.5d);
+        payload.addMetric("nanDouble", Double.NaN);
+        payload.addMetric("negativeZeroDouble", -0.0d);
+        payload.addMetric("float", 1.25f);
+        payload.addMetric("int", 42);
+        payload.addMetric("negativeInt", -1);
+        payload.addMetric("minInt", Integer.MIN_VALUE);
+        payload.addMetric("maxInt", Integer.MAX_VALUE);
+        payload.addMetric("long", 1L << 40);
+        payload.addMetric("negativeLong", Long.MIN_VALUE);
+        payload.addMetric("true", true);
+        payload.addMetric("false", false);
+        payload.addMetric("bytes", new byte[] { 1, 2, 3 });
+        payload.addMetric("emptyBytes", new byte[0]);
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test
+    public void testEncodeLongMetricName() throws IOException {
+        final char[] name = new char[300];
+        Arrays.fill(name, 'a');
+
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric(new String(name), new byte[20000]);
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test
+    public void testSkipNullMetrics() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("null", null);
+        payload.addMetric("int", 1);
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testFailOnUnsupportedMetricType() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("date", new Date());
+
+        new CloudPayloadProtoBufEncoderImpl(payload).getBytes();
+    }
+
+    @Test
+    public void testEncodeFullPosition() throws IOException {
+        final KuraPosition position = new KuraPosition();
+        position.setLatitude(45.5);
+        position.setLongitude(-13.25);
+        position.setAltitude(100.0);
+        position.setPrecision(1.5);
+        position.setHeading(270.0);
+        position.setSpeed(3.0);
+        position.setTimestamp(new Date(1_700_000_000_000L));
+        position.setSatellites(9);
+        position.setStatus(-1);
+
+        final KuraPayload payload = new KuraPayload();
+        payload.setPosition(position);
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test
+    public void testEncodeRequiredPositionFields() throws IOException {
+        final KuraPosition position = new KuraPosition();
+        position.setLatitude(0);
+        position.setLongitude(0);
+
+        final KuraPayload payload = new KuraPayload();
+        payload.setPosition(position);
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test(expected = UninitializedMessageException.class)
+    public void testFailOnPositionWithoutLatitude() throws IOException {
+        final KuraPosition position = new KuraPosition();
+        position.setLongitude(0);
+
+        final KuraPayload payload = new KuraPayload();
+        payload.setPosition(position);
+
+        new CloudPayloadProtoBufEncoderImpl(payload).getBytes();
+    }
+
+    @Test
+    public void testEncodeBody() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.setBody("body".getBytes());
+
+        assertSameAsProtoBuf(payload);
+    }
+
+    @Test
+    public void testEncodeEmptyBody() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.setBody(new byte[0]);
+
+        final byte[] encoded = assertSameAsProtoBuf(payload);
+
+        assertTrue(encoded.length > 0);
+    }
+
+    @Test
+    public void testEncodeCompletePayload() throws IOException {
+        assertSameAsProtoBuf(createCompletePayload());
+    }
+
+    @Test
+    public void testGZipRoundTrip() throws IOException, KuraInvalidMessageException {
+        final KuraPayload payload = createCompletePayload();
+
+        final byte[] encoded = new CloudPayloadGZipEncoder(new CloudPayloadProtoBufEncoderImpl(payload)).getBytes();
+
+        assertTrue(GZipUtil.isCompressed(encoded));
+        assertArrayEquals(toProtoBufBytes(payload), GZipUtil.decompress(encoded));
+
+        final KuraPayload decoded = new CloudPayloadProtoBufDecoderImpl(encoded).buildFromByteArray();
+
+        assertEquals(payload.getTimestamp(), decoded.getTimestamp());
+        assertEquals(payload.getPosition().getLatitude(), decoded.getPosition().getLatitude());
+        assertEquals(payload.getPosition().getLongitude(), decoded.getPosition().getLongitude());
+        assertEquals(payload.getPosition().getSatellites(), decoded.getPosition().getSatellites());
+        assertArrayEquals(payload.getBody(), decoded.getBody());
+        assertEquals(payload.metricNames(), decoded.metricNames());
+
+        for (final String name : payload.metricNames()) {
+            final Object expected = payload.getMetric(name);
+
+            if (expected instanceof byte[]) {
+                assertArrayEquals((byte[]) expected, (byte[]) decoded.getMetric(name));
+            } else {
+                assertEquals(expected, decoded.getMetric(name));
+            }
+        }
+    }
+
+    @Test
+    public void testGZipNotUsedIfLarger() throws IOException {
+        final KuraPayload payload = new KuraPayload();
+        payload.addMetric("int", 1);
+
+        final byte[] encoded = new CloudPayloadGZipEncoder(new CloudPayloadProtoBufEncoderImpl(payload)).getBytes();
+
+        assertFalse(GZipUtil.isCompressed(encoded));
+        assertArrayEquals(toProtoBufBytes(payload), encoded);
+    }
+
+    private static KuraPayload createCompletePayload() {
+        final KuraPosition position = new KuraPosition();
+        position.setLatitude(45.5);
+        position.setLongitude(13.25);
+        position.setSatellites(7);
+
+        final byte[] body = new byte[4096];
+        Arrays.fill(body, (byte) 'k');
+
+        final KuraPayload payload = new KuraPayload();
+        payload.setTimestamp(new Date(1_700_000_000_000L));
+        payload.setPosition(position);
+        payload.addMetric("string", "foo");
+        payload.addMetric("double", 1.5d);
+        payload.addMetric("float", 2.5f);
+        payload.addMetric("int", -3);
+        payload.addMetric("long", 4L);
+        payload.addMetric("bool", true);
+        payload.addMetric("bytes", new byte[] { 5, 6 });
+        payload.setBody(body);
+
+        return payload;
+    }
+
+    private static byte[] assertSameAsProtoBuf(final KuraPayload payload) throws IOException {
+        final byte[] encoded = new CloudPayloadProtoBufEncoderImpl(payload).getBytes();
+
+        assertArrayEquals(toProtoBufBytes(payload), encoded);
+
+        return encoded;
+    }
+
+    /**
+     * Serializes the payload with the classes generated from kurapayload.proto.
+     */
+    private static byte[] toProtoBufBytes(final KuraPayload payload) {
+        final KuraPayloadProto.KuraPayload.Builder builder = KuraPayloadProto.KuraPayload.newBuilder();
+
+        if (payload.getTimestamp() != null) {
+            builder.setTimestamp(payload.getTimestamp().getTime());
+        }
+
+        final KuraPosition position = payload.getPosition();
+
+        if (position != null) {
+            final KuraPayloadProto.KuraPayload.KuraPosition.Builder positionBuilder = KuraPayloadProto.KuraPayload.KuraPosition
+                    .newBuilder();
+
+            positionBuilder.setLatitude(position.getLatitude());
+            positionBuilder.setLongitude(position.getLongitude());
+
+            if (position.getAltitude() != null) {
+                positionBuilder.setAltitude(position.getAltitude());
+            }
+            if (position.getPrecision() != null) {
+                positionBuilder.setPrecision(position.getPrecision());
+            }
+            if (position.getHeading() != null) {
+                positionBuilder.setHeading(position.getHeading());
+            }
+            if (position.getSpeed() != null) {
+                positionBuilder.setSpeed(position.getSpeed());
+            }
+            if (position.getTimestamp() != null) {
+                positionBuilder.setTimestamp(position.getTimestamp().getTime());
+            }
+            if (position.getSatellites() != null) {
+                positionBuilder.setSatellites(position.getSatellites());
+            }
+            if (position.getStatus() != null) {
+                positionBuilder.setStatus(position.getStatus());
+            }
+
+            builder.setPosition(positionBuilder);
+        }
+
+        for (final Map.Entry<String, Object> entry : payload.metrics().entrySet()) {
+            final Object value = entry.getValue();
+
+            if (value == null) {
+                continue;
+            }
+
+            final KuraMetric.Builder metricBuilder = KuraMetric.newBuilder().setName(entry.getKey());
+
+            if (value instanceof String) {
+                metricBuilder.setType(ValueType.STRING).setStringValue((String) value);
+            } else if (value instanceof Double) {
+                metricBuilder.setType(ValueType.DOUBLE).setDoubleValue((Double) value);
+            } else if (value instanceof Integer) {
+                metricBuilder.setType(ValueType.INT32).setIntValue((Integer) value);
+            } else if (value instanceof Float) {
+                metricBuilder.setType(ValueType.FLOAT).setFloatValue((Float) value);
+            } else if (value instanceof Long) {
+                metricBuilder.setType(ValueType.INT64).setLongValue((Long) value);
+            } else if (value instanceof Boolean) {
+                metricBuilder.setType(ValueType.BOOL).setBoolValue((Boolean) value);
+            } else {
+                metricBuilder.setType(ValueType.BYTES).setBytesValue(ByteString.copyFrom((byte[]) value));
+            }
+
+            builder.addMetric(metricBuilder);
+        }
+
+        if (payload.getBody() != null) {
+            builder.setBody(ByteString.copyFrom(payload.getBody()));
+        }
+
+        return builder.build().toByteArray();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2016, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -2331,6 +2331,137 @@ public class ConfigurationServiceJunitTest {
         d1.delete();
     }
 
+    @Test
+    public void testSaveSnapshotDelta() throws Throwable {
+        // snapshots after the first one only store the changed configurations and are reconstructed when loaded
+
+        final String dir = "dirSSD";
+        File d1 = new File(dir);
+        d1.mkdirs();
+        d1.deleteOnExit();
+
+        ConfigurationServiceImpl cs = new ConfigurationServiceImpl() {
+
+            @Override
+            String getSnapshotsDirectory() {
+                return dir;
+            }
+
+            @Override
+            protected <T> T unmarshal(String xmlString, Class<T> clazz) throws KuraException {
+                XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
+
+                return xmlMarshaller.unmarshal(xmlString, clazz);
+            }
+
+            @Override
+            protected String marshal(Object object) {
+                XmlMarshallUnmarshallImpl xmlMarshaller = new XmlMarshallUnmarshallImpl();
+                try {
+                    return xmlMarshaller.marshal(object);
+                } catch (KuraException e) {
+
+                }
+                return null;
+            }
+        };
+
+        CryptoService cryptoServiceMock = mock(CryptoService.class);
+        cs.setCryptoService(cryptoServiceMock);
+
+        when(cryptoServiceMock.encryptAes(ArgumentMatchers.any(char[].class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, char[].class));
+        when(cryptoServiceMock.decryptAes(ArgumentMatchers.any(char[].class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, char[].class));
+
+        SystemService systemServiceMock = mock(SystemService.class);
+        cs.setSystemService(systemServiceMock);
+
+        when(systemServiceMock.getKuraSnapshotsCount()).thenReturn(10);
+
+        List<ComponentConfiguration> configs = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Map<String, Object> props = new HashMap<>();
+            props.put("value", i);
+            configs.add(new ComponentConfigurationImpl("pid" + i, null, props));
+        }
+
+        Long fullSid = (Long) TestUtil.invokePrivate(cs, "saveSnapshot", configs);
+
+        configs.get(1).getConfigurationProperties().put("value", 10);
+        configs.remove(5);
+
+        Long deltaSid = (Long) TestUtil.invokePrivate(cs, "saveSnapshot", configs);
+
+        assertTrue(new File(d1, "snapshot_" + fullSid + ".xml").exists());
+        assertFalse(new File(d1, "snapshot_" + deltaSid + ".xml").exists());
+        assertTrue(new File(d1, "snapshot_" + deltaSid + "_delta.xml").exists());
+
+        assertEquals(new TreeSet<>(Arrays.asList(fullSid, deltaSid)), cs.getSnapshots());
+
+        List<ComponentConfiguration> snapshot = cs.getSnapshot(deltaSid);
+
+        assertEquals(5, snapshot.size());
+        assertEquals("pid0", snapshot.get(0).getPid());
+        assertEquals(0, snapshot.get(0).getConfigurationProperties().get("value"));
+        assertEquals("pid1", snapshot.get(1).getPid());
+        assertEquals(10, snapshot.get(1).getConfigurationProperties().get("value"));
+        assertEquals("pid2", snapshot.get(2).getPid());
+
+        assertEquals(6, cs.getSnapshot(fullSid).size());
+
+        for (File f : d1.listFiles()) {
+            f.delete();
+        }
+        d1.delete();
+    }
+
+    @Test
+    public void testGarbageCollectionKeepsDeltaBase() throws Throwable {
+        // the full snapshot the retained deltas refer to must not be deleted
+
+        final String dir = "snapshotDirGCD";
+        File d1 = new File(dir);
+        d1.mkdirs();
+        d1.deleteOnExit();
+
+        ConfigurationServiceImpl cs = new ConfigurationServiceImpl() {
+
+            @Override
+            String getSnapshotsDirectory() {
+                return dir;
+            }
+        };
+
+        String[] names = { "snapshot_0.xml", "snapshot_120.xml", "snapshot_121.xml", "snapshot_122_delta.xml",
+                "snapshot_123_delta.xml" };
+        for (String name : names) {
+            File f = new File(d1, name);
+            f.createNewFile();
+            f.deleteOnExit();
+        }
+
+        SystemService systemServiceMock = mock(SystemService.class);
+        cs.setSystemService(systemServiceMock);
+
+        when(systemServiceMock.getKuraSnapshotsCount()).thenReturn(2);
+
+        TestUtil.invokePrivate(cs, "garbageCollectionOldSnapshots");
+
+        verify(systemServiceMock, times(1)).getKuraSnapshotsCount();
+
+        assertTrue(new File(d1, "snapshot_0.xml").exists());
+        assertFalse(new File(d1, "snapshot_120.xml").exists());
+        assertTrue(new File(d1, "snapshot_121.xml").exists());
+        assertTrue(new File(d1, "snapshot_122_delta.xml").exists());
+        assertTrue(new File(d1, "snapshot_123_delta.xml").exists());
+
+        for (File f : d1.listFiles()) {
+            f.delete();
+        }
+        d1.delete();
+    }
+
     @Test
     public void testLineBreakHandling() throws KuraException, IOException {
         final CryptoService csMock = mock(CryptoService.class);
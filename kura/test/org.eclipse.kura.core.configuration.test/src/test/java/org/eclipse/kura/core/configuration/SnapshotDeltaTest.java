@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.configuration.Password;
+import org.junit.Test;
+
+public class SnapshotDeltaTest {
+
+    @Test
+    public void testComputeDetectsChanges() {
+        final Map<String, ComponentConfiguration> base = index(config("a", "value", 1), config("b", "value", 2),
+                config("c", "value", 3));
+
+        final SnapshotDelta delta = SnapshotDelta.compute(10, base,
+                Arrays.asList(config("a", "value", 1), config("b", "value", 5), config("d", "value", 4)));
+
+        assertEquals(10, delta.getBaseSnapshotId());
+        assertEquals(Arrays.asList("b", "d"), pids(delta.getChangedConfigurations()));
+        assertEquals(Collections.singletonList("c"), delta.getDeletedPids());
+        assertEquals(3, delta.getChangeCount());
+    }
+
+    @Test
+    public void testComputeComparesArraysAndPasswords() {
+        final Map<String, ComponentConfiguration> base = index(
+                config("a", "array", new String[] { "x", "y" }, "password", new Password("secret")));
+
+        final SnapshotDelta unchanged = SnapshotDelta.compute(10, base, Collections.singletonList(
+                config("a", "array", new String[] { "x", "y" }, "password", new Password("secret"))));
+        assertEquals(0, unchanged.getChangeCount());
+
+        final SnapshotDelta changedArray = SnapshotDelta.compute(10, base, Collections.singletonList(
+                config("a", "array", new String[] { "x", "z" }, "password", new Password("secret"))));
+        assertEquals(1, changedArray.getChangeCount());
+
+        final SnapshotDelta changedPassword = SnapshotDelta.compute(10, base, Collections.singletonList(
+                config("a", "array", new String[] { "x", "y" }, "password", new Password("other"))));
+        assertEquals(1, changedPassword.getChangeCount());
+    }
+
+    @Test
+    public void testXmlRoundTrip() throws KuraException {
+        final Map<String, ComponentConfiguration> base = index(config("a", "value", 1), config("b", "value", 2));
+
+        final SnapshotDelta delta = SnapshotDelta.compute(10, base, Collections.singletonList(config("a", "value", 3)));
+
+        final XmlComponentConfigurations xml = delta.toXml();
+
+        assertTrue(SnapshotDelta.isDelta(xml));
+        assertEquals(SnapshotDelta.DELTA_PID, xml.getConfigurations().get(0).getPid());
+
+        final SnapshotDelta parsed = SnapshotDelta.fromXml(11, xml);
+
+        assertEquals(10, parsed.getBaseSnapshotId());
+        assertEquals(Collections.singletonList("a"), pids(parsed.getChangedConfigurations()));
+        assertEquals(Collections.singletonList("b"), parsed.getDeletedPids());
+    }
+
+    @Test(expected = KuraException.class)
+    public void testFromXmlRejectsNewerBase() throws KuraException {
+        final SnapshotDelta delta = SnapshotDelta.compute(10, index(config("a", "value", 1)),
+                Collections.singletonList(config("a", "value", 2)));
+
+        SnapshotDelta.fromXml(10, delta.toXml());
+    }
+
+    @Test(expected = KuraException.class)
+    public void testFromXmlRejectsFullSnapshot() throws KuraException {
+        final XmlComponentConfigurations xml = new XmlComponentConfigurations();
+        xml.setConfigurations(Collections.singletonList(config("a", "value", 1)));
+
+        assertFalse(SnapshotDelta.isDelta(xml));
+
+        SnapshotDelta.fromXml(11, xml);
+    }
+
+    @Test
+    public void testApply() {
+        final XmlComponentConfigurations full = new XmlComponentConfigurations();
+        full.setConfigurations(Arrays.asList(config("a", "value", 1), config("b", "value", 2), config("c", "value", 3)));
+
+        final Map<String, ComponentConfiguration> base = index(full.getConfigurations());
+
+        final List<ComponentConfiguration> second = Arrays.asList(config("a", "value", 1), config("b", "value", 5),
+                config("c", "value", 3), config("d", "value", 4));
+        final SnapshotDelta first = SnapshotDelta.compute(10, base, second);
+
+        final SnapshotDelta last = SnapshotDelta.compute(11, index(second),
+                Arrays.asList(config("b", "value", 6), config("c", "value", 3), config("d", "value", 4)));
+
+        final List<ComponentConfiguration> result = SnapshotDelta.apply(full, Arrays.asList(first, last))
+                .getConfigurations();
+
+        assertEquals(Arrays.asList("b", "c", "d"), pids(result));
+        assertEquals(6, result.get(0).getConfigurationProperties().get("value"));
+        assertEquals(3, result.get(1).getConfigurationProperties().get("value"));
+        assertEquals(4, result.get(2).getConfigurationProperties().get("value"));
+    }
+
+    @Test
+    public void testPropertiesEqual() {
+        final Map<String, Object> first = new HashMap<>();
+        first.put("a", new Integer[] { 1, 2 });
+        first.put("b", null);
+
+        final Map<String, Object> second = new HashMap<>();
+        second.put("a", new Integer[] { 1, 2 });
+        second.put("b", null);
+
+        assertTrue(SnapshotDelta.propertiesEqual(first, second));
+
+        second.remove("b");
+        second.put("c", null);
+
+        assertFalse(SnapshotDelta.propertiesEqual(first, second));
+
+        second.remove("c");
+        second.put("b", new Long[] { 1L, 2L });
+
+        assertFalse(SnapshotDelta.propertiesEqual(first, second));
+
+        assertArrayEquals(new Integer[] { 1, 2 }, (Integer[]) first.get("a"));
+    }
+
+    private static ComponentConfiguration config(final String pid, final Object... keysAndValues) {
+        final Map<String, Object> properties = new HashMap<>();
+
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.put((String) keysAndValues[i], keysAndValues[i + 1]);
+        }
+
+        return new ComponentConfigurationImpl(pid, null, properties);
+    }
+
+    private static Map<String, ComponentConfiguration> index(final ComponentConfiguration... configs) {
+        return index(Arrays.asList(configs));
+    }
+
+    private static Map<String, ComponentConfiguration> index(final List<ComponentConfiguration> configs) {
+        final Map<String, ComponentConfiguration> result = new LinkedHashMap<>();
+
+        for (final ComponentConfiguration config : configs) {
+            result.put(config.getPid(), config);
+        }
+
+        return result;
+    }
+
+    private static List<String> pids(final List<ComponentConfiguration> configs) {
+        final List<String> result = new ArrayList<>();
+
+        for (final ComponentConfiguration config : configs) {
+            result.add(config.getPid());
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.configuration;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.kura.configuration.ComponentConfiguration;
+import org.eclipse.kura.KuraException;
+import org.eclipse.kura.configuration.Password;
+import org.eclipse.kura.crypto.CryptoService;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StartupConfigurationCacheTest {
+
+    private final CryptoService cryptoService = mock(CryptoService.class);
+
+    @Before
+    public void setUp() throws KuraException {
+        when(this.cryptoService.encryptAes(any(char[].class)))
+                .thenAnswer(invocation -> reverse(invocation.getArgument(0)));
+        when(this.cryptoService.decryptAes(any(char[].class)))
+                .thenAnswer(invocation -> reverse(invocation.getArgument(0)));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final Path dir = Files.createTempDirectory("startupCache");
+        final File snapshot = createSnapshotFile(dir);
+        final Path cachePath = dir.resolve("configuration.cache");
+
+        final Map<String, Object> first = new HashMap<>();
+        first.put("string", "value \u00e8");
+        first.put("long", 1L);
+        first.put("double", 1.5d);
+        first.put("float", 2.5f);
+        first.put("integer", 3);
+        first.put("byte", (byte) 4);
+        first.put("char", 'c');
+        first.put("boolean", true);
+        first.put("short", (short) 5);
+        first.put("password", new Password("secret"));
+        first.put("null", null);
+
+        final Map<String, Object> second = new HashMap<>();
+        second.put("strings", new String[] { "a", null, "b" });
+        second.put("integers", new Integer[] { 1, 2 });
+        second.put("passwords", new Password[] { new Password("p") });
+
+        StartupConfigurationCache.write(cachePath, 12, snapshot,
+                Arrays.asList(new ComponentConfigurationImpl("first", null, first),
+                        new ComponentConfigurationImpl("second", null, second),
+                        new ComponentConfigurationImpl("empty", null, null)),
+                this.cryptoService);
+
+        final StartupConfigurationCache cache = StartupConfigurationCache.open(cachePath, this.cryptoService);
+
+        assertEquals(12, cache.getSnapshotId());
+        assertTrue(cache.isValidFor(12, snapshot));
+        assertFalse(cache.isValidFor(13, snapshot));
+
+        final List<ComponentConfiguration> configs = cache.getConfigurations();
+        assertEquals(Arrays.asList("first", "second", "empty"),
+                configs.stream().map(ComponentConfiguration::getPid).collect(Collectors.toList()));
+
+        final Map<String, Object> firstRead = configs.get(0).getConfigurationProperties();
+        assertEquals(first.size(), firstRead.size());
+        assertEquals("value \u00e8", firstRead.get("string"));
+        assertEquals(1L, firstRead.get("long"));
+        assertEquals(1.5d, firstRead.get("double"));
+        assertEquals(2.5f, firstRead.get("float"));
+        assertEquals(3, firstRead.get("integer"));
+        assertEquals((byte) 4, firstRead.get("byte"));
+        assertEquals('c', firstRead.get("char"));
+        assertEquals(true, firstRead.get("boolean"));
+        assertEquals((short) 5, firstRead.get("short"));
+        assertEquals("secret", new String(((Password) firstRead.get("password")).getPassword()));
+        assertTrue(firstRead.containsKey("null"));
+        assertNull(firstRead.get("null"));
+
+        final Map<String, Object> secondRead = configs.get(1).getConfigurationProperties();
+        assertArrayEquals(new String[] { "a", null, "b" }, (String[]) secondRead.get("strings"));
+        assertArrayEquals(new Integer[] { 1, 2 }, (Integer[]) secondRead.get("integers"));
+        assertEquals("p", new String(((Password[]) secondRead.get("passwords"))[0].getPassword()));
+
+        assertNull(configs.get(2).getConfigurationProperties());
+    }
+
+    @Test
+    public void testSnapshotChangeInvalidatesCache() throws IOException {
+        final Path dir = Files.createTempDirectory("startupCache");
+        final File snapshot = createSnapshotFile(dir);
+        final Path cachePath = dir.resolve("configuration.cache");
+
+        StartupConfigurationCache.write(cachePath, 12, snapshot,
+                Arrays.asList(new ComponentConfigurationImpl("pid", null, new HashMap<>())), this.cryptoService);
+
+        Files.write(snapshot.toPath(), "modified content".getBytes());
+
+        assertFalse(StartupConfigurationCache.open(cachePath, this.cryptoService).isValidFor(12, snapshot));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorruptedCache() throws IOException {
+        final Path dir = Files.createTempDirectory("startupCache");
+        final File snapshot = createSnapshotFile(dir);
+        final Path cachePath = dir.resolve("configuration.cache");
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "value");
+
+        StartupConfigurationCache.write(cachePath, 12, snapshot,
+                Arrays.asList(new ComponentConfigurationImpl("pid", null, properties)), this.cryptoService);
+
+        try (RandomAccessFile file = new RandomAccessFile(cachePath.toFile(), "rw")) {
+            file.seek(40);
+            final int value = file.read();
+            file.seek(40);
+            file.write(value ^ 0xff);
+        }
+
+        StartupConfigurationCache.open(cachePath, this.cryptoService);
+    }
+
+    @Test
+    public void testCacheIsEncrypted() throws IOException {
+        final Path dir = Files.createTempDirectory("startupCache");
+        final File snapshot = createSnapshotFile(dir);
+        final Path cachePath = dir.resolve("configuration.cache");
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("key", "sensitive value");
+
+        StartupConfigurationCache.write(cachePath, 12, snapshot,
+                Arrays.asList(new ComponentConfigurationImpl("pid", null, properties)), this.cryptoService);
+
+        final String content = new String(Files.readAllBytes(cachePath), StandardCharsets.ISO_8859_1);
+        assertFalse(content.contains("sensitive value"));
+
+        final StartupConfigurationCache cache = StartupConfigurationCache.open(cachePath, this.cryptoService);
+        assertEquals("sensitive value", cache.getConfigurations().get(0).getConfigurationProperties().get("key"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnsupportedPropertyType() throws IOException {
+        final Path dir = Files.createTempDirectory("startupCache");
+        final File snapshot = createSnapshotFile(dir);
+        final Path cachePath = dir.resolve("configuration.cache");
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("key", new Object());
+
+        try {
+            StartupConfigurationCache.write(cachePath, 12, snapshot,
+                    Arrays.asList(new ComponentConfigurationImpl("pid", null, properties)), this.cryptoService);
+        } finally {
+            assertFalse(Files.exists(cachePath));
+        }
+    }
+
+    private static char[] reverse(final char[] value) {
+        final char[] result = new char[value.length];
+
+        for (int i = 0; i < value.length; i++) {
+            result[i] = value[value.length - 1 - i];
+        }
+        return result;
+    }
+
+    private static File createSnapshotFile(final Path dir) throws IOException {
+        final File snapshot = dir.resolve("snapshot_12.xml").toFile();
+        Files.write(snapshot.toPath(), "content".getBytes());
+        return snapshot;
+    }
+}
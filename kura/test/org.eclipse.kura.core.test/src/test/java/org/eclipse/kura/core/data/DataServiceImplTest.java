@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,14 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
@@ -30,6 +33,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +60,7 @@ import org.eclipse.paho.client.mqttv3.MqttException;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.mockito.verification.VerificationMode;
 import org.osgi.framework.BundleContext;
@@ -421,6 +426,43 @@ public class DataServiceImplTest {
         verify(inFlightMsgIds, times(1)).clear();
     }
 
+    @Test
+    public void shouldMarkConfirmedMessagesWithSingleStatement() throws NoSuchFieldException, KuraStoreException {
+        DataServiceImpl svc = new DataServiceImpl();
+
+        svc.setCloudConnectionStatusService(mock(CloudConnectionStatusService.class));
+
+        MessageStoreProvider messageStoreProviderMock = mock(MessageStoreProvider.class);
+        MessageStore messageStoreMock = mock(MessageStore.class);
+        initMockMessageStore(messageStoreProviderMock, messageStoreMock);
+
+        ComponentContext ctxMock = mock(ComponentContext.class);
+        TestUtil.setFieldValue(svc, "dataServiceListeners", new DataServiceListenerS(ctxMock));
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("in-flight-messages.republish-on-new-session", false);
+        TestUtil.setFieldValue(svc, "dataServiceOptions", new DataServiceOptions(properties));
+
+        svc.setMessageStoreProvider(messageStoreProviderMock);
+
+        final DataTransportToken token1 = new DataTransportToken(1, "session");
+        final DataTransportToken token2 = new DataTransportToken(2, "session");
+        @SuppressWarnings("unchecked")
+        Map<DataTransportToken, Integer> inFlightMsgIds = (Map<DataTransportToken, Integer>) TestUtil
+                .getFieldValue(svc, "inFlightMsgIds");
+        inFlightMsgIds.put(token1, 10);
+        inFlightMsgIds.put(token2, 11);
+
+        svc.onMessageConfirmed(token1);
+        svc.onMessageConfirmed(token2);
+        svc.onConnectionEstablished(true);
+
+        InOrder inOrder = inOrder(messageStoreMock);
+        inOrder.verify(messageStoreMock, times(1)).markAsConfirmed(Arrays.asList(10, 11));
+        inOrder.verify(messageStoreMock, times(1)).dropAllInFlightMessages();
+        verify(messageStoreMock, never()).markAsConfirmed(anyInt());
+    }
+
     @Test
     public void testConnectionEstablishedErrorLog() throws NoSuchFieldException, KuraStoreException {
         // new session, don't publish in-flight messages, trigger error log
@@ -599,6 +641,49 @@ public class DataServiceImplTest {
         verify(wsMock, times(1)).unregisterCriticalComponent(svc);
     }
 
+    @Test
+    public void shouldStopReconnectTaskAfterConnecting() throws Throwable {
+        final DataServiceImpl svc = new DataServiceImpl();
+
+        final MessageStoreProvider messageStoreProviderMock = mock(MessageStoreProvider.class);
+        initMockMessageStore(messageStoreProviderMock, mock(MessageStore.class));
+
+        svc.setCloudConnectionStatusService(mock(CloudConnectionStatusService.class));
+
+        final WatchdogService wsMock = mock(WatchdogService.class);
+        svc.setWatchdogService(wsMock);
+
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("connect.auto-on-startup", true);
+        properties.put("connect.retry-interval", 1);
+        properties.put("kura.service.pid", "foo");
+        TestUtil.setFieldValue(svc, "dataServiceOptions", new DataServiceOptions(properties));
+
+        final ComponentContext ctxMock = mock(ComponentContext.class);
+        when(ctxMock.getBundleContext()).thenReturn(mock(BundleContext.class));
+        TestUtil.setFieldValue(svc, "dataServiceListeners", new DataServiceListenerS(ctxMock));
+
+        final DataTransportService dtsMock = mock(DataTransportService.class);
+        TestUtil.setFieldValue(svc, "dataTransportService", dtsMock);
+        when(dtsMock.isConnected()).thenReturn(false);
+
+        svc.setMessageStoreProvider(messageStoreProviderMock);
+        svc.activate(ctxMock, properties);
+
+        verify(dtsMock, timeout(10000).times(1)).connect();
+
+        // give the task the time to run again if it was not stopped
+        Thread.sleep(3500);
+
+        verify(dtsMock, times(1)).connect();
+        verify(wsMock, times(1)).unregisterCriticalComponent(svc);
+
+        final ScheduledFuture<?> connectionMonitorFuture = (ScheduledFuture<?>) TestUtil.getFieldValue(svc,
+                "connectionMonitorFuture");
+        assertTrue(connectionMonitorFuture.isDone());
+        svc.connectionMonitorExecutor.shutdownNow();
+    }
+
     @Test
     public void testActivateAndFailConnecting()
             throws NoSuchFieldException, InterruptedException, KuraConnectException, KuraStoreException {
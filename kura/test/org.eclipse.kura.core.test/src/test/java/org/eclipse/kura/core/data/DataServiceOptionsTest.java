@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -35,10 +35,14 @@ public class DataServiceOptionsTest {
     private static final String REPUBLISH_IN_FLIGHT_MSGS_PROP_NAME = "in-flight-messages.republish-on-new-session";
     private static final String MAX_IN_FLIGHT_MSGS_PROP_NAME = "in-flight-messages.max-number";
     private static final String IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_PROP_NAME = "in-flight-messages.congestion-timeout";
+    private static final String PUBLISHER_FETCH_SIZE_PROP_NAME = "publisher.fetch-size";
+    private static final String PUBLISHER_LANES_PROP_NAME = "publisher.lanes";
     private static final String RATE_LIMIT_ENABLE_PROP_NAME = "enable.rate.limit";
     private static final String RATE_LIMIT_AVERAGE_RATE_PROP_NAME = "rate.limit.average";
     private static final String RATE_LIMIT_TIME_UNIT_PROP_NAME = "rate.limit.time.unit";
     private static final String RATE_LIMIT_BURST_SIZE_PROP_NAME = "rate.limit.burst.size";
+    private static final String ADAPTIVE_RATE_ENABLE_PROP_NAME = "enable.adaptive.rate";
+    private static final String ADAPTIVE_RATE_LATENCY_THRESHOLD_PROP_NAME = "adaptive.rate.latency.threshold";
     private static final String RECOVERY_ENABLE_PROP_NAME = "enable.recovery.on.connection.failure";
     private static final String RECOVERY_MAX_FAILURES_PROP_NAME = "connection.recovery.max.failures";
     private static final String CONNECTION_SCHEDULE_ENABLED = "connection.schedule.enabled";
@@ -57,9 +61,12 @@ public class DataServiceOptionsTest {
     private static final boolean REPUBLISH_IN_FLIGHT_MSGS_DEFAULT = true;
     private static final int MAX_IN_FLIGHT_MSGS_DEFAULT = 9;
     private static final int IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_DEFAULT = 0;
+    private static final int PUBLISHER_FETCH_SIZE_DEFAULT = 10;
     private static final boolean RATE_LIMIT_ENABLE_DEFAULT = true;
     private static final int RATE_LIMIT_AVERAGE_RATE_DEFAULT = 1;
     private static final int RATE_LIMIT_BURST_SIZE_DEFAULT = 1;
+    private static final boolean ADAPTIVE_RATE_ENABLE_DEFAULT = false;
+    private static final double ADAPTIVE_RATE_LATENCY_THRESHOLD_DEFAULT = 2.0;
     private static final boolean RECOVERY_ENABLE_DEFAULT = true;
     private static final int RECOVERY_MAX_FAILURES_DEFAULT = 10;
     private static final boolean CONNECTION_SCHEDULE_ENABLED_DEFAULT = false;
@@ -76,9 +83,13 @@ public class DataServiceOptionsTest {
     private static final boolean REPUBLISH_IN_FLIGHT_MSGS_CHANGED = true;
     private static final int MAX_IN_FLIGHT_MSGS_CHANGED = 5;
     private static final int IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_CHANGED = 1;
+    private static final int PUBLISHER_FETCH_SIZE_CHANGED = 100;
+    private static final String PUBLISHER_LANES_CHANGED = "0-1:8,2-4:4,5-:1";
     private static final boolean RATE_LIMIT_ENABLE_CHANGED = false;
     private static final int RATE_LIMIT_AVERAGE_RATE_CHANGED = 2;
     private static final int RATE_LIMIT_BURST_SIZE_CHANGED = 2;
+    private static final boolean ADAPTIVE_RATE_ENABLE_CHANGED = true;
+    private static final int ADAPTIVE_RATE_LATENCY_THRESHOLD_CHANGED = 150;
     private static final boolean RECOVERY_ENABLE_CHANGED = false;
     private static final int RECOVERY_MAX_FAILURES_CHANGED = 15;
     private static final boolean CONNECTION_SCHEDULE_ENABLED_CHANGED = true;
@@ -128,6 +139,13 @@ public class DataServiceOptionsTest {
         thenCheckpriorityEquals(3);
     }
 
+    @Test
+    public void shouldDisablePublisherLanesWithInvalidConfiguration() {
+        givenPublisherLanes("1-4:4,5-:1");
+        whenDataServiceOptionsIsCreated();
+        thenPublisherLanesAreDisabled();
+    }
+
     /*
      * Steps
      */
@@ -159,6 +177,12 @@ public class DataServiceOptionsTest {
         properties.put("connection.schedule.enabled", false);
     }
 
+    private void givenPublisherLanes(final String lanes) {
+        properties = new HashMap<>();
+
+        properties.put(PUBLISHER_LANES_PROP_NAME, lanes);
+    }
+
     private void givenEmptyProperties() {
         // Create DataServiceOptions
         properties = new HashMap<>();
@@ -178,10 +202,14 @@ public class DataServiceOptionsTest {
         properties.put(REPUBLISH_IN_FLIGHT_MSGS_PROP_NAME, REPUBLISH_IN_FLIGHT_MSGS_CHANGED);
         properties.put(MAX_IN_FLIGHT_MSGS_PROP_NAME, MAX_IN_FLIGHT_MSGS_CHANGED);
         properties.put(IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_PROP_NAME, IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_CHANGED);
+        properties.put(PUBLISHER_FETCH_SIZE_PROP_NAME, PUBLISHER_FETCH_SIZE_CHANGED);
+        properties.put(PUBLISHER_LANES_PROP_NAME, PUBLISHER_LANES_CHANGED);
         properties.put(RATE_LIMIT_ENABLE_PROP_NAME, RATE_LIMIT_ENABLE_CHANGED);
         properties.put(RATE_LIMIT_AVERAGE_RATE_PROP_NAME, RATE_LIMIT_AVERAGE_RATE_CHANGED);
         properties.put(RATE_LIMIT_TIME_UNIT_PROP_NAME, RATE_LIMIT_TIME_UNIT_PROP_NAME_CHANGED);
         properties.put(RATE_LIMIT_BURST_SIZE_PROP_NAME, RATE_LIMIT_BURST_SIZE_CHANGED);
+        properties.put(ADAPTIVE_RATE_ENABLE_PROP_NAME, ADAPTIVE_RATE_ENABLE_CHANGED);
+        properties.put(ADAPTIVE_RATE_LATENCY_THRESHOLD_PROP_NAME, ADAPTIVE_RATE_LATENCY_THRESHOLD_CHANGED);
         properties.put(RECOVERY_ENABLE_PROP_NAME, RECOVERY_ENABLE_CHANGED);
         properties.put(RECOVERY_MAX_FAILURES_PROP_NAME, RECOVERY_MAX_FAILURES_CHANGED);
         properties.put(CONNECTION_SCHEDULE_ENABLED, CONNECTION_SCHEDULE_ENABLED_CHANGED);
@@ -213,6 +241,10 @@ public class DataServiceOptionsTest {
         assertFalse(this.dataServiceOptions.isConnectionSchedulePriorityOverrideEnabled());
     }
 
+    private void thenPublisherLanesAreDisabled() {
+        assertTrue(this.dataServiceOptions.getPublisherLanes().isEmpty());
+    }
+
     private void thenCheckpriorityEquals(int priority) {
         assertEquals(this.dataServiceOptions.getConnectionSchedulePriorityOverridePriority(), priority);
     }
@@ -230,9 +262,14 @@ public class DataServiceOptionsTest {
         assertEquals(MAX_IN_FLIGHT_MSGS_DEFAULT, this.dataServiceOptions.getMaxInFlightMessages());
         assertEquals(IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_DEFAULT,
                 this.dataServiceOptions.getInFlightMessagesCongestionTimeout());
+        assertEquals(PUBLISHER_FETCH_SIZE_DEFAULT, this.dataServiceOptions.getPublisherFetchSize());
+        assertTrue(this.dataServiceOptions.getPublisherLanes().isEmpty());
         assertEquals(RATE_LIMIT_ENABLE_DEFAULT, this.dataServiceOptions.isRateLimitEnabled());
         assertEquals(RATE_LIMIT_AVERAGE_RATE_DEFAULT, this.dataServiceOptions.getRateLimitAverageRate());
         assertEquals(RATE_LIMIT_BURST_SIZE_DEFAULT, this.dataServiceOptions.getRateLimitBurstSize());
+        assertEquals(ADAPTIVE_RATE_ENABLE_DEFAULT, this.dataServiceOptions.isAdaptiveRateEnabled());
+        assertEquals(ADAPTIVE_RATE_LATENCY_THRESHOLD_DEFAULT,
+                this.dataServiceOptions.getAdaptiveRateLatencyThreshold(), 0.0);
         assertEquals(RECOVERY_ENABLE_DEFAULT, this.dataServiceOptions.isConnectionRecoveryEnabled());
         assertEquals(RECOVERY_MAX_FAILURES_DEFAULT, this.dataServiceOptions.getRecoveryMaximumAllowedFailures());
         assertEquals(CONNECTION_SCHEDULE_ENABLED_DEFAULT, this.dataServiceOptions.isConnectionScheduleEnabled());
@@ -255,9 +292,14 @@ public class DataServiceOptionsTest {
         assertEquals(MAX_IN_FLIGHT_MSGS_CHANGED, this.dataServiceOptions.getMaxInFlightMessages());
         assertEquals(IN_FLIGHT_MSGS_CONGESTION_TIMEOUT_CHANGED,
                 this.dataServiceOptions.getInFlightMessagesCongestionTimeout());
+        assertEquals(PUBLISHER_FETCH_SIZE_CHANGED, this.dataServiceOptions.getPublisherFetchSize());
+        assertEquals(3, this.dataServiceOptions.getPublisherLanes().size());
         assertEquals(RATE_LIMIT_ENABLE_CHANGED, this.dataServiceOptions.isRateLimitEnabled());
         assertEquals(RATE_LIMIT_AVERAGE_RATE_CHANGED, this.dataServiceOptions.getRateLimitAverageRate());
         assertEquals(RATE_LIMIT_BURST_SIZE_CHANGED, this.dataServiceOptions.getRateLimitBurstSize());
+        assertEquals(ADAPTIVE_RATE_ENABLE_CHANGED, this.dataServiceOptions.isAdaptiveRateEnabled());
+        assertEquals(ADAPTIVE_RATE_LATENCY_THRESHOLD_CHANGED / 100d,
+                this.dataServiceOptions.getAdaptiveRateLatencyThreshold(), 0.0);
         assertEquals(RECOVERY_ENABLE_CHANGED, this.dataServiceOptions.isConnectionRecoveryEnabled());
         assertEquals(RECOVERY_MAX_FAILURES_CHANGED, this.dataServiceOptions.getRecoveryMaximumAllowedFailures());
         assertEquals(CONNECTION_SCHEDULE_ENABLED_CHANGED, this.dataServiceOptions.isConnectionScheduleEnabled());
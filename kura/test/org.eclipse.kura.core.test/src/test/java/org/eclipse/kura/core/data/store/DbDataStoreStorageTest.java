@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.eclipse.kura.KuraStoreException;
 import org.eclipse.kura.core.db.H2DbMessageStoreImpl;
@@ -45,6 +49,9 @@ public class DbDataStoreStorageTest {
     private static final int PRIORITY_HIGH = 0;
     private static final int PRIORITY_MEDIUM = 1;
     private static final int PRIORITY_LOW = 2;
+    private static final int PRIORITY_LANE_MIN = 7;
+    private static final int PRIORITY_LANE_MAX = 8;
+    private static final int PRIORITY_OUTSIDE_LANE = 9;
     private static final String TABLE_NAME = "test-table";
     private static final int H2_MAX_ID_VALUE = 2147483647;
     private byte[] payload;
@@ -52,6 +59,8 @@ public class DbDataStoreStorageTest {
 
     private MessageStore dataStore;
     private int messageId;
+    private List<Integer> messageIds = new ArrayList<>();
+    private List<StoredMessage> fetchedMessages = new ArrayList<>();
 
     /*
      * Scenarios
@@ -121,6 +130,44 @@ public class DbDataStoreStorageTest {
         thenStoredMessageIs(TOPIC, this.payload, QOS1, true, PRIORITY_MEDIUM);
     }
 
+    @Test
+    public void shouldStoreMessagesInBatch() {
+        givenLargePayload();
+        givenDbDataStore(10000, 10000);
+
+        whenStoreBatch(3, TOPIC, this.payload, QOS1, false, PRIORITY_LOW);
+
+        thenNoExceptionsOccurred();
+        thenMessageIdsAreDistinct(3);
+        thenStoredMessagesAre(TOPIC, this.payload, QOS1, false, PRIORITY_LOW);
+    }
+
+    @Test
+    public void shouldGetNextMessagesInPriorityRange() {
+        givenSmallPayload();
+        givenDbDataStore(10000, 10000);
+        givenStoredMessagesWithPriorities(PRIORITY_OUTSIDE_LANE, PRIORITY_LANE_MAX, PRIORITY_LANE_MIN,
+                PRIORITY_LANE_MIN);
+
+        whenGetNextMessages(PRIORITY_LANE_MIN, PRIORITY_LANE_MAX, 10);
+
+        thenNoExceptionsOccurred();
+        thenFetchedPrioritiesAre(PRIORITY_LANE_MIN, PRIORITY_LANE_MIN, PRIORITY_LANE_MAX);
+        thenUnpublishedMessageCountIs(PRIORITY_LANE_MIN, PRIORITY_OUTSIDE_LANE, 4);
+    }
+
+    @Test
+    public void shouldLimitNextMessagesInPriorityRange() {
+        givenSmallPayload();
+        givenDbDataStore(10000, 10000);
+        givenStoredMessagesWithPriorities(PRIORITY_LANE_MAX, PRIORITY_LANE_MAX, PRIORITY_LANE_MAX);
+
+        whenGetNextMessages(PRIORITY_LANE_MAX, PRIORITY_LANE_MAX, 2);
+
+        thenNoExceptionsOccurred();
+        thenFetchedPrioritiesAre(PRIORITY_LANE_MAX, PRIORITY_LANE_MAX);
+    }
+
     /*
      * Steps
      */
@@ -147,6 +194,19 @@ public class DbDataStoreStorageTest {
         }
     }
 
+    private void givenStoredMessagesWithPriorities(int... priorities) {
+        try {
+            this.dataStore.markAsPublished(this.dataStore.getNextMessages(PRIORITY_LANE_MIN, Integer.MAX_VALUE,
+                    Integer.MAX_VALUE).stream().map(StoredMessage::getId).collect(Collectors.toList()));
+
+            for (final int priority : priorities) {
+                this.dataStore.store(TOPIC, this.payload, QOS0, false, priority);
+            }
+        } catch (KuraStoreException e) {
+            this.occurredException = e;
+        }
+    }
+
     @SuppressWarnings("restriction")
     private void givenDbDataStore(int houseKeeperInterval, int purgeAge) {
         H2DbService h2Service = new MockH2DbService();
@@ -176,6 +236,28 @@ public class DbDataStoreStorageTest {
         }
     }
 
+    private void whenStoreBatch(int count, String topic, byte[] payload, int qos, boolean retain, int priority) {
+        final List<StoredMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(new StoredMessage.Builder(0).withTopic(topic).withPayload(payload).withQos(qos)
+                    .withRetain(retain).withPriority(priority).build());
+        }
+
+        try {
+            this.messageIds = this.dataStore.store(messages);
+        } catch (KuraStoreException e) {
+            this.occurredException = e;
+        }
+    }
+
+    private void whenGetNextMessages(int minPriority, int maxPriority, int maxCount) {
+        try {
+            this.fetchedMessages = this.dataStore.getNextMessages(minPriority, maxPriority, maxCount);
+        } catch (KuraStoreException e) {
+            this.occurredException = e;
+        }
+    }
+
     private void whenOverflowingIds() {
         try {
             for (int i = 0; i < H2_MAX_ID_VALUE + 1; i++) {
@@ -212,6 +294,34 @@ public class DbDataStoreStorageTest {
         assertNull(this.occurredException);
     }
 
+    private void thenMessageIdsAreDistinct(int count) {
+        assertEquals(count, this.messageIds.size());
+        assertEquals(count, new HashSet<>(this.messageIds).size());
+    }
+
+    private void thenFetchedPrioritiesAre(int... priorities) {
+        assertEquals(priorities.length, this.fetchedMessages.size());
+        for (int i = 0; i < priorities.length; i++) {
+            assertEquals(priorities[i], this.fetchedMessages.get(i).getPriority());
+            assertTrue(Arrays.equals(this.payload, this.fetchedMessages.get(i).getPayload()));
+        }
+    }
+
+    private void thenUnpublishedMessageCountIs(int minPriority, int maxPriority, int count) {
+        try {
+            assertEquals(count, this.dataStore.getUnpublishedMessageCount(minPriority, maxPriority));
+        } catch (KuraStoreException e) {
+            fail("Unable to count unpublished messages");
+        }
+    }
+
+    private void thenStoredMessagesAre(String topic, byte[] payload, int qos, boolean retain, int priority) {
+        for (final int id : this.messageIds) {
+            this.messageId = id;
+            thenStoredMessageIs(topic, payload, qos, retain, priority);
+        }
+    }
+
     private void thenStoredMessageIs(String topic, byte[] payload, int qos, boolean retain, int priority) {
         StoredMessage message;
         try {
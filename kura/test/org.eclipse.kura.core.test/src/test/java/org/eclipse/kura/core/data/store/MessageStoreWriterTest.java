@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.data.store;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.KuraStoreCapacityReachedException;
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.message.store.StoredMessage;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.junit.After;
+import org.junit.Test;
+
+public class MessageStoreWriterTest {
+
+    private static final String TOPIC = "foo";
+    private static final int CAPACITY = 10;
+
+    private final MessageStore store = mock(MessageStore.class);
+    private final MessageStoreWriter writer = new MessageStoreWriter();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final List<List<StoredMessage>> batches = new ArrayList<>();
+    private final List<Object> results = new ArrayList<>();
+    private final CountDownLatch firstStoreStarted = new CountDownLatch(1);
+    private final CountDownLatch firstStoreReleased = new CountDownLatch(1);
+    private volatile boolean blockFirstStore;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnTheIdOfTheStoredMessage() throws KuraStoreException {
+        givenMessageCount(0);
+        givenStoreReturningIds();
+
+        whenStoring(5);
+
+        thenResultsAre(1);
+    }
+
+    @Test
+    public void shouldRejectMessagesWhenCapacityIsReached() throws KuraStoreException {
+        givenMessageCount(CAPACITY);
+        givenStoreReturningIds();
+
+        whenStoring(5);
+
+        thenResultIsException(0, KuraStoreCapacityReachedException.class);
+        thenNothingIsStored();
+    }
+
+    @Test
+    public void shouldStorePriority0And1MessagesWhenCapacityIsReached() throws KuraStoreException {
+        givenMessageCount(CAPACITY);
+        givenStoreReturningIds();
+
+        whenStoring(0, 1);
+
+        thenResultsAre(1, 2);
+    }
+
+    @Test
+    public void shouldTrackMessageCountInMemory() throws KuraStoreException {
+        givenMessageCount(CAPACITY - 2);
+        givenStoreReturningIds();
+
+        whenStoring(5, 5, 5);
+
+        thenResultsAre(1, 2);
+        thenResultIsException(2, KuraStoreCapacityReachedException.class);
+        thenMessageCountIsRead(1);
+    }
+
+    @Test
+    public void shouldReadMessageCountAgainAfterInvalidation() throws KuraStoreException {
+        givenMessageCount(CAPACITY - 1);
+        givenStoreReturningIds();
+        givenStoredMessages(5);
+
+        whenMessageCountIsInvalidated();
+        whenStoring(5);
+
+        thenResultsAre(1, 2);
+        thenMessageCountIsRead(2);
+    }
+
+    @Test
+    public void shouldStoreConcurrentMessagesInASingleBatch() throws Exception {
+        givenMessageCount(0);
+        givenStoreReturningIds();
+        givenFirstStoreBlocked();
+
+        whenStoringConcurrently(5, 5, 5, 5);
+
+        thenBatchSizesAre(3);
+        thenAllIdsAreDistinct(4);
+    }
+
+    @Test
+    public void shouldReportBatchFailureToAllCallers() throws Exception {
+        givenMessageCount(0);
+        givenStoreReturningIds();
+        givenFirstStoreBlocked();
+        givenBatchStoreFailing();
+
+        whenStoringConcurrently(5, 5, 5);
+
+        thenResultIsException(1, KuraStoreException.class);
+        thenResultIsException(2, KuraStoreException.class);
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenMessageCount(final int count) throws KuraStoreException {
+        when(this.store.getMessageCount()).thenReturn(count);
+    }
+
+    private void givenStoreReturningIds() throws KuraStoreException {
+        when(this.store.store(anyString(), any(), anyInt(), anyBoolean(), anyInt())).thenAnswer(i -> {
+            if (this.blockFirstStore) {
+                this.blockFirstStore = false;
+                this.firstStoreStarted.countDown();
+                this.firstStoreReleased.await(10, TimeUnit.SECONDS);
+            }
+            return this.nextId.getAndIncrement();
+        });
+        when(this.store.store(anyList())).thenAnswer(i -> {
+            final List<StoredMessage> messages = i.getArgument(0);
+            this.batches.add(messages);
+
+            final List<Integer> ids = new ArrayList<>();
+            for (int j = 0; j < messages.size(); j++) {
+                ids.add(this.nextId.getAndIncrement());
+            }
+            return ids;
+        });
+    }
+
+    private void givenStoredMessages(final int... priorities) {
+        whenStoring(priorities);
+    }
+
+    private void givenFirstStoreBlocked() {
+        this.blockFirstStore = true;
+    }
+
+    private void givenBatchStoreFailing() throws KuraStoreException {
+        when(this.store.store(anyList())).thenThrow(new KuraStoreException("test"));
+    }
+
+    /*
+     * When
+     */
+
+    private void whenStoring(final int... priorities) {
+        for (final int priority : priorities) {
+            this.results.add(store(priority));
+        }
+    }
+
+    private void whenMessageCountIsInvalidated() {
+        this.writer.invalidateMessageCount();
+    }
+
+    private void whenStoringConcurrently(final int... priorities)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final List<CompletableFuture<Object>> futures = new ArrayList<>();
+
+        futures.add(CompletableFuture.supplyAsync(() -> store(priorities[0]), this.executor));
+        assertTrue(this.firstStoreStarted.await(10, TimeUnit.SECONDS));
+
+        for (int i = 1; i < priorities.length; i++) {
+            final int priority = priorities[i];
+            futures.add(CompletableFuture.supplyAsync(() -> store(priority), this.executor));
+        }
+
+        // let the other callers enqueue their messages while the first write is in progress
+        Thread.sleep(200);
+        this.firstStoreReleased.countDown();
+
+        for (final CompletableFuture<Object> future : futures) {
+            this.results.add(future.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private Object store(final int priority) {
+        try {
+            return this.writer.store(this.store, TOPIC, new byte[1], 1, false, priority, CAPACITY);
+        } catch (final KuraStoreException e) {
+            return e;
+        }
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenResultsAre(final int... ids) {
+        final int offset = this.results.size() - ids.length;
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], this.results.get(offset + i));
+        }
+    }
+
+    private void thenResultIsException(final int index, final Class<? extends Exception> exceptionClass) {
+        final Object result = this.results.get(index);
+        if (!exceptionClass.isInstance(result)) {
+            fail("expected " + exceptionClass.getSimpleName() + " but got " + result);
+        }
+    }
+
+    private void thenNothingIsStored() throws KuraStoreException {
+        verify(this.store, times(0)).store(anyString(), any(), anyInt(), anyBoolean(), anyInt());
+        verify(this.store, times(0)).store(anyList());
+    }
+
+    private void thenMessageCountIsRead(final int times) throws KuraStoreException {
+        verify(this.store, times(times)).getMessageCount();
+    }
+
+    private void thenBatchSizesAre(final int... sizes) {
+        assertEquals(sizes.length, this.batches.size());
+        for (int i = 0; i < sizes.length; i++) {
+            assertEquals(sizes[i], this.batches.get(i).size());
+        }
+    }
+
+    private void thenAllIdsAreDistinct(final int count) {
+        assertEquals(count, new HashSet<>(this.results).size());
+        for (final Object result : this.results) {
+            assertTrue(result instanceof Integer);
+        }
+    }
+}
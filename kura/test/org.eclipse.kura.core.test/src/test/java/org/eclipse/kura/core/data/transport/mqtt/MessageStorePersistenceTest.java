@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.data.transport.mqtt;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.kura.KuraStoreException;
+import org.eclipse.kura.connection.listener.ConnectionListener;
+import org.eclipse.kura.core.db.H2DbMessageStoreImpl;
+import org.eclipse.kura.message.store.provider.MessageStore;
+import org.eclipse.kura.message.store.provider.MessageStoreProvider;
+import org.eclipse.kura.util.jdbc.ConnectionProvider;
+import org.eclipse.kura.util.jdbc.SQLFunction;
+import org.eclipse.paho.client.mqttv3.MqttPersistable;
+import org.eclipse.paho.client.mqttv3.MqttPersistenceException;
+import org.junit.After;
+import org.junit.Test;
+
+public class MessageStorePersistenceTest {
+
+    private static final String CLIENT_ID = "client";
+    private static final String SERVER_URI = "tcp://broker:1883";
+    private static final String STORE_NAME = "paho_client_tcpbroker1883";
+
+    private final MessageStoreProvider messageStoreProvider = new H2MessageStoreProvider();
+    private MessageStorePersistence persistence;
+    private MessageStorePersistence abandonedPersistence;
+
+    @Test
+    public void shouldReturnStoredEntry() throws MqttPersistenceException {
+        givenOpenPersistence(CLIENT_ID);
+        givenEntry("s-1", new byte[] { 1, 2 }, new byte[] { 3, 4, 5 });
+
+        thenEntryIs("s-1", new byte[] { 1, 2 }, new byte[] { 3, 4, 5 });
+        thenKeysAre("s-1");
+    }
+
+    @Test
+    public void shouldRestoreEntriesAfterReopen() throws MqttPersistenceException {
+        givenOpenPersistence(CLIENT_ID);
+        givenEntry("s-1", new byte[] { 1 }, new byte[] { 2 });
+        givenEntry("s-2", new byte[] { 3 }, null);
+        givenRemovedEntry("s-1");
+
+        whenPersistenceIsReopened(CLIENT_ID);
+
+        thenKeysAre("s-2");
+        thenEntryIs("s-2", new byte[] { 3 }, new byte[0]);
+    }
+
+    @Test
+    public void shouldReplaceEntryWithTheSameKey() throws MqttPersistenceException {
+        givenOpenPersistence(CLIENT_ID);
+        givenEntry("s-1", new byte[] { 1 }, new byte[] { 2 });
+        givenEntry("s-1", new byte[] { 3 }, new byte[] { 4 });
+
+        whenPersistenceIsReopened(CLIENT_ID);
+
+        thenKeysAre("s-1");
+        thenEntryIs("s-1", new byte[] { 3 }, new byte[] { 4 });
+    }
+
+    @Test
+    public void shouldRestoreLatestEntryAfterUncleanShutdown() throws MqttPersistenceException {
+        givenOpenPersistence(CLIENT_ID);
+        givenEntry("s-1", new byte[] { 1 }, new byte[] { 2 });
+        givenEntry("s-1", new byte[] { 3 }, new byte[] { 4 });
+
+        whenPersistenceIsReopenedWithoutClosing(CLIENT_ID);
+
+        thenKeysAre("s-1");
+        thenEntryIs("s-1", new byte[] { 3 }, new byte[] { 4 });
+    }
+
+    @Test
+    public void shouldRestoreLatestEntryRegardlessOfStoreOrder() throws MqttPersistenceException, KuraStoreException {
+        givenOpenPersistence(CLIENT_ID);
+        givenStoredRow("s-1", 5, new byte[] { 1 }, new byte[] { 2 });
+        givenStoredRow("s-1", 0, new byte[] { 3 }, new byte[] { 4 });
+
+        whenPersistenceIsReopenedWithoutClosing(CLIENT_ID);
+        whenPersistenceIsReopened(CLIENT_ID);
+
+        thenKeysAre("s-1");
+        thenEntryIs("s-1", new byte[] { 3 }, new byte[] { 4 });
+        thenUnpublishedRowCountIs(1);
+    }
+
+    @Test
+    public void shouldRemoveAllEntriesOnClear() throws MqttPersistenceException {
+        givenOpenPersistence(CLIENT_ID);
+        givenEntry("s-1", new byte[] { 1 }, new byte[] { 2 });
+        givenEntry("sc-2", new byte[] { 3 }, null);
+
+        whenPersistenceIsCleared();
+        whenPersistenceIsReopened(CLIENT_ID);
+
+        thenKeysAre();
+        thenEntryIsMissing("s-1");
+    }
+
+    @Test
+    public void shouldKeepEntriesOfDifferentClientsSeparate() throws MqttPersistenceException {
+        givenOpenPersistence(CLIENT_ID);
+        givenEntry("s-1", new byte[] { 1 }, new byte[] { 2 });
+
+        whenPersistenceIsReopened("other");
+
+        thenKeysAre();
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenOpenPersistence(final String clientId) throws MqttPersistenceException {
+        this.persistence = new MessageStorePersistence(this.messageStoreProvider);
+        this.persistence.open(clientId, SERVER_URI);
+        this.persistence.clear();
+    }
+
+    private void givenEntry(final String key, final byte[] header, final byte[] payload)
+            throws MqttPersistenceException {
+        this.persistence.put(key, new TestPersistable(header, payload));
+    }
+
+    private void givenRemovedEntry(final String key) throws MqttPersistenceException {
+        this.persistence.remove(key);
+    }
+
+    private void givenStoredRow(final String key, final int priority, final byte[] header, final byte[] payload)
+            throws KuraStoreException {
+        // same layout written by MessageStorePersistence, a lower priority is returned first by the store
+        final ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + header.length + payload.length);
+        buffer.putInt(header.length);
+        buffer.put(header);
+        buffer.put(payload);
+
+        final MessageStore store = this.messageStoreProvider.openMessageStore(STORE_NAME);
+        try {
+            store.store(key, buffer.array(), 0, false, priority);
+        } finally {
+            store.close();
+        }
+    }
+
+    /*
+     * When
+     */
+
+    private void whenPersistenceIsReopened(final String clientId) throws MqttPersistenceException {
+        this.persistence.close();
+        this.persistence = new MessageStorePersistence(this.messageStoreProvider);
+        this.persistence.open(clientId, SERVER_URI);
+    }
+
+    private void whenPersistenceIsReopenedWithoutClosing(final String clientId) throws MqttPersistenceException {
+        // simulates a restart after a crash, the pending removals of the previous instance are never written
+        this.abandonedPersistence = this.persistence;
+        this.persistence = new MessageStorePersistence(this.messageStoreProvider);
+        this.persistence.open(clientId, SERVER_URI);
+    }
+
+    private void whenPersistenceIsCleared() throws MqttPersistenceException {
+        this.persistence.clear();
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenEntryIs(final String key, final byte[] header, final byte[] payload)
+            throws MqttPersistenceException {
+        assertTrue(this.persistence.containsKey(key));
+
+        final MqttPersistable entry = this.persistence.get(key);
+
+        assertArrayEquals(header, entry.getHeaderBytes());
+        assertEquals(header.length, entry.getHeaderLength());
+        assertArrayEquals(payload, entry.getPayloadBytes());
+        assertEquals(payload.length, entry.getPayloadLength());
+    }
+
+    private void thenEntryIsMissing(final String key) throws MqttPersistenceException {
+        assertFalse(this.persistence.containsKey(key));
+        assertNull(this.persistence.get(key));
+    }
+
+    private void thenKeysAre(final String... keys) throws MqttPersistenceException {
+        final Set<String> expected = new HashSet<>();
+        Collections.addAll(expected, keys);
+
+        assertEquals(expected, new HashSet<>(Collections.list(this.persistence.keys())));
+    }
+
+    private void thenUnpublishedRowCountIs(final int count) throws KuraStoreException {
+        final MessageStore store = this.messageStoreProvider.openMessageStore(STORE_NAME);
+        try {
+            assertEquals(count, store.getUnpublishedMessages().size());
+        } finally {
+            store.close();
+        }
+    }
+
+    /*
+     * Utilities
+     */
+
+    @After
+    public void tearDown() throws MqttPersistenceException {
+        if (this.persistence != null) {
+            this.persistence.close();
+        }
+        if (this.abandonedPersistence != null) {
+            this.abandonedPersistence.close();
+        }
+    }
+
+    private static final class H2MessageStoreProvider implements MessageStoreProvider {
+
+        @Override
+        public MessageStore openMessageStore(final String name) throws KuraStoreException {
+            return new H2DbMessageStoreImpl(new ConnectionProvider() {
+
+                @Override
+                public <T> T withConnection(final SQLFunction<Connection, T> task) throws SQLException {
+                    try (final Connection connection = DriverManager
+                            .getConnection("jdbc:h2:mem:pahotest;DB_CLOSE_DELAY=-1", "sa", "")) {
+                        return task.call(connection);
+                    }
+                }
+            }, name);
+        }
+
+        @Override
+        public void addListener(final ConnectionListener listener) {
+            // not needed
+        }
+
+        @Override
+        public void removeListener(final ConnectionListener listener) {
+            // not needed
+        }
+    }
+
+    private static final class TestPersistable implements MqttPersistable {
+
+        private final byte[] header;
+        private final byte[] payload;
+
+        TestPersistable(final byte[] header, final byte[] payload) {
+            this.header = header;
+            this.payload = payload;
+        }
+
+        @Override
+        public byte[] getHeaderBytes() {
+            return this.header;
+        }
+
+        @Override
+        public int getHeaderLength() {
+            return this.header.length;
+        }
+
+        @Override
+        public int getHeaderOffset() {
+            return 0;
+        }
+
+        @Override
+        public byte[] getPayloadBytes() {
+            return this.payload;
+        }
+
+        @Override
+        public int getPayloadLength() {
+            return this.payload != null ? this.payload.length : 0;
+        }
+
+        @Override
+        public int getPayloadOffset() {
+            return 0;
+        }
+    }
+}
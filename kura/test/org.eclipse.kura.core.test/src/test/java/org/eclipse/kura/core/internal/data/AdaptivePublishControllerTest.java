@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.data.DataTransportToken;
+import org.junit.Test;
+
+public class AdaptivePublishControllerTest {
+
+    private long now = 0;
+    private int messageId = 0;
+
+    private final AdaptivePublishController controller = new AdaptivePublishController(8, 2, () -> this.now);
+
+    @Test
+    public void windowShouldGrowWithStableLatency() {
+        assertEquals(1, this.controller.getWindow());
+        assertEquals(0, this.controller.getPublishWaitTime());
+
+        for (int i = 0; i < 7; i++) {
+            publishAndConfirm(100);
+        }
+
+        assertEquals(8, this.controller.getWindow());
+        assertEquals(100, this.controller.getSmoothedLatency());
+        assertEquals(80.0, this.controller.getPublishRate(), 0.001);
+
+        publishAndConfirm(100);
+
+        assertEquals(8, this.controller.getWindow());
+        assertEquals(0, this.controller.getDecreaseCount());
+    }
+
+    @Test
+    public void windowShouldBeHalvedOncePerRoundTripWhenLatencyIncreases() {
+        for (int i = 0; i < 7; i++) {
+            publishAndConfirm(100);
+        }
+
+        publishAndConfirmWindow(1000);
+
+        assertTrue(this.controller.getSmoothedLatency() > 200);
+        assertEquals(1, this.controller.getDecreaseCount());
+        assertEquals(4, this.controller.getWindow());
+
+        publishAndConfirmWindow(1000);
+
+        assertEquals(2, this.controller.getDecreaseCount());
+        assertEquals(2, this.controller.getWindow());
+    }
+
+    @Test
+    public void windowShouldGrowLinearlyAfterCongestion() {
+        for (int i = 0; i < 7; i++) {
+            publishAndConfirm(100);
+        }
+
+        this.controller.onCongestion();
+        assertEquals(4, this.controller.getWindow());
+
+        for (int i = 0; i < 4; i++) {
+            publishAndConfirm(100);
+        }
+
+        assertEquals(4, this.controller.getWindow());
+
+        publishAndConfirm(100);
+
+        assertEquals(5, this.controller.getWindow());
+    }
+
+    @Test
+    public void publishShouldBePacedOverTheLatency() {
+        publishAndConfirm(100);
+        assertEquals(2, this.controller.getWindow());
+
+        this.controller.onMessagePublished(new DataTransportToken(++this.messageId, "session"));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), this.controller.getPublishWaitTime());
+
+        this.now += TimeUnit.MILLISECONDS.toNanos(50);
+
+        assertEquals(0, this.controller.getPublishWaitTime());
+    }
+
+    @Test
+    public void unknownConfirmationsShouldBeIgnored() {
+        this.controller.onMessageConfirmed(new DataTransportToken(1, "session"));
+
+        assertEquals(1, this.controller.getWindow());
+        assertEquals(-1, this.controller.getSmoothedLatency());
+    }
+
+    @Test
+    public void resetShouldRestartFromMinimumWindow() {
+        for (int i = 0; i < 7; i++) {
+            publishAndConfirm(100);
+        }
+
+        this.controller.reset();
+
+        assertEquals(1, this.controller.getWindow());
+        assertEquals(-1, this.controller.getMinLatency());
+        assertEquals(0, this.controller.getPublishWaitTime());
+    }
+
+    @Test
+    public void minLatencyShouldFollowLastingLatencyIncrease() {
+        publishAndConfirm(100);
+
+        for (int i = 0; i < 110; i++) {
+            publishAndConfirm(300);
+        }
+
+        assertEquals(300, this.controller.getMinLatency());
+
+        final long decreaseCount = this.controller.getDecreaseCount();
+        for (int i = 0; i < 10; i++) {
+            publishAndConfirm(300);
+        }
+
+        assertEquals(decreaseCount, this.controller.getDecreaseCount());
+    }
+
+    @Test
+    public void lowerLatencyShouldUpdateMinLatency() {
+        publishAndConfirm(200);
+        publishAndConfirm(100);
+
+        assertEquals(100, this.controller.getMinLatency());
+    }
+
+    @Test
+    public void confirmationsShouldBeIgnoredAfterDisconnection() {
+        final DataTransportToken token = new DataTransportToken(1, "session");
+        this.controller.onMessagePublished(token);
+
+        this.controller.onDisconnected();
+        this.controller.onMessageConfirmed(token);
+
+        assertEquals(-1, this.controller.getSmoothedLatency());
+    }
+
+    @Test
+    public void unconfirmedMessagesShouldBeBoundedByMaxWindow() {
+        final DataTransportToken oldest = new DataTransportToken(++this.messageId, "session");
+        this.controller.onMessagePublished(oldest);
+        for (int i = 0; i < 8; i++) {
+            this.controller.onMessagePublished(new DataTransportToken(++this.messageId, "session"));
+        }
+
+        this.controller.onMessageConfirmed(oldest);
+
+        assertEquals(-1, this.controller.getSmoothedLatency());
+    }
+
+    private void publishAndConfirmWindow(long latencyMillis) {
+        final List<DataTransportToken> tokens = new ArrayList<>();
+
+        for (int i = 0; i < this.controller.getWindow(); i++) {
+            final DataTransportToken token = new DataTransportToken(++this.messageId, "session");
+            this.controller.onMessagePublished(token);
+            tokens.add(token);
+        }
+
+        this.now += TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        tokens.forEach(this.controller::onMessageConfirmed);
+    }
+
+    private void publishAndConfirm(long latencyMillis) {
+        final DataTransportToken token = new DataTransportToken(++this.messageId, "session");
+
+        this.controller.onMessagePublished(token);
+        this.now += TimeUnit.MILLISECONDS.toNanos(latencyMillis);
+        this.controller.onMessageConfirmed(token);
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.message.store.StoredMessage;
+import org.junit.Test;
+
+public class PublisherLaneTest {
+
+    private long now = 0;
+
+    @Test
+    public void shouldParseLanesInPriorityOrder() {
+        final List<PublisherLane> lanes = PublisherLane.parse("5-:1, 0-1:8, 2-4:4");
+
+        assertEquals(3, lanes.size());
+        assertLane(lanes.get(0), 0, 1, 8);
+        assertLane(lanes.get(1), 2, 4, 4);
+        assertLane(lanes.get(2), 5, Integer.MAX_VALUE, 1);
+    }
+
+    @Test
+    public void shouldParseSingleLane() {
+        final List<PublisherLane> lanes = PublisherLane.parse("0-:10");
+
+        assertEquals(1, lanes.size());
+        assertLane(lanes.get(0), 0, Integer.MAX_VALUE, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectLanesNotStartingFromZero() {
+        PublisherLane.parse("1-4:4,5-:1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectLanesWithGaps() {
+        PublisherLane.parse("0-1:4,3-:1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectOverlappingLanes() {
+        PublisherLane.parse("0-3:4,2-:1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBoundedLastLane() {
+        PublisherLane.parse("0-1:4,2-9:1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroWeight() {
+        PublisherLane.parse("0-:0");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectMalformedLane() {
+        PublisherLane.parse("0:4");
+    }
+
+    @Test
+    public void shouldMeasurePublishRateOverCompletedWindow() {
+        final PublisherLane lane = new PublisherLane(0, Integer.MAX_VALUE, 4, () -> this.now);
+
+        lane.onMessagesPublished(messages(40, 0));
+        assertEquals(0.0, lane.getPublishRate(), 0.001);
+
+        this.now += TimeUnit.SECONDS.toNanos(10);
+        assertEquals(4.0, lane.getPublishRate(), 0.001);
+
+        lane.onMessagesPublished(messages(10, 0));
+        assertEquals(4.0, lane.getPublishRate(), 0.001);
+        assertEquals(50, lane.getPublishedCount());
+    }
+
+    @Test
+    public void shouldReportHeadOfLineAge() {
+        final PublisherLane lane = new PublisherLane(0, Integer.MAX_VALUE, 4);
+
+        assertEquals(-1, lane.getHeadOfLineAge());
+
+        lane.onMessagesFetched(Arrays.asList(messageCreatedAt(System.currentTimeMillis() - 5000),
+                messageCreatedAt(System.currentTimeMillis())));
+        assertTrue(lane.getHeadOfLineAge() >= 5000);
+
+        lane.onMessagesFetched(Collections.emptyList());
+        assertEquals(-1, lane.getHeadOfLineAge());
+    }
+
+    @Test
+    public void shouldTrackMessageCounts() {
+        final PublisherLane lane = new PublisherLane(0, Integer.MAX_VALUE, 4);
+
+        assertEquals(-1, lane.getQueuedCount());
+        assertEquals(-1, lane.getInFlightCount());
+
+        lane.setMessageCounts(5, 1);
+        lane.onMessageStored();
+        lane.onMessagesPublished(Arrays.asList(messageWithQos(0), messageWithQos(1), messageWithQos(2)));
+        assertEquals(3, lane.getQueuedCount());
+        assertEquals(3, lane.getInFlightCount());
+
+        lane.onMessageConfirmed();
+        assertEquals(2, lane.getInFlightCount());
+
+        lane.onInFlightMessagesUnpublished();
+        assertEquals(5, lane.getQueuedCount());
+        assertEquals(0, lane.getInFlightCount());
+
+        lane.onMessagesPublished(messages(2, 1));
+        lane.onInFlightMessagesDropped();
+        assertEquals(3, lane.getQueuedCount());
+        assertEquals(0, lane.getInFlightCount());
+    }
+
+    @Test
+    public void shouldNotTrackMessageCountsBeforeCounting() {
+        final PublisherLane lane = new PublisherLane(0, Integer.MAX_VALUE, 4);
+
+        lane.onMessageStored();
+        lane.onMessagesPublished(messages(1, 1));
+        lane.onMessageConfirmed();
+
+        assertEquals(-1, lane.getQueuedCount());
+        assertEquals(-1, lane.getInFlightCount());
+    }
+
+    private static List<StoredMessage> messages(final int count, final int qos) {
+        return Collections.nCopies(count, messageWithQos(qos));
+    }
+
+    private static StoredMessage messageWithQos(final int qos) {
+        return new StoredMessage.Builder(1).withTopic("foo").withQos(qos).build();
+    }
+
+    private static StoredMessage messageCreatedAt(final long timestamp) {
+        return new StoredMessage.Builder(1).withTopic("foo").withCreatedOn(new Date(timestamp)).build();
+    }
+
+    private static void assertLane(final PublisherLane lane, final int minPriority, final int maxPriority,
+            final int weight) {
+        assertEquals(minPriority, lane.getMinPriority());
+        assertEquals(maxPriority, lane.getMaxPriority());
+        assertEquals(weight, lane.getWeight());
+    }
+}
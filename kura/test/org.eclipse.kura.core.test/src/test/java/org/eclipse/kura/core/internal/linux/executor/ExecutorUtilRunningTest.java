@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -12,24 +12,36 @@
  ******************************************************************************/
 package org.eclipse.kura.core.internal.linux.executor;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.exec.CommandLine;
 import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.Executor;
 import org.eclipse.kura.core.linux.executor.LinuxPid;
+import org.eclipse.kura.executor.Command;
 import org.eclipse.kura.executor.Pid;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class ExecutorUtilRunningTest {
 
@@ -37,8 +49,13 @@ public class ExecutorUtilRunningTest {
     private static String[] commandLine2 = { "find", "/", "-name", "bar" };
     private static ByteArrayOutputStream out = new ByteArrayOutputStream();
     private ExecutorUtil executorUtil;
+    private DefaultExecutor deMock;
     private boolean isRunning;
     private Map<String, Pid> pids = new HashMap<>();
+    private ProcfsFixture procfs;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     @Test
     public void shouldNotBeRunningPid() {
@@ -94,6 +111,100 @@ public class ExecutorUtilRunningTest {
         thenPidIsFound();
     }
 
+    @Test
+    public void shouldBeRunningPidFromProcfs() throws IOException {
+        givenProcfsExecutor();
+
+        whenCheckIfRunning(new LinuxPid(4333));
+
+        thenCommandIsRunning();
+        thenPsIsNotExecuted();
+    }
+
+    @Test
+    public void shouldNotBeRunningPidFromProcfs() throws IOException {
+        givenProcfsExecutor();
+
+        whenCheckIfRunning(new LinuxPid(1234));
+
+        thenCommandIsNotRunning();
+    }
+
+    @Test
+    public void shouldRetrievePidsFromProcfsInReverseOrder() throws IOException {
+        givenProcfsExecutor();
+
+        whenRetrievePid(commandLine2);
+
+        thenPidsAre(5000, 4333);
+        thenPsIsNotExecuted();
+    }
+
+    @Test
+    public void shouldNotRetrievePidsFromProcfs() throws IOException {
+        givenProcfsExecutor();
+
+        whenRetrievePid(commandLine1);
+
+        thenPidIsNotFound();
+    }
+
+    @Test
+    public void shouldRetrievePidOfStartedProcessFromCachedProcfs() throws IOException {
+        givenCachingProcfsExecutor();
+        givenPidsRetrieved(commandLine1);
+
+        whenProcessIsStarted(4444, commandLine1);
+        whenRetrievePid(commandLine1);
+
+        thenPidsAre(4444);
+    }
+
+    private void givenCachingProcfsExecutor() throws IOException {
+        this.procfs = new ProcfsFixture(this.folder.getRoot().toPath()) //
+                .withProcess(1, "systemd", 'S', "/sbin/init");
+        // the snapshot never expires, only an invalidation can show a new process
+        final ProcessTable processTable = new ProcessTable(this.procfs.getRoot(), Long.MAX_VALUE, System::nanoTime);
+        this.deMock = mock(DefaultExecutor.class);
+        this.executorUtil = new ExecutorUtil() {
+
+            @Override
+            protected Executor getExecutor() {
+                return ExecutorUtilRunningTest.this.deMock;
+            }
+
+            @Override
+            protected ProcessTable getProcessTable() {
+                return processTable;
+            }
+        };
+    }
+
+    private void givenPidsRetrieved(String[] commandLine) {
+        whenRetrievePid(commandLine);
+        thenPidIsNotFound();
+    }
+
+    private void givenProcfsExecutor() throws IOException {
+        ProcfsFixture procfs = new ProcfsFixture(this.folder.getRoot().toPath()) //
+                .withProcess(1, "systemd", 'S', "/sbin/init") //
+                .withProcess(4333, "find", 'R', "find", "/", "-name", "bar") //
+                .withProcess(5000, "sh", 'S', "sh", "-c", "find / -name bar");
+        this.deMock = mock(DefaultExecutor.class);
+        this.executorUtil = new ExecutorUtil() {
+
+            @Override
+            protected Executor getExecutor() {
+                return ExecutorUtilRunningTest.this.deMock;
+            }
+
+            @Override
+            protected ProcessTable getProcessTable() {
+                return new ProcessTable(procfs.getRoot(), 0, System::nanoTime);
+            }
+        };
+    }
+
     private void givenExecutor() {
         DefaultExecutor deMock = mock(DefaultExecutor.class);
         this.executorUtil = new ExecutorUtil() {
@@ -107,6 +218,12 @@ public class ExecutorUtilRunningTest {
             protected ByteArrayOutputStream createStream() {
                 return ExecutorUtilRunningTest.out;
             }
+
+            @Override
+            protected ProcessTable getProcessTable() {
+                // use the ps fallback
+                return new ProcessTable(Paths.get("/nonexistent"), 0, System::nanoTime);
+            }
         };
         configureMock(deMock);
     }
@@ -119,6 +236,12 @@ public class ExecutorUtilRunningTest {
         this.isRunning = this.executorUtil.isRunning(commandLine);
     }
 
+    private void whenProcessIsStarted(int pid, String[] commandLine) throws IOException {
+        this.procfs.withProcess(pid, commandLine[0], 'R', commandLine);
+        this.executorUtil.executeUnprivileged(new Command(commandLine), status -> {
+        });
+    }
+
     private void whenRetrievePid(String[] commandLine) {
         this.pids = this.executorUtil.getPids(commandLine);
     }
@@ -135,6 +258,16 @@ public class ExecutorUtilRunningTest {
         assertFalse(this.pids.isEmpty());
     }
 
+    private void thenPidsAre(Integer... expected) {
+        List<Integer> actual = new ArrayList<>();
+        this.pids.values().forEach(pid -> actual.add(pid.getPid()));
+        assertEquals(Arrays.asList(expected), actual);
+    }
+
+    private void thenPsIsNotExecuted() throws IOException {
+        verify(this.deMock, never()).execute(any(CommandLine.class));
+    }
+
     private void thenPidIsNotFound() {
         assertTrue(this.pids.isEmpty());
     }
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.internal.linux.executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.core.internal.linux.executor.ProcessTable.ProcessInfo;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProcessTableTest {
+
+    private static final long TTL = TimeUnit.MILLISECONDS.toNanos(250);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ProcfsFixture procfs;
+    private ProcessTable processTable;
+    private long now = 0;
+    private Map<Integer, ProcessInfo> processes = new HashMap<>();
+
+    @Test
+    public void shouldParseCommandLines() throws IOException {
+        givenProcfs();
+        givenProcess(1, "systemd", 'S', "/sbin/init", "splash");
+        givenProcess(4333, "find", 'R', "find", "/", "-name", "bar");
+
+        whenProcessesAreRead();
+
+        thenProcessCountIs(2);
+        thenCommandLineIs(1, "/sbin/init splash");
+        thenCommandLineIs(4333, "find / -name bar");
+        thenStateIs(4333, 'R');
+    }
+
+    @Test
+    public void shouldUseCommandNameForProcessesWithoutCommandLine() throws IOException {
+        givenProcfs();
+        givenProcess(2, "kthreadd", 'S');
+        givenProcess(77, "my (odd) name", 'Z');
+
+        whenProcessesAreRead();
+
+        thenCommandLineIs(2, "[kthreadd]");
+        thenCommandLineIs(77, "[my (odd) name]");
+        thenStateIs(77, 'Z');
+    }
+
+    @Test
+    public void shouldIgnoreNonProcessEntries() throws IOException {
+        givenProcfs();
+        givenProcess(10, "sh", 'S', "/bin/sh");
+        givenEntry("self");
+        givenEntry("sys");
+        givenEntry("12");
+
+        whenProcessesAreRead();
+
+        thenProcessCountIs(1);
+        thenCommandLineIs(10, "/bin/sh");
+    }
+
+    @Test
+    public void shouldCheckIfPidIsRunning() throws IOException {
+        givenProcfs();
+        givenProcess(10, "sh", 'S', "/bin/sh");
+
+        whenProcessTableIsCreated();
+
+        thenIsAvailable();
+        thenPidIsRunning(10);
+        thenPidIsNotRunning(11);
+        thenPidIsNotRunning(-1);
+    }
+
+    @Test
+    public void shouldReuseSnapshotWithinTtl() throws IOException {
+        givenProcfs();
+        givenProcess(10, "sh", 'S', "/bin/sh");
+        givenProcessesRead();
+        givenProcess(20, "sleep", 'S', "sleep", "10");
+
+        whenTimeElapses(TTL - 1);
+        whenProcessesAreRead();
+
+        thenProcessCountIs(1);
+
+        whenTimeElapses(1);
+        whenProcessesAreRead();
+
+        thenProcessCountIs(2);
+    }
+
+    @Test
+    public void shouldScanAgainAfterInvalidation() throws IOException {
+        givenProcfs();
+        givenProcess(10, "sh", 'S', "/bin/sh");
+        givenProcess(20, "sleep", 'S', "sleep", "10");
+        givenProcessesRead();
+        givenRemovedProcess(20);
+
+        whenProcessTableIsInvalidated();
+        whenProcessesAreRead();
+
+        thenProcessCountIs(1);
+        thenPidIsNotRunning(20);
+    }
+
+    @Test
+    public void shouldNotBeAvailableWithoutProcfs() {
+        this.processTable = new ProcessTable(Paths.get(this.folder.getRoot().getPath(), "missing"), TTL,
+                () -> this.now);
+
+        assertFalse(this.processTable.isAvailable());
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenProcfs() {
+        this.procfs = new ProcfsFixture(this.folder.getRoot().toPath());
+    }
+
+    private void givenProcess(int pid, String comm, char state, String... arguments) throws IOException {
+        this.procfs.withProcess(pid, comm, state, arguments);
+    }
+
+    private void givenEntry(String name) throws IOException {
+        this.procfs.withEntry(name);
+    }
+
+    private void givenRemovedProcess(int pid) throws IOException {
+        this.procfs.removeProcess(pid);
+    }
+
+    private void givenProcessesRead() {
+        whenProcessesAreRead();
+    }
+
+    /*
+     * When
+     */
+
+    private void whenProcessTableIsCreated() {
+        this.processTable = new ProcessTable(this.procfs.getRoot(), TTL, () -> this.now);
+    }
+
+    private void whenProcessesAreRead() {
+        if (this.processTable == null) {
+            whenProcessTableIsCreated();
+        }
+
+        final List<ProcessInfo> result = this.processTable.getProcesses();
+
+        this.processes = new HashMap<>();
+        for (ProcessInfo process : result) {
+            this.processes.put(process.getPid(), process);
+        }
+    }
+
+    private void whenTimeElapses(long nanos) {
+        this.now += nanos;
+    }
+
+    private void whenProcessTableIsInvalidated() {
+        this.processTable.invalidate();
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenProcessCountIs(int count) {
+        assertEquals(count, this.processes.size());
+    }
+
+    private void thenCommandLineIs(int pid, String commandLine) {
+        assertEquals(commandLine, this.processes.get(pid).getCommandLine());
+    }
+
+    private void thenStateIs(int pid, char state) {
+        assertEquals(state, this.processes.get(pid).getState());
+    }
+
+    private void thenIsAvailable() {
+        assertTrue(this.processTable.isAvailable());
+    }
+
+    private void thenPidIsRunning(int pid) {
+        assertTrue(this.processTable.isRunning(pid));
+    }
+
+    private void thenPidIsNotRunning(int pid) {
+        assertFalse(this.processTable.isRunning(pid));
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ ******************************************************************************/
+package org.eclipse.kura.core.internal.linux.executor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Builds a directory with the same layout of the procfs entries read by {@link ProcessTable}.
+ */
+public class ProcfsFixture {
+
+    private final Path root;
+
+    ProcfsFixture(Path root) {
+        this.root = root;
+    }
+
+    Path getRoot() {
+        return this.root;
+    }
+
+    ProcfsFixture withProcess(int pid, String comm, char state, String... arguments) throws IOException {
+        final Path processDir = Files.createDirectories(this.root.resolve(Integer.toString(pid)));
+
+        Files.write(processDir.resolve("stat"),
+                (pid + " (" + comm + ") " + state + " 1 " + pid + " " + pid + " 0 -1 4194560 0 0 0 0\n")
+                        .getBytes(UTF_8));
+
+        final StringBuilder cmdline = new StringBuilder();
+        for (String argument : arguments) {
+            cmdline.append(argument).append('\0');
+        }
+        Files.write(processDir.resolve("cmdline"), cmdline.toString().getBytes(UTF_8));
+
+        return this;
+    }
+
+    ProcfsFixture withEntry(String name) throws IOException {
+        Files.createDirectories(this.root.resolve(name));
+        return this;
+    }
+
+    void removeProcess(int pid) throws IOException {
+        final Path processDir = this.root.resolve(Integer.toString(pid));
+        Files.delete(processDir.resolve("stat"));
+        Files.delete(processDir.resolve("cmdline"));
+        Files.delete(processDir);
+    }
+}
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.internal.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.kura.clock.ClockEvent;
+import org.eclipse.kura.timer.TimerHandle;
+import org.junit.After;
+import org.junit.Test;
+
+public class TimerServiceImplTest {
+
+    private TimerServiceImpl timerService;
+    private TimerHandle handle;
+    private final AtomicInteger runCount = new AtomicInteger();
+    private CountDownLatch runLatch;
+
+    @After
+    public void tearDown() {
+        if (this.timerService != null) {
+            this.timerService.deactivate();
+        }
+    }
+
+    @Test
+    public void shouldRoundWheelSizeToPowerOfTwo() {
+        assertEquals(512, new HashedWheelTimer("test", 10, TimeUnit.MILLISECONDS, 300).getWheelSize());
+        assertEquals(512, new HashedWheelTimer("test", 10, TimeUnit.MILLISECONDS, 512).getWheelSize());
+        assertEquals(1, new HashedWheelTimer("test", 10, TimeUnit.MILLISECONDS, 1).getWheelSize());
+    }
+
+    @Test
+    public void shouldRunTasksAtFixedRate() throws InterruptedException {
+        givenTimerService(1, 8, 2);
+
+        whenTaskIsScheduledAtFixedRate(10, 20, 5);
+
+        thenTaskRunsWithin(2, TimeUnit.SECONDS);
+        thenTickCountIsAtLeast(5);
+    }
+
+    @Test
+    public void shouldRunTasksWithPeriodLongerThanWheel() throws InterruptedException {
+        givenTimerService(1, 4, 2);
+
+        whenTaskIsScheduledAtFixedRate(25, 25, 2);
+
+        thenTaskRunsWithin(2, TimeUnit.SECONDS);
+        thenTickCountIsAtLeast(2);
+    }
+
+    @Test
+    public void shouldSkipTicksWhileTaskIsRunning() throws InterruptedException {
+        givenTimerService(1, 64, 2);
+
+        whenBlockingTaskIsScheduledAtFixedRate(0, 10, 200);
+
+        thenTaskRunsWithin(2, TimeUnit.SECONDS);
+        thenTickCountIsAtLeast(1);
+        thenMissedTickCountIsAtLeast(5);
+    }
+
+    @Test
+    public void shouldRunManyTasksOnFewThreads() throws InterruptedException {
+        givenTimerService(1, 64, 2);
+
+        this.runLatch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            this.timerService.scheduleAtFixedRate(this::onRun, i % 10, 20, TimeUnit.MILLISECONDS);
+        }
+
+        thenTaskRunsWithin(2, TimeUnit.SECONDS);
+        assertEquals(100, this.timerService.getTaskCount());
+    }
+
+    @Test
+    public void shouldStopRunningAfterCancel() throws InterruptedException {
+        givenTimerService(1, 64, 2);
+        whenTaskIsScheduledAtFixedRate(0, 10, 2);
+        thenTaskRunsWithin(2, TimeUnit.SECONDS);
+
+        whenTaskIsCancelled();
+        final int count = this.runCount.get();
+        Thread.sleep(100);
+
+        // a run could already be queued when the task is cancelled
+        assertTrue(this.runCount.get() <= count + 1);
+        assertTrue(this.handle.isCancelled());
+        assertTrue(this.handle.isDone());
+        assertEquals(0, this.timerService.getTaskCount());
+    }
+
+    @Test(expected = CancellationException.class)
+    public void shouldReleaseWaitersOnCancel() throws Exception {
+        givenTimerService(1, 64, 2);
+        whenTaskIsScheduledAtFixedRate(1000, 1000, 1);
+
+        new Thread(() -> {
+            sleep(50);
+            this.handle.cancel(false);
+        }).start();
+
+        this.handle.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldReportDelayOfNextTick() {
+        givenTimerService(1, 64, 2);
+
+        this.handle = this.timerService.scheduleAtFixedRate(this::onRun, 10, 10, TimeUnit.SECONDS);
+
+        final long delay = this.handle.getDelay(TimeUnit.SECONDS);
+        assertTrue(delay > 5 && delay <= 10);
+    }
+
+    @Test
+    public void shouldRunCronTasks() throws InterruptedException {
+        givenTimerService(10, 64, 2);
+
+        whenCronTaskIsScheduled("* * * * * ?", 2);
+
+        thenTaskRunsWithin(4, TimeUnit.SECONDS);
+        thenMaxDriftIsBelow(500, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void shouldRescheduleCronTasksOnClockChange() throws InterruptedException {
+        givenTimerService(10, 64, 2);
+        whenCronTaskIsScheduled("0 0 0 1 1 ? 2099", 1);
+
+        final long delay = this.handle.getDelay(TimeUnit.DAYS);
+        this.timerService.handleEvent(new ClockEvent(Collections.emptyMap()));
+
+        assertEquals(delay, this.handle.getDelay(TimeUnit.DAYS));
+        assertEquals(1, this.timerService.getTaskCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectInvalidCronExpression() {
+        givenTimerService(10, 64, 2);
+
+        this.timerService.scheduleCron(this::onRun, "not a cron expression");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroPeriod() {
+        givenTimerService(10, 64, 2);
+
+        this.timerService.scheduleAtFixedRate(this::onRun, 0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void shouldCancelTasksOnDeactivate() {
+        givenTimerService(10, 64, 2);
+        whenTaskIsScheduledAtFixedRate(1000, 1000, 1);
+
+        this.timerService.deactivate();
+        this.timerService = null;
+
+        assertTrue(this.handle.isCancelled());
+        try {
+            this.handle.get(0, TimeUnit.SECONDS);
+            fail("expected CancellationException");
+        } catch (CancellationException e) {
+            // expected
+        } catch (Exception e) {
+            fail("unexpected exception " + e);
+        }
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenTimerService(long tickDuration, int wheelSize, int workerThreads) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("timer.tick.duration.ms", tickDuration);
+        properties.put("timer.wheel.size", wheelSize);
+        properties.put("timer.worker.threads", workerThreads);
+
+        this.timerService = new TimerServiceImpl();
+        this.timerService.activate(properties);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenTaskIsScheduledAtFixedRate(long initialDelay, long period, int expectedRuns) {
+        this.runLatch = new CountDownLatch(expectedRuns);
+        this.handle = this.timerService.scheduleAtFixedRate(this::onRun, initialDelay, period, TimeUnit.MILLISECONDS);
+    }
+
+    private void whenBlockingTaskIsScheduledAtFixedRate(long initialDelay, long period, long blockTime) {
+        this.runLatch = new CountDownLatch(1);
+        this.handle = this.timerService.scheduleAtFixedRate(() -> {
+            sleep(blockTime);
+            onRun();
+        }, initialDelay, period, TimeUnit.MILLISECONDS);
+    }
+
+    private void whenCronTaskIsScheduled(String expression, int expectedRuns) {
+        this.runLatch = new CountDownLatch(expectedRuns);
+        this.handle = this.timerService.scheduleCron(this::onRun, expression);
+    }
+
+    private void whenTaskIsCancelled() {
+        assertTrue(this.handle.cancel(false));
+        assertFalse(this.handle.cancel(false));
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenTaskRunsWithin(long timeout, TimeUnit unit) throws InterruptedException {
+        assertTrue("task did not run", this.runLatch.await(timeout, unit));
+    }
+
+    private void thenTickCountIsAtLeast(long count) {
+        assertTrue(this.handle.getTickCount() >= count);
+    }
+
+    private void thenMissedTickCountIsAtLeast(long count) {
+        assertTrue(this.handle.getMissedTickCount() >= count);
+    }
+
+    private void thenMaxDriftIsBelow(long drift, TimeUnit unit) {
+        assertTrue(this.handle.getMaxDrift(unit) < drift);
+        assertTrue(this.handle.getLastDrift(TimeUnit.NANOSECONDS) >= 0);
+    }
+
+    private void onRun() {
+        this.runCount.incrementAndGet();
+        this.runLatch.countDown();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+public class GZipUtilTest {
+
+    private static final int OS_HEADER_BYTE = 9;
+
+    @Test
+    public void testCompressMatchesGZIPOutputStream() throws IOException {
+        final Random random = new Random(0);
+
+        for (final int size : new int[] { 0, 1, 100, 10000, 200000 }) {
+            final byte[] randomData = new byte[size];
+            random.nextBytes(randomData);
+
+            final byte[] repeatedData = new byte[size];
+            for (int i = 0; i < size; i++) {
+                repeatedData[i] = (byte) (i % 7);
+            }
+
+            assertSameAsGZIPOutputStream(randomData);
+            assertSameAsGZIPOutputStream(repeatedData);
+        }
+    }
+
+    @Test
+    public void testCompressDecompress() throws IOException {
+        final byte[] data = "the quick brown fox jumps over the lazy dog".getBytes();
+
+        final byte[] compressed = GZipUtil.compress(data);
+
+        assertTrue(GZipUtil.isCompressed(compressed));
+        assertFalse(GZipUtil.isCompressed(data));
+        assertArrayEquals(data, GZipUtil.decompress(compressed));
+    }
+
+    @Test
+    public void testConcurrentCompress() throws Exception {
+        final int threadCount = Runtime.getRuntime().availableProcessors() * 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            final List<Future<?>> results = new ArrayList<>();
+
+            for (int i = 0; i < threadCount; i++) {
+                final byte[] data = new byte[1000 * (i + 1)];
+                new Random(i).nextBytes(data);
+
+                results.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        assertArrayEquals(data, GZipUtil.decompress(GZipUtil.compress(data)));
+                    }
+                    return null;
+                }));
+            }
+
+            for (final Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void assertSameAsGZIPOutputStream(final byte[] data) throws IOException {
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(expected)) {
+            out.write(data);
+        }
+
+        final byte[] expectedBytes = expected.toByteArray();
+        final byte[] actualBytes = GZipUtil.compress(data);
+
+        // the OS header field written by GZIPOutputStream depends on the JVM version
+        expectedBytes[OS_HEADER_BYTE] = actualBytes[OS_HEADER_BYTE];
+
+        assertTrue(Arrays.equals(expectedBytes, actualBytes));
+        assertArrayEquals(data, GZipUtil.decompress(actualBytes));
+    }
+}
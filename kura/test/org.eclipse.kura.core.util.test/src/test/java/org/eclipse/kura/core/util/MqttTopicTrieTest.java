@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.core.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class MqttTopicTrieTest {
+
+    @Test
+    public void testExactMatch() {
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/b/c", "abc");
+        trie.add("a/b", "ab");
+
+        assertMatches(trie, "a/b/c", "abc");
+        assertMatches(trie, "a/b", "ab");
+        assertMatches(trie, "a");
+        assertMatches(trie, "a/b/c/d");
+        assertMatches(trie, "a/b/d");
+    }
+
+    @Test
+    public void testSingleLevelWildcard() {
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/+/c", "a+c");
+        trie.add("+/b/+", "+b+");
+        trie.add("+", "+");
+
+        assertMatches(trie, "a/b/c", "a+c", "+b+");
+        assertMatches(trie, "a/x/c", "a+c");
+        assertMatches(trie, "x/b/y", "+b+");
+        assertMatches(trie, "a//c", "a+c");
+        assertMatches(trie, "a", "+");
+        assertMatches(trie, "a/b");
+        assertMatches(trie, "a/b/c/d");
+    }
+
+    @Test
+    public void testMultiLevelWildcard() {
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/#", "a#");
+        trie.add("a/+/#", "a+#");
+        trie.add("#", "#");
+
+        assertMatches(trie, "a", "a#", "#");
+        assertMatches(trie, "a/b", "a#", "a+#", "#");
+        assertMatches(trie, "a/b/c/d", "a#", "a+#", "#");
+        assertMatches(trie, "b/c", "#");
+    }
+
+    @Test
+    public void testMultiLevelWildcardMatchesParentAfterSingleLevelWildcard() {
+        // MqttTopicUtil.isMatched does not report this match, the MQTT specification requires it
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("acme/+/W1/#", "filter");
+
+        assertMatches(trie, "acme/dev/W1", "filter");
+    }
+
+    @Test
+    public void testMatchesLikeMqttTopicUtil() {
+        final List<String> filters = Arrays.asList("$EDC/+/+/CONF-V1/#", "$EDC/acme/+/CONF-V1/GET/+", "acme/+/W1/#",
+                "acme/dev/W1/A1", "+/+/+/+", "#", "acme/dev/#", "acme/+/W1/+");
+        final List<String> topics = Arrays.asList("$EDC/acme/dev/CONF-V1/GET/configurations",
+                "$EDC/acme/dev/CONF-V1/PUT", "acme/dev/W1/A1", "acme/dev/W2/A1", "acme/dev",
+                "other/dev/W1/A1/b");
+
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        filters.forEach(filter -> trie.add(filter, filter));
+
+        for (final String topic : topics) {
+            final Set<String> expected = new HashSet<>();
+            for (final String filter : filters) {
+                if (MqttTopicUtil.isMatched(filter, topic)) {
+                    expected.add(filter);
+                }
+            }
+            assertEquals(topic, expected, new HashSet<>(trie.getMatches(topic)));
+        }
+    }
+
+    @Test
+    public void testMultipleValues() {
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/+", "first");
+        trie.add("a/+", "second");
+        trie.add("a/+", "first");
+        trie.add("a/b", "first");
+
+        assertEquals(Arrays.asList("first", "second", "first"), trie.getMatches("a/b"));
+    }
+
+    @Test
+    public void testRemove() {
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/+/c", "first");
+        trie.add("a/+/c", "second");
+        trie.add("a/#", "third");
+
+        assertFalse(trie.remove("a/+/c", "third"));
+        assertFalse(trie.remove("a/+", "first"));
+        assertFalse(trie.remove("x/y", "first"));
+
+        assertTrue(trie.remove("a/+/c", "first"));
+        assertMatches(trie, "a/b/c", "second", "third");
+
+        assertTrue(trie.remove("a/+/c", "second"));
+        assertMatches(trie, "a/b/c", "third");
+
+        assertTrue(trie.remove("a/#", "third"));
+        assertMatches(trie, "a/b/c");
+        assertTrue(trie.isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        final MqttTopicTrie<String> trie = new MqttTopicTrie<>();
+        trie.add("a/b", "ab");
+        trie.add("#", "#");
+
+        trie.clear();
+
+        assertTrue(trie.isEmpty());
+        assertMatches(trie, "a/b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidFilter() {
+        new MqttTopicTrie<String>().add("a/#/b", "invalid");
+    }
+
+    private static void assertMatches(final MqttTopicTrie<String> trie, final String topic,
+            final String... expected) {
+        final List<String> matches = trie.getMatches(topic);
+        Collections.sort(matches);
+
+        final List<String> expectedList = Arrays.asList(expected);
+        Collections.sort(expectedList);
+
+        assertEquals(topic, expectedList, matches);
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ * 
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ * 
+ * SPDX-License-Identifier: EPL-2.0
+ * 
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+
+package org.eclipse.kura.driver.block.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.kura.driver.block.AggregationCostModel;
+import org.junit.Test;
+
+public class AggregationCostModelTest {
+
+    @Test
+    public void shouldProvideInitialEstimates() {
+        AggregationCostModel model = new AggregationCostModel(1000, 10, 0);
+        assertEquals(1000, model.getRequestCost(), 0.0);
+        assertEquals(10, model.getUnitCost(), 0.0);
+        assertEquals(Integer.MAX_VALUE, model.getMaximumBlockSize());
+        assertEquals(1500, model.getCost(50), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNegativeCosts() {
+        new AggregationCostModel(-1, 10, 0);
+    }
+
+    @Test
+    public void shouldLearnCostsFromSamples() {
+        AggregationCostModel model = new AggregationCostModel(1000, 10, 100);
+        int initialGeneration = model.getGeneration();
+
+        for (int i = 0; i < 200; i++) {
+            int size = 10 + i % 90;
+            model.addSample(size, 5_000_000L + 2_000L * size);
+        }
+
+        assertEquals(5_000_000, model.getRequestCost(), 5_000);
+        assertEquals(2_000, model.getUnitCost(), 2);
+        assertTrue(model.getGeneration() != initialGeneration);
+    }
+
+    @Test
+    public void shouldIgnoreOutliers() {
+        AggregationCostModel model = new AggregationCostModel(1000, 10, 100);
+
+        for (int i = 0; i < 50; i++) {
+            int size = 10 + i % 20;
+            model.addSample(size, 100_000L + 100L * size);
+        }
+        int generation = model.getGeneration();
+
+        model.addSample(20, 10_000_000_000L);
+
+        assertEquals(100_000, model.getRequestCost(), 100);
+        assertEquals(100, model.getUnitCost(), 0.1);
+        assertEquals(generation, model.getGeneration());
+    }
+
+    @Test
+    public void shouldNotChangeGenerationForSmallVariations() {
+        AggregationCostModel model = new AggregationCostModel(100_000, 100, 100);
+
+        for (int i = 0; i < 50; i++) {
+            int size = 10 + i % 20;
+            model.addSample(size, 100_000L + 100L * size + (i % 2 == 0 ? 50 : -50));
+        }
+
+        assertEquals(0, model.getGeneration());
+    }
+}
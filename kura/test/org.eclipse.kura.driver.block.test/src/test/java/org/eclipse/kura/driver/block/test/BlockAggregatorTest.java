@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,11 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.eclipse.kura.driver.block.AggregationCostModel;
+import org.eclipse.kura.driver.block.AggregationPlanner;
 import org.eclipse.kura.driver.block.Block;
 import org.eclipse.kura.driver.block.BlockAggregator;
+import org.eclipse.kura.driver.block.CostModelAggregationPlanner;
 import org.eclipse.kura.driver.block.ProhibitedBlock;
 import org.junit.Test;
 
@@ -110,12 +113,63 @@ public class BlockAggregatorTest {
         new TestHelper().setInput(0, 1, 2, 3, 8, 9).prohibit(4, 7).expect(0, 3, 8, 9).setMinimumGapSize(10).exec();
     }
 
+    @Test
+    public void shouldAggregateAccordingToCostModel() {
+        // a request costs as much as transferring 10 address units
+        new TestHelper().setInput(0, 1, 5, 6, 50, 51).expect(0, 6, 50, 51).setPlanner(costModelPlanner(10, 1, 0))
+                .exec();
+        new TestHelper().setInput(0, 1, 5, 6, 50, 51).expect(0, 51).setPlanner(costModelPlanner(100, 1, 0)).exec();
+        new TestHelper().setInput(0, 1, 5, 6, 50, 51).expect(0, 1, 5, 6, 50, 51)
+                .setPlanner(costModelPlanner(1, 1, 0)).exec();
+    }
+
+    @Test
+    public void shouldAlwaysAggregateAdjacentAndOverlappingBlocksWithPlanner() {
+        new TestHelper().setInput(0, 1, 1, 2, 3, 4).expect(0, 2, 3, 4).setPlanner(costModelPlanner(0, 1, 0)).exec();
+        new TestHelper().setInput(1, 9, 2, 4, 3, 6, 10, 11).expect(1, 9, 10, 11)
+                .setPlanner(costModelPlanner(0, 1, 0)).exec();
+        new TestHelper().setInput(0, 1, 1, 3, 20, 25, 15, 21).expect(0, 3, 15, 25)
+                .setPlanner(costModelPlanner(0, 1, 0)).exec();
+    }
+
+    @Test
+    public void shouldRespectMaximumBlockSize() {
+        // a greedy aggregation would produce 0-10, 11-15
+        new TestHelper().setInput(0, 2, 4, 6, 8, 10, 11, 15).expect(0, 6, 8, 15)
+                .setPlanner(costModelPlanner(1000, 1, 10)).exec();
+        new TestHelper().setInput(0, 2, 4, 6, 8, 10, 11, 15).expect(0, 15).setPlanner(costModelPlanner(1000, 1, 15))
+                .exec();
+    }
+
+    @Test
+    public void shouldNotSplitBlocksLargerThanMaximumBlockSize() {
+        new TestHelper().setInput(0, 50, 51, 52).expect(0, 50, 51, 52).setPlanner(costModelPlanner(1000, 1, 10))
+                .exec();
+    }
+
+    @Test
+    public void shouldSupportProhibitedBlocksWithPlanner() {
+        new TestHelper().prohibit(0, 1).expect().setPlanner(costModelPlanner(1000, 1, 0)).exec();
+        new TestHelper().setInput(0, 1, 2, 3, 8, 9).prohibit(4, 7).expect(0, 3, 8, 9)
+                .setPlanner(costModelPlanner(1000, 1, 0)).exec();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldReportUnfeasibleProblemWithPlanner() {
+        new TestHelper().setInput(0, 2, 3, 4, 8, 10).prohibit(3, 9).setPlanner(costModelPlanner(1000, 1, 0)).exec();
+    }
+
+    private static AggregationPlanner costModelPlanner(double requestCost, double unitCost, int maximumBlockSize) {
+        return new CostModelAggregationPlanner(new AggregationCostModel(requestCost, unitCost, maximumBlockSize));
+    }
+
     private static class TestHelper {
 
         private int[] inputBlocks;
         private int[] prohibitedBlocks;
         private int[] outputBlocks;
         private int minimumGapSize;
+        private AggregationPlanner planner;
         BlockAggregator<Block> aggregator;
 
         private TestHelper() {
@@ -142,6 +196,11 @@ public class BlockAggregatorTest {
             return (this);
         }
 
+        public TestHelper setPlanner(AggregationPlanner planner) {
+            this.planner = planner;
+            return this;
+        }
+
         public TestHelper prohibit(int... prohibitedBlocks) {
             if (prohibitedBlocks.length % 2 != 0) {
                 fail("block list size must be a multiple of 2");
@@ -165,6 +224,7 @@ public class BlockAggregatorTest {
             }
             aggregator = new BlockAggregator<Block>(inputBlocksTemp, (start, end) -> new Block(start, end));
             aggregator.setMinimumGapSize(minimumGapSize);
+            aggregator.setPlanner(planner);
             Iterator<Block> blocks = aggregator.stream().iterator();
 
             if (outputBlocks != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2021, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,8 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -135,6 +137,53 @@ public class FilesystemLogProviderTest {
         thenListenersAreNotCalled();
     }
 
+    @Test
+    public void rotatedFileShouldBeFollowed() {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenFilesystemLogProvider();
+        givenLogListeners(1);
+
+        whenRegisteringLogListeners();
+        whenActivate();
+        whenFileIsRotated();
+        whenNewEntriesAreAddedToFile(5);
+
+        thenListenersGetCalled(this.nLogLines);
+        thenNoExceptionsOccurred();
+    }
+
+    @Test
+    public void truncatedFileShouldBeReadFromTheBeginning() {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenFilesystemLogProvider();
+        givenLogListeners(1);
+
+        whenRegisteringLogListeners();
+        whenActivate();
+        whenFileIsTruncated();
+        whenNewEntriesAreAddedToFile(5);
+
+        thenListenersGetCalled(this.nLogLines);
+        thenNoExceptionsOccurred();
+    }
+
+    @Test
+    public void listenersShouldBeCalledWithFileWatchDisabled() {
+        givenFile("kuratest");
+        givenPropertiesWithLogFilePath();
+        givenFileWatchDisabled();
+        givenFilesystemLogProvider();
+        givenLogListeners(3);
+
+        whenRegisteringLogListeners();
+        whenActivate();
+
+        thenListenersGetCalled(this.nLogLines);
+        thenNoExceptionsOccurred();
+    }
+
     /*
      * Steps
      */
@@ -175,6 +224,10 @@ public class FilesystemLogProviderTest {
         this.properties.put(FilesystemLogProvider.LOG_FILEPATH_PROP_KEY, this.file.getAbsolutePath());
     }
 
+    private void givenFileWatchDisabled() {
+        this.properties.put(FilesystemLogProvider.FILE_WATCH_ENABLED_PROP_KEY, false);
+    }
+
     private void givenFilesystemLogProvider() {
         if (this.logProvider != null) {
             this.logProvider.deactivate();
@@ -240,6 +293,46 @@ public class FilesystemLogProviderTest {
         }
     }
 
+    private void whenFileIsRotated() {
+        waitUntilListenersAreNotified(this.nLogLines);
+
+        try {
+            File rotated = new File(this.file.getAbsolutePath() + ".1");
+            rotated.deleteOnExit();
+            Files.move(this.file.toPath(), rotated.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            try (FileWriter writer = new FileWriter(rotated, true)) {
+                writer.write("20210111 - line11\n");
+                this.nLogLines++;
+            }
+
+            Files.createFile(this.file.toPath());
+        } catch (IOException e) {
+            this.exceptionOccured = true;
+        }
+    }
+
+    private void whenFileIsTruncated() {
+        waitUntilListenersAreNotified(this.nLogLines);
+
+        try (FileWriter writer = new FileWriter(this.file)) {
+            // truncates the file
+        } catch (IOException e) {
+            this.exceptionOccured = true;
+        }
+    }
+
+    private void whenNewEntriesAreAddedToFile(int nEntries) {
+        try (FileWriter writer = new FileWriter(this.file, true)) {
+            for (int i = 0; i < nEntries; i++) {
+                writer.write("20210201 - line" + (this.nLogLines + i) + "\n");
+            }
+            this.nLogLines += nEntries;
+        } catch (IOException e) {
+            this.exceptionOccured = true;
+        }
+    }
+
     private void whenUnregisteringLogListeners() {
         for (LogListener listener : this.listeners) {
             verify(listener, timeout(LISTENER_CALL_TIMEOUT).times(this.nLogLines))
@@ -276,6 +276,65 @@ public class MessageStoreProviderTest {
         thenNextMessageDataTransportTokenIsNotSet();
     }
 
+    @Test
+    public void shouldGetNextMessagesInPriorityOrder() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 0, false, 2);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 1, true, 5);
+        givenStoredMessage("4", byteArray(4, 2, 3, 4), 0, false, 1);
+        givenStoredMessage("5", byteArray(5, 2, 3, 4), 1, true, 3);
+
+        whenMessageIsMarkedAsPublished(3);
+        whenNextMessagesAreRetrieved(3);
+
+        thenRetrievedMessageIdListIs(1, 4, 2);
+        thenRetrievedMessagePayloadIs(0, byteArray(2, 2, 3, 4));
+        thenRetrievedMessagePayloadIs(2, byteArray(3, 2, 3, 4));
+    }
+
+    @Test
+    public void shouldGetAllNextMessagesIfLessThanRequested() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 0, false, 2);
+
+        whenNextMessagesAreRetrieved(10);
+
+        thenRetrievedMessageIdListIs(1, 0);
+    }
+
+    @Test
+    public void shouldSupportMarkAsPublishedWithMultipleMessages() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 0, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 0, false, 7);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 0, true, 7);
+
+        whenMessagesAreMarkedAsPublished(0, 2);
+
+        thenMessagePublishedOnIsInThePast(0);
+        thenMessagePublishedOnIsNotSet(1);
+        thenMessagePublishedOnIsInThePast(2);
+    }
+
+    @Test
+    public void shouldSupportMarkAsConfirmedWithMultipleMessages() throws KuraStoreException {
+        givenMessageStore();
+        givenStoredMessage("1", byteArray(1, 2, 3, 4), 1, true, 7);
+        givenStoredMessage("2", byteArray(2, 2, 3, 4), 1, false, 7);
+        givenStoredMessage("3", byteArray(3, 2, 3, 4), 1, true, 7);
+
+        whenMessageIsMarkedAsPublished(0, new DataTransportToken(1, "foo"));
+        whenMessageIsMarkedAsPublished(1, new DataTransportToken(2, "foo"));
+        whenMessageIsMarkedAsPublished(2, new DataTransportToken(3, "foo"));
+        whenMessagesAreMarkedAsConfirmed(1, 2);
+
+        thenMessageConfirmedOnIsNotSet(0);
+        thenMessageConfirmedOnIsInThePast(1);
+        thenMessageConfirmedOnIsInThePast(2);
+    }
+
     @Test
     public void shouldRetireveUnpublishedMessageList() throws KuraStoreException {
         givenMessageStore();
@@ -517,6 +576,18 @@ public class MessageStoreProviderTest {
         this.messageStore.markAsPublished(this.messageIds.get(messageIndex), token);
     }
 
+    private void whenMessagesAreMarkedAsPublished(final int... messageIndexes) throws KuraStoreException {
+        this.messageStore.markAsPublished(getMessageIds(messageIndexes));
+    }
+
+    private void whenMessagesAreMarkedAsConfirmed(final int... messageIndexes) throws KuraStoreException {
+        this.messageStore.markAsConfirmed(getMessageIds(messageIndexes));
+    }
+
+    private void whenNextMessagesAreRetrieved(final int maxCount) throws KuraStoreException {
+        this.retrievedMessages = Optional.of(this.messageStore.getNextMessages(maxCount));
+    }
+
     private void whenMessageIsMarkedAsConfirmed(final int messageIndex) throws KuraStoreException {
         this.messageStore.markAsConfirmed(this.messageIds.get(messageIndex));
     }
@@ -548,6 +619,24 @@ public class MessageStoreProviderTest {
         }
     }
 
+    private void thenRetrievedMessageIdListIs(final int... ids) {
+        final List<StoredMessage> messages = this.retrievedMessages
+                .orElseThrow(() -> new IllegalStateException("no messages have been retrieved"));
+
+        assertEquals(ids.length, messages.size());
+
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals((int) this.messageIds.get(ids[i]), messages.get(i).getId());
+        }
+    }
+
+    private void thenRetrievedMessagePayloadIs(final int index, final byte[] payload) {
+        final List<StoredMessage> messages = this.retrievedMessages
+                .orElseThrow(() -> new IllegalStateException("no messages have been retrieved"));
+
+        assertArrayEquals(payload, messages.get(index).getPayload());
+    }
+
     private void thenMessageTopicIs(final int messageIndex, final String topic) throws KuraStoreException {
         assertEquals(topic, getStoredMessage(0).getTopic());
     }
@@ -707,6 +796,16 @@ public class MessageStoreProviderTest {
                 .orElseThrow(() -> new IllegalStateException("no next message returned"));
     }
 
+    private List<Integer> getMessageIds(final int... messageIndexes) {
+        final List<Integer> result = new ArrayList<>(messageIndexes.length);
+
+        for (final int index : messageIndexes) {
+            result.add(this.messageIds.get(index));
+        }
+
+        return result;
+    }
+
     private byte[] byteArray(final int... values) {
         final byte[] result = new byte[values.length];
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,19 @@ package org.eclipse.kura.protocol.modbus;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.kura.KuraConnectionStatus;
 import org.eclipse.kura.protocol.modbus.test.ModbusServer;
@@ -53,14 +63,18 @@ public class ModbusProtocolDeviceTest {
     @Before
     public void connect() throws ModbusProtocolException {
         modbusDevice = new ModbusProtocolDevice();
+        modbusDevice.configureConnection(getConnectionConfig());
+        modbusDevice.connect();
+    }
+
+    private static Properties getConnectionConfig() {
         Properties connectionConfig = new Properties();
         connectionConfig.setProperty("connectionType", ModbusProtocolDevice.PROTOCOL_CONNECTION_TYPE_ETHER_TCP);
         connectionConfig.setProperty("ipAddress", "127.0.0.1");
         connectionConfig.setProperty("ethport", "32345");
         connectionConfig.setProperty("respTimeout", "10000");
         connectionConfig.setProperty("transmissionMode", ModbusTransmissionMode.RTU);
-        modbusDevice.configureConnection(connectionConfig);
-        modbusDevice.connect();
+        return connectionConfig;
     }
 
     @After
@@ -129,4 +143,112 @@ public class ModbusProtocolDeviceTest {
         assertEquals(10, inputRegs[0]);
     }
 
+    @Test
+    public void testSequentialTransactionsOnSameConnection() throws ModbusProtocolException {
+        for (int i = 0; i < 10; i++) {
+            int[] holdingReg = modbusDevice.readHoldingRegisters(1, 0, 1);
+            assertEquals(2, holdingReg[0]);
+            boolean[] coils = modbusDevice.readCoils(1, 0, 1);
+            assertTrue(coils[0]);
+        }
+    }
+
+    @Test
+    public void testPipelinedTransactions() throws Exception {
+        ModbusProtocolDevice pipelinedDevice = new ModbusProtocolDevice();
+        Properties connectionConfig = getConnectionConfig();
+        connectionConfig.setProperty("maxOutstandingTransactions", "4");
+        pipelinedDevice.configureConnection(connectionConfig);
+        pipelinedDevice.connect();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<int[]>> holdingRegs = new ArrayList<>();
+            List<Future<int[]>> inputRegs = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                holdingRegs.add(executor.submit(() -> pipelinedDevice.readHoldingRegisters(1, 0, 1)));
+                inputRegs.add(executor.submit(() -> pipelinedDevice.readInputRegisters(1, 8, 1)));
+            }
+            for (int i = 0; i < 50; i++) {
+                assertEquals(2, holdingRegs.get(i).get()[0]);
+                assertEquals(10, inputRegs.get(i).get()[0]);
+            }
+            assertEquals(KuraConnectionStatus.CONNECTED, pipelinedDevice.getConnectStatus());
+        } finally {
+            executor.shutdownNow();
+            pipelinedDevice.disconnect();
+        }
+    }
+
+    @Test
+    public void testPipelinedResponseWithInvalidByteCount() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            // the first response declares 255 data bytes but carries only 2, the second one is valid
+            final Thread server = startRawServer(serverSocket,
+                    new byte[] { 1, 3, (byte) 0xff, 0, 2 },
+                    new byte[] { 1, 3, 2, 0, 2 });
+
+            ModbusProtocolDevice pipelinedDevice = new ModbusProtocolDevice();
+            Properties connectionConfig = getConnectionConfig();
+            connectionConfig.setProperty("ethport", Integer.toString(serverSocket.getLocalPort()));
+            connectionConfig.setProperty("maxOutstandingTransactions", "4");
+            pipelinedDevice.configureConnection(connectionConfig);
+            pipelinedDevice.connect();
+
+            try {
+                try {
+                    pipelinedDevice.readHoldingRegisters(1, 0, 1);
+                    fail("Expected the response to be rejected");
+                } catch (ModbusProtocolException e) {
+                    // expected
+                }
+
+                assertEquals(2, pipelinedDevice.readHoldingRegisters(1, 0, 1)[0]);
+                assertEquals(KuraConnectionStatus.CONNECTED, pipelinedDevice.getConnectStatus());
+            } finally {
+                pipelinedDevice.disconnect();
+                server.join(5000);
+            }
+        }
+    }
+
+    @Test(expected = ModbusProtocolException.class)
+    public void testInvalidMaxOutstandingTransactions() throws ModbusProtocolException {
+        ModbusProtocolDevice device = new ModbusProtocolDevice();
+        Properties connectionConfig = getConnectionConfig();
+        connectionConfig.setProperty("maxOutstandingTransactions", "0");
+        device.configureConnection(connectionConfig);
+    }
+
+    /**
+     * Accepts a single connection and answers each request with the next provided PDU, prefixed by the MBAP header
+     * of the request.
+     */
+    private static Thread startRawServer(final ServerSocket serverSocket, final byte[]... responses) {
+        final Thread server = new Thread(() -> {
+            try (Socket socket = serverSocket.accept()) {
+                final DataInputStream in = new DataInputStream(socket.getInputStream());
+                final OutputStream out = socket.getOutputStream();
+                for (final byte[] response : responses) {
+                    final byte[] header = new byte[6];
+                    in.readFully(header);
+                    in.readFully(new byte[(header[4] & 0xff) << 8 | header[5] & 0xff]);
+
+                    header[4] = (byte) (response.length >> 8);
+                    header[5] = (byte) response.length;
+                    out.write(header);
+                    out.write(response);
+                    out.flush();
+                }
+                // keep the connection open until the client closes it
+                while (in.read() >= 0) {
+                    // discard
+                }
+            } catch (IOException e) {
+                logger.error("Raw MODBUS server failure", e);
+            }
+        });
+        server.start();
+        return server;
+    }
 }
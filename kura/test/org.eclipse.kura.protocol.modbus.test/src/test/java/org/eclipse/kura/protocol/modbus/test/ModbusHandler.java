@@ -35,9 +35,21 @@ public class ModbusHandler extends Thread {
     public void run() {
         try (OutputStream out = socket.getOutputStream(); InputStream in = socket.getInputStream()) {
             byte[] input = new byte[256];
-            int length = in.read(input);
-            byte[] output = handleRequest(input);
-            out.write(output);
+            // serve requests until the client closes the connection, pipelined requests are handled in order
+            while (readFully(in, input, 0, 6)) {
+                int length = (input[4] & 0xff) << 8 | input[5] & 0xff;
+                if (!readFully(in, input, 6, length)) {
+                    break;
+                }
+                byte[] output = handleRequest(input);
+                if (output.length >= 6) {
+                    // echo the transaction identifier and send only the bytes declared in the MBAP header
+                    output[0] = input[0];
+                    output[1] = input[1];
+                    out.write(output, 0, Math.min(output.length, 6 + ((output[4] & 0xff) << 8 | output[5] & 0xff)));
+                    out.flush();
+                }
+            }
         } catch (IOException e) {
             logger.error("ModbusHandler", e);
             throw new RuntimeException(e);
@@ -50,6 +62,18 @@ public class ModbusHandler extends Thread {
         }
     }
 
+    private static boolean readFully(InputStream in, byte[] buffer, int offset, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            int count = in.read(buffer, offset + read, length - read);
+            if (count < 0) {
+                return false;
+            }
+            read += count;
+        }
+        return true;
+    }
+
     private byte[] handleRequest(byte[] input) {
         byte command = input[7];
         switch (command) {
@@ -66,9 +90,9 @@ public class ModbusHandler extends Thread {
         case 16:
             return new byte[] { 0, 1, 0, 0, 0, 6, 1, 16, 0, 0, 0, 4, 0, 0, 0, 0, 0, 0 };           // writeMultipleRegisters
         case 2:
-            return new byte[] { 0, 1, 0, 0, 0, 6, 1, 2, 1, 127, 0, 0, 0, 0, 0, 0, 0, 0 };          // readDiscreteInputs
+            return new byte[] { 0, 1, 0, 0, 0, 4, 1, 2, 1, 127, 0, 0, 0, 0, 0, 0, 0, 0 };          // readDiscreteInputs
         case 4:
-            return new byte[] { 0, 1, 0, 0, 0, 6, 1, 4, 2, 0, 10, 0, 0, 0, 0, 0, 0, 0 };           // readInputRegisters
+            return new byte[] { 0, 1, 0, 0, 0, 5, 1, 4, 2, 0, 10, 0, 0, 0, 0, 0, 0, 0 };           // readInputRegisters
         case 11:
             return new byte[] {};                                                                  // getCommEventCouner
         case 7:
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -46,11 +49,15 @@ public class AIComponentTest {
     private static final String PREPROCESSOR_MODEL_NAME = "preprocessor.model.name";
     private static final String INFERENCE_MODEL_NAME = "inference.model.name";
     private static final String POSTPROCESSOR_MODEL_NAME = "postprocessor.model.name";
+    private static final String BATCH_SIZE = "batch.size";
+    private static final String BATCH_WINDOW = "batch.window";
+    private static final int EMIT_TIMEOUT = 5000;
 
     private AIComponent aiComponent;
     private Map<String, Object> compProperties;
     private InferenceEngineServiceMock engine;
     private WireEnvelope inputEnvelope;
+    private WireSupport wireSupport;
     private boolean exceptionsOccurred;
 
     /*
@@ -130,6 +137,55 @@ public class AIComponentTest {
         thenNoExceptionsOccurred();
     }
 
+    @Test
+    public void shouldInferFullBatch() {
+        givenInferenceEngine();
+        givenInputEnvelope(4);
+        givenWireProperties("preprocessor", "infer", "");
+        givenBatchProperties(2, 60000L);
+        givenModelInfo("preprocessor");
+        givenModelInfo("infer");
+        givenActivate();
+
+        whenOnWireReceive(this.inputEnvelope);
+
+        thenRecordsAreEmitted(4);
+        thenInferIsCalled(8);
+        thenNoExceptionsOccurred();
+    }
+
+    @Test
+    public void shouldInferPartialBatchAfterWindow() {
+        givenInferenceEngine();
+        givenInputEnvelope(3);
+        givenWireProperties("", "infer", "");
+        givenBatchProperties(10, 10L);
+        givenModelInfo("infer");
+        givenActivate();
+
+        whenOnWireReceive(this.inputEnvelope);
+
+        thenRecordsAreEmitted(3);
+        thenInferIsCalled(3);
+        thenNoExceptionsOccurred();
+    }
+
+    @Test
+    public void shouldSkipOnlyInvalidRecordsOfBatch() {
+        givenInferenceEngine();
+        givenInputEnvelopeWithInvalidRecord(4, 1);
+        givenWireProperties("", "infer", "");
+        givenBatchProperties(4, 60000L);
+        givenModelInfo("infer");
+        givenActivate();
+
+        whenOnWireReceive(this.inputEnvelope);
+
+        thenRecordsAreEmitted(3);
+        thenInferIsCalled(3);
+        thenNoExceptionsOccurred();
+    }
+
     /*
      * Steps
      */
@@ -170,12 +226,32 @@ public class AIComponentTest {
         }
     }
 
+    private void givenBatchProperties(int batchSize, long batchWindow) {
+        this.compProperties.put(BATCH_SIZE, batchSize);
+        this.compProperties.put(BATCH_WINDOW, batchWindow);
+    }
+
     private void givenActivate() {
         ComponentContext mockContext = mock(ComponentContext.class);
         this.aiComponent.activate(mockContext, this.compProperties);
     }
 
     private void givenInputEnvelope() {
+        givenInputEnvelope(1);
+    }
+
+    private void givenInputEnvelopeWithInvalidRecord(int nRecords, int invalidIndex) {
+        givenInputEnvelope(nRecords);
+
+        List<WireRecord> records = new ArrayList<>(this.inputEnvelope.getRecords());
+        Map<String, TypedValue<?>> invalidProps = new HashMap<>(records.get(invalidIndex).getProperties());
+        invalidProps.remove("IN_INT");
+        records.set(invalidIndex, new WireRecord(invalidProps));
+
+        this.inputEnvelope = new WireEnvelope("example_asset_pid", records);
+    }
+
+    private void givenInputEnvelope(int nRecords) {
         List<WireRecord> records = new ArrayList<>();
         Map<String, TypedValue<?>> recordProps = new HashMap<String, TypedValue<?>>() {
             private static final long serialVersionUID = 1L;
@@ -190,7 +266,9 @@ public class AIComponentTest {
             }
         };
 
-        records.add(new WireRecord(recordProps));
+        for (int i = 0; i < nRecords; i++) {
+            records.add(new WireRecord(recordProps));
+        }
         this.inputEnvelope = new WireEnvelope("example_asset_pid", records);
     }
 
@@ -253,6 +331,10 @@ public class AIComponentTest {
         }
     }
 
+    private void thenRecordsAreEmitted(int nTimes) {
+        verify(this.wireSupport, timeout(EMIT_TIMEOUT).times(nTimes)).emit(anyList());
+    }
+
     private void thenNoExceptionsOccurred() {
         assertFalse(this.exceptionsOccurred);
     }
@@ -271,8 +353,8 @@ public class AIComponentTest {
 
         // wire dependencies
         WireHelperService wireHelperService = mock(WireHelperService.class);
-        WireSupport wireSupport = mock(WireSupport.class);
-        when(wireHelperService.newWireSupport(any(), any())).thenReturn(wireSupport);
+        this.wireSupport = mock(WireSupport.class);
+        when(wireHelperService.newWireSupport(any(), any())).thenReturn(this.wireSupport);
         this.aiComponent.bindWireHelperService(wireHelperService);
 
         this.exceptionsOccurred = false;
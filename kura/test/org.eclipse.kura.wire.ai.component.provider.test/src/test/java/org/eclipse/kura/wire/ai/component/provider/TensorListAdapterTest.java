@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022 Eurotech and/or its affiliates and others
+ * Copyright (c) 2022, 2026 Eurotech and/or its affiliates and others
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -81,6 +83,7 @@ public class TensorListAdapterTest {
         thenNoExceptionOccurred();
         thenResultingTensorListIsSize(1);
         thenResultingNamedTensorIsEqualTo("INPUT0", Byte.class, Arrays.asList((byte) 1, (byte) 2, (byte) 3, (byte) 4));
+        thenResultingNamedTensorHasRawData("INPUT0", 4);
     }
 
     @Test
@@ -208,6 +211,34 @@ public class TensorListAdapterTest {
         thenResultingNamedWireRecordPropertiesAreEqualTo("OUTPUT0", new ByteArrayValue(new byte[] { 1, 2, 3 }));
     }
 
+    @Test
+    public void adapterShouldWorkWithRawByteArrayTensor() {
+        givenTensorDescriptorWith("OUTPUT0", "BYTES", Arrays.asList(1L, 1L));
+        givenRawTensorWith("OUTPUT0", "BYTES", Arrays.asList(1L, 1L), Byte.class,
+                ByteBuffer.wrap(new byte[] { 0, 1, 2, 3 }, 1, 3));
+
+        whenTensorListAdapterConvertsFromTensorList();
+
+        thenNoExceptionOccurred();
+        thenResultingWireRecordIsSize(1);
+        thenAllWireRecordsHaveSingleProperty();
+        thenResultingNamedWireRecordPropertiesAreEqualTo("OUTPUT0", new ByteArrayValue(new byte[] { 1, 2, 3 }));
+    }
+
+    @Test
+    public void adapterShouldWorkWithRawFloatTensor() {
+        givenTensorDescriptorWith("OUTPUT0", "FP32", Arrays.asList(1L, 1L));
+        givenRawTensorWith("OUTPUT0", "FP32", Arrays.asList(1L, 1L), Float.class,
+                ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putFloat(0, 1.5f));
+
+        whenTensorListAdapterConvertsFromTensorList();
+
+        thenNoExceptionOccurred();
+        thenResultingWireRecordIsSize(1);
+        thenAllWireRecordsHaveSingleProperty();
+        thenResultingNamedWireRecordPropertiesAreEqualTo("OUTPUT0", new FloatValue(1.5f));
+    }
+
     @Test
     public void adapterShouldWorkWithFloatTensor() {
         givenTensorDescriptorWith("OUTPUT0", "FP32", Arrays.asList(1L, 1L));
@@ -340,6 +371,13 @@ public class TensorListAdapterTest {
         this.inputTensors.add(tensor);
     }
 
+    private <T> void givenRawTensorWith(String name, String type, List<Long> shape, Class<T> classType,
+            ByteBuffer rawData) {
+        TensorDescriptor descriptor = new TensorDescriptor(name, type, Optional.empty(), shape, new HashMap<>());
+
+        this.inputTensors.add(new Tensor(classType, descriptor, rawData));
+    }
+
     /*
      * When
      */
@@ -403,6 +441,14 @@ public class TensorListAdapterTest {
         assertEquals(expectedData, data.get());
     }
 
+    private void thenResultingNamedTensorHasRawData(String name, int size) {
+        Tensor tensor = findTensorByName(name, outputTensors);
+
+        assertNotNull(tensor);
+        assertTrue(tensor.getRawData().isPresent());
+        assertEquals(size, tensor.getRawData().get().remaining());
+    }
+
     private Tensor findTensorByName(String name, List<Tensor> tensorList) {
         for (Tensor currTensor : tensorList) {
             String currTensorName = currTensor.getDescriptor().getName();
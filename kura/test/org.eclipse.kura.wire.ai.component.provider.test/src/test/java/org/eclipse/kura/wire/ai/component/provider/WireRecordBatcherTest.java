@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.wire.ai.component.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.WireRecord;
+import org.junit.After;
+import org.junit.Test;
+
+public class WireRecordBatcherTest {
+
+    private static final String ID = "id";
+
+    private final List<List<WireRecord>> batches = new ArrayList<>();
+    private final CountDownLatch firstDeliveryStarted = new CountDownLatch(1);
+    private final CountDownLatch deliveryUnblocked = new CountDownLatch(1);
+    private WireRecordBatcher batcher;
+    private boolean blockFirstDelivery;
+    private boolean accepted = true;
+    private int nextId;
+
+    @After
+    public void tearDown() {
+        this.deliveryUnblocked.countDown();
+        if (this.batcher != null) {
+            this.batcher.close();
+        }
+    }
+
+    @Test
+    public void shouldDeliverFullBatches() throws InterruptedException {
+        givenBatcher(2, 60000, 16);
+
+        whenRecordsAreAdded(5);
+
+        thenBatchCountWithinIs(2, 5, TimeUnit.SECONDS);
+        thenBatchIdsAre(0, 0, 1);
+        thenBatchIdsAre(1, 2, 3);
+        Thread.sleep(200);
+        thenBatchCountIs(2);
+    }
+
+    @Test
+    public void shouldDeliverPartialBatchAfterWindow() throws InterruptedException {
+        givenBatcher(10, 50, 16);
+
+        whenRecordsAreAdded(3);
+
+        thenBatchCountWithinIs(1, 5, TimeUnit.SECONDS);
+        thenBatchIdsAre(0, 0, 1, 2);
+    }
+
+    @Test
+    public void shouldNotDeliverPartialBatchBeforeWindow() throws InterruptedException {
+        givenBatcher(10, 60000, 16);
+
+        whenRecordsAreAdded(3);
+
+        Thread.sleep(200);
+        thenBatchCountIs(0);
+    }
+
+    @Test
+    public void shouldDiscardOldestBatchWhenQueueIsFull() throws InterruptedException {
+        givenBlockedDelivery();
+        givenBatcher(1, 60000, 2);
+        givenRecordsAdded(1);
+        givenFirstDeliveryStarted();
+
+        whenRecordsAreAdded(3);
+        whenDeliveryIsUnblocked();
+
+        thenBatchCountWithinIs(3, 5, TimeUnit.SECONDS);
+        thenBatchIdsAre(0, 0);
+        thenBatchIdsAre(1, 2);
+        thenBatchIdsAre(2, 3);
+    }
+
+    @Test
+    public void shouldDeliverPendingRecordsOnClose() throws InterruptedException {
+        givenBatcher(10, 60000, 16);
+        givenRecordsAdded(3);
+
+        whenBatcherIsClosed();
+
+        thenBatchCountWithinIs(1, 5, TimeUnit.SECONDS);
+        thenBatchIdsAre(0, 0, 1, 2);
+    }
+
+    @Test
+    public void shouldRejectRecordsAfterClose() throws InterruptedException {
+        givenBatcher(10, 60000, 16);
+        givenBatcherClosed();
+
+        whenRecordsAreAdded(1);
+
+        thenRecordsAreRejected();
+        Thread.sleep(200);
+        thenBatchCountIs(0);
+    }
+
+    @Test
+    public void shouldNotThrowWhenClosedConcurrently() throws InterruptedException {
+        givenBatcher(1, 0, 1000);
+
+        whenRecordsAreAddedWhileClosing(1000);
+
+        thenNoRecordIsDeliveredTwice();
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenBatcher(int batchSize, long batchWindow, int queueCapacity) {
+        this.batcher = new WireRecordBatcher(batchSize, batchWindow, queueCapacity, batch -> {
+            if (this.blockFirstDelivery) {
+                this.blockFirstDelivery = false;
+                this.firstDeliveryStarted.countDown();
+                try {
+                    this.deliveryUnblocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            synchronized (this.batches) {
+                this.batches.add(batch);
+                this.batches.notifyAll();
+            }
+        });
+    }
+
+    private void givenBlockedDelivery() {
+        this.blockFirstDelivery = true;
+    }
+
+    private void givenRecordsAdded(int count) {
+        whenRecordsAreAdded(count);
+    }
+
+    private void givenFirstDeliveryStarted() throws InterruptedException {
+        assertTrue(this.firstDeliveryStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private void givenBatcherClosed() {
+        whenBatcherIsClosed();
+    }
+
+    /*
+     * When
+     */
+
+    private void whenRecordsAreAdded(int count) {
+        for (int i = 0; i < count; i++) {
+            this.accepted &= this.batcher.add(Collections.singletonList(createRecord(this.nextId++)));
+        }
+    }
+
+    private void whenRecordsAreAddedWhileClosing(int count) throws InterruptedException {
+        AtomicInteger failures = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    this.batcher.add(Collections.singletonList(createRecord(i)));
+                }
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        });
+
+        producer.start();
+        Thread.sleep(1);
+        this.batcher.close();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals(0, failures.get());
+    }
+
+    private void whenDeliveryIsUnblocked() {
+        this.deliveryUnblocked.countDown();
+    }
+
+    private void whenBatcherIsClosed() {
+        this.batcher.close();
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenBatchCountWithinIs(int count, long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        synchronized (this.batches) {
+            while (this.batches.size() < count && System.nanoTime() < deadline) {
+                this.batches.wait(100);
+            }
+        }
+
+        thenBatchCountIs(count);
+    }
+
+    private void thenBatchCountIs(int count) {
+        synchronized (this.batches) {
+            assertEquals(count, this.batches.size());
+        }
+    }
+
+    private void thenBatchIdsAre(int index, Integer... ids) {
+        final List<Integer> batchIds;
+
+        synchronized (this.batches) {
+            assertTrue(index < this.batches.size());
+            batchIds = this.batches.get(index).stream()
+                    .map(wireRecord -> (Integer) wireRecord.getProperties().get(ID).getValue())
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(ids), batchIds);
+    }
+
+    private void thenRecordsAreRejected() {
+        assertFalse(this.accepted);
+    }
+
+    private void thenNoRecordIsDeliveredTwice() throws InterruptedException {
+        Thread.sleep(200);
+
+        final List<Integer> ids;
+        synchronized (this.batches) {
+            ids = this.batches.stream().flatMap(List::stream)
+                    .map(wireRecord -> (Integer) wireRecord.getProperties().get(ID).getValue())
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(ids.size(), ids.stream().distinct().count());
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static WireRecord createRecord(int id) {
+        return new WireRecord(Collections.singletonMap(ID, TypedValues.newIntegerValue(id)));
+    }
+}
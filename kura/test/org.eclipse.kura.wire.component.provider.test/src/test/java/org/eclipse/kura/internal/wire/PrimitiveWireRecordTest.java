@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
+import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
+import org.junit.Test;
+
+public class PrimitiveWireRecordTest {
+
+    private static final WireRecordSchema SCHEMA = WireRecordSchema.builder() //
+            .add("boolean", DataType.BOOLEAN) //
+            .add("integer", DataType.INTEGER) //
+            .add("long", DataType.LONG) //
+            .add("float", DataType.FLOAT) //
+            .add("double", DataType.DOUBLE) //
+            .add("string", DataType.STRING) //
+            .add("bytes", DataType.BYTE_ARRAY) //
+            .build();
+
+    private final PrimitiveWireRecord.Builder builder = PrimitiveWireRecord.builder(SCHEMA);
+    private PrimitiveWireRecord record;
+
+    @Test
+    public void shouldReadTypedValues() {
+        givenAllPropertiesSet();
+
+        whenRecordIsBuilt();
+
+        assertTrue(this.record.getBoolean(0));
+        assertEquals(-7, this.record.getInteger(1));
+        assertEquals(Long.MAX_VALUE, this.record.getLong(2));
+        assertEquals(1.5f, this.record.getFloat(3), 0.0f);
+        assertEquals(-2.25d, this.record.getDouble(4), 0.0d);
+        assertEquals("foo", this.record.getString(5));
+        assertArrayEquals(new byte[] { 1, 2 }, this.record.getByteArray(6));
+        assertEquals(SCHEMA, this.record.getSchema());
+    }
+
+    @Test
+    public void shouldBoxValues() {
+        givenAllPropertiesSet();
+
+        whenRecordIsBuilt();
+
+        assertEquals(Boolean.TRUE, this.record.getValue(0));
+        assertEquals(Integer.valueOf(-7), this.record.getValue(1));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), this.record.getValue(2));
+        assertEquals(Float.valueOf(1.5f), this.record.getValue(3));
+        assertEquals(Double.valueOf(-2.25d), this.record.getValue(4));
+        assertEquals("foo", this.record.getValue(5));
+        assertArrayEquals(new byte[] { 1, 2 }, (byte[]) this.record.getValue(6));
+    }
+
+    @Test
+    public void shouldPreserveFloatingPointBits() {
+        givenAllPropertiesSet();
+        this.builder.setFloat(3, Float.NaN).setDouble(4, -0.0d);
+
+        whenRecordIsBuilt();
+
+        assertTrue(Float.isNaN(this.record.getFloat(3)));
+        assertEquals(Double.doubleToRawLongBits(-0.0d), Double.doubleToRawLongBits(this.record.getDouble(4)));
+    }
+
+    @Test
+    public void shouldExposePropertiesInSchemaOrder() {
+        givenAllPropertiesSet();
+
+        whenRecordIsBuilt();
+
+        final Map<String, TypedValue<?>> properties = this.record.getProperties();
+
+        assertEquals(Arrays.asList("boolean", "integer", "long", "float", "double", "string", "bytes"),
+                new ArrayList<>(properties.keySet()));
+        assertEquals(TypedValues.newBooleanValue(true), properties.get("boolean"));
+        assertEquals(TypedValues.newIntegerValue(-7), properties.get("integer"));
+        assertEquals(TypedValues.newLongValue(Long.MAX_VALUE), properties.get("long"));
+        assertEquals(TypedValues.newFloatValue(1.5f), properties.get("float"));
+        assertEquals(TypedValues.newDoubleValue(-2.25d), properties.get("double"));
+        assertEquals(TypedValues.newStringValue("foo"), properties.get("string"));
+        assertEquals(TypedValues.newByteArrayValue(new byte[] { 1, 2 }), properties.get("bytes"));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldExposeReadOnlyProperties() {
+        givenAllPropertiesSet();
+
+        whenRecordIsBuilt();
+
+        this.record.getProperties().remove("string");
+    }
+
+    @Test
+    public void shouldConvertFromWireRecord() {
+        final Map<String, TypedValue<?>> properties = new LinkedHashMap<>();
+        properties.put("bytes", TypedValues.newByteArrayValue(new byte[] { 3 }));
+        properties.put("string", TypedValues.newStringValue("bar"));
+        properties.put("double", TypedValues.newDoubleValue(4.0d));
+        properties.put("float", TypedValues.newFloatValue(-1.0f));
+        properties.put("long", TypedValues.newLongValue(5L));
+        properties.put("integer", TypedValues.newIntegerValue(6));
+        properties.put("boolean", TypedValues.newBooleanValue(false));
+        final WireRecord source = new WireRecord(properties);
+
+        for (final Map.Entry<String, TypedValue<?>> entry : source.getProperties().entrySet()) {
+            this.builder.set(SCHEMA.indexOf(entry.getKey()), entry.getValue());
+        }
+        whenRecordIsBuilt();
+
+        assertEquals(properties, this.record.getProperties());
+        assertFalse(this.record.getBoolean(0));
+        assertEquals(6, this.record.getInteger(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectGetterTypeMismatch() {
+        givenAllPropertiesSet();
+
+        whenRecordIsBuilt();
+
+        this.record.getLong(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSetterTypeMismatch() {
+        this.builder.setInteger(2, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTypedValueTypeMismatch() {
+        this.builder.set(1, TypedValues.newLongValue(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTypedValueWithNullPayload() {
+        this.builder.set(1, new RawTypedValue(DataType.INTEGER, null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectTypedValueWithWrongPayloadClass() {
+        this.builder.set(1, new RawTypedValue(DataType.INTEGER, "1"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldRejectNullTypedValue() {
+        this.builder.set(1, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullString() {
+        this.builder.setString(5, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullByteArray() {
+        this.builder.setByteArray(6, null);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotBuildIncompleteRecord() {
+        this.builder.setBoolean(0, true);
+
+        whenRecordIsBuilt();
+    }
+
+    @Test
+    public void shouldBuildWhenPropertyIsSetTwice() {
+        givenAllPropertiesSet();
+        this.builder.setInteger(1, 8);
+
+        whenRecordIsBuilt();
+
+        assertEquals(8, this.record.getInteger(1));
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenAllPropertiesSet() {
+        this.builder.setBoolean(0, true) //
+                .setInteger(1, -7) //
+                .setLong(2, Long.MAX_VALUE) //
+                .setFloat(3, 1.5f) //
+                .setDouble(4, -2.25d) //
+                .setString(5, "foo") //
+                .setByteArray(6, new byte[] { 1, 2 });
+    }
+
+    /*
+     * When
+     */
+
+    private void whenRecordIsBuilt() {
+        this.record = this.builder.build();
+    }
+
+    /*
+     * Utilities
+     */
+
+    private static final class RawTypedValue implements TypedValue<Object> {
+
+        private final DataType type;
+        private final Object value;
+
+        RawTypedValue(final DataType type, final Object value) {
+            this.type = type;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(final TypedValue<Object> other) {
+            return 0;
+        }
+
+        @Override
+        public DataType getType() {
+            return this.type;
+        }
+
+        @Override
+        public Object getValue() {
+            return this.value;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.wire.WireRecordSchema;
+import org.junit.Test;
+
+public class WireRecordSchemaTest {
+
+    @Test
+    public void shouldLookUpPropertiesByIndexAndName() {
+        final WireRecordSchema schema = WireRecordSchema.builder().add("a", DataType.INTEGER)
+                .add("b", DataType.STRING).add("c", DataType.DOUBLE).build();
+
+        assertEquals(3, schema.size());
+        assertEquals("b", schema.getName(1));
+        assertEquals(DataType.DOUBLE, schema.getType(2));
+        assertEquals(0, schema.indexOf("a"));
+        assertEquals(2, schema.indexOf("c"));
+    }
+
+    @Test
+    public void shouldReturnMinusOneForMissingProperty() {
+        final WireRecordSchema schema = WireRecordSchema.builder().add("a", DataType.INTEGER).build();
+
+        assertEquals(-1, schema.indexOf("b"));
+    }
+
+    @Test
+    public void shouldInternPropertyNames() {
+        final WireRecordSchema schema = WireRecordSchema.builder().add(new String("name"), DataType.LONG).build();
+
+        assertSame("name", schema.getName(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectDuplicateProperty() {
+        WireRecordSchema.builder().add("a", DataType.INTEGER).add("a", DataType.LONG);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldRejectNullName() {
+        WireRecordSchema.builder().add(null, DataType.INTEGER);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldRejectNullType() {
+        WireRecordSchema.builder().add("a", null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldRejectInvalidIndex() {
+        WireRecordSchema.builder().add("a", DataType.INTEGER).build().getName(1);
+    }
+
+    @Test
+    public void shouldBeEqualToSchemaWithSameProperties() {
+        final WireRecordSchema first = WireRecordSchema.builder().add("a", DataType.INTEGER)
+                .add("b", DataType.BYTE_ARRAY).build();
+        final WireRecordSchema second = WireRecordSchema.builder().add("a", DataType.INTEGER)
+                .add("b", DataType.BYTE_ARRAY).build();
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    public void shouldNotBeEqualToSchemaWithDifferentTypes() {
+        final WireRecordSchema first = WireRecordSchema.builder().add("a", DataType.INTEGER).build();
+        final WireRecordSchema second = WireRecordSchema.builder().add("a", DataType.LONG).build();
+
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void shouldNotBeEqualToSchemaWithDifferentOrder() {
+        final WireRecordSchema first = WireRecordSchema.builder().add("a", DataType.INTEGER)
+                .add("b", DataType.INTEGER).build();
+        final WireRecordSchema second = WireRecordSchema.builder().add("b", DataType.INTEGER)
+                .add("a", DataType.INTEGER).build();
+
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.ChannelStatus;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.junit.After;
+import org.junit.Test;
+
+public class ChannelEventCoalescerTest {
+
+    private final List<List<ChannelRecord>> batches = new ArrayList<>();
+    private ChannelEventCoalescer coalescer;
+
+    @After
+    public void tearDown() {
+        if (this.coalescer != null) {
+            this.coalescer.close();
+        }
+    }
+
+    @Test
+    public void shouldKeepLatestValueOfEachChannel() throws InterruptedException {
+        givenCoalescer(100, 0, ListenerCoalescingMode.SINGLE_RECORD);
+
+        whenEventsAreAdded("foo", 1, "bar", 2, "foo", 3);
+
+        thenBatchCountWithinIs(1, 5, TimeUnit.SECONDS);
+        thenBatchValuesAre(0, 3, 2);
+    }
+
+    @Test
+    public void shouldKeepAllEvents() throws InterruptedException {
+        givenCoalescer(100, 0, ListenerCoalescingMode.RECORD_PER_EVENT);
+
+        whenEventsAreAdded("foo", 1, "bar", 2, "foo", 3);
+
+        thenBatchCountWithinIs(1, 5, TimeUnit.SECONDS);
+        thenBatchValuesAre(0, 1, 2, 3);
+    }
+
+    @Test
+    public void shouldNotDeliverBeforeWindowEnds() throws InterruptedException {
+        givenCoalescer(60000, 0, ListenerCoalescingMode.SINGLE_RECORD);
+
+        whenEventsAreAdded("foo", 1, "bar", 2);
+
+        Thread.sleep(200);
+        thenBatchCountIs(0);
+    }
+
+    @Test
+    public void shouldDeliverWhenMaxEventsIsReached() {
+        givenCoalescer(60000, 2, ListenerCoalescingMode.RECORD_PER_EVENT);
+
+        whenEventsAreAdded("foo", 1, "foo", 2, "foo", 3, "foo", 4, "foo", 5);
+
+        thenBatchCountIs(2);
+        thenBatchValuesAre(0, 1, 2);
+        thenBatchValuesAre(1, 3, 4);
+    }
+
+    @Test
+    public void shouldStartNewWindowAfterDelivery() throws InterruptedException {
+        givenCoalescer(50, 0, ListenerCoalescingMode.SINGLE_RECORD);
+
+        whenEventsAreAdded("foo", 1);
+        thenBatchCountWithinIs(1, 5, TimeUnit.SECONDS);
+
+        whenEventsAreAdded("foo", 2);
+        thenBatchCountWithinIs(2, 5, TimeUnit.SECONDS);
+
+        thenBatchValuesAre(0, 1);
+        thenBatchValuesAre(1, 2);
+    }
+
+    @Test
+    public void shouldDiscardEventsOnClose() throws InterruptedException {
+        givenCoalescer(50, 0, ListenerCoalescingMode.SINGLE_RECORD);
+
+        whenEventsAreAdded("foo", 1);
+        this.coalescer.close();
+        whenEventsAreAdded("foo", 2);
+
+        Thread.sleep(200);
+        thenBatchCountIs(0);
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenCoalescer(final long window, final int maxEvents, final ListenerCoalescingMode mode) {
+        this.coalescer = new ChannelEventCoalescer(window, maxEvents, mode, records -> {
+            synchronized (this.batches) {
+                this.batches.add(records);
+                this.batches.notifyAll();
+            }
+        });
+    }
+
+    /*
+     * When
+     */
+
+    private void whenEventsAreAdded(final Object... namesAndValues) {
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            final TypedValue<?> value = TypedValues.newTypedValue(namesAndValues[i + 1]);
+            final ChannelRecord record = ChannelRecord.createReadRecord((String) namesAndValues[i], value.getType());
+            record.setValue(value);
+            record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+
+            this.coalescer.add(record);
+        }
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenBatchCountWithinIs(final int count, final long timeout, final TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        synchronized (this.batches) {
+            while (this.batches.size() < count && System.nanoTime() < deadline) {
+                this.batches.wait(100);
+            }
+        }
+
+        thenBatchCountIs(count);
+    }
+
+    private void thenBatchCountIs(final int count) {
+        synchronized (this.batches) {
+            assertEquals(count, this.batches.size());
+        }
+    }
+
+    private void thenBatchValuesAre(final int index, final Object... values) {
+        final List<Object> batchValues;
+
+        synchronized (this.batches) {
+            assertTrue(index < this.batches.size());
+            batchValues = this.batches.get(index).stream().map(r -> r.getValue().getValue())
+                    .collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(values), batchValues);
+    }
+}
@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.asset;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.kura.channel.ChannelFlag;
+import org.eclipse.kura.channel.ChannelRecord;
+import org.eclipse.kura.channel.ChannelStatus;
+import org.eclipse.kura.type.DataType;
+import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.type.TypedValues;
+import org.junit.Test;
+
+public class ValueChangeCacheTest {
+
+    private final Map<String, ValueChangeOptions> channelOptions = new HashMap<>();
+    private final List<Boolean> emitted = new ArrayList<>();
+    private ValueChangeCache cache;
+
+    @Test
+    public void shouldEmitOnlyChangedValuesByDefault() {
+        givenCache();
+
+        whenValuesAreFiltered("test", 0, TypedValues.newIntegerValue(1), TypedValues.newIntegerValue(1),
+                TypedValues.newIntegerValue(2), TypedValues.newStringValue("foo"), TypedValues.newStringValue("foo"),
+                TypedValues.newStringValue("bar"));
+
+        thenEmittedValuesAre(true, false, true, true, false, true);
+    }
+
+    @Test
+    public void shouldApplyAbsoluteDeadband() {
+        givenChannelOptions("test", new ValueChangeOptions(0.5, 0, 0, 0));
+        givenCache();
+
+        whenValuesAreFiltered("test", 0, TypedValues.newDoubleValue(10), TypedValues.newDoubleValue(10.3),
+                TypedValues.newDoubleValue(9.6), TypedValues.newDoubleValue(10.6), TypedValues.newDoubleValue(10.9),
+                TypedValues.newDoubleValue(11.2));
+
+        thenEmittedValuesAre(true, false, false, true, false, true);
+    }
+
+    @Test
+    public void shouldApplyPercentDeadband() {
+        givenChannelOptions("test", new ValueChangeOptions(0, 10, 0, 0));
+        givenCache();
+
+        whenValuesAreFiltered("test", 0, TypedValues.newLongValue(1000), TypedValues.newLongValue(1090),
+                TypedValues.newLongValue(1101), TypedValues.newLongValue(1200), TypedValues.newLongValue(1300));
+
+        thenEmittedValuesAre(true, false, true, false, true);
+    }
+
+    @Test
+    public void shouldEmitAfterHeartbeatInterval() {
+        givenChannelOptions("test", new ValueChangeOptions(0, 0, 100, 0));
+        givenCache();
+
+        whenValueIsFiltered("test", 0, TypedValues.newIntegerValue(1));
+        whenValueIsFiltered("test", 50, TypedValues.newIntegerValue(1));
+        whenValueIsFiltered("test", 100, TypedValues.newIntegerValue(1));
+        whenValueIsFiltered("test", 150, TypedValues.newIntegerValue(1));
+        whenValueIsFiltered("test", 199, TypedValues.newIntegerValue(1));
+        whenValueIsFiltered("test", 200, TypedValues.newIntegerValue(1));
+
+        thenEmittedValuesAre(true, false, true, false, false, true);
+    }
+
+    @Test
+    public void shouldSuppressLinearTrendWithCompression() {
+        givenChannelOptions("test", new ValueChangeOptions(0, 0, 0, 0.5));
+        givenCache();
+
+        whenValueIsFiltered("test", 0, TypedValues.newDoubleValue(0));
+        whenValueIsFiltered("test", 10, TypedValues.newDoubleValue(1));
+        whenValueIsFiltered("test", 20, TypedValues.newDoubleValue(2.2));
+        whenValueIsFiltered("test", 30, TypedValues.newDoubleValue(2.9));
+        whenValueIsFiltered("test", 40, TypedValues.newDoubleValue(4.1));
+        whenValueIsFiltered("test", 50, TypedValues.newDoubleValue(3.5));
+
+        thenEmittedValuesAre(true, false, false, false, false, true);
+    }
+
+    @Test
+    public void shouldApplyDeadbandAndCompression() {
+        givenChannelOptions("test", new ValueChangeOptions(2, 0, 0, 0.5));
+        givenCache();
+
+        whenValueIsFiltered("test", 0, TypedValues.newDoubleValue(0));
+        whenValueIsFiltered("test", 10, TypedValues.newDoubleValue(1));
+        whenValueIsFiltered("test", 20, TypedValues.newDoubleValue(0));
+        whenValueIsFiltered("test", 30, TypedValues.newDoubleValue(1.5));
+        whenValueIsFiltered("test", 40, TypedValues.newDoubleValue(3));
+
+        thenEmittedValuesAre(true, false, false, false, true);
+    }
+
+    @Test
+    public void shouldAlwaysEmitNaNChanges() {
+        givenChannelOptions("test", new ValueChangeOptions(1, 0, 0, 0));
+        givenCache();
+
+        whenValuesAreFiltered("test", 0, TypedValues.newDoubleValue(1), TypedValues.newDoubleValue(Double.NaN),
+                TypedValues.newDoubleValue(Double.NaN), TypedValues.newDoubleValue(1));
+
+        thenEmittedValuesAre(true, true, false, true);
+    }
+
+    @Test
+    public void shouldEmitLongChangesBeyondDoublePrecision() {
+        givenCache();
+
+        whenValuesAreFiltered("test", 0, TypedValues.newLongValue(Long.MAX_VALUE),
+                TypedValues.newLongValue(Long.MAX_VALUE - 1));
+
+        thenEmittedValuesAre(true, true);
+    }
+
+    @Test
+    public void shouldEmitTypeChangesAndFailures() {
+        givenChannelOptions("test", new ValueChangeOptions(10, 0, 0, 0));
+        givenCache();
+
+        whenValueIsFiltered("test", 0, TypedValues.newIntegerValue(1));
+        whenValueIsFiltered("test", 0, TypedValues.newLongValue(1));
+        whenFailureIsFiltered("test");
+        whenValueIsFiltered("test", 0, TypedValues.newLongValue(2));
+
+        thenEmittedValuesAre(true, true, true, true);
+    }
+
+    @Test
+    public void shouldReturnSameListIfAllRecordsChanged() {
+        givenCache();
+
+        final List<ChannelRecord> records = Arrays.asList(record("a", 0, TypedValues.newIntegerValue(1)),
+                record("b", 0, TypedValues.newIntegerValue(1)));
+
+        assertSame(records, this.cache.filterRecords(records));
+
+        records.get(1).setValue(TypedValues.newIntegerValue(2));
+
+        final List<ChannelRecord> filtered = this.cache.filterRecords(records);
+
+        assertEquals(Collections.singletonList(records.get(1)), filtered);
+    }
+
+    @Test
+    public void shouldParseChannelConfiguration() {
+        final Map<String, Object> channelConfig = new HashMap<>();
+        channelConfig.put(WireAssetConstants.DEADBAND_ABSOLUTE_PROP_NAME.value(), "1.5");
+        channelConfig.put(WireAssetConstants.DEADBAND_PERCENT_PROP_NAME.value(), 2.0d);
+        channelConfig.put(WireAssetConstants.HEARTBEAT_INTERVAL_PROP_NAME.value(), 1000L);
+        channelConfig.put(WireAssetConstants.COMPRESSION_DEVIATION_PROP_NAME.value(), "invalid");
+
+        final ValueChangeOptions options = ValueChangeOptions.fromChannelConfiguration(channelConfig);
+
+        assertEquals(1.5, options.getAbsoluteDeadband(), 0);
+        assertEquals(2.0, options.getPercentDeadband(), 0);
+        assertEquals(1000, options.getHeartbeatInterval());
+        assertEquals(0, options.getCompressionDeviation(), 0);
+        assertSame(ValueChangeOptions.DEFAULT, ValueChangeOptions.fromChannelConfiguration(Collections.emptyMap()));
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenChannelOptions(final String channelName, final ValueChangeOptions options) {
+        this.channelOptions.put(channelName, options);
+    }
+
+    private void givenCache() {
+        this.cache = new ValueChangeCache(this.channelOptions);
+    }
+
+    /*
+     * When
+     */
+
+    private void whenValuesAreFiltered(final String channelName, final long timestamp,
+            final TypedValue<?>... values) {
+        for (final TypedValue<?> value : values) {
+            whenValueIsFiltered(channelName, timestamp, value);
+        }
+    }
+
+    private void whenValueIsFiltered(final String channelName, final long timestamp, final TypedValue<?> value) {
+        filter(record(channelName, timestamp, value));
+    }
+
+    private void whenFailureIsFiltered(final String channelName) {
+        final ChannelRecord record = ChannelRecord.createReadRecord(channelName, DataType.LONG);
+        record.setChannelStatus(new ChannelStatus(ChannelFlag.FAILURE));
+
+        filter(record);
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenEmittedValuesAre(final Boolean... expected) {
+        assertEquals(Arrays.asList(expected), this.emitted);
+    }
+
+    /*
+     * Utilities
+     */
+
+    private void filter(final ChannelRecord record) {
+        this.emitted.add(!this.cache.filterRecords(Collections.singletonList(record)).isEmpty());
+    }
+
+    private static ChannelRecord record(final String channelName, final long timestamp, final TypedValue<?> value) {
+        final ChannelRecord record = ChannelRecord.createReadRecord(channelName, value.getType());
+        record.setValue(value);
+        record.setChannelStatus(new ChannelStatus(ChannelFlag.SUCCESS));
+        record.setTimestamp(timestamp);
+        return record;
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2020 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,13 +15,21 @@ package org.eclipse.kura.internal.wire.fifo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -32,6 +40,8 @@ import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireRecord;
 import org.eclipse.kura.wire.WireSupport;
+import org.eclipse.kura.wire.graph.EmitterPort;
+import org.eclipse.kura.wire.graph.MultiportWireSupport;
 import org.junit.Test;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.wireadmin.Wire;
@@ -185,6 +195,100 @@ public class FifoTest {
 
         assertFalse("Not all envelopes expected to be processed", wiresLatch.await(1000, TimeUnit.MILLISECONDS));
         assertEquals(1, wiresLatch.getCount());
+        assertEquals(4, fifo.getDroppedEnvelopes());
+        assertEquals(5, fifo.getQueueHighWatermark());
+        assertEquals(0, fifo.getQueueDepth());
+    }
+
+    @Test
+    public void testParallelEmitters() throws InterruptedException {
+        CountDownLatch wiresLatch = new CountDownLatch(20);
+        Set<String> emitterThreads = ConcurrentHashMap.newKeySet();
+
+        Fifo fifo = new Fifo();
+
+        WireHelperService wireHelperServiceMock = mock(WireHelperService.class);
+        fifo.bindWireHelperService(wireHelperServiceMock);
+
+        WireSupport wireSupportMock = mock(WireSupport.class);
+        doAnswer(invocation -> {
+            emitterThreads.add(Thread.currentThread().getName());
+
+            Thread.sleep(50); // slow down a bit
+
+            wiresLatch.countDown();
+            return null;
+        }).when(wireSupportMock).emit(anyList());
+        when(wireHelperServiceMock.newWireSupport(fifo, null)).thenReturn(wireSupportMock);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("discard.envelopes", false);
+        properties.put("queue.capacity", 5);
+        properties.put("parallel.emitters", 4);
+
+        fifo.activate(properties, mock(ComponentContext.class));
+
+        for (int i = 0; i < 20; i++) {
+            fifo.onWireReceive(createWireEnvelope());
+        }
+
+        // 20 envelopes * 50ms would take > 1s with a single emitter
+        boolean ok = wiresLatch.await(800, TimeUnit.MILLISECONDS);
+        fifo.deactivate();
+
+        assertTrue("Expected all envelopes to be processed", ok);
+        assertTrue("Expected envelopes to be delivered by multiple threads", emitterThreads.size() > 1);
+        assertEquals(0, fifo.getDroppedEnvelopes());
+    }
+
+    @Test
+    public void testParallelEmittersWithMultiportWireSupport() throws InterruptedException {
+        CountDownLatch wiresLatch = new CountDownLatch(20);
+        Set<String> emitterThreads = ConcurrentHashMap.newKeySet();
+
+        Fifo fifo = new Fifo();
+
+        WireHelperService wireHelperServiceMock = mock(WireHelperService.class);
+        fifo.bindWireHelperService(wireHelperServiceMock);
+
+        EmitterPort emitterPortMock = mock(EmitterPort.class);
+        doAnswer(invocation -> {
+            WireEnvelope wireEnvelope = invocation.getArgument(0);
+            assertEquals(1, wireEnvelope.getRecords().size());
+
+            emitterThreads.add(Thread.currentThread().getName());
+
+            Thread.sleep(50); // slow down a bit
+
+            wiresLatch.countDown();
+            return null;
+        }).when(emitterPortMock).emit(any(WireEnvelope.class));
+
+        MultiportWireSupport wireSupportMock = mock(MultiportWireSupport.class);
+        when(wireSupportMock.getEmitterPorts()).thenReturn(Collections.singletonList(emitterPortMock));
+        when(wireSupportMock.createWireEnvelope(anyList()))
+                .thenAnswer(invocation -> new WireEnvelope("fifo", invocation.getArgument(0)));
+        when(wireHelperServiceMock.newWireSupport(fifo, null)).thenReturn(wireSupportMock);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("discard.envelopes", false);
+        properties.put("queue.capacity", 5);
+        properties.put("parallel.emitters", 4);
+
+        fifo.activate(properties, mock(ComponentContext.class));
+
+        for (int i = 0; i < 20; i++) {
+            fifo.onWireReceive(createWireEnvelope());
+        }
+
+        // 20 envelopes * 50ms would take > 1s with a single emitter
+        boolean ok = wiresLatch.await(800, TimeUnit.MILLISECONDS);
+        fifo.deactivate();
+
+        assertTrue("Expected all envelopes to be processed", ok);
+        assertTrue("Expected envelopes to be delivered by multiple threads", emitterThreads.size() > 1);
+        assertEquals(0, fifo.getDroppedEnvelopes());
+        verify(wireSupportMock, never()).emit(anyList());
     }
 
     private WireEnvelope createWireEnvelope() {
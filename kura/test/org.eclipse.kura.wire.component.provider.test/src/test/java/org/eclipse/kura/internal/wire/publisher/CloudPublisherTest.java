@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2023 Eurotech and/or its affiliates and others
+ * Copyright (c) 2017, 2026 Eurotech and/or its affiliates and others
  * 
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,17 @@ package org.eclipse.kura.internal.wire.publisher;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -37,9 +40,11 @@ import org.eclipse.kura.position.NmeaPosition;
 import org.eclipse.kura.position.PositionService;
 import org.eclipse.kura.type.StringValue;
 import org.eclipse.kura.type.TypedValue;
+import org.eclipse.kura.wire.PrimitiveWireRecord;
 import org.eclipse.kura.wire.WireEnvelope;
 import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.WireRecord;
+import org.eclipse.kura.wire.WireRecordSchema;
 import org.junit.Test;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Filter;
@@ -62,6 +67,7 @@ public class CloudPublisherTest {
     private KuraPosition position;
     private KuraMessage kuraMessage;
     private Map<String, Object> kuraMessageProps;
+    private final List<KuraMessage> publishedMessages = new ArrayList<>();
 
     @Test
     public void testOnWireReceive() throws InvalidSyntaxException, NoSuchFieldException, KuraException {
@@ -195,6 +201,70 @@ public class CloudPublisherTest {
         thenCheckDefaultKuraMessageProps();
     }
 
+    @Test
+    public void testOnWireReceiveBatchMode() throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        // test publishing the records of an envelope in batches
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenBatchProperties(2);
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWireReceive(3);
+        whenKuraMessageReceived();
+
+        thenPublishedMessageCount(2);
+        thenPayloadHasNullBody();
+        thenTotalMetricReceived(4);
+        thenCheckBatchMetricsReceived();
+        thenTotalKuraMessagePropsReceived(2);
+        thenCheckDefaultKuraMessageProps();
+        thenPublishedBatchCanBeDecoded(0, 2);
+    }
+
+    @Test
+    public void testDisablingBatchModeShutsDownBatchExecutor()
+            throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        // test that pending records are published and the flush executor is released when batch mode is disabled
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenBatchProperties(10);
+        givenBatchMaxDelay(60000);
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+        givenOnWireReceive(1);
+        ScheduledExecutorService batchExecutor = givenBatchExecutor();
+
+        whenBatchModeIsDisabled();
+
+        thenPublishedMessageCount(1);
+        thenPublishedBatchCanBeDecoded(0, 1);
+        thenBatchExecutorIsShutDown(batchExecutor);
+    }
+
+    @Test
+    public void testOnWireReceivePrimitiveRecord() throws InvalidSyntaxException, NoSuchFieldException, KuraException {
+        // test publishing a record that stores its values in primitive form
+        givenCloudPublisher();
+        givenDefaultProperties();
+        givenUpdatedProperties("publish.position", "none");
+        givenBodyProperties("key", Boolean.TRUE);
+        givenActivatedComponentProperties();
+        givenDefaultRecordProp();
+
+        whenOnWirePrimitiveRecordReceive();
+        whenKuraMessageReceived();
+
+        thenPayloadHasNotNullBody();
+        thenPayloadHasNullPosition();
+        thenTotalMetricReceived(1);
+        thenCheckOneMetricReceived();
+        thenTotalKuraMessagePropsReceived(1);
+        thenCheckOneKuraMessagePropsReceived();
+    }
+
     /*
      * Steps
      */
@@ -214,6 +284,7 @@ public class CloudPublisherTest {
             @Override
             public String publish(KuraMessage message) throws KuraException {
                 kmessage = message;
+                publishedMessages.add(message);
                 return null;
             }
 
@@ -262,6 +333,27 @@ public class CloudPublisherTest {
         this.properties.put("remove.body.from.metrics", removeBodyFromMetrics);
     }
 
+    private void givenBatchProperties(int maxSize) {
+        this.properties.put("batch.mode", true);
+        this.properties.put("batch.max.size", maxSize);
+    }
+
+    private void givenBatchMaxDelay(int maxDelay) {
+        this.properties.put("batch.max.delay", maxDelay);
+    }
+
+    private void givenOnWireReceive(int recordCount) {
+        whenOnWireReceive(recordCount);
+        thenPublishedMessageCount(0);
+    }
+
+    private ScheduledExecutorService givenBatchExecutor() throws NoSuchFieldException {
+        ScheduledExecutorService batchExecutor = (ScheduledExecutorService) TestUtil.getFieldValue(this.cp,
+                "batchExecutor");
+        assertNotNull(batchExecutor);
+        return batchExecutor;
+    }
+
     private void givenActivatedComponentProperties() throws InvalidSyntaxException {
         BundleContext bundleCtxMock = mock(BundleContext.class);
         Filter filter = mock(Filter.class);
@@ -299,21 +391,44 @@ public class CloudPublisherTest {
      */
 
     private void whenOnWireReceive() {
+        whenOnWireReceive(1);
+    }
+
+    private void whenOnWireReceive(int recordCount) {
         List<WireRecord> wireRecords = new ArrayList<>();
 
-        WireRecord record = new WireRecord(this.recordProps);
-        wireRecords.add(record);
+        for (int i = 0; i < recordCount; i++) {
+            WireRecord record = new WireRecord(this.recordProps);
+            wireRecords.add(record);
+        }
 
         WireEnvelope wireEnvelope = new WireEnvelope("emitter", wireRecords);
         this.cp.onWireReceive(wireEnvelope);
     }
 
+    private void whenOnWirePrimitiveRecordReceive() {
+        final WireRecordSchema.Builder schemaBuilder = WireRecordSchema.builder();
+        this.recordProps.forEach((key, value) -> schemaBuilder.add(key, value.getType()));
+        final WireRecordSchema schema = schemaBuilder.build();
+
+        final PrimitiveWireRecord.Builder recordBuilder = PrimitiveWireRecord.builder(schema);
+        this.recordProps.forEach((key, value) -> recordBuilder.set(schema.indexOf(key), value));
+
+        WireEnvelope wireEnvelope = new WireEnvelope("emitter", Collections.singletonList(recordBuilder.build()));
+        this.cp.onWireReceive(wireEnvelope);
+    }
+
     private void whenSetPositionServiceMock() throws NoSuchFieldException {
         when(this.positionServiceMock.getNmeaPosition())
                 .thenReturn(new NmeaPosition(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0));
         TestUtil.setFieldValue(this.cp, "positionService", this.positionServiceMock);
     }
 
+    private void whenBatchModeIsDisabled() {
+        this.properties.put("batch.mode", false);
+        this.cp.updated(this.properties);
+    }
+
     private void whenKuraMessageReceived() {
         this.kuraMessage = this.fakeCloudPublisher.getMessage();
         this.kuraMessageProps = this.kuraMessage.getProperties();
@@ -352,6 +467,33 @@ public class CloudPublisherTest {
         assertEquals("my test topic", this.payload.getMetric("topic"));
     }
 
+    private void thenBatchExecutorIsShutDown(ScheduledExecutorService batchExecutor) throws NoSuchFieldException {
+        assertTrue(batchExecutor.isShutdown());
+        assertNull(TestUtil.getFieldValue(this.cp, "batchExecutor"));
+    }
+
+    private void thenPublishedMessageCount(int count) {
+        assertEquals(count, this.publishedMessages.size());
+    }
+
+    private void thenCheckBatchMetricsReceived() {
+        assertEquals(1, this.payload.getMetric(WireRecordBatchCodec.BATCH_SIZE_METRIC_NAME));
+        assertEquals(WireRecordBatchCodec.BATCH_VERSION,
+                this.payload.getMetric(WireRecordBatchCodec.BATCH_VERSION_METRIC_NAME));
+        assertEquals("val", this.payload.getMetric("0.key"));
+        assertEquals("my test topic", this.payload.getMetric("0.topic"));
+    }
+
+    private void thenPublishedBatchCanBeDecoded(int messageIndex, int expectedRecordCount) {
+        List<WireRecord> records = WireRecordBatchCodec
+                .decode(this.publishedMessages.get(messageIndex).getPayload());
+
+        assertEquals(expectedRecordCount, records.size());
+        for (WireRecord record : records) {
+            assertEquals(this.recordProps, record.getProperties());
+        }
+    }
+
     private void thenCheckOneMetricReceived() {
         assertEquals("my test topic", this.payload.getMetric("topic"));
     }
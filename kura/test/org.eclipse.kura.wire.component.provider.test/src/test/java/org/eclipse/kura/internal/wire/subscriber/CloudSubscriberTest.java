@@ -28,6 +28,7 @@ import java.util.Map;
 
 import org.eclipse.kura.KuraException;
 import org.eclipse.kura.cloudconnection.message.KuraMessage;
+import org.eclipse.kura.internal.wire.publisher.WireRecordBatchCodec;
 import org.eclipse.kura.message.KuraPayload;
 import org.eclipse.kura.type.DataType;
 import org.eclipse.kura.type.TypedValue;
@@ -113,6 +114,65 @@ public class CloudSubscriberTest {
         verify(wsMock, times(1)).emit(any());
     }
 
+    @Test
+    public void testOnBatchMessageArrived() throws InvalidSyntaxException {
+        // test arrival of a payload containing a batch of records
+
+        CloudSubscriber cs = new CloudSubscriber();
+
+        KuraPayload payload = new KuraPayload();
+        payload.addMetric("0.string", "first");
+        payload.addMetric("0.integer", 1);
+        payload.addMetric("1.string", "second");
+        payload.addMetric("1.integer", 2);
+        payload.addMetric(WireRecordBatchCodec.BATCH_SIZE_METRIC_NAME, 2);
+        payload.addMetric(WireRecordBatchCodec.BATCH_VERSION_METRIC_NAME, WireRecordBatchCodec.BATCH_VERSION);
+
+        KuraMessage message = new KuraMessage(payload);
+
+        WireHelperService wireHelperServiceMock = mock(WireHelperService.class);
+        cs.bindWireHelperService(wireHelperServiceMock);
+
+        WireSupport wsMock = mock(WireSupport.class);
+        when(wireHelperServiceMock.newWireSupport(cs, null)).thenReturn(wsMock);
+
+        doAnswer(invocation -> {
+            List<?> wireRecords = invocation.getArgument(0, List.class);
+
+            assertNotNull(wireRecords);
+            assertEquals(2, wireRecords.size());
+
+            Map<String, TypedValue<?>> first = ((WireRecord) wireRecords.get(0)).getProperties();
+            assertEquals(2, first.size());
+            assertEquals("first", first.get("string").getValue());
+            assertEquals(1, first.get("integer").getValue());
+
+            Map<String, TypedValue<?>> second = ((WireRecord) wireRecords.get(1)).getProperties();
+            assertEquals(2, second.size());
+            assertEquals("second", second.get("string").getValue());
+            assertEquals(2, second.get("integer").getValue());
+
+            return null;
+        }).when(wsMock).emit(any());
+
+        BundleContext bundleCtxMock = mock(BundleContext.class);
+        Filter filter = mock(Filter.class);
+        when(bundleCtxMock.createFilter(anyString())).thenReturn(filter);
+
+        ComponentContext ctxMock = mock(ComponentContext.class);
+        when(ctxMock.getBundleContext()).thenReturn(bundleCtxMock);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("CloudSubscriber.target", "cspid");
+        properties.put("batch.mode", true);
+
+        cs.activate(ctxMock, properties);
+
+        cs.onMessageArrived(message);
+
+        verify(wsMock, times(1)).emit(any());
+    }
+
     @Test
     public void testActivateDeactivate() throws NoSuchFieldException, InvalidSyntaxException, KuraException {
         // test activation and deactivation in a sequence
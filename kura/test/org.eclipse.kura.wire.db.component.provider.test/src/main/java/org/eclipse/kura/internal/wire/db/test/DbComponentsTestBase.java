@@ -144,6 +144,11 @@ public class DbComponentsTestBase {
         this.testStoreEmitter.emit(collectArgsToMap(args, TypedValue.class::cast));
     }
 
+    protected void givenAnEnvelopeWithRecordsReceivedByStore(final List<Map<String, TypedValue<?>>> records) {
+
+        this.testStoreEmitter.emit(records.stream().map(WireRecord::new).collect(Collectors.toList()));
+    }
+
     protected void givenStoreWithConfig(final Object... args)
             throws InterruptedException, ExecutionException, TimeoutException, KuraException, InvalidSyntaxException {
         givenComponentWithConfig(this.testStorePid, collectArgsToMap(args, Function.identity()));
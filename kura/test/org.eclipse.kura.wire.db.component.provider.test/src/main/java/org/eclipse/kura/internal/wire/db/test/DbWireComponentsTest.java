@@ -15,6 +15,7 @@ package org.eclipse.kura.internal.wire.db.test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -116,6 +117,22 @@ public class DbWireComponentsTest extends DbComponentsTestBase {
         thenFilterEmitsEnvelopeWithProperty(2, "foo", TypedValues.newIntegerValue(25));
     }
 
+    @Test
+    public void shouldSupportEnvelopesWithMultipleRecords()
+            throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
+        givenAnEnvelopeWithRecordsReceivedByStore(Arrays.asList( //
+                Collections.singletonMap("foo", TypedValues.newIntegerValue(23)), //
+                Collections.singletonMap("bar", TypedValues.newStringValue("baz")), //
+                Collections.singletonMap("foo", TypedValues.newIntegerValue(24))));
+
+        whenQueryIsPerformed("SELECT * FROM \"" + tableName + "\" ORDER BY ID ASC;");
+
+        thenEmittedRecordCountIs(3);
+        thenFilterEmitsEnvelopeWithProperty(0, "foo", TypedValues.newIntegerValue(23));
+        thenFilterEmitsEnvelopeWithProperty(1, "bar", TypedValues.newStringValue("baz"));
+        thenFilterEmitsEnvelopeWithProperty(2, "foo", TypedValues.newIntegerValue(24));
+    }
+
     @Test
     public void shouldEmitEmptyEnvelopesByDefault()
             throws KuraException, InvalidSyntaxException, InterruptedException, ExecutionException, TimeoutException {
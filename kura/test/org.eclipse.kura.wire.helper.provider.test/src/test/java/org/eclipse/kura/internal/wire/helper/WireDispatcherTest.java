@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eurotech and/or its affiliates and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *  Eurotech
+ *******************************************************************************/
+package org.eclipse.kura.internal.wire.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.kura.wire.WireEnvelope;
+import org.junit.After;
+import org.junit.Test;
+import org.osgi.service.wireadmin.Wire;
+
+public class WireDispatcherTest {
+
+    private static final int ENVELOPE_COUNT = 100;
+
+    private final WireDispatcher dispatcher = new WireDispatcher();
+    private final List<String> delivered = new ArrayList<>();
+    private final CountDownLatch firstDeliveryStarted = new CountDownLatch(1);
+    private final CountDownLatch deliveryUnblocked = new CountDownLatch(1);
+    private Wire wire;
+    private Thread emitterThread;
+
+    @After
+    public void tearDown() {
+        this.deliveryUnblocked.countDown();
+        this.dispatcher.shutdown();
+    }
+
+    @Test
+    public void shouldDeliverQueuedEnvelopesAfterSwitchingToSyncMode() throws InterruptedException {
+        givenBlockingWire();
+        givenDispatchMode("ASYNC", 1);
+        givenEnvelopesDispatched(0, ENVELOPE_COUNT);
+
+        whenDispatchModeIsUpdated("SYNC", 1);
+        whenDeliveryIsUnblocked();
+
+        thenEnvelopesAreDeliveredInOrder(ENVELOPE_COUNT);
+    }
+
+    @Test
+    public void shouldPreserveOrderOfEnvelopesDispatchedWhileSwitchingToSyncMode() throws InterruptedException {
+        givenBlockingWire();
+        givenDispatchMode("ASYNC", 1);
+        givenEnvelopesDispatched(0, ENVELOPE_COUNT / 2);
+
+        whenDispatchModeIsUpdated("SYNC", 1);
+        whenEnvelopesAreDispatchedFromAnotherThread(ENVELOPE_COUNT / 2, ENVELOPE_COUNT);
+        whenDeliveryIsUnblocked();
+
+        thenEnvelopesAreDeliveredInOrder(ENVELOPE_COUNT);
+        thenEmitterThreadTerminates();
+    }
+
+    @Test
+    public void shouldDeliverQueuedEnvelopesAfterChangingThreadCount() throws InterruptedException {
+        givenBlockingWire();
+        givenDispatchMode("ASYNC", 1);
+        givenEnvelopesDispatched(0, ENVELOPE_COUNT);
+
+        whenDispatchModeIsUpdated("ASYNC", 2);
+        whenDeliveryIsUnblocked();
+
+        thenEnvelopesAreDeliveredInOrder(ENVELOPE_COUNT);
+    }
+
+    @Test
+    public void shouldDeliverQueuedEnvelopesOnShutdown() throws InterruptedException {
+        givenBlockingWire();
+        givenDispatchMode("ASYNC", 1);
+        givenEnvelopesDispatched(0, ENVELOPE_COUNT);
+
+        whenDispatcherIsShutDown();
+        whenDeliveryIsUnblocked();
+
+        thenEnvelopesAreDeliveredInOrder(ENVELOPE_COUNT);
+    }
+
+    /*
+     * Given
+     */
+
+    private void givenBlockingWire() {
+        this.wire = mock(Wire.class);
+
+        doAnswer(invocation -> {
+            this.firstDeliveryStarted.countDown();
+            this.deliveryUnblocked.await();
+
+            synchronized (this.delivered) {
+                this.delivered.add(((WireEnvelope) invocation.getArgument(0)).getEmitterPid());
+                this.delivered.notifyAll();
+            }
+            return null;
+        }).when(this.wire).update(any());
+    }
+
+    private void givenDispatchMode(final String mode, final int threadCount) {
+        this.dispatcher.update(options(mode, threadCount));
+    }
+
+    private void givenEnvelopesDispatched(final int from, final int to) throws InterruptedException {
+        dispatchEnvelopes(from, to);
+
+        assertTrue(this.firstDeliveryStarted.await(30, TimeUnit.SECONDS));
+    }
+
+    /*
+     * When
+     */
+
+    private void whenDispatchModeIsUpdated(final String mode, final int threadCount) {
+        this.dispatcher.update(options(mode, threadCount));
+    }
+
+    private void whenEnvelopesAreDispatchedFromAnotherThread(final int from, final int to) {
+        this.emitterThread = new Thread(() -> dispatchEnvelopes(from, to));
+        this.emitterThread.start();
+    }
+
+    private void whenDispatcherIsShutDown() {
+        this.dispatcher.shutdown();
+    }
+
+    private void whenDeliveryIsUnblocked() {
+        this.deliveryUnblocked.countDown();
+    }
+
+    /*
+     * Then
+     */
+
+    private void thenEnvelopesAreDeliveredInOrder(final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        final List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            expected.add(Integer.toString(i));
+        }
+
+        synchronized (this.delivered) {
+            while (this.delivered.size() < count && System.nanoTime() < deadline) {
+                this.delivered.wait(100);
+            }
+
+            assertEquals(expected, this.delivered);
+        }
+    }
+
+    private void thenEmitterThreadTerminates() throws InterruptedException {
+        this.emitterThread.join(TimeUnit.SECONDS.toMillis(30));
+
+        assertFalse(this.emitterThread.isAlive());
+    }
+
+    /*
+     * Utilities
+     */
+
+    private void dispatchEnvelopes(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            this.dispatcher.dispatch(this.wire, new WireEnvelope(Integer.toString(i), Collections.emptyList()));
+        }
+    }
+
+    private static WireDispatchOptions options(final String mode, final int threadCount) {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put("dispatch.mode", mode);
+        properties.put("dispatch.queue.capacity", ENVELOPE_COUNT);
+        properties.put("dispatch.thread.count", threadCount);
+
+        return new WireDispatchOptions(properties);
+    }
+}
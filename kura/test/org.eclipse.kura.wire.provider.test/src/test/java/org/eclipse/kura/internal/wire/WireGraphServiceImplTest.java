@@ -14,6 +14,7 @@ package org.eclipse.kura.internal.wire;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -23,6 +24,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Dictionary;
 import java.util.HashMap;
 import java.util.Hashtable;
@@ -36,9 +38,11 @@ import org.eclipse.kura.core.configuration.ComponentConfigurationImpl;
 import org.eclipse.kura.core.testutil.TestUtil;
 import org.eclipse.kura.internal.json.marshaller.unmarshaller.JsonMarshallUnmarshallImpl;
 import org.eclipse.kura.wire.WireComponent;
+import org.eclipse.kura.wire.WireHelperService;
 import org.eclipse.kura.wire.graph.Constants;
 import org.eclipse.kura.wire.graph.MultiportWireConfiguration;
 import org.eclipse.kura.wire.graph.WireComponentConfiguration;
+import org.eclipse.kura.wire.graph.WireDispatchStatistics;
 import org.eclipse.kura.wire.graph.WireGraphConfiguration;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -311,6 +315,26 @@ public class WireGraphServiceImplTest {
         assertEquals("{\"components\":[],\"wires\":[]}", arguments.get(WIRE_GRAPH_PROPERTY_NAME));
     }
 
+    @Test
+    public void testGetWireDispatchStatistics() {
+        WireGraphServiceImpl wireGraphService = getWireGraphServiceImpl(new HashMap<>());
+
+        assertTrue(wireGraphService.getWireDispatchStatistics().isEmpty());
+
+        WireDispatchStatistics statistics = new WireDispatchStatistics(
+                new MultiportWireConfiguration("emitter", "receiver", 0, 0), 3, 10, 1, 1000, 2000);
+        WireHelperService wireHelperService = mock(WireHelperService.class);
+        when(wireHelperService.getWireDispatchStatistics()).thenReturn(Collections.singletonList(statistics));
+
+        wireGraphService.bindWireHelperService(wireHelperService);
+
+        assertEquals(Collections.singletonList(statistics), wireGraphService.getWireDispatchStatistics());
+
+        wireGraphService.unbindWireHelperService(wireHelperService);
+
+        assertTrue(wireGraphService.getWireDispatchStatistics().isEmpty());
+    }
+
     private WireGraphServiceImpl getWireGraphServiceImpl(final Map<String, String> servicePidMappings) {
         WireGraphServiceImpl wireGraphService = new WireGraphServiceImpl() {
 